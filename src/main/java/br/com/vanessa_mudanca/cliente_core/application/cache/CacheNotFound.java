@@ -0,0 +1,34 @@
+package br.com.vanessa_mudanca.cliente_core.application.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cache negativo: memoriza por pouco tempo que a busca não encontrou o cliente.
+ *
+ * Quando o método lança {@code ClienteNaoEncontradoException}, a mensagem é gravada em
+ * {@code clientes:notFound} sob a chave derivada do primeiro argumento. Enquanto a entrada
+ * existir, novas buscas lançam a mesma exceção sem ir ao banco.
+ *
+ * Exemplo de uso:
+ * <pre>
+ * {@literal @}CacheNotFound(NotFoundKey.CPF)
+ * public ClientePFResponse findByCpf(String cpf) { ... }
+ * </pre>
+ *
+ * A criação de um cliente remove as entradas do seu publicId e documento
+ * ({@code ClienteCacheAdapter}).
+ *
+ * Aplicada pelo {@code NegativeCacheAspect} da infraestrutura.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheNotFound {
+
+    /**
+     * Espaço de chave do argumento de busca.
+     */
+    NotFoundKey value();
+}
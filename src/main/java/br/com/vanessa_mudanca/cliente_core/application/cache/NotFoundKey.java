@@ -0,0 +1,32 @@
+package br.com.vanessa_mudanca.cliente_core.application.cache;
+
+import br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator;
+
+import java.util.function.Function;
+
+/**
+ * Espaços de chave do cache negativo ({@code clientes:notFound}).
+ *
+ * PF e PJ têm prefixos próprios: um publicId de PJ buscado como PF não pode marcar o
+ * cliente como inexistente para a busca PJ. CPF/CNPJ são normalizados para dígitos.
+ */
+public enum NotFoundKey {
+
+    PF_ID(arg -> "pf:" + arg),
+    PJ_ID(arg -> "pj:" + arg),
+    CPF(arg -> "cpf:" + DocumentoValidator.limparDocumento(String.valueOf(arg))),
+    CNPJ(arg -> "cnpj:" + DocumentoValidator.limparDocumento(String.valueOf(arg)));
+
+    private final Function<Object, String> keyFunction;
+
+    NotFoundKey(Function<Object, String> keyFunction) {
+        this.keyFunction = keyFunction;
+    }
+
+    /**
+     * Chave no cache negativo para o argumento de busca (publicId, CPF ou CNPJ).
+     */
+    public String key(Object argumento) {
+        return keyFunction.apply(argumento);
+    }
+}
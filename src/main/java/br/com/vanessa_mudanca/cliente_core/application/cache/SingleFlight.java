@@ -0,0 +1,41 @@
+package br.com.vanessa_mudanca.cliente_core.application.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Coalesce chamadas concorrentes com a mesma chave em uma única execução (single-flight).
+ *
+ * Enquanto uma carga para a chave estiver em andamento, as demais chamadas aguardam o
+ * mesmo resultado (ou a mesma exceção) em vez de abrir sua própria transação e conexão.
+ * Não é um cache: assim que a carga termina, a próxima chamada executa normalmente.
+ *
+ * Exemplo de uso:
+ * <pre>
+ * {@literal @}Cacheable(value = "clientes:findById", key = "#publicId.toString()")
+ * {@literal @}SingleFlight(name = "clientes:findById", key = "#publicId.toString()")
+ * {@literal @}Transactional(readOnly = true)
+ * public ClientePFResponse findByPublicId(UUID publicId) { ... }
+ * </pre>
+ *
+ * Ordem dos interceptors: cache (mais externo) → single-flight → transação.
+ * Assim apenas misses de cache são coalescidos e só o líder ocupa conexão do pool.
+ *
+ * Aplicada pelo {@code SingleFlightAspect} da infraestrutura.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * Nome lógico do grupo de chaves (tag {@code name} das métricas).
+     */
+    String name();
+
+    /**
+     * Expressão SpEL sobre os parâmetros do método que define a chave.
+     */
+    String key();
+}
@@ -0,0 +1,67 @@
+package br.com.vanessa_mudanca.cliente_core.application.dto.input;
+
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.CursorInvalidoException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de continuação da listagem por cursor (keyset pagination).
+ *
+ * A listagem é ordenada por (data de criação, publicId) e a próxima página começa logo
+ * depois do último cliente devolvido. O token é opaco para o consumidor: Base64 URL-safe
+ * de {@code dataCriacao~publicId}. O publicId desempata clientes criados no mesmo instante
+ * sem expor o ID sequencial.
+ *
+ * @param dataCriacao data de criação do último cliente da página
+ * @param publicId    publicId do último cliente da página
+ */
+public record ClienteCursor(LocalDateTime dataCriacao, UUID publicId) {
+
+    /**
+     * Maior página aceita na listagem por cursor: limita a memória por requisição.
+     */
+    public static final int TAMANHO_MAXIMO = 100;
+
+    private static final String SEPARADOR = "~";
+
+    /**
+     * Cursor que continua logo depois do cliente informado.
+     */
+    public static ClienteCursor apos(Cliente cliente) {
+        return new ClienteCursor(cliente.getDataCriacao(), cliente.getPublicId());
+    }
+
+    /**
+     * Token opaco a devolver para o consumidor.
+     */
+    public String encode() {
+        String valor = dataCriacao + SEPARADOR + publicId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Lê o token recebido em {@code ?cursor=}.
+     *
+     * @param token token gerado por {@link #encode()}, ou null/vazio para a primeira página
+     * @return cursor, ou null para começar do início
+     * @throws CursorInvalidoException se o token não foi gerado por {@link #encode()}
+     */
+    public static ClienteCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.indexOf(SEPARADOR);
+            return new ClienteCursor(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    UUID.fromString(valor.substring(separador + 1)));
+        } catch (RuntimeException e) {
+            throw new CursorInvalidoException(token);
+        }
+    }
+}
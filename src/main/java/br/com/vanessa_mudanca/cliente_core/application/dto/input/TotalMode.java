@@ -0,0 +1,19 @@
+package br.com.vanessa_mudanca.cliente_core.application.dto.input;
+
+/**
+ * Como a listagem paginada calcula o total de elementos ({@code ?total=}).
+ *
+ * O total exige um {@code SELECT COUNT(*)} sobre {@code clientes} + {@code clientes_pf/pj}
+ * a cada página; a maioria dos consumidores só precisa saber se há próxima página.
+ */
+public enum TotalMode {
+
+    /** COUNT(*) a cada página (comportamento padrão). */
+    EXACT,
+
+    /** Total aproximado: estatística do banco (pg_class.reltuples), sem COUNT(*). */
+    ESTIMATED,
+
+    /** Sem total: só indica se há próxima página (slice). */
+    NONE
+}
@@ -0,0 +1,34 @@
+package br.com.vanessa_mudanca.cliente_core.application.dto.output;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Resultado de um item da criação em lote.
+ *
+ * @param indice   posição do item no lote recebido (inicia em 0)
+ * @param status   status HTTP que o item teria no endpoint unitário (201, 400, 404 ou 409)
+ * @param publicId UUID público do cliente criado (apenas em caso de sucesso)
+ * @param mensagem motivo da falha (apenas em caso de erro)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ClienteBatchItemResponse(
+        int indice,
+        int status,
+        UUID publicId,
+        String mensagem
+) {
+
+    public static ClienteBatchItemResponse criado(int indice, UUID publicId) {
+        return new ClienteBatchItemResponse(indice, 201, publicId, null);
+    }
+
+    public static ClienteBatchItemResponse falha(int indice, int status, String mensagem) {
+        return new ClienteBatchItemResponse(indice, status, null, mensagem);
+    }
+
+    public boolean sucesso() {
+        return publicId != null;
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.vanessa_mudanca.cliente_core.application.dto.output;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Resposta da criação de clientes em lote: um resultado por item, na ordem recebida.
+ *
+ * @param total              itens recebidos
+ * @param criados            itens gravados
+ * @param falhas             itens rejeitados (ver {@code itens[].mensagem})
+ * @param duracaoMs          tempo total de processamento do lote
+ * @param clientesPorSegundo vazão do lote (criados / duração)
+ * @param itens              resultado de cada item
+ */
+public record ClienteBatchResponse(
+        int total,
+        int criados,
+        int falhas,
+        long duracaoMs,
+        double clientesPorSegundo,
+        List<ClienteBatchItemResponse> itens
+) {
+
+    public static ClienteBatchResponse of(List<ClienteBatchItemResponse> itens, Duration duracao) {
+        int criados = (int) itens.stream().filter(ClienteBatchItemResponse::sucesso).count();
+        long nanos = Math.max(duracao.toNanos(), 1);
+        double porSegundo = Math.round(criados * 1_000_000_000.0 / nanos * 10) / 10.0;
+        return new ClienteBatchResponse(itens.size(), criados, itens.size() - criados,
+                duracao.toMillis(), porSegundo, itens);
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.vanessa_mudanca.cliente_core.application.dto.output;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progresso de uma importação de arquivo de clientes ({@code GET /v1/clientes/imports/{id}}).
+ *
+ * @param id                 identificador da importação
+ * @param tipo               PF ou PJ
+ * @param formato            NDJSON ou CSV
+ * @param status             etapa atual
+ * @param linhasLidas        linhas de dados lidas do arquivo até agora
+ * @param criados            clientes gravados
+ * @param falhas             linhas rejeitadas (detalhes no relatório de erros)
+ * @param inicio             início do upload
+ * @param fim                fim do processamento (null enquanto em andamento)
+ * @param clientesPorSegundo vazão desde o início
+ * @param mensagem           motivo da interrupção, se houver
+ */
+public record ClienteImportJobResponse(
+        UUID id,
+        String tipo,
+        String formato,
+        Status status,
+        long linhasLidas,
+        long criados,
+        long falhas,
+        LocalDateTime inicio,
+        LocalDateTime fim,
+        double clientesPorSegundo,
+        String mensagem
+) {
+
+    public enum Status {
+        /** Arquivo ainda sendo recebido; blocos já lidos estão sendo gravados. */
+        RECEBENDO,
+        /** Arquivo recebido por completo; gravando os últimos blocos. */
+        PROCESSANDO,
+        /** Todas as linhas gravadas ou rejeitadas. */
+        CONCLUIDO,
+        /** Upload interrompido: as linhas lidas até a falha foram processadas. */
+        INTERROMPIDO
+    }
+}
@@ -4,6 +4,7 @@ import br.com.vanessa_mudanca.cliente_core.domain.enums.OrigemLeadEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.SexoEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoClienteEnum;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -53,8 +54,9 @@ public record ClientePFResponse(
         Boolean ativo,
         LocalDateTime dataCriacao,
         LocalDateTime dataAtualizacao,
+        Long versao,
         List<DocumentoResponse> documentos,
         List<ContatoResponse> contatos,
         List<EnderecoResponse> enderecos
-) {
+) implements VersionedResponse, Serializable {
 }
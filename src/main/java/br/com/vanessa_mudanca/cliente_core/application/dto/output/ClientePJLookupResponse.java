@@ -2,6 +2,7 @@ package br.com.vanessa_mudanca.cliente_core.application.dto.output;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.Serializable;
 import java.util.UUID;
 
 /**
@@ -22,5 +23,5 @@ public record ClientePJLookupResponse(
 
         @Schema(description = "Identificador único do cliente (UUID)", example = "550e8400-e29b-41d4-a716-446655440000")
         UUID publicId
-) {
+) implements Serializable {
 }
@@ -3,6 +3,7 @@ package br.com.vanessa_mudanca.cliente_core.application.dto.output;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.OrigemLeadEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoClienteEnum;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -52,8 +53,9 @@ public record ClientePJResponse(
         Boolean ativo,
         LocalDateTime dataCriacao,
         LocalDateTime dataAtualizacao,
+        Long versao,
         List<DocumentoResponse> documentos,
         List<ContatoResponse> contatos,
         List<EnderecoResponse> enderecos
-) {
+) implements VersionedResponse, Serializable {
 }
@@ -3,6 +3,7 @@ package br.com.vanessa_mudanca.cliente_core.application.dto.output;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoContatoEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
@@ -39,5 +40,5 @@ public record ContatoResponse(
 
         @Schema(description = "Data da última atualização")
         LocalDateTime dataAtualizacao
-) {
+) implements Serializable {
 }
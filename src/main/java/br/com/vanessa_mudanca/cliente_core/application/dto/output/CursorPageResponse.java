@@ -0,0 +1,29 @@
+package br.com.vanessa_mudanca.cliente_core.application.dto.output;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Record genérico para resposta paginada por cursor (keyset pagination).
+ * Diferente do {@link PageResponse}, não tem número de página nem total: a próxima
+ * página é pedida com {@code nextCursor}, com custo constante em qualquer profundidade.
+ *
+ * @param <T> Tipo do conteúdo da página
+ */
+@Schema(description = "Resposta paginada por cursor")
+public record CursorPageResponse<T>(
+        @Schema(description = "Lista de elementos da página atual")
+        List<T> content,
+
+        @Schema(description = "Tamanho da página solicitado", example = "20")
+        int size,
+
+        @Schema(description = "Cursor opaco da próxima página (null na última)", example = "MjAyNS0wMS0wMVQxMDowMH4...")
+        String nextCursor,
+
+        @Schema(description = "Indica se existe próxima página", example = "true")
+        boolean hasNext
+) implements Serializable {
+}
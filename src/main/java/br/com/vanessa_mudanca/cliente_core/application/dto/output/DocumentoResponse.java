@@ -4,6 +4,7 @@ import br.com.vanessa_mudanca.cliente_core.domain.enums.StatusDocumentoEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -50,5 +51,5 @@ public record DocumentoResponse(
 
         @Schema(description = "Data da última atualização")
         LocalDateTime dataAtualizacao
-) {
+) implements Serializable {
 }
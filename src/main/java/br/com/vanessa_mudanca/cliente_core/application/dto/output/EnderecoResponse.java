@@ -4,6 +4,7 @@ import br.com.vanessa_mudanca.cliente_core.domain.enums.EstadoEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoEnderecoEnum;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
@@ -55,5 +56,5 @@ public record EnderecoResponse(
 
         @Schema(description = "Data da última atualização")
         LocalDateTime dataAtualizacao
-) {
+) implements Serializable {
 }
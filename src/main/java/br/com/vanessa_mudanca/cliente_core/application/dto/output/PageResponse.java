@@ -1,13 +1,24 @@
 package br.com.vanessa_mudanca.cliente_core.application.dto.output;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * Record genérico para resposta paginada.
  * Segue o padrão de paginação do Spring Data.
  *
+ * {@code totalElements}/{@code totalPages} mantêm o contrato original (sempre presentes). Com
+ * {@link TotalMode#EXACT} são exatos; com {@code ESTIMATED}/{@code NONE}, sem COUNT, trazem o mínimo
+ * que a própria página prova existir (exatos na última página). A estimativa vai em campos próprios,
+ * {@code estimatedTotalElements}/{@code estimatedTotalPages}, omitidos fora de {@code ESTIMATED}.
+ * {@code last} é sempre exato.
+ *
  * @param <T> Tipo do conteúdo da página
  */
 @Schema(description = "Resposta paginada genérica")
@@ -21,10 +32,12 @@ public record PageResponse<T>(
         @Schema(description = "Tamanho da página", example = "20")
         int pageSize,
 
-        @Schema(description = "Total de elementos em todas as páginas", example = "100")
+        @Schema(description = "Total de elementos em todas as páginas (com total=ESTIMATED/NONE, o mínimo " +
+                "garantido até esta página)", example = "100")
         long totalElements,
 
-        @Schema(description = "Total de páginas disponíveis", example = "5")
+        @Schema(description = "Total de páginas disponíveis (com total=ESTIMATED/NONE, o mínimo " +
+                "garantido até esta página)", example = "5")
         int totalPages,
 
         @Schema(description = "Indica se é a primeira página", example = "true")
@@ -34,12 +47,33 @@ public record PageResponse<T>(
         boolean last,
 
         @Schema(description = "Indica se a página está vazia", example = "false")
-        boolean empty
-) {
+        boolean empty,
+
+        @Schema(description = "Como o total foi calculado: EXACT, ESTIMATED ou NONE", example = "EXACT")
+        TotalMode totalMode,
+
+        @Schema(description = "Total aproximado de elementos (só com total=ESTIMATED)", example = "100")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Long estimatedTotalElements,
+
+        @Schema(description = "Total aproximado de páginas (só com total=ESTIMATED)", example = "5")
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        Integer estimatedTotalPages
+) implements Serializable {
+
+    /**
+     * Página com total exato.
+     */
+    public PageResponse(List<T> content, int pageNumber, int pageSize, long totalElements,
+                        int totalPages, boolean first, boolean last, boolean empty) {
+        this(content, pageNumber, pageSize, totalElements, totalPages, first, last, empty, TotalMode.EXACT,
+                null, null);
+    }
+
     /**
      * Cria um PageResponse a partir de uma Page do Spring Data.
      */
-    public static <T> PageResponse<T> of(org.springframework.data.domain.Page<T> page) {
+    public static <T> PageResponse<T> of(Page<T> page) {
         return new PageResponse<>(
                 page.getContent(),
                 page.getNumber(),
@@ -51,4 +85,61 @@ public record PageResponse<T>(
                 page.isEmpty()
         );
     }
+
+    /**
+     * Cria um PageResponse sem total a partir de um Slice (sem COUNT).
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        long minimo = minimoGarantido(slice);
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                minimo,
+                paginas(minimo, slice.getSize()),
+                slice.isFirst(),
+                slice.isLast(),
+                slice.isEmpty(),
+                TotalMode.NONE,
+                null,
+                null
+        );
+    }
+
+    /**
+     * Cria um PageResponse com total aproximado a partir de um Slice.
+     * A estimativa é ajustada para não contradizer a página atual (ex.: contagem
+     * defasada menor que os elementos já vistos).
+     *
+     * @param totalEstimado contagem aproximada de elementos
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice, long totalEstimado) {
+        long minimo = minimoGarantido(slice);
+        long estimado = slice.isLast() ? minimo : Math.max(totalEstimado, minimo);
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                minimo,
+                paginas(minimo, slice.getSize()),
+                slice.isFirst(),
+                slice.isLast(),
+                slice.isEmpty(),
+                TotalMode.ESTIMATED,
+                estimado,
+                paginas(estimado, slice.getSize())
+        );
+    }
+
+    /**
+     * Elementos que a fatia prova existir: os já vistos até ela e, se houver próxima página, ao menos mais um.
+     */
+    private static long minimoGarantido(Slice<?> slice) {
+        long vistos = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements();
+        return slice.hasNext() ? vistos + 1 : vistos;
+    }
+
+    private static int paginas(long total, int tamanho) {
+        return tamanho == 0 ? 1 : (int) Math.ceil((double) total / tamanho);
+    }
 }
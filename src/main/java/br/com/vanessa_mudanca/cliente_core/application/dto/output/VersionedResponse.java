@@ -0,0 +1,25 @@
+package br.com.vanessa_mudanca.cliente_core.application.dto.output;
+
+import java.time.LocalDateTime;
+
+/**
+ * Response que carrega a versão do cliente de origem.
+ *
+ * A versão é a {@code dataAtualizacao} da entidade no momento do carregamento.
+ * O cache usa essa informação para impedir que uma carga mais antiga sobrescreva
+ * (ou repopule após invalidação) uma versão mais nova.
+ *
+ * Os responses de cliente também trazem a versão otimista ({@link #versao()}), que é
+ * a ETag do recurso e o valor esperado em {@code If-Match} nas atualizações.
+ */
+public interface VersionedResponse {
+
+    LocalDateTime dataAtualizacao();
+
+    /**
+     * Versão otimista ({@code @Version}) do cliente; null se o response não a carrega.
+     */
+    default Long versao() {
+        return null;
+    }
+}
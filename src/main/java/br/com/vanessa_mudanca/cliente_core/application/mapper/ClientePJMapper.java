@@ -108,6 +108,7 @@ public class ClientePJMapper {
                 entity.getAtivo(),
                 entity.getDataCriacao(),
                 entity.getDataAtualizacao(),
+                entity.getVersao(),
                 mapDocumentos(entity.getListaDocumentos()),
                 mapContatos(entity.getListaContatos()),
                 mapEnderecos(entity.getListaEnderecos())
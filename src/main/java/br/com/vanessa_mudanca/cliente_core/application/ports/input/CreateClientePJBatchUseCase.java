@@ -0,0 +1,22 @@
+package br.com.vanessa_mudanca.cliente_core.application.ports.input;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePJRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+
+import java.util.List;
+
+/**
+ * Port de entrada (Use Case) para criação em lote de Clientes Pessoa Jurídica.
+ * Cada item é validado e gravado de forma independente: um item inválido não impede os demais.
+ */
+public interface CreateClientePJBatchUseCase {
+
+    /**
+     * Cria vários clientes pessoa jurídica, em blocos com uma transação cada.
+     *
+     * @param requests dados dos clientes, na ordem em que os resultados serão devolvidos
+     * @return resultado por item e vazão do lote
+     * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.LoteInvalidoException se o lote está vazio ou excede o máximo
+     */
+    ClienteBatchResponse criarEmLote(List<CreateClientePJRequest> requests);
+}
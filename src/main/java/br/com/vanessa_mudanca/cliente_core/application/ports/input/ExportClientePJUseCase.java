@@ -0,0 +1,25 @@
+package br.com.vanessa_mudanca.cliente_core.application.ports.input;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Port de entrada (Use Case) para exportar todos os Clientes Pessoa Jurídica.
+ * Os clientes são entregues um a um enquanto são lidos: a exportação não acumula a base em memória.
+ */
+public interface ExportClientePJUseCase {
+
+    /**
+     * Entrega ao destino todos os clientes pessoa jurídica (inclusive deletados), em ordem de atualização.
+     * Com {@code atualizadoDesde}, exporta só o que mudou desde a exportação anterior.
+     *
+     * @param atualizadoDesde data de atualização mínima (inclusive), ou null
+     * @param atualizadoAte   data de atualização máxima (exclusive), ou null
+     * @param destino         recebe cada cliente, na thread do chamador
+     * @return quantidade de clientes exportados
+     * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.BusinessException se o período é inválido
+     */
+    long exportar(LocalDateTime atualizadoDesde, LocalDateTime atualizadoAte, Consumer<ClientePJResponse> destino);
+}
@@ -1,5 +1,6 @@
 package br.com.vanessa_mudanca.cliente_core.application.ports.input;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
 
 /**
@@ -16,4 +17,14 @@ public interface FindClientePFByCpfUseCase {
      * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException se cliente não existe
      */
     ClientePFResponse findByCpf(String cpf);
+
+    /**
+     * Busca apenas os dados reduzidos (publicId, primeiro nome e sobrenome) de um cliente
+     * pessoa física por CPF, sem carregar o agregado.
+     *
+     * @param cpf CPF do cliente (pode estar formatado ou não)
+     * @return dados reduzidos do cliente PF
+     * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException se cliente não existe
+     */
+    ClientePFLookupResponse lookupByCpf(String cpf);
 }
@@ -1,5 +1,6 @@
 package br.com.vanessa_mudanca.cliente_core.application.ports.input;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 
 /**
@@ -16,4 +17,14 @@ public interface FindClientePJByCnpjUseCase {
      * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException se cliente não existe
      */
     ClientePJResponse findByCnpj(String cnpj);
+
+    /**
+     * Busca apenas os dados reduzidos (publicId e nome fantasia) de um cliente
+     * pessoa jurídica por CNPJ, sem carregar o agregado.
+     *
+     * @param cnpj CNPJ do cliente (pode estar formatado ou não)
+     * @return dados reduzidos do cliente PJ
+     * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException se cliente não existe
+     */
+    ClientePJLookupResponse lookupByCnpj(String cnpj);
 }
@@ -1,6 +1,9 @@
 package br.com.vanessa_mudanca.cliente_core.application.ports.input;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.CursorPageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -10,10 +13,22 @@ import org.springframework.data.domain.Pageable;
 public interface ListClientePFUseCase {
 
     /**
-     * Lista todos os clientes pessoa física com paginação.
+     * Lista clientes pessoa física com paginação, escolhendo como o total é calculado.
      *
      * @param pageable configuração de paginação e ordenação
+     * @param total    total exato (COUNT), aproximado ou ausente
      * @return página com clientes PF
      */
-    PageResponse<ClientePFResponse> findAll(Pageable pageable);
+    PageResponse<ClientePFResponse> findAll(Pageable pageable, TotalMode total);
+
+    /**
+     * Lista clientes pessoa física por cursor, em ordem de criação.
+     * Indicado para varrer a base inteira (sincronizações): o custo por página não cresce
+     * com a profundidade.
+     *
+     * @param cursor cursor devolvido pela página anterior, ou null para a primeira página
+     * @param size   tamanho da página, de 1 a {@link ClienteCursor#TAMANHO_MAXIMO}
+     * @return página com clientes PF e o cursor da próxima
+     */
+    CursorPageResponse<ClientePFResponse> findAllByCursor(String cursor, int size);
 }
@@ -1,6 +1,9 @@
 package br.com.vanessa_mudanca.cliente_core.application.ports.input;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.CursorPageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
 import org.springframework.data.domain.Pageable;
 
@@ -10,10 +13,22 @@ import org.springframework.data.domain.Pageable;
 public interface ListClientePJUseCase {
 
     /**
-     * Lista todos os clientes pessoa jurídica com paginação.
+     * Lista clientes pessoa jurídica com paginação, escolhendo como o total é calculado.
      *
      * @param pageable configuração de paginação e ordenação
+     * @param total    total exato (COUNT), aproximado ou ausente
      * @return página com clientes PJ
      */
-    PageResponse<ClientePJResponse> findAll(Pageable pageable);
+    PageResponse<ClientePJResponse> findAll(Pageable pageable, TotalMode total);
+
+    /**
+     * Lista clientes pessoa jurídica por cursor, em ordem de criação.
+     * Indicado para varrer a base inteira (sincronizações): o custo por página não cresce
+     * com a profundidade.
+     *
+     * @param cursor cursor devolvido pela página anterior, ou null para a primeira página
+     * @param size   tamanho da página, de 1 a {@link ClienteCursor#TAMANHO_MAXIMO}
+     * @return página com clientes PJ e o cursor da próxima
+     */
+    CursorPageResponse<ClientePJResponse> findAllByCursor(String cursor, int size);
 }
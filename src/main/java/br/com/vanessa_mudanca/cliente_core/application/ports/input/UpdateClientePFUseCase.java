@@ -18,6 +18,7 @@ import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFRespo
  * - Documentos: número imutável, datas mutáveis
  * - Endereços: todos campos mutáveis, apenas 1 principal por tipo
  * - Contatos: todos campos mutáveis, apenas 1 principal por cliente
+ * - Concorrência: locking otimista pela versão do cliente (ETag / If-Match)
  */
 public interface UpdateClientePFUseCase {
 
@@ -42,4 +43,16 @@ public interface UpdateClientePFUseCase {
      * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.ContatoPrincipalDuplicadoException se tentar criar 2 principais
      */
     ClientePFResponse atualizar(UpdateClientePFRequest request);
+
+    /**
+     * Atualiza Cliente Pessoa Física se ele ainda estiver na versão esperada (If-Match).
+     *
+     * @param request        DTO com dados para atualizar (selective update)
+     * @param versaoEsperada versão lida pelo chamador (ETag); null ({@code If-Match: *}) aceita a versão
+     *                       lida, mas uma gravação concorrente também vira conflito, sem retentativa
+     * @return ClientePFResponse com dados e versão atualizados
+     * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.VersaoConflitanteException
+     *         se o cliente não estiver na versão esperada ou for alterado durante a atualização
+     */
+    ClientePFResponse atualizar(UpdateClientePFRequest request, Long versaoEsperada);
 }
@@ -13,6 +13,7 @@ import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJRespo
  *
  * OPERAÇÃO: Aggregate Update
  * - Atualiza cliente + documentos + endereços + contatos em uma transação
+ * - Locking otimista pela versão do cliente (ETag / If-Match)
  */
 public interface UpdateClientePJUseCase {
 
@@ -39,4 +40,16 @@ public interface UpdateClientePJUseCase {
      *         se entidade não pertencer ao cliente (cross-client attack)
      */
     ClientePJResponse atualizar(UpdateClientePJRequest request);
+
+    /**
+     * Atualiza Cliente Pessoa Jurídica se ele ainda estiver na versão esperada (If-Match).
+     *
+     * @param request        DTO com dados para atualizar (selective update)
+     * @param versaoEsperada versão lida pelo chamador (ETag); null ({@code If-Match: *}) aceita a versão
+     *                       lida, mas uma gravação concorrente também vira conflito, sem retentativa
+     * @return ClientePJResponse com dados e versão atualizados
+     * @throws br.com.vanessa_mudanca.cliente_core.domain.exception.VersaoConflitanteException
+     *         se o cliente não estiver na versão esperada ou for alterado durante a atualização
+     */
+    ClientePJResponse atualizar(UpdateClientePJRequest request, Long versaoEsperada);
 }
@@ -0,0 +1,21 @@
+package br.com.vanessa_mudanca.cliente_core.application.ports.output;
+
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+
+/**
+ * Port de saída para invalidação de cache de clientes.
+ * Implementado pela camada de infraestrutura.
+ *
+ * Invalida apenas o que a escrita afetou:
+ * - clientes:findById → somente a chave do cliente (publicId)
+ * - clientes:list → somente as páginas do tipo do cliente (PF ou PJ)
+ */
+public interface ClienteCachePort {
+
+    /**
+     * Invalida o cache do cliente escrito e as listagens do seu tipo.
+     *
+     * @param cliente cliente criado, atualizado, deletado, restaurado, bloqueado ou desbloqueado
+     */
+    void invalidar(Cliente cliente);
+}
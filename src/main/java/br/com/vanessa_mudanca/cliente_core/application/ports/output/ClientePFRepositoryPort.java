@@ -1,11 +1,19 @@
 package br.com.vanessa_mudanca.cliente_core.application.ports.output;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port de saída para persistência de Cliente Pessoa Física.
@@ -21,6 +29,26 @@ public interface ClientePFRepositoryPort {
      */
     ClientePF save(ClientePF clientePF);
 
+    /**
+     * Salva um cliente pessoa física e executa o UPDATE na hora: um conflito de versão
+     * ({@code @Version}) aparece aqui, e o cliente retornado já tem a versão nova.
+     *
+     * @param clientePF cliente a ser salvo
+     * @return cliente salvo, com a versão incrementada
+     * @throws org.springframework.dao.OptimisticLockingFailureException
+     *         se outra transação alterou o cliente depois da leitura
+     */
+    ClientePF saveAndFlush(ClientePF clientePF);
+
+    /**
+     * Salva vários clientes pessoa física. Os INSERTs são agrupados em lote no flush
+     * (hibernate.jdbc.batch_size).
+     *
+     * @param clientes clientes a serem salvos
+     * @return clientes salvos, na mesma ordem
+     */
+    List<ClientePF> saveAll(List<ClientePF> clientes);
+
     /**
      * Busca um cliente pessoa física por CPF.
      *
@@ -29,6 +57,16 @@ public interface ClientePFRepositoryPort {
      */
     Optional<ClientePF> findByCpf(String cpf);
 
+    /**
+     * Busca apenas os dados reduzidos (lookup) de um cliente pessoa física por CPF,
+     * sem carregar o agregado.
+     * ATENÇÃO: Inclui clientes deletados (soft delete).
+     *
+     * @param cpf CPF do cliente (formatado)
+     * @return Optional contendo os dados reduzidos se encontrado
+     */
+    Optional<ClientePFLookupResponse> findLookupByCpf(String cpf);
+
     /**
      * Verifica se existe um cliente com o CPF informado.
      *
@@ -37,6 +75,15 @@ public interface ClientePFRepositoryPort {
      */
     boolean existsByCpf(String cpf);
 
+    /**
+     * CPFs já cadastrados dentre os informados, com uma única consulta {@code IN}.
+     * ATENÇÃO: Considera clientes deletados também, como {@link #existsByCpf(String)}.
+     *
+     * @param cpfs CPFs a verificar
+     * @return CPFs encontrados, no formato em que estão gravados
+     */
+    Set<String> findExistingCpfs(Collection<String> cpfs);
+
     /**
      * Busca um cliente pessoa física por ID interno (uso interno apenas).
      *
@@ -63,6 +110,52 @@ public interface ClientePFRepositoryPort {
      */
     Page<ClientePF> findAll(Pageable pageable);
 
+    /**
+     * Lista clientes pessoa física sem contar o total: busca um elemento a mais
+     * só para saber se existe próxima página.
+     * ATENÇÃO: Inclui clientes deletados (soft delete).
+     *
+     * @param pageable configuração de paginação e ordenação
+     * @return fatia com clientes PF, com as listas já carregadas
+     */
+    Slice<ClientePF> findSlice(Pageable pageable);
+
+    /**
+     * Total aproximado de clientes pessoa física (inclui deletados).
+     * Vem das estatísticas do banco, sem contar a tabela: acompanha o último ANALYZE e
+     * serve para exibir "cerca de N", não para decisões que precisem do valor exato.
+     *
+     * @return contagem aproximada
+     */
+    long estimateCount();
+
+    /**
+     * Lista clientes pessoa física por cursor (keyset pagination), ordenados por
+     * data de criação e publicId. Custo constante em qualquer profundidade, ao contrário
+     * do OFFSET de {@link #findAll(Pageable)}.
+     * ATENÇÃO: Inclui clientes deletados (soft delete).
+     *
+     * @param cursor posição do último cliente já lido, ou null para começar do início
+     * @param limite máximo de clientes a devolver
+     * @return clientes seguintes ao cursor, com as listas já carregadas
+     */
+    List<ClientePF> findAfter(ClienteCursor cursor, int limite);
+
+    /**
+     * Percorre todos os clientes pessoa física em ordem de atualização, entregando-os em blocos
+     * com as listas já carregadas. A memória fica limitada a um bloco: os clientes de um bloco
+     * não devem ser usados depois que o consumidor retorna.
+     * Deve ser chamado dentro de uma transação.
+     * ATENÇÃO: Inclui clientes deletados (soft delete).
+     *
+     * @param atualizadoDesde data de atualização mínima (inclusive), ou null
+     * @param atualizadoAte   data de atualização máxima (exclusive), ou null
+     * @param tamanhoBloco    clientes por bloco
+     * @param consumidor      recebe cada bloco
+     */
+    void forEachBlock(LocalDateTime atualizadoDesde, LocalDateTime atualizadoAte, int tamanhoBloco,
+                      Consumer<List<ClientePF>> consumidor);
+
     /**
      * Busca cliente PF ATIVO (não deletado) por CPF.
      *
@@ -1,11 +1,19 @@
 package br.com.vanessa_mudanca.cliente_core.application.ports.output;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Port de saída para persistência de Cliente Pessoa Jurídica.
@@ -21,6 +29,26 @@ public interface ClientePJRepositoryPort {
      */
     ClientePJ save(ClientePJ clientePJ);
 
+    /**
+     * Salva um cliente pessoa jurídica e executa o UPDATE na hora: um conflito de versão
+     * ({@code @Version}) aparece aqui, e o cliente retornado já tem a versão nova.
+     *
+     * @param clientePJ cliente a ser salvo
+     * @return cliente salvo, com a versão incrementada
+     * @throws org.springframework.dao.OptimisticLockingFailureException
+     *         se outra transação alterou o cliente depois da leitura
+     */
+    ClientePJ saveAndFlush(ClientePJ clientePJ);
+
+    /**
+     * Salva vários clientes pessoa jurídica. Os INSERTs são agrupados em lote no flush
+     * (hibernate.jdbc.batch_size).
+     *
+     * @param clientes clientes a serem salvos
+     * @return clientes salvos, na mesma ordem
+     */
+    List<ClientePJ> saveAll(List<ClientePJ> clientes);
+
     /**
      * Busca um cliente pessoa jurídica por CNPJ.
      *
@@ -29,6 +57,16 @@ public interface ClientePJRepositoryPort {
      */
     Optional<ClientePJ> findByCnpj(String cnpj);
 
+    /**
+     * Busca apenas os dados reduzidos (lookup) de um cliente pessoa jurídica por CNPJ,
+     * sem carregar o agregado.
+     * ATENÇÃO: Inclui clientes deletados (soft delete).
+     *
+     * @param cnpj CNPJ do cliente (formatado)
+     * @return Optional contendo os dados reduzidos se encontrado
+     */
+    Optional<ClientePJLookupResponse> findLookupByCnpj(String cnpj);
+
     /**
      * Verifica se existe um cliente com o CNPJ informado.
      *
@@ -37,6 +75,15 @@ public interface ClientePJRepositoryPort {
      */
     boolean existsByCnpj(String cnpj);
 
+    /**
+     * CNPJs já cadastrados dentre os informados, com uma única consulta {@code IN}.
+     * ATENÇÃO: Considera clientes deletados também, como {@link #existsByCnpj(String)}.
+     *
+     * @param cnpjs CNPJs a verificar
+     * @return CNPJs encontrados, no formato em que estão gravados
+     */
+    Set<String> findExistingCnpjs(Collection<String> cnpjs);
+
     /**
      * Busca um cliente pessoa jurídica por ID interno (uso interno apenas).
      *
@@ -63,6 +110,52 @@ public interface ClientePJRepositoryPort {
      */
     Page<ClientePJ> findAll(Pageable pageable);
 
+    /**
+     * Lista clientes pessoa jurídica sem contar o total: busca um elemento a mais
+     * só para saber se existe próxima página.
+     * ATENÇÃO: Inclui clientes deletados (soft delete).
+     *
+     * @param pageable configuração de paginação e ordenação
+     * @return fatia com clientes PJ, com as listas já carregadas
+     */
+    Slice<ClientePJ> findSlice(Pageable pageable);
+
+    /**
+     * Total aproximado de clientes pessoa jurídica (inclui deletados).
+     * Vem das estatísticas do banco, sem contar a tabela: acompanha o último ANALYZE e
+     * serve para exibir "cerca de N", não para decisões que precisem do valor exato.
+     *
+     * @return contagem aproximada
+     */
+    long estimateCount();
+
+    /**
+     * Lista clientes pessoa jurídica por cursor (keyset pagination), ordenados por
+     * data de criação e publicId. Custo constante em qualquer profundidade, ao contrário
+     * do OFFSET de {@link #findAll(Pageable)}.
+     * ATENÇÃO: Inclui clientes deletados (soft delete).
+     *
+     * @param cursor posição do último cliente já lido, ou null para começar do início
+     * @param limite máximo de clientes a devolver
+     * @return clientes seguintes ao cursor, com as listas já carregadas
+     */
+    List<ClientePJ> findAfter(ClienteCursor cursor, int limite);
+
+    /**
+     * Percorre todos os clientes pessoa jurídica em ordem de atualização, entregando-os em blocos
+     * com as listas já carregadas. A memória fica limitada a um bloco: os clientes de um bloco
+     * não devem ser usados depois que o consumidor retorna.
+     * Deve ser chamado dentro de uma transação.
+     * ATENÇÃO: Inclui clientes deletados (soft delete).
+     *
+     * @param atualizadoDesde data de atualização mínima (inclusive), ou null
+     * @param atualizadoAte   data de atualização máxima (exclusive), ou null
+     * @param tamanhoBloco    clientes por bloco
+     * @param consumidor      recebe cada bloco
+     */
+    void forEachBlock(LocalDateTime atualizadoDesde, LocalDateTime atualizadoAte, int tamanhoBloco,
+                      Consumer<List<ClientePJ>> consumidor);
+
     /**
      * Busca cliente PJ ATIVO (não deletado) por CNPJ.
      *
@@ -2,6 +2,8 @@ package br.com.vanessa_mudanca.cliente_core.application.ports.output;
 
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,6 +29,15 @@ public interface ClienteRepositoryPort {
      */
     Optional<Cliente> findByPublicId(UUID publicId);
 
+    /**
+     * Busca vários clientes por Public ID (UUID) com uma única consulta.
+     * IDs sem cliente correspondente são ignorados.
+     *
+     * @param publicIds UUIDs públicos dos clientes
+     * @return clientes encontrados (sem ordem definida)
+     */
+    List<Cliente> findAllByPublicId(Collection<UUID> publicIds);
+
     /**
      * Verifica se existe um cliente com o ID informado.
      *
@@ -0,0 +1,31 @@
+package br.com.vanessa_mudanca.cliente_core.application.ports.output;
+
+import java.util.function.Supplier;
+
+/**
+ * Port de saída para leituras que devem ver as escritas recentes do próprio cliente.
+ * Implementado pela camada de infraestrutura.
+ *
+ * Com réplica de leitura, a leitura de um cliente escrito há pouco vai para a primária
+ * (a réplica pode estar atrasada). Sem réplica, a leitura é executada como está.
+ */
+public interface ReadYourWritesPort {
+
+    /**
+     * Executa a leitura sem desvio (sem réplica configurada).
+     */
+    ReadYourWritesPort SEM_REPLICA = new ReadYourWritesPort() {
+        @Override
+        public <T> T ler(String chave, Supplier<T> leitura) {
+            return leitura.get();
+        }
+    };
+
+    /**
+     * Executa a leitura do cliente identificado pela chave.
+     *
+     * @param chave   publicId ou dígitos do CPF/CNPJ do cliente
+     * @param leitura consulta ao repositório, executada dentro da transação read-only do chamador
+     */
+    <T> T ler(String chave, Supplier<T> leitura);
+}
@@ -0,0 +1,132 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.VersaoConflitanteException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Atualização de cliente com locking otimista ({@code Cliente.versao}).
+ *
+ * Cada tentativa é uma transação: lê o cliente, confere a versão esperada, aplica o request
+ * e grava com {@code saveAndFlush} – o {@code UPDATE ... WHERE versao = ?} que perde a corrida
+ * falha ali mesmo, com {@link OptimisticLockingFailureException}.
+ *
+ * <ul>
+ *   <li>Atualização condicional (HTTP, com {@code If-Match}): versão diferente ou conflito na gravação
+ *       viram {@link VersaoConflitanteException} (412), sem retentar – reaplicar o request sobrescreveria
+ *       a alteração que o cliente HTTP não viu. {@code If-Match: *} só exige que o cliente exista:
+ *       não confere a versão lida, mas um conflito na gravação também vira 412</li>
+ *   <li>Chamadas internas idempotentes, sem precondição: o conflito é retentado até
+ *       {@link ConcorrenciaAtualizacao#maxTentativas()} vezes, relendo o cliente a cada vez</li>
+ * </ul>
+ *
+ * Dentro de uma transação do chamador não há retentativa: ela já está marcada para rollback.
+ *
+ * Métricas: {@code clientes.update.conflitos{tipo, resultado}}, com resultado {@code rejeitado}
+ * (412 por versão), {@code retentado} (nova tentativa) e {@code esgotado} (412 após as tentativas).
+ */
+final class AtualizacaoOtimista {
+
+    private static final Logger log = LoggerFactory.getLogger(AtualizacaoOtimista.class);
+
+    private final String tipo;
+    private final TransactionTemplate transaction;
+    private final ConcorrenciaAtualizacao concorrencia;
+    private final Counter rejeitados;
+    private final Counter retentados;
+    private final Counter esgotados;
+
+    AtualizacaoOtimista(String tipo, PlatformTransactionManager transactionManager,
+                        ConcorrenciaAtualizacao concorrencia, MeterRegistry meterRegistry) {
+        this.tipo = tipo;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.concorrencia = concorrencia;
+        this.rejeitados = conflitos(meterRegistry, "rejeitado");
+        this.retentados = conflitos(meterRegistry, "retentado");
+        this.esgotados = conflitos(meterRegistry, "esgotado");
+    }
+
+    /**
+     * Atualização condicional (HTTP): conflito vira 412, sem retentar.
+     *
+     * @param versaoEsperada versão do {@code If-Match}, ou null para {@code If-Match: *}
+     * @param atualizacao    lê o cliente, chama {@link #verificarVersao}, aplica o request e grava
+     */
+    <T> T executar(UUID publicId, Long versaoEsperada, Supplier<T> atualizacao) {
+        try {
+            return transaction.execute(status -> atualizacao.get());
+        } catch (OptimisticLockingFailureException e) {
+            rejeitados.increment();
+            log.info("Conflito de versão ao atualizar cliente {} - Id: {}, Versão esperada: {}",
+                    tipo, publicId, versaoEsperada != null ? versaoEsperada : "*");
+            throw versaoEsperada != null
+                    ? new VersaoConflitanteException(publicId, versaoEsperada)
+                    : new VersaoConflitanteException(publicId);
+        }
+    }
+
+    /**
+     * Atualização interna sem precondição: conflitos são retentados relendo o cliente.
+     *
+     * @param atualizacao lê o cliente, aplica o request e grava
+     */
+    <T> T executarComRetentativa(UUID publicId, Supplier<T> atualizacao) {
+        boolean podeRetentar = !TransactionSynchronizationManager.isActualTransactionActive();
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transaction.execute(status -> atualizacao.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (!podeRetentar) {
+                    throw e;
+                }
+                if (tentativa >= concorrencia.maxTentativas()) {
+                    esgotados.increment();
+                    log.warn("Conflitos de versão esgotaram as tentativas de atualizar cliente {} - Id: {}, Tentativas: {}",
+                            tipo, publicId, tentativa);
+                    throw new VersaoConflitanteException(publicId, tentativa);
+                }
+                retentados.increment();
+                log.debug("Conflito de versão ao atualizar cliente {} - Id: {}, Tentativa: {}", tipo, publicId, tentativa);
+                aguardar(publicId, tentativa);
+            }
+        }
+    }
+
+    /**
+     * Confere a versão lida com a esperada (sem versão esperada, qualquer uma serve).
+     */
+    void verificarVersao(Cliente cliente, Long versaoEsperada) {
+        if (versaoEsperada != null && !Objects.equals(cliente.getVersao(), versaoEsperada)) {
+            rejeitados.increment();
+            throw new VersaoConflitanteException(cliente.getPublicId(), versaoEsperada);
+        }
+    }
+
+    private void aguardar(UUID publicId, int tentativa) {
+        try {
+            Thread.sleep(concorrencia.espera().multipliedBy(tentativa));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VersaoConflitanteException(publicId, tentativa);
+        }
+    }
+
+    private Counter conflitos(MeterRegistry meterRegistry, String resultado) {
+        return Counter.builder("clientes.update.conflitos")
+                .description("Conflitos de versão em atualizações de clientes")
+                .tag("tipo", tipo)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.BloquearClienteUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteJaBloqueadoException;
@@ -8,7 +9,6 @@ import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontrado
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,14 +29,15 @@ public class BloquearClienteService implements BloquearClienteUseCase {
     private static final Logger log = LoggerFactory.getLogger(BloquearClienteService.class);
 
     private final ClienteRepositoryPort clienteRepository;
+    private final ClienteCachePort clienteCache;
 
-    public BloquearClienteService(ClienteRepositoryPort clienteRepository) {
+    public BloquearClienteService(ClienteRepositoryPort clienteRepository, ClienteCachePort clienteCache) {
         this.clienteRepository = clienteRepository;
+        this.clienteCache = clienteCache;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"clientes:findById", "clientes:list"}, allEntries = true)
     public void bloquear(UUID publicId, String motivo, String usuario) {
         MDC.put("operationType", "BLOQUEAR_CLIENTE");
         MDC.put("clientId", publicId.toString());
@@ -63,6 +64,7 @@ public class BloquearClienteService implements BloquearClienteUseCase {
             // Bloqueia
             cliente.bloquear(motivo, usuario);
             clienteRepository.save(cliente);
+            clienteCache.invalidar(cliente);
 
             log.info("Cliente bloqueado com sucesso - PublicId: {}, DataBloqueio: {}",
                     publicId, cliente.getDataBloqueio());
@@ -83,7 +85,6 @@ public class BloquearClienteService implements BloquearClienteUseCase {
 
     @Override
     @Transactional
-    @CacheEvict(value = {"clientes:findById", "clientes:list"}, allEntries = true)
     public void desbloquear(UUID publicId) {
         MDC.put("operationType", "DESBLOQUEAR_CLIENTE");
         MDC.put("clientId", publicId.toString());
@@ -98,6 +99,7 @@ public class BloquearClienteService implements BloquearClienteUseCase {
             // Desbloqueia
             cliente.desbloquear();
             clienteRepository.save(cliente);
+            clienteCache.invalidar(cliente);
 
             log.info("Cliente desbloqueado com sucesso - PublicId: {}", publicId);
 
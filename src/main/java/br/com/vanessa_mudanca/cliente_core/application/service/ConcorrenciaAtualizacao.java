@@ -0,0 +1,25 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Limites da retentativa de atualizações concorrentes ({@link AtualizacaoOtimista}).
+ *
+ * Montado pela infraestrutura a partir de {@code clientes.concorrencia}.
+ *
+ * @param maxTentativas tentativas da atualização quando outra gravação acontece no meio dela
+ * @param espera        espera antes da 2ª tentativa, multiplicada pelo número da tentativa
+ */
+public record ConcorrenciaAtualizacao(int maxTentativas, Duration espera) {
+
+    /** 3 tentativas, 20ms de espera. */
+    public static final ConcorrenciaAtualizacao PADRAO = new ConcorrenciaAtualizacao(3, Duration.ofMillis(20));
+
+    public ConcorrenciaAtualizacao {
+        if (maxTentativas < 1) {
+            throw new IllegalArgumentException("maxTentativas deve ser ao menos 1");
+        }
+        Objects.requireNonNull(espera, "espera");
+    }
+}
@@ -0,0 +1,223 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePFRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchItemResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePFBatchUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteIndicadorNaoEncontradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.CpfJaCadastradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.CpfInvalidoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.LoteInvalidoException;
+import br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteBatchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service para criação em lote de Clientes Pessoa Física.
+ *
+ * Em vez de uma transação, um {@code existsByCpf} e um INSERT por cliente, cada bloco de
+ * {@code clientes.batch.chunk-size} itens faz: validação em memória, uma consulta {@code IN}
+ * de CPFs já cadastrados, uma de clientes indicadores e um flush com os INSERTs em lote.
+ * Cada bloco tem sua transação: uma falha ao gravar afeta só os itens daquele bloco.
+ */
+@Service
+public class CreateClientePFBatchService implements CreateClientePFBatchUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateClientePFBatchService.class);
+
+    private final ClientePFRepositoryPort clientePFRepository;
+    private final ClienteRepositoryPort clienteRepository;
+    private final ClienteCachePort clienteCache;
+    private final TransactionTemplate transaction;
+    private final ClienteBatchProperties properties;
+
+    public CreateClientePFBatchService(
+            ClientePFRepositoryPort clientePFRepository,
+            ClienteRepositoryPort clienteRepository,
+            ClienteCachePort clienteCache,
+            PlatformTransactionManager transactionManager,
+            ClienteBatchProperties properties) {
+        this.clientePFRepository = clientePFRepository;
+        this.clienteRepository = clienteRepository;
+        this.clienteCache = clienteCache;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Override
+    public ClienteBatchResponse criarEmLote(List<CreateClientePFRequest> requests) {
+        int tamanho = requests == null ? 0 : requests.size();
+        if (tamanho == 0 || tamanho > properties.maxItens()) {
+            throw new LoteInvalidoException(tamanho, properties.maxItens());
+        }
+
+        MDC.put("operationType", "CREATE_CLIENTE_PF_BATCH");
+        try {
+            long inicio = System.nanoTime();
+            ClienteBatchItemResponse[] itens = new ClienteBatchItemResponse[tamanho];
+            Set<String> cpfsDoLote = new HashSet<>();
+
+            for (int de = 0; de < tamanho; de += properties.chunkSize()) {
+                processarBloco(requests, de, Math.min(de + properties.chunkSize(), tamanho), cpfsDoLote, itens);
+            }
+
+            ClienteBatchResponse response = ClienteBatchResponse.of(
+                    Arrays.asList(itens), Duration.ofNanos(System.nanoTime() - inicio));
+            log.info("Lote de clientes PF processado - Total: {}, Criados: {}, Falhas: {}, Duração: {}ms, Vazão: {} clientes/s",
+                    response.total(), response.criados(), response.falhas(),
+                    response.duracaoMs(), response.clientesPorSegundo());
+            return response;
+        } finally {
+            MDC.remove("operationType");
+        }
+    }
+
+    private void processarBloco(List<CreateClientePFRequest> requests, int de, int ate,
+                                Set<String> cpfsDoLote, ClienteBatchItemResponse[] itens) {
+        // 1. Validação em memória (campos, CPF, CPF repetido no próprio lote)
+        Map<Integer, CreateClientePFRequest> candidatos = new LinkedHashMap<>();
+        for (int i = de; i < ate; i++) {
+            CreateClientePFRequest request = requests.get(i);
+            ClienteBatchItemResponse falha = validar(i, request, cpfsDoLote);
+            if (falha != null) {
+                itens[i] = falha;
+            } else {
+                candidatos.put(i, request);
+            }
+        }
+        if (candidatos.isEmpty()) {
+            return;
+        }
+
+        // 2. Duplicados e indicadores por consulta IN, 3. INSERTs em lote: tudo na transação do bloco
+        List<ClienteBatchItemResponse> resultados = new ArrayList<>(candidatos.size());
+        try {
+            transaction.executeWithoutResult(status -> gravar(candidatos, resultados));
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar bloco de clientes PF - Itens: {} a {}, Erro: {}", de, ate - 1, e.getMessage(), e);
+            resultados.clear();
+            candidatos.keySet().forEach(i -> resultados.add(ClienteBatchItemResponse.falha(i, 500,
+                    "Bloco não gravado por erro ao persistir; reenvie o item")));
+        }
+        resultados.forEach(resultado -> itens[resultado.indice()] = resultado);
+    }
+
+    private void gravar(Map<Integer, CreateClientePFRequest> candidatos, List<ClienteBatchItemResponse> resultados) {
+        Set<String> cadastrados = clientePFRepository.findExistingCpfs(variantes(candidatos.values())).stream()
+                .map(DocumentoValidator::limparDocumento)
+                .collect(Collectors.toSet());
+        Map<UUID, Cliente> indicadores = buscarIndicadores(candidatos.values());
+
+        List<Integer> indices = new ArrayList<>(candidatos.size());
+        List<ClientePF> novos = new ArrayList<>(candidatos.size());
+        candidatos.forEach((i, request) -> {
+            UUID indicadorId = request.clienteIndicadorId();
+            if (cadastrados.contains(DocumentoValidator.limparDocumento(request.cpf()))) {
+                resultados.add(ClienteBatchItemResponse.falha(i, 409,
+                        new CpfJaCadastradoException(request.cpf()).getMessage()));
+            } else if (indicadorId != null && !indicadores.containsKey(indicadorId)) {
+                resultados.add(ClienteBatchItemResponse.falha(i, 404,
+                        new ClienteIndicadorNaoEncontradoException(indicadorId).getMessage()));
+            } else {
+                indices.add(i);
+                novos.add(ClientePFMapper.toEntity(request, indicadorId != null ? indicadores.get(indicadorId) : null));
+            }
+        });
+
+        List<ClientePF> salvos = clientePFRepository.saveAll(novos);
+        for (int k = 0; k < salvos.size(); k++) {
+            clienteCache.invalidar(salvos.get(k));
+            resultados.add(ClienteBatchItemResponse.criado(indices.get(k), salvos.get(k).getPublicId()));
+        }
+    }
+
+    private ClienteBatchItemResponse validar(int indice, CreateClientePFRequest request, Set<String> cpfsDoLote) {
+        if (request == null) {
+            return ClienteBatchItemResponse.falha(indice, 400, "Item vazio");
+        }
+        List<String> erros = camposInvalidos(request);
+        if (!erros.isEmpty()) {
+            return ClienteBatchItemResponse.falha(indice, 400, String.join("; ", erros));
+        }
+        if (!cpfsDoLote.add(DocumentoValidator.limparDocumento(request.cpf()))) {
+            return ClienteBatchItemResponse.falha(indice, 409,
+                    String.format("CPF '%s' repetido no lote", request.cpf()));
+        }
+        return null;
+    }
+
+    /**
+     * Campos obrigatórios e CPF válido, com as mesmas regras do cadastro individual
+     * ({@code CreateClientePFService.validarCpf}): o lote não passa pelo {@code @Valid} do controller.
+     */
+    private static List<String> camposInvalidos(CreateClientePFRequest request) {
+        List<String> erros = new ArrayList<>();
+        if (isBlank(request.primeiroNome())) {
+            erros.add("primeiroNome: Primeiro nome é obrigatório");
+        }
+        if (isBlank(request.sobrenome())) {
+            erros.add("sobrenome: Sobrenome é obrigatório");
+        }
+        if (isBlank(request.cpf())) {
+            erros.add("cpf: CPF é obrigatório");
+        } else if (!DocumentoValidator.isValidCpf(DocumentoValidator.limparDocumento(request.cpf()))) {
+            erros.add("cpf: " + new CpfInvalidoException(request.cpf()).getMessage());
+        }
+        if (request.dataNascimento() != null && !request.dataNascimento().isBefore(LocalDate.now())) {
+            erros.add("dataNascimento: Data de nascimento deve ser no passado");
+        }
+        if (request.tipoCliente() == null) {
+            erros.add("tipoCliente: Tipo de cliente é obrigatório");
+        }
+        return erros;
+    }
+
+    private static boolean isBlank(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    /**
+     * O CPF pode estar gravado com ou sem formatação: consulta as duas formas.
+     */
+    private static Set<String> variantes(Iterable<CreateClientePFRequest> requests) {
+        Set<String> cpfs = new HashSet<>();
+        for (CreateClientePFRequest request : requests) {
+            String cpfLimpo = DocumentoValidator.limparDocumento(request.cpf());
+            cpfs.add(cpfLimpo);
+            cpfs.add(cpfLimpo.replaceAll("(\\d{3})(\\d{3})(\\d{3})(\\d{2})", "$1.$2.$3-$4"));
+        }
+        return cpfs;
+    }
+
+    private Map<UUID, Cliente> buscarIndicadores(Iterable<CreateClientePFRequest> requests) {
+        Set<UUID> ids = new HashSet<>();
+        requests.forEach(request -> ids.add(request.clienteIndicadorId()));
+        ids.remove(null);
+        return clienteRepository.findAllByPublicId(ids).stream()
+                .collect(Collectors.toMap(Cliente::getPublicId, Function.identity()));
+    }
+}
@@ -4,6 +4,7 @@ import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePF
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePFUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
@@ -32,12 +33,15 @@ public class CreateClientePFService implements CreateClientePFUseCase {
 
     private final ClientePFRepositoryPort clientePFRepository;
     private final ClienteRepositoryPort clienteRepository;
+    private final ClienteCachePort clienteCache;
 
     public CreateClientePFService(
             ClientePFRepositoryPort clientePFRepository,
-            ClienteRepositoryPort clienteRepository) {
+            ClienteRepositoryPort clienteRepository,
+            ClienteCachePort clienteCache) {
         this.clientePFRepository = clientePFRepository;
         this.clienteRepository = clienteRepository;
+        this.clienteCache = clienteCache;
     }
 
     @Override
@@ -65,6 +69,7 @@ public class CreateClientePFService implements CreateClientePFUseCase {
 
             // 5. Salvar no banco
             ClientePF clienteSalvo = clientePFRepository.save(clientePF);
+            clienteCache.invalidar(clienteSalvo);
 
             // Adiciona clientId ao MDC para logs subsequentes
             MDC.put("clientId", clienteSalvo.getPublicId().toString());
@@ -0,0 +1,220 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePJRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchItemResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePJBatchUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteIndicadorNaoEncontradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.CnpjJaCadastradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.CnpjInvalidoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.LoteInvalidoException;
+import br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteBatchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service para criação em lote de Clientes Pessoa Jurídica.
+ *
+ * Em vez de uma transação, um {@code existsByCnpj} e um INSERT por cliente, cada bloco de
+ * {@code clientes.batch.chunk-size} itens faz: validação em memória, uma consulta {@code IN}
+ * de CNPJs já cadastrados, uma de clientes indicadores e um flush com os INSERTs em lote.
+ * Cada bloco tem sua transação: uma falha ao gravar afeta só os itens daquele bloco.
+ */
+@Service
+public class CreateClientePJBatchService implements CreateClientePJBatchUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(CreateClientePJBatchService.class);
+
+    private final ClientePJRepositoryPort clientePJRepository;
+    private final ClienteRepositoryPort clienteRepository;
+    private final ClienteCachePort clienteCache;
+    private final TransactionTemplate transaction;
+    private final ClienteBatchProperties properties;
+
+    public CreateClientePJBatchService(
+            ClientePJRepositoryPort clientePJRepository,
+            ClienteRepositoryPort clienteRepository,
+            ClienteCachePort clienteCache,
+            PlatformTransactionManager transactionManager,
+            ClienteBatchProperties properties) {
+        this.clientePJRepository = clientePJRepository;
+        this.clienteRepository = clienteRepository;
+        this.clienteCache = clienteCache;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+    }
+
+    @Override
+    public ClienteBatchResponse criarEmLote(List<CreateClientePJRequest> requests) {
+        int tamanho = requests == null ? 0 : requests.size();
+        if (tamanho == 0 || tamanho > properties.maxItens()) {
+            throw new LoteInvalidoException(tamanho, properties.maxItens());
+        }
+
+        MDC.put("operationType", "CREATE_CLIENTE_PJ_BATCH");
+        try {
+            long inicio = System.nanoTime();
+            ClienteBatchItemResponse[] itens = new ClienteBatchItemResponse[tamanho];
+            Set<String> cnpjsDoLote = new HashSet<>();
+
+            for (int de = 0; de < tamanho; de += properties.chunkSize()) {
+                processarBloco(requests, de, Math.min(de + properties.chunkSize(), tamanho), cnpjsDoLote, itens);
+            }
+
+            ClienteBatchResponse response = ClienteBatchResponse.of(
+                    Arrays.asList(itens), Duration.ofNanos(System.nanoTime() - inicio));
+            log.info("Lote de clientes PJ processado - Total: {}, Criados: {}, Falhas: {}, Duração: {}ms, Vazão: {} clientes/s",
+                    response.total(), response.criados(), response.falhas(),
+                    response.duracaoMs(), response.clientesPorSegundo());
+            return response;
+        } finally {
+            MDC.remove("operationType");
+        }
+    }
+
+    private void processarBloco(List<CreateClientePJRequest> requests, int de, int ate,
+                                Set<String> cnpjsDoLote, ClienteBatchItemResponse[] itens) {
+        // 1. Validação em memória (campos, CNPJ, CNPJ repetido no próprio lote)
+        Map<Integer, CreateClientePJRequest> candidatos = new LinkedHashMap<>();
+        for (int i = de; i < ate; i++) {
+            CreateClientePJRequest request = requests.get(i);
+            ClienteBatchItemResponse falha = validar(i, request, cnpjsDoLote);
+            if (falha != null) {
+                itens[i] = falha;
+            } else {
+                candidatos.put(i, request);
+            }
+        }
+        if (candidatos.isEmpty()) {
+            return;
+        }
+
+        // 2. Duplicados e indicadores por consulta IN, 3. INSERTs em lote: tudo na transação do bloco
+        List<ClienteBatchItemResponse> resultados = new ArrayList<>(candidatos.size());
+        try {
+            transaction.executeWithoutResult(status -> gravar(candidatos, resultados));
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar bloco de clientes PJ - Itens: {} a {}, Erro: {}", de, ate - 1, e.getMessage(), e);
+            resultados.clear();
+            candidatos.keySet().forEach(i -> resultados.add(ClienteBatchItemResponse.falha(i, 500,
+                    "Bloco não gravado por erro ao persistir; reenvie o item")));
+        }
+        resultados.forEach(resultado -> itens[resultado.indice()] = resultado);
+    }
+
+    private void gravar(Map<Integer, CreateClientePJRequest> candidatos, List<ClienteBatchItemResponse> resultados) {
+        Set<String> cadastrados = clientePJRepository.findExistingCnpjs(variantes(candidatos.values())).stream()
+                .map(DocumentoValidator::limparDocumento)
+                .collect(Collectors.toSet());
+        Map<UUID, Cliente> indicadores = buscarIndicadores(candidatos.values());
+
+        List<Integer> indices = new ArrayList<>(candidatos.size());
+        List<ClientePJ> novos = new ArrayList<>(candidatos.size());
+        candidatos.forEach((i, request) -> {
+            UUID indicadorId = request.clienteIndicadorId();
+            if (cadastrados.contains(DocumentoValidator.limparDocumento(request.cnpj()))) {
+                resultados.add(ClienteBatchItemResponse.falha(i, 409,
+                        new CnpjJaCadastradoException(request.cnpj()).getMessage()));
+            } else if (indicadorId != null && !indicadores.containsKey(indicadorId)) {
+                resultados.add(ClienteBatchItemResponse.falha(i, 404,
+                        new ClienteIndicadorNaoEncontradoException(indicadorId).getMessage()));
+            } else {
+                indices.add(i);
+                novos.add(ClientePJMapper.toEntity(request, indicadorId != null ? indicadores.get(indicadorId) : null));
+            }
+        });
+
+        List<ClientePJ> salvos = clientePJRepository.saveAll(novos);
+        for (int k = 0; k < salvos.size(); k++) {
+            clienteCache.invalidar(salvos.get(k));
+            resultados.add(ClienteBatchItemResponse.criado(indices.get(k), salvos.get(k).getPublicId()));
+        }
+    }
+
+    private ClienteBatchItemResponse validar(int indice, CreateClientePJRequest request, Set<String> cnpjsDoLote) {
+        if (request == null) {
+            return ClienteBatchItemResponse.falha(indice, 400, "Item vazio");
+        }
+        List<String> erros = camposInvalidos(request);
+        if (!erros.isEmpty()) {
+            return ClienteBatchItemResponse.falha(indice, 400, String.join("; ", erros));
+        }
+        if (!cnpjsDoLote.add(DocumentoValidator.limparDocumento(request.cnpj()))) {
+            return ClienteBatchItemResponse.falha(indice, 409,
+                    String.format("CNPJ '%s' repetido no lote", request.cnpj()));
+        }
+        return null;
+    }
+
+    /**
+     * Campos obrigatórios e CNPJ válido, com as mesmas regras do cadastro individual
+     * ({@code CreateClientePJService.validarCnpj}): o lote não passa pelo {@code @Valid} do controller.
+     */
+    private static List<String> camposInvalidos(CreateClientePJRequest request) {
+        List<String> erros = new ArrayList<>();
+        if (isBlank(request.razaoSocial())) {
+            erros.add("razaoSocial: Razão social é obrigatória");
+        }
+        if (isBlank(request.cnpj())) {
+            erros.add("cnpj: CNPJ é obrigatório");
+        } else if (!DocumentoValidator.isValidCnpj(DocumentoValidator.limparDocumento(request.cnpj()))) {
+            erros.add("cnpj: " + new CnpjInvalidoException(request.cnpj()).getMessage());
+        }
+        if (!isBlank(request.cpfResponsavel())
+                && !DocumentoValidator.isValidCpf(DocumentoValidator.limparDocumento(request.cpfResponsavel()))) {
+            erros.add("cpfResponsavel: CPF do responsável inválido");
+        }
+        if (request.tipoCliente() == null) {
+            erros.add("tipoCliente: Tipo de cliente é obrigatório");
+        }
+        return erros;
+    }
+
+    private static boolean isBlank(String valor) {
+        return valor == null || valor.isBlank();
+    }
+
+    /**
+     * O CNPJ pode estar gravado com ou sem formatação: consulta as duas formas.
+     */
+    private static Set<String> variantes(Iterable<CreateClientePJRequest> requests) {
+        Set<String> cnpjs = new HashSet<>();
+        for (CreateClientePJRequest request : requests) {
+            String cnpjLimpo = DocumentoValidator.limparDocumento(request.cnpj());
+            cnpjs.add(cnpjLimpo);
+            cnpjs.add(cnpjLimpo.replaceAll("(\\d{2})(\\d{3})(\\d{3})(\\d{4})(\\d{2})", "$1.$2.$3/$4-$5"));
+        }
+        return cnpjs;
+    }
+
+    private Map<UUID, Cliente> buscarIndicadores(Iterable<CreateClientePJRequest> requests) {
+        Set<UUID> ids = new HashSet<>();
+        requests.forEach(request -> ids.add(request.clienteIndicadorId()));
+        ids.remove(null);
+        return clienteRepository.findAllByPublicId(ids).stream()
+                .collect(Collectors.toMap(Cliente::getPublicId, Function.identity()));
+    }
+}
@@ -4,6 +4,7 @@ import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePJ
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePJUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
@@ -26,12 +27,15 @@ public class CreateClientePJService implements CreateClientePJUseCase {
 
     private final ClientePJRepositoryPort clientePJRepository;
     private final ClienteRepositoryPort clienteRepository;
+    private final ClienteCachePort clienteCache;
 
     public CreateClientePJService(
             ClientePJRepositoryPort clientePJRepository,
-            ClienteRepositoryPort clienteRepository) {
+            ClienteRepositoryPort clienteRepository,
+            ClienteCachePort clienteCache) {
         this.clientePJRepository = clientePJRepository;
         this.clienteRepository = clienteRepository;
+        this.clienteCache = clienteCache;
     }
 
     @Override
@@ -51,6 +55,7 @@ public class CreateClientePJService implements CreateClientePJUseCase {
 
         // 5. Salvar no banco
         ClientePJ clienteSalvo = clientePJRepository.save(clientePJ);
+        clienteCache.invalidar(clienteSalvo);
 
         // 6. Converter Entity para Response
         return ClientePJMapper.toResponse(clienteSalvo);
@@ -1,6 +1,7 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.DeleteClienteUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteJaDeletadoException;
@@ -9,7 +10,6 @@ import br.com.vanessa_mudanca.cliente_core.infrastructure.util.MaskingUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,14 +31,15 @@ public class DeleteClienteService implements DeleteClienteUseCase {
     private static final Logger log = LoggerFactory.getLogger(DeleteClienteService.class);
 
     private final ClienteRepositoryPort clienteRepository;
+    private final ClienteCachePort clienteCache;
 
-    public DeleteClienteService(ClienteRepositoryPort clienteRepository) {
+    public DeleteClienteService(ClienteRepositoryPort clienteRepository, ClienteCachePort clienteCache) {
         this.clienteRepository = clienteRepository;
+        this.clienteCache = clienteCache;
     }
 
     @Override
     @Transactional
-    @CacheEvict(value = {"clientes:findById", "clientes:list"}, allEntries = true)
     public void deletar(UUID publicId, String motivo, String usuario) {
         MDC.put("operationType", "DELETE_CLIENTE");
         MDC.put("clientId", publicId.toString());
@@ -65,6 +66,7 @@ public class DeleteClienteService implements DeleteClienteUseCase {
             // Soft delete
             cliente.deletar(motivo, usuario);
             clienteRepository.save(cliente);
+            clienteCache.invalidar(cliente);
 
             log.info("Cliente deletado com sucesso - PublicId: {}, DataDelecao: {}",
                     publicId, cliente.getDataDelecao());
@@ -85,7 +87,6 @@ public class DeleteClienteService implements DeleteClienteUseCase {
 
     @Override
     @Transactional
-    @CacheEvict(value = {"clientes:findById", "clientes:list"}, allEntries = true)
     public void restaurar(UUID publicId, String usuario) {
         MDC.put("operationType", "RESTAURAR_CLIENTE");
         MDC.put("clientId", publicId.toString());
@@ -104,6 +105,7 @@ public class DeleteClienteService implements DeleteClienteUseCase {
             // Restaura
             cliente.restaurar(usuario);
             clienteRepository.save(cliente);
+            clienteCache.invalidar(cliente);
 
             log.info("Cliente restaurado com sucesso - PublicId: {}",
                     publicId);
@@ -0,0 +1,61 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.ExportClientePJUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.BusinessException;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteBatchProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Service para exportação de Clientes Pessoa Jurídica.
+ *
+ * Uma leitura só, por cursor do banco, em vez de paginar com OFFSET + COUNT: os clientes vêm
+ * em blocos de {@code clientes.batch.chunk-size} com as listas carregadas por {@code IN}
+ * (3 SELECTs por bloco) e são descartados do contexto de persistência a cada bloco.
+ * Sem cache: cada cliente é lido uma vez só.
+ */
+@Service
+public class ExportClientePJService implements ExportClientePJUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportClientePJService.class);
+
+    private final ClientePJRepositoryPort clientePJRepository;
+    private final ClienteBatchProperties properties;
+
+    public ExportClientePJService(ClientePJRepositoryPort clientePJRepository, ClienteBatchProperties properties) {
+        this.clientePJRepository = clientePJRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Transação somente leitura (vai para a réplica, se configurada) aberta durante toda a
+     * exportação: o cursor do PostgreSQL só existe dentro dela.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportar(LocalDateTime atualizadoDesde, LocalDateTime atualizadoAte, Consumer<ClientePJResponse> destino) {
+        if (atualizadoDesde != null && atualizadoAte != null && !atualizadoDesde.isBefore(atualizadoAte)) {
+            throw new BusinessException("A data de atualização inicial deve ser anterior à final");
+        }
+
+        long inicio = System.nanoTime();
+        AtomicLong exportados = new AtomicLong();
+        clientePJRepository.forEachBlock(atualizadoDesde, atualizadoAte, properties.chunkSize(), bloco -> {
+            bloco.forEach(cliente -> destino.accept(ClientePJMapper.toResponse(cliente)));
+            exportados.addAndGet(bloco.size());
+        });
+
+        log.info("Exportação de clientes PJ concluída - Clientes: {}, Atualizados desde: {}, até: {}, Duração: {}ms",
+                exportados.get(), atualizadoDesde, atualizadoAte, (System.nanoTime() - inicio) / 1_000_000);
+        return exportados.get();
+    }
+}
@@ -1,38 +1,91 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.cache.CacheNotFound;
+import br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey;
+import br.com.vanessa_mudanca.cliente_core.application.cache.SingleFlight;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByCpfUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service para buscar Cliente Pessoa Física por CPF.
  * Permite descobrir o UUID público através do CPF.
+ *
+ * Buscas concorrentes pelo mesmo CPF (com ou sem formatação) são
+ * coalescidas em uma única consulta (@SingleFlight). CPFs inexistentes
+ * ficam memorizados por pouco tempo em clientes:notFound (@CacheNotFound).
+ *
+ * Lookup (lookupByCpf):
+ * - Projeção só com publicId/nome: um SELECT pelo índice único de cpf, sem o agregado
+ * - Cache: clientes:lookup, chave "cpf:" + dígitos do CPF
+ * - Evict: escritas no cliente (ClienteCachePort)
+ *
+ * Réplica: as consultas vão para a réplica de leitura, exceto logo após escrita no cliente
+ * (ReadYourWritesPort).
  */
 @Service
 public class FindClientePFByCpfService implements FindClientePFByCpfUseCase {
 
     private final ClientePFRepositoryPort clientePFRepository;
+    private final ReadYourWritesPort readYourWrites;
 
-    public FindClientePFByCpfService(ClientePFRepositoryPort clientePFRepository) {
+    public FindClientePFByCpfService(ClientePFRepositoryPort clientePFRepository,
+                                     ReadYourWritesPort readYourWrites) {
         this.clientePFRepository = clientePFRepository;
+        this.readYourWrites = readYourWrites;
     }
 
     @Override
+    @CacheNotFound(NotFoundKey.CPF)
+    @SingleFlight(
+        name = "clientes:findByCpf",
+        key = "T(br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator).limparDocumento(#cpf)"
+    )
     @Transactional(readOnly = true)
     public ClientePFResponse findByCpf(String cpf) {
-        // Formata o CPF se vier sem formatação (11 dígitos)
-        String cpfFormatado = cpf;
+        return readYourWrites.ler(DocumentoValidator.limparDocumento(cpf),
+                        () -> clientePFRepository.findByCpf(formatarCpf(cpf)))
+                .map(ClientePFMapper::toResponse)
+                .orElseThrow(() -> naoEncontrado(cpf));
+    }
+
+    @Override
+    @Cacheable(
+        value = "clientes:lookup",
+        key = "T(br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey).CPF.key(#cpf)"
+    )
+    @CacheNotFound(NotFoundKey.CPF)
+    @SingleFlight(
+        name = "clientes:lookupByCpf",
+        key = "T(br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator).limparDocumento(#cpf)"
+    )
+    @Transactional(readOnly = true)
+    public ClientePFLookupResponse lookupByCpf(String cpf) {
+        return readYourWrites.ler(DocumentoValidator.limparDocumento(cpf),
+                        () -> clientePFRepository.findLookupByCpf(formatarCpf(cpf)))
+                .orElseThrow(() -> naoEncontrado(cpf));
+    }
+
+    /**
+     * Formata o CPF se vier sem formatação (11 dígitos).
+     */
+    private static String formatarCpf(String cpf) {
         if (cpf.matches("\\d{11}")) {
-            cpfFormatado = cpf.replaceAll("(\\d{3})(\\d{3})(\\d{3})(\\d{2})", "$1.$2.$3-$4");
+            return cpf.replaceAll("(\\d{3})(\\d{3})(\\d{3})(\\d{2})", "$1.$2.$3-$4");
         }
+        return cpf;
+    }
 
-        return clientePFRepository.findByCpf(cpfFormatado)
-                .map(ClientePFMapper::toResponse)
-                .orElseThrow(() -> new ClienteNaoEncontradoException(
-                    String.format("Cliente PF com CPF '%s' não encontrado", cpf)));
+    private static ClienteNaoEncontradoException naoEncontrado(String cpf) {
+        return new ClienteNaoEncontradoException(
+                String.format("Cliente PF com CPF '%s' não encontrado", cpf));
     }
 }
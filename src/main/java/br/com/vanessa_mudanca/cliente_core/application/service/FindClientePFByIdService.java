@@ -1,9 +1,13 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.cache.CacheNotFound;
+import br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey;
+import br.com.vanessa_mudanca.cliente_core.application.cache.SingleFlight;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByIdUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.util.MaskingUtil;
 import org.slf4j.Logger;
@@ -23,6 +27,9 @@ import java.util.UUID;
  * - Cache: clientes:findById
  * - TTL: 5 minutos (hot cache)
  * - Key: UUID do cliente
+ * - Miss: cargas concorrentes do mesmo UUID são coalescidas (@SingleFlight)
+ * - Not found: memorizado em clientes:notFound (@CacheNotFound)
+ * - Réplica: miss vai para a réplica de leitura, exceto logo após escrita no cliente (ReadYourWritesPort)
  * - Evict: UpdateClientePFService, DeleteClienteService
  */
 @Service
@@ -31,9 +38,12 @@ public class FindClientePFByIdService implements FindClientePFByIdUseCase {
     private static final Logger log = LoggerFactory.getLogger(FindClientePFByIdService.class);
 
     private final ClientePFRepositoryPort clientePFRepository;
+    private final ReadYourWritesPort readYourWrites;
 
-    public FindClientePFByIdService(ClientePFRepositoryPort clientePFRepository) {
+    public FindClientePFByIdService(ClientePFRepositoryPort clientePFRepository,
+                                    ReadYourWritesPort readYourWrites) {
         this.clientePFRepository = clientePFRepository;
+        this.readYourWrites = readYourWrites;
     }
 
     @Override
@@ -42,6 +52,8 @@ public class FindClientePFByIdService implements FindClientePFByIdUseCase {
         key = "#publicId.toString()",
         unless = "#result == null"
     )
+    @CacheNotFound(NotFoundKey.PF_ID)
+    @SingleFlight(name = "clientes:findById:pf", key = "#publicId.toString()")
     @Transactional(readOnly = true)
     public ClientePFResponse findByPublicId(UUID publicId) {
         MDC.put("operationType", "FIND_CLIENTE_PF_BY_ID");
@@ -50,7 +62,7 @@ public class FindClientePFByIdService implements FindClientePFByIdUseCase {
         try {
             log.debug("Buscando cliente PF por PublicId: {}", publicId);
 
-            return clientePFRepository.findByPublicId(publicId)
+            return readYourWrites.ler(publicId.toString(), () -> clientePFRepository.findByPublicId(publicId))
                     .map(clientePF -> {
                         log.info("Cliente PF encontrado - PublicId: {}, CPF: {}",
                                 publicId,
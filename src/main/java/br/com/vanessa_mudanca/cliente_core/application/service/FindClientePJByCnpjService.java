@@ -1,38 +1,91 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.cache.CacheNotFound;
+import br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey;
+import br.com.vanessa_mudanca.cliente_core.application.cache.SingleFlight;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByCnpjUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service para buscar Cliente Pessoa Jurídica por CNPJ.
  * Permite descobrir o UUID público através do CNPJ.
+ *
+ * Buscas concorrentes pelo mesmo CNPJ (com ou sem formatação) são
+ * coalescidas em uma única consulta (@SingleFlight). CNPJs inexistentes
+ * ficam memorizados por pouco tempo em clientes:notFound (@CacheNotFound).
+ *
+ * Lookup (lookupByCnpj):
+ * - Projeção só com publicId/nome fantasia: um SELECT pelo índice único de cnpj, sem o agregado
+ * - Cache: clientes:lookup, chave "cnpj:" + dígitos do CNPJ
+ * - Evict: escritas no cliente (ClienteCachePort)
+ *
+ * Réplica: as consultas vão para a réplica de leitura, exceto logo após escrita no cliente
+ * (ReadYourWritesPort).
  */
 @Service
 public class FindClientePJByCnpjService implements FindClientePJByCnpjUseCase {
 
     private final ClientePJRepositoryPort clientePJRepository;
+    private final ReadYourWritesPort readYourWrites;
 
-    public FindClientePJByCnpjService(ClientePJRepositoryPort clientePJRepository) {
+    public FindClientePJByCnpjService(ClientePJRepositoryPort clientePJRepository,
+                                      ReadYourWritesPort readYourWrites) {
         this.clientePJRepository = clientePJRepository;
+        this.readYourWrites = readYourWrites;
     }
 
     @Override
+    @CacheNotFound(NotFoundKey.CNPJ)
+    @SingleFlight(
+        name = "clientes:findByCnpj",
+        key = "T(br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator).limparDocumento(#cnpj)"
+    )
     @Transactional(readOnly = true)
     public ClientePJResponse findByCnpj(String cnpj) {
-        // Formata o CNPJ se vier sem formatação (14 dígitos)
-        String cnpjFormatado = cnpj;
+        return readYourWrites.ler(DocumentoValidator.limparDocumento(cnpj),
+                        () -> clientePJRepository.findByCnpj(formatarCnpj(cnpj)))
+                .map(ClientePJMapper::toResponse)
+                .orElseThrow(() -> naoEncontrado(cnpj));
+    }
+
+    @Override
+    @Cacheable(
+        value = "clientes:lookup",
+        key = "T(br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey).CNPJ.key(#cnpj)"
+    )
+    @CacheNotFound(NotFoundKey.CNPJ)
+    @SingleFlight(
+        name = "clientes:lookupByCnpj",
+        key = "T(br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator).limparDocumento(#cnpj)"
+    )
+    @Transactional(readOnly = true)
+    public ClientePJLookupResponse lookupByCnpj(String cnpj) {
+        return readYourWrites.ler(DocumentoValidator.limparDocumento(cnpj),
+                        () -> clientePJRepository.findLookupByCnpj(formatarCnpj(cnpj)))
+                .orElseThrow(() -> naoEncontrado(cnpj));
+    }
+
+    /**
+     * Formata o CNPJ se vier sem formatação (14 dígitos).
+     */
+    private static String formatarCnpj(String cnpj) {
         if (cnpj.matches("\\d{14}")) {
-            cnpjFormatado = cnpj.replaceAll("(\\d{2})(\\d{3})(\\d{3})(\\d{4})(\\d{2})", "$1.$2.$3/$4-$5");
+            return cnpj.replaceAll("(\\d{2})(\\d{3})(\\d{3})(\\d{4})(\\d{2})", "$1.$2.$3/$4-$5");
         }
+        return cnpj;
+    }
 
-        return clientePJRepository.findByCnpj(cnpjFormatado)
-                .map(ClientePJMapper::toResponse)
-                .orElseThrow(() -> new ClienteNaoEncontradoException(
-                    String.format("Cliente PJ com CNPJ '%s' não encontrado", cnpj)));
+    private static ClienteNaoEncontradoException naoEncontrado(String cnpj) {
+        return new ClienteNaoEncontradoException(
+                String.format("Cliente PJ com CNPJ '%s' não encontrado", cnpj));
     }
 }
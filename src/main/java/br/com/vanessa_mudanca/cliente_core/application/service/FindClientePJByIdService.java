@@ -1,9 +1,13 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.cache.CacheNotFound;
+import br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey;
+import br.com.vanessa_mudanca.cliente_core.application.cache.SingleFlight;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByIdUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
@@ -19,15 +23,21 @@ import java.util.UUID;
  * - Cache: clientes:findById
  * - TTL: 5 minutos (hot cache)
  * - Key: UUID do cliente
+ * - Miss: cargas concorrentes do mesmo UUID são coalescidas (@SingleFlight)
+ * - Not found: memorizado em clientes:notFound (@CacheNotFound)
+ * - Réplica: miss vai para a réplica de leitura, exceto logo após escrita no cliente (ReadYourWritesPort)
  * - Evict: UpdateClientePJService, DeleteClienteService
  */
 @Service
 public class FindClientePJByIdService implements FindClientePJByIdUseCase {
 
     private final ClientePJRepositoryPort clientePJRepository;
+    private final ReadYourWritesPort readYourWrites;
 
-    public FindClientePJByIdService(ClientePJRepositoryPort clientePJRepository) {
+    public FindClientePJByIdService(ClientePJRepositoryPort clientePJRepository,
+                                    ReadYourWritesPort readYourWrites) {
         this.clientePJRepository = clientePJRepository;
+        this.readYourWrites = readYourWrites;
     }
 
     @Override
@@ -36,9 +46,11 @@ public class FindClientePJByIdService implements FindClientePJByIdUseCase {
         key = "#publicId.toString()",
         unless = "#result == null"
     )
+    @CacheNotFound(NotFoundKey.PJ_ID)
+    @SingleFlight(name = "clientes:findById:pj", key = "#publicId.toString()")
     @Transactional(readOnly = true)
     public ClientePJResponse findByPublicId(UUID publicId) {
-        return clientePJRepository.findByPublicId(publicId)
+        return readYourWrites.ler(publicId.toString(), () -> clientePJRepository.findByPublicId(publicId))
                 .map(ClientePJMapper::toResponse)
                 .orElseThrow(() -> new ClienteNaoEncontradoException(publicId));
     }
@@ -0,0 +1,48 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Documentos, endereços ou contatos do cliente sendo atualizado, indexados por ID.
+ *
+ * A coleção do agregado é carregada uma vez (uma consulta por coleção, qualquer que seja o número
+ * de itens no request) e a propriedade de cada item é conferida em memória. Só um ID fora do agregado
+ * vai ao banco, para distinguir item inexistente (404) de item de outro cliente.
+ */
+final class ItensDoCliente<T> {
+
+    private final Map<Long, T> porId;
+    private final Function<Long, Optional<T>> buscarPorId;
+    private final Function<Long, ? extends RuntimeException> naoEncontrado;
+    private final String entidadeTipo;
+
+    ItensDoCliente(Collection<T> itens, Function<T, Long> id,
+                   Function<Long, Optional<T>> buscarPorId,
+                   Function<Long, ? extends RuntimeException> naoEncontrado,
+                   String entidadeTipo) {
+        this.porId = HashMap.newHashMap(itens.size());
+        itens.forEach(item -> porId.put(id.apply(item), item));
+        this.buscarPorId = buscarPorId;
+        this.naoEncontrado = naoEncontrado;
+        this.entidadeTipo = entidadeTipo;
+    }
+
+    /**
+     * Item do cliente com o ID informado.
+     * Previne que um cliente atualize entidades de outro cliente.
+     */
+    T buscar(Long id) {
+        T item = porId.get(id);
+        if (item != null) {
+            return item;
+        }
+        buscarPorId.apply(id).orElseThrow(() -> naoEncontrado.apply(id));
+        throw new IllegalArgumentException(
+                String.format("%s com ID não pertence ao cliente sendo atualizado", entidadeTipo)
+        );
+    }
+}
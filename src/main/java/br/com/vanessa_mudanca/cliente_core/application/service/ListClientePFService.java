@@ -1,15 +1,22 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.CursorPageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.ListClientePFUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.BusinessException;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Service para listar Clientes Pessoa Física com paginação.
  * Utiliza programação funcional com Streams.
@@ -17,8 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
  * Cache Strategy:
  * - Cache: clientes:list
  * - TTL: 1 minuto (cold cache - muito volátil)
- * - Key: página + tamanho + sort
- * - Evict: CreateClientePFService, UpdateClientePFService, DeleteClienteService
+ * - Key: geração PF + página + tamanho + sort (+ modo do total)
+ * - Evict: escritas em clientes PF avançam a geração (ClienteCachePort)
+ * - Total: ESTIMATED/NONE dispensam o COUNT(*) por página (TotalMode)
+ * - Cursor (findAllByCursor): sem cache, keyset em (data de criação, publicId)
  */
 @Service
 public class ListClientePFService implements ListClientePFUseCase {
@@ -32,13 +41,45 @@ public class ListClientePFService implements ListClientePFUseCase {
     @Override
     @Cacheable(
         value = "clientes:list",
-        key = "'pf-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort.toString()"
+        key = "'pf-g' + @listCacheGenerations.current('pf') + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort.toString() + '-' + #total"
     )
     @Transactional(readOnly = true)
-    public PageResponse<ClientePFResponse> findAll(Pageable pageable) {
-        return PageResponse.of(
-                clientePFRepository.findAll(pageable)
-                        .map(ClientePFMapper::toResponse)
+    public PageResponse<ClientePFResponse> findAll(Pageable pageable, TotalMode total) {
+        return switch (total) {
+            case EXACT -> PageResponse.of(
+                    clientePFRepository.findAll(pageable).map(ClientePFMapper::toResponse));
+            case ESTIMATED -> PageResponse.of(
+                    clientePFRepository.findSlice(pageable).map(ClientePFMapper::toResponse),
+                    clientePFRepository.estimateCount());
+            case NONE -> PageResponse.of(
+                    clientePFRepository.findSlice(pageable).map(ClientePFMapper::toResponse));
+        };
+    }
+
+    /**
+     * Sem cache: a varredura por cursor passa por cada página uma vez só e
+     * expulsaria do clientes:list as páginas realmente quentes.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ClientePFResponse> findAllByCursor(String cursor, int size) {
+        if (size < 1) {
+            throw new BusinessException("O tamanho da página deve ser maior que zero");
+        }
+        if (size > ClienteCursor.TAMANHO_MAXIMO) {
+            throw new BusinessException("O tamanho da página deve ser no máximo " + ClienteCursor.TAMANHO_MAXIMO);
+        }
+
+        // Busca um a mais para saber se existe próxima página sem count
+        List<ClientePF> clientes = clientePFRepository.findAfter(ClienteCursor.decode(cursor), size + 1);
+        boolean hasNext = clientes.size() > size;
+        List<ClientePF> pagina = hasNext ? clientes.subList(0, size) : clientes;
+
+        return new CursorPageResponse<>(
+                pagina.stream().map(ClientePFMapper::toResponse).toList(),
+                size,
+                hasNext ? ClienteCursor.apos(pagina.getLast()).encode() : null,
+                hasNext
         );
     }
 }
@@ -1,15 +1,22 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.CursorPageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.ListClientePJUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.BusinessException;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 /**
  * Service para listar Clientes Pessoa Jurídica com paginação.
  * Utiliza programação funcional com Streams.
@@ -17,8 +24,10 @@ import org.springframework.transaction.annotation.Transactional;
  * Cache Strategy:
  * - Cache: clientes:list
  * - TTL: 1 minuto (cold cache - muito volátil)
- * - Key: página + tamanho + sort
- * - Evict: CreateClientePJService, UpdateClientePJService, DeleteClienteService
+ * - Key: geração PJ + página + tamanho + sort (+ modo do total)
+ * - Evict: escritas em clientes PJ avançam a geração (ClienteCachePort)
+ * - Total: ESTIMATED/NONE dispensam o COUNT(*) por página (TotalMode)
+ * - Cursor (findAllByCursor): sem cache, keyset em (data de criação, publicId)
  */
 @Service
 public class ListClientePJService implements ListClientePJUseCase {
@@ -32,13 +41,45 @@ public class ListClientePJService implements ListClientePJUseCase {
     @Override
     @Cacheable(
         value = "clientes:list",
-        key = "'pj-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort.toString()"
+        key = "'pj-g' + @listCacheGenerations.current('pj') + '-' + #pageable.pageNumber + '-' + #pageable.pageSize + '-' + #pageable.sort.toString() + '-' + #total"
     )
     @Transactional(readOnly = true)
-    public PageResponse<ClientePJResponse> findAll(Pageable pageable) {
-        return PageResponse.of(
-                clientePJRepository.findAll(pageable)
-                        .map(ClientePJMapper::toResponse)
+    public PageResponse<ClientePJResponse> findAll(Pageable pageable, TotalMode total) {
+        return switch (total) {
+            case EXACT -> PageResponse.of(
+                    clientePJRepository.findAll(pageable).map(ClientePJMapper::toResponse));
+            case ESTIMATED -> PageResponse.of(
+                    clientePJRepository.findSlice(pageable).map(ClientePJMapper::toResponse),
+                    clientePJRepository.estimateCount());
+            case NONE -> PageResponse.of(
+                    clientePJRepository.findSlice(pageable).map(ClientePJMapper::toResponse));
+        };
+    }
+
+    /**
+     * Sem cache: a varredura por cursor passa por cada página uma vez só e
+     * expulsaria do clientes:list as páginas realmente quentes.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ClientePJResponse> findAllByCursor(String cursor, int size) {
+        if (size < 1) {
+            throw new BusinessException("O tamanho da página deve ser maior que zero");
+        }
+        if (size > ClienteCursor.TAMANHO_MAXIMO) {
+            throw new BusinessException("O tamanho da página deve ser no máximo " + ClienteCursor.TAMANHO_MAXIMO);
+        }
+
+        // Busca um a mais para saber se existe próxima página sem count
+        List<ClientePJ> clientes = clientePJRepository.findAfter(ClienteCursor.decode(cursor), size + 1);
+        boolean hasNext = clientes.size() > size;
+        List<ClientePJ> pagina = hasNext ? clientes.subList(0, size) : clientes;
+
+        return new CursorPageResponse<>(
+                pagina.stream().map(ClientePJMapper::toResponse).toList(),
+                size,
+                hasNext ? ClienteCursor.apos(pagina.getLast()).encode() : null,
+                hasNext
         );
     }
 }
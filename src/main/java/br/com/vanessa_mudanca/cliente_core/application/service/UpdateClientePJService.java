@@ -7,6 +7,7 @@ import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateEnderecoD
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.UpdateClientePJUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ContatoRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.DocumentoRepositoryPort;
@@ -23,10 +24,9 @@ import br.com.vanessa_mudanca.cliente_core.domain.exception.EnderecoNaoEncontrad
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarContatoPrincipalUnicoStrategy;
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarDataValidadeStrategy;
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarEnderecoPrincipalUnicoStrategy;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Service para atualização de Cliente Pessoa Jurídica.
@@ -35,6 +35,10 @@ import org.springframework.transaction.annotation.Transactional;
  * PADRÃO: Aggregate Update
  * - Atualiza cliente + documentos + endereços + contatos em uma única transação
  * - Updates são seletivos (apenas itens presentes no request são atualizados)
+ * - Cada coleção do agregado é lida em uma consulta; propriedade e unicidade de principal são
+ *   conferidas em memória ({@link ItensDoCliente}) e os UPDATEs saem em lote no flush
+ * - Locking otimista: versão do If-Match conferida na leitura e no UPDATE (412 se mudou);
+ *   só chamadas internas, sem precondição, retentam conflitos ({@link AtualizacaoOtimista})
  *
  * LIÇÕES DO CODE REVIEW (aplicadas):
  * 1. ✅ Null safety em todos os métodos
@@ -44,7 +48,7 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * Cache Eviction Strategy:
  * - Evict: clientes:findById (specific cliente)
- * - Evict: clientes:list (all pages - cliente pode mudar de posição)
+ * - Evict: clientes:list (páginas PJ - nova geração; páginas PF preservadas)
  * - Nota: Não esvazia clientes:findByCnpj pois CNPJ não pode ser alterado
  */
 @Service
@@ -57,6 +61,8 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
     private final ValidarDataValidadeStrategy validadorDataValidade;
     private final ValidarEnderecoPrincipalUnicoStrategy validadorEnderecoPrincipal;
     private final ValidarContatoPrincipalUnicoStrategy validadorContatoPrincipal;
+    private final ClienteCachePort clienteCache;
+    private final AtualizacaoOtimista atualizacaoOtimista;
 
     public UpdateClientePJService(
             ClientePJRepositoryPort clientePJRepository,
@@ -65,7 +71,11 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
             ContatoRepositoryPort contatoRepository,
             ValidarDataValidadeStrategy validadorDataValidade,
             ValidarEnderecoPrincipalUnicoStrategy validadorEnderecoPrincipal,
-            ValidarContatoPrincipalUnicoStrategy validadorContatoPrincipal
+            ValidarContatoPrincipalUnicoStrategy validadorContatoPrincipal,
+            ClienteCachePort clienteCache,
+            PlatformTransactionManager transactionManager,
+            ConcorrenciaAtualizacao concorrencia,
+            MeterRegistry meterRegistry
     ) {
         this.clientePJRepository = clientePJRepository;
         this.documentoRepository = documentoRepository;
@@ -74,17 +84,25 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
         this.validadorDataValidade = validadorDataValidade;
         this.validadorEnderecoPrincipal = validadorEnderecoPrincipal;
         this.validadorContatoPrincipal = validadorContatoPrincipal;
+        this.clienteCache = clienteCache;
+        this.atualizacaoOtimista = new AtualizacaoOtimista("PJ", transactionManager, concorrencia, meterRegistry);
     }
 
     @Override
-    @Caching(evict = {
-        @CacheEvict(value = "clientes:findById", key = "#request.publicId().toString()"),
-        @CacheEvict(value = "clientes:list", allEntries = true)
-    })
-    @Transactional
     public ClientePJResponse atualizar(UpdateClientePJRequest request) {
-        // 1. Buscar cliente existente
+        return atualizacaoOtimista.executarComRetentativa(request.publicId(), () -> aplicar(request, null));
+    }
+
+    @Override
+    public ClientePJResponse atualizar(UpdateClientePJRequest request, Long versaoEsperada) {
+        return atualizacaoOtimista.executar(request.publicId(), versaoEsperada,
+                () -> aplicar(request, versaoEsperada));
+    }
+
+    private ClientePJResponse aplicar(UpdateClientePJRequest request, Long versaoEsperada) {
+        // 1. Buscar cliente existente e conferir a versão do If-Match
         ClientePJ cliente = buscarCliente(request.publicId());
+        atualizacaoOtimista.verificarVersao(cliente, versaoEsperada);
 
         // 2. Atualizar dados básicos da empresa (se presentes)
         if (request.temDadosBasicosParaAtualizar()) {
@@ -136,8 +154,11 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
             atualizarContatos(cliente, request);
         }
 
-        // 9. Salvar cliente (cascade salvará as entidades relacionadas)
-        ClientePJ clienteAtualizado = clientePJRepository.save(cliente);
+        // 9. Salvar cliente; o flush grava os itens alterados (entidades gerenciadas) em lote, incrementa a
+        //    versão ou falha se outra requisição gravou depois da leitura
+        cliente.registrarAlteracao();
+        ClientePJ clienteAtualizado = clientePJRepository.saveAndFlush(cliente);
+        clienteCache.invalidar(clienteAtualizado);
 
         // 10. Converter para Response
         return ClientePJMapper.toResponse(clienteAtualizado);
@@ -161,13 +182,12 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
     }
 
     private void atualizarDocumentos(ClientePJ cliente, UpdateClientePJRequest request) {
-        for (UpdateDocumentoDTO dto : request.documentos()) {
-            // Buscar documento existente
-            Documento documento = documentoRepository.findById(dto.id())
-                    .orElseThrow(() -> new DocumentoNaoEncontradoException(dto.id()));
+        ItensDoCliente<Documento> documentos = new ItensDoCliente<>(cliente.getListaDocumentos(), Documento::getId,
+                documentoRepository::findById, DocumentoNaoEncontradoException::new, "Documento");
 
-            // Validar que o documento pertence ao cliente
-            validarPropriedade(documento.getCliente().getId(), cliente.getId(), "Documento");
+        for (UpdateDocumentoDTO dto : request.documentos()) {
+            // Buscar documento do cliente
+            Documento documento = documentos.buscar(dto.id());
 
             // Validar data de validade
             validadorDataValidade.validar(dto);
@@ -182,20 +202,16 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
             if (dto.observacoes() != null) {
                 documento.atualizarObservacoes(dto.observacoes());
             }
-
-            // Salvar documento
-            documentoRepository.save(documento);
         }
     }
 
     private void atualizarEnderecos(ClientePJ cliente, UpdateClientePJRequest request) {
-        for (UpdateEnderecoDTO dto : request.enderecos()) {
-            // Buscar endereço existente
-            Endereco endereco = enderecoRepository.findById(dto.id())
-                    .orElseThrow(() -> new EnderecoNaoEncontradoException(dto.id()));
+        ItensDoCliente<Endereco> enderecos = new ItensDoCliente<>(cliente.getListaEnderecos(), Endereco::getId,
+                enderecoRepository::findById, EnderecoNaoEncontradoException::new, "Endereço");
 
-            // Validar que o endereço pertence ao cliente
-            validarPropriedade(endereco.getCliente().getId(), cliente.getId(), "Endereço");
+        for (UpdateEnderecoDTO dto : request.enderecos()) {
+            // Buscar endereço do cliente
+            Endereco endereco = enderecos.buscar(dto.id());
 
             // Validar unicidade de endereço principal (se estiver marcando como principal)
             if (dto.enderecoPrincipal() != null) {
@@ -204,8 +220,8 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
                     ? dto.tipoEndereco()
                     : endereco.getTipoEndereco();
 
-                validadorEnderecoPrincipal.validar(
-                        cliente.getId(),
+                validadorEnderecoPrincipal.validarEmMemoria(
+                        cliente.getListaEnderecos(),
                         dto.id(),
                         tipoParaValidar,
                         dto.enderecoPrincipal()
@@ -229,25 +245,21 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
                     dto.estado(),
                     dto.pais()
             );
-
-            // Salvar endereço
-            enderecoRepository.save(endereco);
         }
     }
 
     private void atualizarContatos(ClientePJ cliente, UpdateClientePJRequest request) {
-        for (UpdateContatoDTO dto : request.contatos()) {
-            // Buscar contato existente
-            Contato contato = contatoRepository.findById(dto.id())
-                    .orElseThrow(() -> new ContatoNaoEncontradoException(dto.id()));
+        ItensDoCliente<Contato> contatos = new ItensDoCliente<>(cliente.getListaContatos(), Contato::getId,
+                contatoRepository::findById, ContatoNaoEncontradoException::new, "Contato");
 
-            // Validar que o contato pertence ao cliente
-            validarPropriedade(contato.getCliente().getId(), cliente.getId(), "Contato");
+        for (UpdateContatoDTO dto : request.contatos()) {
+            // Buscar contato do cliente
+            Contato contato = contatos.buscar(dto.id());
 
             // Validar unicidade de contato principal (se estiver marcando como principal)
             if (dto.contatoPrincipal() != null) {
-                validadorContatoPrincipal.validar(
-                        cliente.getId(),
+                validadorContatoPrincipal.validarEmMemoria(
+                        cliente.getListaContatos(),
                         dto.id(),
                         dto.contatoPrincipal()
                 );
@@ -267,24 +279,6 @@ public class UpdateClientePJService implements UpdateClientePJUseCase {
             if (dto.observacoes() != null) {
                 contato.atualizarObservacoes(dto.observacoes());
             }
-
-            // Salvar contato
-            contatoRepository.save(contato);
-        }
-    }
-
-    /**
-     * Valida que a entidade pertence ao cliente que está sendo atualizado.
-     * Previne que um cliente atualize entidades de outro cliente (cross-client attack).
-     */
-    private void validarPropriedade(Long entidadeClienteId, Long clienteId, String entidadeTipo) {
-        if (!entidadeClienteId.equals(clienteId)) {
-            throw new IllegalArgumentException(
-                    String.format(
-                            "%s com ID não pertence ao cliente sendo atualizado",
-                            entidadeTipo
-                    )
-            );
         }
     }
 }
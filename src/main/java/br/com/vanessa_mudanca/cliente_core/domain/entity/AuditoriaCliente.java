@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class AuditoriaCliente {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auditoria_cliente_id_seq")
+    @SequenceGenerator(name = "auditoria_cliente_id_seq", sequenceName = "auditoria_cliente_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
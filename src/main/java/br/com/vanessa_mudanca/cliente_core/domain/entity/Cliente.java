@@ -16,6 +16,15 @@ import java.util.UUID;
 @Table(name = "clientes")
 @Inheritance(strategy = InheritanceType.JOINED)
 @DiscriminatorColumn(name = "dtype", discriminatorType = DiscriminatorType.STRING)
+// Grafo da busca polimórfica de ClienteJpaRepository, o mesmo de resposta de ClientePF/ClientePJ
+@NamedEntityGraph(
+        name = Cliente.GRAFO_RESPOSTA,
+        attributeNodes = {
+                @NamedAttributeNode(value = "clienteIndicador", subgraph = "indicador"),
+                @NamedAttributeNode("preferenciaCliente"),
+                @NamedAttributeNode("listaDocumentos")
+        },
+        subgraphs = @NamedSubgraph(name = "indicador", attributeNodes = @NamedAttributeNode("preferenciaCliente")))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,8 +32,14 @@ import java.util.UUID;
 @SuperBuilder
 public abstract class Cliente {
 
+    /** Grafo da resposta completa: indicador, preferências e documentos. */
+    public static final String GRAFO_RESPOSTA = "Cliente.resposta";
+
+    // Sequence pooled (a do BIGSERIAL, com INCREMENT BY 50 - changeset 014): 50 IDs por nextval
+    // e INSERTs em lote (hibernate.jdbc.batch_size), o que IDENTITY impede
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "clientes_id_seq")
+    @SequenceGenerator(name = "clientes_id_seq", sequenceName = "clientes_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "public_id", unique = true, nullable = false, updatable = false)
@@ -141,6 +156,11 @@ public abstract class Cliente {
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
 
+    // Locking otimista (changeset 016): UPDATE ... WHERE versao = ? e versao + 1; exposta como ETag
+    @Version
+    @Column(name = "versao", nullable = false)
+    private Long versao;
+
     @PrePersist
     protected void onCreate() {
         if (this.publicId == null) {
@@ -155,6 +175,14 @@ public abstract class Cliente {
         this.dataAtualizacao = LocalDateTime.now();
     }
 
+    /**
+     * Marca o agregado como alterado. Documentos, endereços e contatos ficam em tabelas próprias:
+     * alterar só eles não tornaria o cliente "sujo", e a versão não mudaria.
+     */
+    public void registrarAlteracao() {
+        this.dataAtualizacao = LocalDateTime.now();
+    }
+
     // Métodos de Soft Delete
     public void deletar(String motivo, String usuario) {
         this.ativo = false;
@@ -10,6 +10,22 @@ import java.time.LocalDate;
 @Entity
 @Table(name = "clientes_pf")
 @DiscriminatorValue("PF")
+// Grafos das buscas de ClientePFJpaRepository (ver CARGA DO AGREGADO no repositório)
+@NamedEntityGraph(
+        name = ClientePF.GRAFO_RESPOSTA,
+        attributeNodes = {
+                @NamedAttributeNode(value = "clienteIndicador", subgraph = "indicador"),
+                @NamedAttributeNode("preferenciaCliente"),
+                @NamedAttributeNode("listaDocumentos")
+        },
+        subgraphs = @NamedSubgraph(name = "indicador", attributeNodes = @NamedAttributeNode("preferenciaCliente")))
+@NamedEntityGraph(
+        name = ClientePF.GRAFO_LISTAGEM,
+        attributeNodes = {
+                @NamedAttributeNode(value = "clienteIndicador", subgraph = "indicador"),
+                @NamedAttributeNode("preferenciaCliente")
+        },
+        subgraphs = @NamedSubgraph(name = "indicador", attributeNodes = @NamedAttributeNode("preferenciaCliente")))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +33,12 @@ import java.time.LocalDate;
 @SuperBuilder
 public class ClientePF extends Cliente {
 
+    /** Grafo da resposta completa: indicador, preferências e documentos. */
+    public static final String GRAFO_RESPOSTA = "ClientePF.resposta";
+
+    /** Grafo da listagem: só as associações to-one (join em lista quebraria o LIMIT). */
+    public static final String GRAFO_LISTAGEM = "ClientePF.listagem";
+
     @Column(name = "primeiro_nome", nullable = false, length = 100)
     private String primeiroNome;
 
@@ -10,6 +10,22 @@ import java.time.LocalDate;
 @Entity
 @Table(name = "clientes_pj")
 @DiscriminatorValue("PJ")
+// Grafos das buscas de ClientePJJpaRepository (ver CARGA DO AGREGADO no repositório)
+@NamedEntityGraph(
+        name = ClientePJ.GRAFO_RESPOSTA,
+        attributeNodes = {
+                @NamedAttributeNode(value = "clienteIndicador", subgraph = "indicador"),
+                @NamedAttributeNode("preferenciaCliente"),
+                @NamedAttributeNode("listaDocumentos")
+        },
+        subgraphs = @NamedSubgraph(name = "indicador", attributeNodes = @NamedAttributeNode("preferenciaCliente")))
+@NamedEntityGraph(
+        name = ClientePJ.GRAFO_LISTAGEM,
+        attributeNodes = {
+                @NamedAttributeNode(value = "clienteIndicador", subgraph = "indicador"),
+                @NamedAttributeNode("preferenciaCliente")
+        },
+        subgraphs = @NamedSubgraph(name = "indicador", attributeNodes = @NamedAttributeNode("preferenciaCliente")))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +33,12 @@ import java.time.LocalDate;
 @SuperBuilder
 public class ClientePJ extends Cliente {
 
+    /** Grafo da resposta completa: indicador, preferências e documentos. */
+    public static final String GRAFO_RESPOSTA = "ClientePJ.resposta";
+
+    /** Grafo da listagem: só as associações to-one (join em lista quebraria o LIMIT). */
+    public static final String GRAFO_LISTAGEM = "ClientePJ.listagem";
+
     @Column(name = "razao_social", nullable = false, length = 200)
     private String razaoSocial;
 
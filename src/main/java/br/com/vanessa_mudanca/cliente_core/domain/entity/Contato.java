@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class Contato {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contatos_id_seq")
+    @SequenceGenerator(name = "contatos_id_seq", sequenceName = "contatos_id_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class DadosBancarios {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dados_bancarios_id_seq")
+    @SequenceGenerator(name = "dados_bancarios_id_seq", sequenceName = "dados_bancarios_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Documento {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documentos_id_seq")
+    @SequenceGenerator(name = "documentos_id_seq", sequenceName = "documentos_id_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class Endereco {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "enderecos_id_seq")
+    @SequenceGenerator(name = "enderecos_id_seq", sequenceName = "enderecos_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "cep", length = 9, nullable = false)
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class PreferenciaCliente {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "preferencias_cliente_id_seq")
+    @SequenceGenerator(name = "preferencias_cliente_id_seq", sequenceName = "preferencias_cliente_id_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,12 @@
+package br.com.vanessa_mudanca.cliente_core.domain.exception;
+
+/**
+ * Exceção lançada quando o cursor de paginação recebido não foi gerado pela API
+ * (adulterado, truncado ou de outro formato).
+ */
+public class CursorInvalidoException extends BusinessException {
+
+    public CursorInvalidoException(String cursor) {
+        super(String.format("Cursor de paginação inválido: '%s'", cursor));
+    }
+}
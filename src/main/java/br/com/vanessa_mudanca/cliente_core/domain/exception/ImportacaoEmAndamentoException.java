@@ -0,0 +1,11 @@
+package br.com.vanessa_mudanca.cliente_core.domain.exception;
+
+/**
+ * Exceção lançada quando o limite de importações simultâneas foi atingido.
+ */
+public class ImportacaoEmAndamentoException extends BusinessException {
+
+    public ImportacaoEmAndamentoException(int maximo) {
+        super(String.format("Limite de %d importações simultâneas atingido; tente novamente em instantes", maximo));
+    }
+}
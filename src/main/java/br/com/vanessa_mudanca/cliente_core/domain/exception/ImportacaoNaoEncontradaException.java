@@ -0,0 +1,13 @@
+package br.com.vanessa_mudanca.cliente_core.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando a importação consultada não existe ou já expirou.
+ */
+public class ImportacaoNaoEncontradaException extends BusinessException {
+
+    public ImportacaoNaoEncontradaException(UUID id) {
+        super(String.format("Importação '%s' não encontrada (inexistente ou expirada)", id));
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.vanessa_mudanca.cliente_core.domain.exception;
+
+/**
+ * Exceção lançada quando um lote de criação em massa está vazio ou excede o
+ * tamanho máximo aceito por requisição.
+ */
+public class LoteInvalidoException extends BusinessException {
+
+    public LoteInvalidoException(int tamanho, int maximo) {
+        super(String.format("Lote com %d itens: informe entre 1 e %d clientes por requisição", tamanho, maximo));
+    }
+}
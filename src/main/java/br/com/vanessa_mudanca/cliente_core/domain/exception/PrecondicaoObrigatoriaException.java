@@ -0,0 +1,12 @@
+package br.com.vanessa_mudanca.cliente_core.domain.exception;
+
+/**
+ * Exceção lançada quando uma atualização chega sem {@code If-Match}: sem a versão lida
+ * pelo cliente HTTP, a alteração poderia sobrescrever a de outra requisição.
+ */
+public class PrecondicaoObrigatoriaException extends BusinessException {
+
+    public PrecondicaoObrigatoriaException() {
+        super("Cabeçalho If-Match obrigatório: envie a ETag obtida no GET do cliente (ou * para sobrescrever)");
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.vanessa_mudanca.cliente_core.domain.exception;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando o cliente não está mais na versão informada em {@code If-Match}
+ * (foi alterado por outra requisição), ou quando as retentativas automáticas se esgotaram.
+ */
+public class VersaoConflitanteException extends BusinessException {
+
+    public VersaoConflitanteException(UUID publicId, long versaoEsperada) {
+        super(String.format("Cliente %s não está mais na versão %d: foi alterado por outra requisição. " +
+                "Obtenha a versão atual e reaplique a alteração", publicId, versaoEsperada));
+    }
+
+    public VersaoConflitanteException(UUID publicId) {
+        super(String.format("Cliente %s foi alterado por outra requisição durante a atualização. " +
+                "Obtenha a versão atual e reaplique a alteração", publicId));
+    }
+
+    public VersaoConflitanteException(UUID publicId, int tentativas) {
+        super(String.format("Cliente %s foi alterado por outras requisições durante %d tentativas; tente novamente",
+                publicId, tentativas));
+    }
+}
@@ -1,14 +1,22 @@
 package br.com.vanessa_mudanca.cliente_core.domain.validator;
 
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ContatoRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ContatoPrincipalDuplicadoException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Objects;
+
 /**
  * Strategy para validar unicidade de contato principal.
  *
  * REGRA:
  * - Apenas 1 contato pode ser principal por cliente
+ *
+ * Quem já tem os contatos do cliente carregados (atualização do agregado) usa
+ * {@link #validarEmMemoria(Collection, Long, Boolean)}: a validação é feita em memória, incluindo as
+ * alterações ainda não gravadas do mesmo request, sem consulta por item.
  */
 @Component
 public class ValidarContatoPrincipalUnicoStrategy {
@@ -47,4 +55,30 @@ public class ValidarContatoPrincipalUnicoStrategy {
             throw new ContatoPrincipalDuplicadoException();
         }
     }
+
+    /**
+     * Valida se pode marcar este contato como principal, sobre os contatos já carregados.
+     *
+     * @param contatosDoCliente Contatos do cliente (agregado carregado)
+     * @param contatoId ID do contato sendo atualizado
+     * @param marcandoComoPrincipal Flag sendo atualizada
+     */
+    public void validarEmMemoria(
+            Collection<Contato> contatosDoCliente,
+            Long contatoId,
+            Boolean marcandoComoPrincipal
+    ) {
+        if (!Boolean.TRUE.equals(marcandoComoPrincipal)) {
+            return; // Não está marcando como principal, ok
+        }
+
+        // Verificar se já existe outro contato principal
+        boolean jaExistePrincipal = contatosDoCliente.stream()
+                .anyMatch(contato -> !Objects.equals(contato.getId(), contatoId)
+                        && Boolean.TRUE.equals(contato.getContatoPrincipal()));
+
+        if (jaExistePrincipal) {
+            throw new ContatoPrincipalDuplicadoException();
+        }
+    }
 }
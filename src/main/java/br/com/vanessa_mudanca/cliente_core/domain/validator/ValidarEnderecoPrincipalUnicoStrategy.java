@@ -1,16 +1,24 @@
 package br.com.vanessa_mudanca.cliente_core.domain.validator;
 
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.EnderecoRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoEnderecoEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.EnderecoPrincipalDuplicadoException;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.Objects;
+
 /**
  * Strategy para validar unicidade de endereço principal por tipo.
  *
  * REGRA:
  * - Apenas 1 endereço pode ser principal por tipo (RESIDENCIAL, COMERCIAL, etc.)
  * - Permitir múltiplos endereços do mesmo tipo, mas só 1 principal
+ *
+ * Quem já tem os endereços do cliente carregados (atualização do agregado) usa
+ * {@link #validarEmMemoria(Collection, Long, TipoEnderecoEnum, Boolean)}: a validação é feita em memória,
+ * incluindo as alterações ainda não gravadas do mesmo request, sem consulta por item.
  */
 @Component
 public class ValidarEnderecoPrincipalUnicoStrategy {
@@ -52,4 +60,33 @@ public class ValidarEnderecoPrincipalUnicoStrategy {
             throw new EnderecoPrincipalDuplicadoException(tipo);
         }
     }
+
+    /**
+     * Valida se pode marcar este endereço como principal, sobre os endereços já carregados.
+     *
+     * @param enderecosDoCliente Endereços do cliente (agregado carregado)
+     * @param enderecoId ID do endereço sendo atualizado
+     * @param tipo Tipo do endereço
+     * @param marcandoComoPrincipal Flag sendo atualizada
+     */
+    public void validarEmMemoria(
+            Collection<Endereco> enderecosDoCliente,
+            Long enderecoId,
+            TipoEnderecoEnum tipo,
+            Boolean marcandoComoPrincipal
+    ) {
+        if (!Boolean.TRUE.equals(marcandoComoPrincipal)) {
+            return; // Não está marcando como principal, ok
+        }
+
+        // Verificar se já existe outro endereço principal do mesmo tipo
+        boolean jaExistePrincipal = enderecosDoCliente.stream()
+                .anyMatch(endereco -> !Objects.equals(endereco.getId(), enderecoId)
+                        && endereco.getTipoEndereco() == tipo
+                        && Boolean.TRUE.equals(endereco.getEnderecoPrincipal()));
+
+        if (jaExistePrincipal) {
+            throw new EnderecoPrincipalDuplicadoException(tipo);
+        }
+    }
 }
@@ -1,14 +1,29 @@
 package br.com.vanessa_mudanca.cliente_core.infrastructure.adapter;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.repository.ClientePFJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter que implementa a Port de persistência de Cliente PF.
@@ -18,9 +33,11 @@ import java.util.UUID;
 public class ClientePFRepositoryAdapter implements ClientePFRepositoryPort {
 
     private final ClientePFJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public ClientePFRepositoryAdapter(ClientePFJpaRepository jpaRepository) {
+    public ClientePFRepositoryAdapter(ClientePFJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -28,16 +45,36 @@ public class ClientePFRepositoryAdapter implements ClientePFRepositoryPort {
         return jpaRepository.save(clientePF);
     }
 
+    @Override
+    public ClientePF saveAndFlush(ClientePF clientePF) {
+        return jpaRepository.saveAndFlush(clientePF);
+    }
+
+    @Override
+    public List<ClientePF> saveAll(List<ClientePF> clientes) {
+        return jpaRepository.saveAll(clientes);
+    }
+
     @Override
     public Optional<ClientePF> findByCpf(String cpf) {
         return jpaRepository.findByCpf(cpf);
     }
 
+    @Override
+    public Optional<ClientePFLookupResponse> findLookupByCpf(String cpf) {
+        return jpaRepository.findLookupByCpf(cpf);
+    }
+
     @Override
     public boolean existsByCpf(String cpf) {
         return jpaRepository.existsByCpf(cpf);
     }
 
+    @Override
+    public Set<String> findExistingCpfs(Collection<String> cpfs) {
+        return cpfs.isEmpty() ? Set.of() : new HashSet<>(jpaRepository.findCpfsIn(cpfs));
+    }
+
     @Override
     public Optional<ClientePF> findById(Long id) {
         return jpaRepository.findById(id);
@@ -48,9 +85,67 @@ public class ClientePFRepositoryAdapter implements ClientePFRepositoryPort {
         return jpaRepository.findByPublicId(publicId);
     }
 
+    /**
+     * Página com as listas (documentos, contatos, endereços) já inicializadas:
+     * página + count + 3 statements, qualquer que seja o tamanho.
+     */
     @Override
     public Page<ClientePF> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable);
+        Page<ClientePF> page = jpaRepository.findAll(pageable);
+        carregarListas(page.getContent());
+        return page;
+    }
+
+    @Override
+    public Slice<ClientePF> findSlice(Pageable pageable) {
+        Slice<ClientePF> slice = jpaRepository.findAllBy(pageable);
+        carregarListas(slice.getContent());
+        return slice;
+    }
+
+    /**
+     * Estimativa do planner ({@link EstimativaDeLinhas}), sem COUNT(*) sobre clientes_pf.
+     * O COUNT exato só roda onde não há estatística (H2, tabela nunca analisada);
+     * clientes:count segura o valor por um minuto.
+     */
+    @Override
+    @Cacheable(value = "clientes:count", key = "'pf'")
+    public long estimateCount() {
+        return EstimativaDeLinhas.ler(entityManager, "clientes_pf").orElseGet(jpaRepository::count);
+    }
+
+    @Override
+    public List<ClientePF> findAfter(ClienteCursor cursor, int limite) {
+        List<ClientePF> clientes = cursor == null
+                ? jpaRepository.findFirstPage(Limit.of(limite))
+                : jpaRepository.findPageAfter(cursor.dataCriacao(), cursor.publicId(), Limit.of(limite));
+        carregarListas(clientes);
+        return clientes;
+    }
+
+    /**
+     * Um cursor só ({@link ClientePFJpaRepository#streamForExport}) e, por bloco, os 3 SELECTs
+     * das listas. O contexto de persistência é limpo depois de cada bloco: sem isso, guardaria
+     * todos os clientes já lidos até o fim da transação.
+     */
+    @Override
+    public void forEachBlock(LocalDateTime atualizadoDesde, LocalDateTime atualizadoAte, int tamanhoBloco,
+                             Consumer<List<ClientePF>> consumidor) {
+        try (Stream<ClientePF> clientes = jpaRepository.streamForExport(atualizadoDesde, atualizadoAte)) {
+            // hasNext() já lê (e anexa ao contexto) a próxima linha: só depois do clear
+            Iterator<ClientePF> iterator = clientes.iterator();
+            List<ClientePF> bloco = new ArrayList<>(tamanhoBloco);
+            while (iterator.hasNext()) {
+                bloco.add(iterator.next());
+                if (bloco.size() == tamanhoBloco) {
+                    entregar(bloco, consumidor);
+                    bloco = new ArrayList<>(tamanhoBloco);
+                }
+            }
+            if (!bloco.isEmpty()) {
+                entregar(bloco, consumidor);
+            }
+        }
     }
 
     @Override
@@ -67,4 +162,25 @@ public class ClientePFRepositoryAdapter implements ClientePFRepositoryPort {
     public boolean existsActiveByCpf(String cpf) {
         return jpaRepository.existsByCpfAndAtivoTrueAndDataDelecaoIsNull(cpf);
     }
+
+    private void entregar(List<ClientePF> bloco, Consumer<List<ClientePF>> consumidor) {
+        carregarListas(bloco);
+        consumidor.accept(bloco);
+        entityManager.clear();
+    }
+
+    /**
+     * Em vez de um SELECT lazy por lista e por cliente (~3N), carrega cada lista de todos os
+     * clientes com um {@code IN (:ids)}. Precisa rodar dentro da transação do chamador para
+     * que o contexto de persistência seja o mesmo dos clientes.
+     */
+    private void carregarListas(List<ClientePF> clientes) {
+        if (clientes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = clientes.stream().map(ClientePF::getId).toList();
+        jpaRepository.findWithDocumentosByIdIn(ids);
+        jpaRepository.findWithContatosByIdIn(ids);
+        jpaRepository.findWithEnderecosByIdIn(ids);
+    }
 }
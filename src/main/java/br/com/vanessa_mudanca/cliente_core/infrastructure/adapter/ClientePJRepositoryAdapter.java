@@ -1,14 +1,29 @@
 package br.com.vanessa_mudanca.cliente_core.infrastructure.adapter;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.repository.ClientePJJpaRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Adapter que implementa a Port de persistência de Cliente PJ.
@@ -18,9 +33,11 @@ import java.util.UUID;
 public class ClientePJRepositoryAdapter implements ClientePJRepositoryPort {
 
     private final ClientePJJpaRepository jpaRepository;
+    private final EntityManager entityManager;
 
-    public ClientePJRepositoryAdapter(ClientePJJpaRepository jpaRepository) {
+    public ClientePJRepositoryAdapter(ClientePJJpaRepository jpaRepository, EntityManager entityManager) {
         this.jpaRepository = jpaRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -28,16 +45,36 @@ public class ClientePJRepositoryAdapter implements ClientePJRepositoryPort {
         return jpaRepository.save(clientePJ);
     }
 
+    @Override
+    public ClientePJ saveAndFlush(ClientePJ clientePJ) {
+        return jpaRepository.saveAndFlush(clientePJ);
+    }
+
+    @Override
+    public List<ClientePJ> saveAll(List<ClientePJ> clientes) {
+        return jpaRepository.saveAll(clientes);
+    }
+
     @Override
     public Optional<ClientePJ> findByCnpj(String cnpj) {
         return jpaRepository.findByCnpj(cnpj);
     }
 
+    @Override
+    public Optional<ClientePJLookupResponse> findLookupByCnpj(String cnpj) {
+        return jpaRepository.findLookupByCnpj(cnpj);
+    }
+
     @Override
     public boolean existsByCnpj(String cnpj) {
         return jpaRepository.existsByCnpj(cnpj);
     }
 
+    @Override
+    public Set<String> findExistingCnpjs(Collection<String> cnpjs) {
+        return cnpjs.isEmpty() ? Set.of() : new HashSet<>(jpaRepository.findCnpjsIn(cnpjs));
+    }
+
     @Override
     public Optional<ClientePJ> findById(Long id) {
         return jpaRepository.findById(id);
@@ -48,9 +85,67 @@ public class ClientePJRepositoryAdapter implements ClientePJRepositoryPort {
         return jpaRepository.findByPublicId(publicId);
     }
 
+    /**
+     * Página com as listas (documentos, contatos, endereços) já inicializadas:
+     * página + count + 3 statements, qualquer que seja o tamanho.
+     */
     @Override
     public Page<ClientePJ> findAll(Pageable pageable) {
-        return jpaRepository.findAll(pageable);
+        Page<ClientePJ> page = jpaRepository.findAll(pageable);
+        carregarListas(page.getContent());
+        return page;
+    }
+
+    @Override
+    public Slice<ClientePJ> findSlice(Pageable pageable) {
+        Slice<ClientePJ> slice = jpaRepository.findAllBy(pageable);
+        carregarListas(slice.getContent());
+        return slice;
+    }
+
+    /**
+     * Estimativa do planner ({@link EstimativaDeLinhas}), sem COUNT(*) sobre clientes_pj.
+     * O COUNT exato só roda onde não há estatística (H2, tabela nunca analisada);
+     * clientes:count segura o valor por um minuto.
+     */
+    @Override
+    @Cacheable(value = "clientes:count", key = "'pj'")
+    public long estimateCount() {
+        return EstimativaDeLinhas.ler(entityManager, "clientes_pj").orElseGet(jpaRepository::count);
+    }
+
+    @Override
+    public List<ClientePJ> findAfter(ClienteCursor cursor, int limite) {
+        List<ClientePJ> clientes = cursor == null
+                ? jpaRepository.findFirstPage(Limit.of(limite))
+                : jpaRepository.findPageAfter(cursor.dataCriacao(), cursor.publicId(), Limit.of(limite));
+        carregarListas(clientes);
+        return clientes;
+    }
+
+    /**
+     * Um cursor só ({@link ClientePJJpaRepository#streamForExport}) e, por bloco, os 3 SELECTs
+     * das listas. O contexto de persistência é limpo depois de cada bloco: sem isso, guardaria
+     * todos os clientes já lidos até o fim da transação.
+     */
+    @Override
+    public void forEachBlock(LocalDateTime atualizadoDesde, LocalDateTime atualizadoAte, int tamanhoBloco,
+                             Consumer<List<ClientePJ>> consumidor) {
+        try (Stream<ClientePJ> clientes = jpaRepository.streamForExport(atualizadoDesde, atualizadoAte)) {
+            // hasNext() já lê (e anexa ao contexto) a próxima linha: só depois do clear
+            Iterator<ClientePJ> iterator = clientes.iterator();
+            List<ClientePJ> bloco = new ArrayList<>(tamanhoBloco);
+            while (iterator.hasNext()) {
+                bloco.add(iterator.next());
+                if (bloco.size() == tamanhoBloco) {
+                    entregar(bloco, consumidor);
+                    bloco = new ArrayList<>(tamanhoBloco);
+                }
+            }
+            if (!bloco.isEmpty()) {
+                entregar(bloco, consumidor);
+            }
+        }
     }
 
     @Override
@@ -67,4 +162,25 @@ public class ClientePJRepositoryAdapter implements ClientePJRepositoryPort {
     public boolean existsActiveByCnpj(String cnpj) {
         return jpaRepository.existsByCnpjAndAtivoTrueAndDataDelecaoIsNull(cnpj);
     }
+
+    private void entregar(List<ClientePJ> bloco, Consumer<List<ClientePJ>> consumidor) {
+        carregarListas(bloco);
+        consumidor.accept(bloco);
+        entityManager.clear();
+    }
+
+    /**
+     * Em vez de um SELECT lazy por lista e por cliente (~3N), carrega cada lista de todos os
+     * clientes com um {@code IN (:ids)}. Precisa rodar dentro da transação do chamador para
+     * que o contexto de persistência seja o mesmo dos clientes.
+     */
+    private void carregarListas(List<ClientePJ> clientes) {
+        if (clientes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = clientes.stream().map(ClientePJ::getId).toList();
+        jpaRepository.findWithDocumentosByIdIn(ids);
+        jpaRepository.findWithContatosByIdIn(ids);
+        jpaRepository.findWithEnderecosByIdIn(ids);
+    }
 }
@@ -5,6 +5,8 @@ import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.repository.ClienteJpaRepository;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,6 +33,11 @@ public class ClienteRepositoryAdapter implements ClienteRepositoryPort {
         return jpaRepository.findByPublicId(publicId);
     }
 
+    @Override
+    public List<Cliente> findAllByPublicId(Collection<UUID> publicIds) {
+        return publicIds.isEmpty() ? List.of() : jpaRepository.findByPublicIdIn(publicIds);
+    }
+
     @Override
     public boolean existsById(Long id) {
         return jpaRepository.existsById(id);
@@ -0,0 +1,46 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.adapter;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Total aproximado de linhas lido das estatísticas do PostgreSQL ({@code pg_class.reltuples},
+ * mantido pelo autovacuum/ANALYZE): uma leitura de catálogo, sem varrer a tabela.
+ */
+final class EstimativaDeLinhas {
+
+    private static final String SQL =
+            "SELECT reltuples FROM pg_class WHERE oid = to_regclass(:tabela)";
+
+    private EstimativaDeLinhas() {
+    }
+
+    /**
+     * Vazio fora do PostgreSQL (H2 em local/test) e quando a tabela ainda não foi
+     * analisada ({@code reltuples = -1}); o chamador decide o fallback.
+     */
+    static OptionalLong ler(EntityManager entityManager, String tabela) {
+        if (!postgres(entityManager)) {
+            return OptionalLong.empty();
+        }
+        List<?> resultado = entityManager.createNativeQuery(SQL)
+                .setParameter("tabela", tabela)
+                .getResultList();
+        if (resultado.isEmpty() || !(resultado.get(0) instanceof Number reltuples)
+                || reltuples.doubleValue() < 0) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Math.round(reltuples.doubleValue()));
+    }
+
+    private static boolean postgres(EntityManager entityManager) {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+}
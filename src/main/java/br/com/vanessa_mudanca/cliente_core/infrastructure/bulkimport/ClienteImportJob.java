@@ -0,0 +1,151 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.bulkimport;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteImportJobResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteImportJobResponse.Status;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Estado de uma importação: contadores e o relatório de erros.
+ *
+ * O relatório ({@code linha;status;mensagem}) é escrito em disco à medida que as falhas
+ * acontecem: a memória do job não cresce com o tamanho do arquivo.
+ */
+public class ClienteImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final String tipo;
+    private final ImportFormat formato;
+    private final LocalDateTime inicio = LocalDateTime.now();
+    private final long inicioNanos = System.nanoTime();
+    private final Path relatorio;
+    private final BufferedWriter relatorioWriter;
+
+    private final AtomicLong linhasLidas = new AtomicLong();
+    private final AtomicLong criados = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+
+    private volatile Status status = Status.RECEBENDO;
+    private volatile boolean abortado;
+    private volatile String mensagem;
+    private volatile LocalDateTime fim;
+    private volatile long fimNanos;
+
+    ClienteImportJob(String tipo, ImportFormat formato, Path diretorio) throws IOException {
+        this.tipo = tipo;
+        this.formato = formato;
+        this.relatorio = Files.createTempFile(diretorio, "importacao-" + id + "-", ".csv");
+        this.relatorioWriter = Files.newBufferedWriter(relatorio, StandardCharsets.UTF_8);
+        this.relatorioWriter.write("linha;status;mensagem\n");
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    /**
+     * Indica se os writers já terminaram ({@link #concluir()}).
+     */
+    public boolean finalizado() {
+        return fim != null;
+    }
+
+    /**
+     * Relatório de erros; completo apenas depois de {@link Status#CONCLUIDO} ou {@link Status#INTERROMPIDO}.
+     */
+    public Path relatorio() {
+        return relatorio;
+    }
+
+    void linhaLida() {
+        linhasLidas.incrementAndGet();
+    }
+
+    void criado() {
+        criados.incrementAndGet();
+    }
+
+    synchronized void falha(long linha, int statusItem, String motivo) {
+        falhas.incrementAndGet();
+        try {
+            relatorioWriter.write(linha + ";" + statusItem + ";\"" + String.valueOf(motivo).replace("\"", "\"\"") + "\"\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized void leituraConcluida() {
+        if (status == Status.RECEBENDO) {
+            status = Status.PROCESSANDO;
+        }
+    }
+
+    synchronized void interromper(String motivo) {
+        if (status != Status.INTERROMPIDO) {
+            mensagem = motivo;
+            status = Status.INTERROMPIDO;
+        }
+    }
+
+    /**
+     * Interrompe a importação por uma falha que impede continuar (ex.: relatório sem espaço em disco):
+     * a leitura do upload para e os blocos ainda na fila são descartados.
+     */
+    void abortar(String motivo) {
+        abortado = true;
+        interromper(motivo);
+    }
+
+    boolean abortado() {
+        return abortado;
+    }
+
+    synchronized void concluir() {
+        fimNanos = System.nanoTime();
+        fim = LocalDateTime.now();
+        if (status != Status.INTERROMPIDO) {
+            status = Status.CONCLUIDO;
+        }
+        fecharRelatorio();
+    }
+
+    /**
+     * Remove o relatório de erros (job expirado). Só para jobs {@link #finalizado() finalizados}:
+     * os writers de um job em andamento ainda escrevem no relatório.
+     */
+    synchronized void descartar() {
+        fecharRelatorio();
+        try {
+            Files.deleteIfExists(relatorio);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ClienteImportJobResponse toResponse() {
+        long nanos = Math.max((fim != null ? fimNanos : System.nanoTime()) - inicioNanos, 1);
+        double porSegundo = Math.round(criados.get() * 1_000_000_000.0 / nanos * 10) / 10.0;
+        return new ClienteImportJobResponse(id, tipo, formato.name(), status, linhasLidas.get(),
+                criados.get(), falhas.get(), inicio, fim, porSegundo, mensagem);
+    }
+
+    private void fecharRelatorio() {
+        try {
+            relatorioWriter.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
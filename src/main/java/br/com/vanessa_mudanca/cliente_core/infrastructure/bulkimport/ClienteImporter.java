@@ -0,0 +1,343 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.bulkimport;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePFRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePJRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchItemResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePFBatchUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePJBatchUseCase;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ImportacaoEmAndamentoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ImportacaoNaoEncontradaException;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteBatchProperties;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteImportProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Importação de arquivos de clientes (NDJSON ou CSV) em streaming.
+ *
+ * A thread da requisição lê o corpo linha a linha e monta blocos de {@code clientes.batch.chunk-size}
+ * requests, que vão para uma fila limitada ({@code clientes.import.fila}). Writers em virtual threads
+ * gravam os blocos pela criação em lote ({@link CreateClientePFBatchUseCase}/{@link CreateClientePJBatchUseCase},
+ * que usa {@code ClientePFMapper.toEntity}/{@code ClientePJMapper.toEntity}). Com a fila cheia a leitura
+ * para e o TCP segura o cliente (backpressure): a memória fica em (fila + writers) blocos, qualquer que
+ * seja o tamanho do arquivo.
+ *
+ * Os writers de todas as importações dividem {@code clientes.import.writers} permissões, adquiridas
+ * por bloco: importações simultâneas se intercalam e o pool de conexões sobra para o tráfego online.
+ *
+ * Jobs e relatórios ficam na memória e no disco desta instância: expiram {@code clientes.import.retencao}
+ * depois de finalizados, nunca durante a gravação. Por isso o progresso e o relatório de erros só são
+ * encontrados na instância que recebeu o upload – atrás de um balanceador sem sessão sticky a consulta
+ * pode cair em outra instância e responder 404.
+ *
+ * Uma falha que impede a gravação (ex.: relatório sem espaço em disco) interrompe o job: a leitura do
+ * upload para, os blocos na fila são descartados e a permissão de recebimento é devolvida.
+ */
+@Component
+public class ClienteImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteImporter.class);
+
+    /** Job em andamento não expira. */
+    private static final Duration SEM_EXPIRACAO = Duration.ofNanos(Long.MAX_VALUE);
+    /** Intervalo em que a leitura, bloqueada na fila cheia, confere se os writers ainda consomem. */
+    private static final long ESPERA_FILA_MS = 200;
+
+    private final CreateClientePFBatchUseCase createClientePFBatch;
+    private final CreateClientePJBatchUseCase createClientePJBatch;
+    private final ObjectMapper objectMapper;
+    private final ClienteImportProperties properties;
+    private final int tamanhoBloco;
+    private final Semaphore writers;
+    private final Semaphore recebendo;
+    private final Cache<UUID, ClienteImportJob> jobs;
+    private final Counter linhasCriadas;
+    private final Counter linhasComFalha;
+
+    public ClienteImporter(CreateClientePFBatchUseCase createClientePFBatch,
+                           CreateClientePJBatchUseCase createClientePJBatch,
+                           ObjectMapper objectMapper,
+                           ClienteBatchProperties batchProperties,
+                           ClienteImportProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.createClientePFBatch = createClientePFBatch;
+        this.createClientePJBatch = createClientePJBatch;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.tamanhoBloco = batchProperties.chunkSize();
+        this.writers = new Semaphore(properties.writers());
+        this.recebendo = new Semaphore(properties.maxJobs());
+        this.jobs = Caffeine.newBuilder()
+                .expireAfter(Expiry.writing((UUID id, ClienteImportJob job) ->
+                        job.finalizado() ? properties.retencao() : SEM_EXPIRACAO))
+                .<UUID, ClienteImportJob>removalListener((id, job, causa) -> {
+                    if (job != null && causa.wasEvicted()) {
+                        job.descartar();
+                    }
+                })
+                .build();
+        this.linhasCriadas = meterRegistry.counter("clientes.import.linhas", "resultado", "criado");
+        this.linhasComFalha = meterRegistry.counter("clientes.import.linhas", "resultado", "falha");
+    }
+
+    /**
+     * Importa clientes PF do corpo da requisição. Retorna quando o corpo foi lido por completo;
+     * os últimos blocos continuam sendo gravados em segundo plano.
+     */
+    public ClienteImportJob importarPF(ImportFormat formato, InputStream corpo) {
+        return importar("PF", formato, corpo, CreateClientePFRequest.class, createClientePFBatch::criarEmLote);
+    }
+
+    /**
+     * Importa clientes PJ do corpo da requisição (ver {@link #importarPF}).
+     */
+    public ClienteImportJob importarPJ(ImportFormat formato, InputStream corpo) {
+        return importar("PJ", formato, corpo, CreateClientePJRequest.class, createClientePJBatch::criarEmLote);
+    }
+
+    public ClienteImportJob buscar(UUID id) {
+        ClienteImportJob job = jobs.getIfPresent(id);
+        if (job == null) {
+            throw new ImportacaoNaoEncontradaException(id);
+        }
+        return job;
+    }
+
+    <R> ClienteImportJob importar(String tipo, ImportFormat formato, InputStream corpo,
+                                  Class<R> tipoRequest, Function<List<R>, ClienteBatchResponse> gravador) {
+        if (!recebendo.tryAcquire()) {
+            throw new ImportacaoEmAndamentoException(properties.maxJobs());
+        }
+        ClienteImportJob job;
+        try {
+            job = new ClienteImportJob(tipo, formato, properties.diretorio());
+        } catch (IOException e) {
+            recebendo.release();
+            throw new UncheckedIOException(e);
+        }
+        jobs.put(job.id(), job);
+        log.info("Importação de clientes {} iniciada - Id: {}, Formato: {}", tipo, job.id(), formato);
+
+        BlockingQueue<List<Linha<R>>> fila = new ArrayBlockingQueue<>(properties.fila());
+        AtomicInteger writersAtivos = new AtomicInteger(properties.writers());
+        for (int i = 0; i < properties.writers(); i++) {
+            Thread.ofVirtual().name("cliente-import-" + job.id() + "-", i)
+                    .start(() -> consumir(job, fila, gravador, writersAtivos));
+        }
+
+        try {
+            ler(job, formato, corpo, tipoRequest, fila, writersAtivos);
+            job.leituraConcluida();
+        } catch (IOException e) {
+            log.warn("Upload de importação interrompido - Id: {}, Erro: {}", job.id(), e.getMessage());
+            job.interromper("Upload interrompido: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.interromper("Importação interrompida");
+        } catch (RuntimeException e) {
+            log.error("Falha na leitura da importação - Id: {}, Erro: {}", job.id(), e.getMessage(), e);
+            job.abortar("Falha na leitura: " + e.getMessage());
+        } finally {
+            recebendo.release();
+            // Um bloco vazio por writer sinaliza o fim da fila
+            for (int i = 0; i < properties.writers(); i++) {
+                colocar(fila, List.of(), writersAtivos);
+            }
+        }
+        return job;
+    }
+
+    private <R> void ler(ClienteImportJob job, ImportFormat formato, InputStream corpo, Class<R> tipoRequest,
+                         BlockingQueue<List<Linha<R>>> fila, AtomicInteger writersAtivos)
+            throws IOException, InterruptedException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8));
+        long numero = 0;
+        ImportLineParser<R> parser;
+        if (formato == ImportFormat.CSV) {
+            String cabecalho = reader.readLine();
+            numero++;
+            if (cabecalho == null) {
+                return;
+            }
+            parser = ImportLineParser.csv(objectMapper, tipoRequest, cabecalho);
+        } else {
+            parser = ImportLineParser.ndjson(objectMapper, tipoRequest);
+        }
+
+        List<Linha<R>> bloco = new ArrayList<>(tamanhoBloco);
+        String linha;
+        while (!job.abortado() && (linha = reader.readLine()) != null) {
+            numero++;
+            if (linha.isBlank()) {
+                continue;
+            }
+            job.linhaLida();
+            try {
+                bloco.add(new Linha<>(numero, parser.parse(linha)));
+            } catch (JsonProcessingException e) {
+                registrarFalha(job, numero, 400, "Linha inválida: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                registrarFalha(job, numero, 400, "Linha inválida: " + e.getMessage());
+            }
+            if (bloco.size() == tamanhoBloco) {
+                enfileirar(job, fila, bloco, writersAtivos);
+                bloco = new ArrayList<>(tamanhoBloco);
+            }
+        }
+        if (!bloco.isEmpty()) {
+            enfileirar(job, fila, bloco, writersAtivos);
+        }
+    }
+
+    /**
+     * Coloca o bloco na fila, esperando enquanto ela estiver cheia (backpressure). Se a importação
+     * foi abortada ou não restam writers, o bloco é descartado: ninguém mais esvaziaria a fila.
+     */
+    private static <T> void enfileirar(ClienteImportJob job, BlockingQueue<T> fila, T bloco,
+                                       AtomicInteger writersAtivos) throws InterruptedException {
+        while (!fila.offer(bloco, ESPERA_FILA_MS, TimeUnit.MILLISECONDS)) {
+            if (job.abortado() || writersAtivos.get() == 0) {
+                job.abortar("Gravação interrompida");
+                return;
+            }
+        }
+    }
+
+    private <R> void consumir(ClienteImportJob job, BlockingQueue<List<Linha<R>>> fila,
+                              Function<List<R>, ClienteBatchResponse> gravador, AtomicInteger writersAtivos) {
+        boolean fimDaFila = false;
+        try {
+            List<Linha<R>> bloco;
+            while (!(bloco = tirar(fila)).isEmpty()) {
+                if (job.abortado()) {
+                    // A leitura está parando: só esvazia a fila para não deixá-la bloqueada
+                    continue;
+                }
+                writers.acquireUninterruptibly();
+                try {
+                    gravar(job, bloco, gravador);
+                } catch (RuntimeException e) {
+                    log.error("Importação interrompida por falha na gravação - Id: {}, Erro: {}",
+                            job.id(), e.getMessage(), e);
+                    job.abortar("Falha na gravação: " + e.getMessage());
+                } finally {
+                    writers.release();
+                }
+            }
+            fimDaFila = true;
+        } finally {
+            if (!fimDaFila) {
+                job.abortar("Writer da importação encerrado");
+            }
+            if (writersAtivos.decrementAndGet() == 0) {
+                job.concluir();
+                jobs.put(job.id(), job);
+                log.info("Importação de clientes concluída - {}", job.toResponse());
+            }
+        }
+    }
+
+    private <R> void gravar(ClienteImportJob job, List<Linha<R>> bloco, Function<List<R>, ClienteBatchResponse> gravador) {
+        List<Linha<R>> reenviar = new ArrayList<>();
+        try {
+            for (ClienteBatchItemResponse item : gravador.apply(bloco.stream().map(Linha::request).toList()).itens()) {
+                Linha<R> linha = bloco.get(item.indice());
+                if (item.status() == 500) {
+                    reenviar.add(linha);
+                } else {
+                    registrar(job, linha, item);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar bloco da importação - Id: {}, Erro: {}", job.id(), e.getMessage(), e);
+            bloco.forEach(linha -> registrarFalha(job, linha.numero(), 500, "Erro ao gravar: " + e.getMessage()));
+            return;
+        }
+
+        // Bloco revertido (ex.: CPF/CNPJ repetido num bloco gravado em paralelo): item a item,
+        // só a linha culpada falha
+        for (Linha<R> linha : reenviar) {
+            try {
+                registrar(job, linha, gravador.apply(List.of(linha.request())).itens().getFirst());
+            } catch (RuntimeException e) {
+                registrarFalha(job, linha.numero(), 500, "Erro ao gravar: " + e.getMessage());
+            }
+        }
+    }
+
+    private void registrar(ClienteImportJob job, Linha<?> linha, ClienteBatchItemResponse item) {
+        if (item.sucesso()) {
+            job.criado();
+            linhasCriadas.increment();
+        } else {
+            registrarFalha(job, linha.numero(), item.status(), item.mensagem());
+        }
+    }
+
+    private void registrarFalha(ClienteImportJob job, long linha, int status, String mensagem) {
+        job.falha(linha, status, mensagem);
+        linhasComFalha.increment();
+    }
+
+    private static <T> T tirar(BlockingQueue<T> fila) {
+        while (true) {
+            try {
+                return fila.take();
+            } catch (InterruptedException e) {
+                // Writers só terminam pelo bloco de fim, para não deixar a leitura bloqueada na fila
+            }
+        }
+    }
+
+    /**
+     * Coloca o bloco de fim na fila, mesmo com a thread interrompida. Sem writers ativos
+     * (todos encerrados) não há quem o receba.
+     */
+    private static <T> void colocar(BlockingQueue<T> fila, T elemento, AtomicInteger writersAtivos) {
+        boolean interrompida = false;
+        while (writersAtivos.get() > 0) {
+            try {
+                if (fila.offer(elemento, ESPERA_FILA_MS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            } catch (InterruptedException e) {
+                interrompida = true;
+            }
+        }
+        if (interrompida) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Request lido do arquivo com o número da linha, para o relatório de erros.
+     */
+    record Linha<R>(long numero, R request) {
+    }
+}
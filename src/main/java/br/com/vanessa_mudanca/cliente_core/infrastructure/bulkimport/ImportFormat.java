@@ -0,0 +1,23 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.bulkimport;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos aceitos na importação de clientes, pelo {@code Content-Type} do upload.
+ */
+public enum ImportFormat {
+
+    /** Um objeto JSON por linha, com os campos do POST unitário. */
+    NDJSON,
+
+    /** Cabeçalho com os nomes dos campos do POST unitário; separador vírgula ou ponto e vírgula. */
+    CSV;
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    public static ImportFormat of(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return MediaType.parseMediaType(CSV_VALUE).includes(mediaType) ? CSV : NDJSON;
+    }
+}
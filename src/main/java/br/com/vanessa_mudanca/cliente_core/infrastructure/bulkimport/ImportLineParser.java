@@ -0,0 +1,73 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.bulkimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte uma linha do arquivo importado no request do POST unitário.
+ * Cada linha é independente: uma linha inválida vira uma falha no relatório, não interrompe o arquivo.
+ */
+@FunctionalInterface
+interface ImportLineParser<R> {
+
+    R parse(String linha) throws IOException;
+
+    static <R> ImportLineParser<R> ndjson(ObjectMapper objectMapper, Class<R> tipo) {
+        ObjectReader reader = objectMapper.readerFor(tipo);
+        return reader::readValue;
+    }
+
+    /**
+     * CSV com cabeçalho. Campos vazios são tratados como ausentes; os valores passam pelas mesmas
+     * conversões do JSON (datas ISO, enums, UUID). Não suporta quebra de linha dentro de aspas.
+     */
+    static <R> ImportLineParser<R> csv(ObjectMapper objectMapper, Class<R> tipo, String cabecalho) {
+        char separador = cabecalho.indexOf(';') >= 0 && cabecalho.indexOf(',') < 0 ? ';' : ',';
+        List<String> colunas = dividir(cabecalho, separador).stream().map(String::strip).toList();
+        ObjectReader reader = objectMapper.readerFor(tipo);
+        return linha -> {
+            List<String> valores = dividir(linha, separador);
+            if (valores.size() != colunas.size()) {
+                throw new IllegalArgumentException(String.format(
+                        "esperadas %d colunas, encontradas %d", colunas.size(), valores.size()));
+            }
+            ObjectNode campos = objectMapper.createObjectNode();
+            for (int i = 0; i < colunas.size(); i++) {
+                String valor = valores.get(i).strip();
+                if (!valor.isEmpty()) {
+                    campos.put(colunas.get(i), valor);
+                }
+            }
+            return reader.readValue(campos);
+        };
+    }
+
+    private static List<String> dividir(String linha, char separador) {
+        List<String> valores = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean entreAspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (c == '"') {
+                if (entreAspas && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else {
+                    entreAspas = !entreAspas;
+                }
+            } else if (c == separador && !entreAspas) {
+                valores.add(atual.toString());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        valores.add(atual.toString());
+        return valores;
+    }
+}
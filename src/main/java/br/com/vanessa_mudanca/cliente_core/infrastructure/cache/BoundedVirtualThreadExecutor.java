@@ -0,0 +1,34 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executor de virtual threads com concorrência limitada.
+ *
+ * Cada tarefa ganha sua própria virtual thread, mas no máximo {@code maxConcurrency}
+ * executam ao mesmo tempo; as demais ficam estacionadas (custo desprezível) até
+ * obter uma permissão. Evita que uma rajada de refresh ocupe o pool do Hikari.
+ */
+public class BoundedVirtualThreadExecutor implements Executor {
+
+    private final Semaphore permits;
+    private final Thread.Builder threadBuilder;
+
+    public BoundedVirtualThreadExecutor(String name, int maxConcurrency) {
+        this.permits = new Semaphore(maxConcurrency);
+        this.threadBuilder = Thread.ofVirtual().name(name + "-", 0);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        threadBuilder.start(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+}
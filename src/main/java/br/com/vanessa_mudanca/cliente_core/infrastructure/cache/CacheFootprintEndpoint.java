@@ -0,0 +1,93 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.CacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Endpoint Actuator com o consumo de heap estimado de cada cache.
+ *
+ * <pre>
+ * GET /actuator/cachefootprint
+ * GET /actuator/cachefootprint/clientes:findById
+ * </pre>
+ *
+ * Os bytes são somados entrada a entrada com o mesmo {@link ClienteMemoryWeigher} usado no
+ * limite {@code maximum-memory}, inclusive em caches limitados por quantidade de entradas.
+ * A varredura percorre o cache inteiro: pensado para consulta operacional, não para scraping –
+ * exposto só nos profiles dev e local ({@code management.endpoints.web.exposure.include}).
+ */
+@Endpoint(id = "cachefootprint")
+public class CacheFootprintEndpoint {
+
+    private final CacheManager cacheManager;
+    private final Function<String, DataSize> limitePorCache;
+    private final ClienteMemoryWeigher weigher = new ClienteMemoryWeigher();
+
+    /**
+     * @param cacheManager   manager dos caches Caffeine (direto ou como L1)
+     * @param limitePorCache {@code maximum-memory} configurado por nome de cache (null se não houver)
+     */
+    public CacheFootprintEndpoint(CacheManager cacheManager, Function<String, DataSize> limitePorCache) {
+        this.cacheManager = cacheManager;
+        this.limitePorCache = limitePorCache;
+    }
+
+    @ReadOperation
+    public Map<String, CacheFootprint> footprints() {
+        Map<String, CacheFootprint> footprints = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            CacheFootprint footprint = footprint(name);
+            if (footprint != null) {
+                footprints.put(name, footprint);
+            }
+        }
+        return footprints;
+    }
+
+    @ReadOperation
+    public CacheFootprint footprint(@Selector String name) {
+        org.springframework.cache.Cache cache = cacheManager.getCache(name);
+        if (cache == null || !(cache.getNativeCache() instanceof Cache<?, ?> nativo)) {
+            return null;
+        }
+        long entradas = 0;
+        long bytes = 0;
+        for (Map.Entry<?, ?> entrada : nativo.asMap().entrySet()) {
+            entradas++;
+            bytes += weigher.weigh(entrada.getKey(), entrada.getValue());
+        }
+        DataSize limite = limitePorCache.apply(name);
+        return new CacheFootprint(
+                entradas,
+                bytes,
+                entradas > 0 ? bytes / entradas : 0,
+                limite != null ? limite.toBytes() : null,
+                limite != null && limite.toBytes() > 0 ? Math.round(bytes * 100.0 / limite.toBytes()) : null);
+    }
+
+    /**
+     * Consumo de um cache.
+     *
+     * @param entries            entradas atualmente no cache
+     * @param estimatedBytes     bytes retidos estimados (chaves + valores + nós)
+     * @param averageEntryBytes  média por entrada
+     * @param maximumBytes       limite {@code maximum-memory} (null se o cache é limitado de outra forma)
+     * @param usagePercent       ocupação do limite em %
+     */
+    public record CacheFootprint(
+            long entries,
+            long estimatedBytes,
+            long averageEntryBytes,
+            Long maximumBytes,
+            Long usagePercent
+    ) {
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Mensagem de invalidação trafegada no {@link CacheInvalidationBus}.
+ *
+ * @param origem      id da instância que publicou (a própria instância ignora suas mensagens)
+ * @param tipo        EVICT (uma chave), CLEAR (cache inteiro) ou GENERATION (nova geração de listagem)
+ * @param cacheName   cache afetado (EVICT/CLEAR) ou tipo da listagem {@code pf}/{@code pj} (GENERATION)
+ * @param key         chave removida (EVICT)
+ * @param versao      versão commitada do cliente, para o tombstone do {@link VersionGuardedCache} (EVICT)
+ * @param generation  nova geração da listagem (GENERATION)
+ * @param publicadoEm instante da publicação, base da métrica de atraso da invalidação
+ */
+public record CacheInvalidation(
+        String origem,
+        Tipo tipo,
+        String cacheName,
+        String key,
+        LocalDateTime versao,
+        Long generation,
+        Instant publicadoEm
+) {
+
+    public enum Tipo { EVICT, CLEAR, GENERATION }
+
+    public static CacheInvalidation evict(String origem, String cacheName, String key, LocalDateTime versao) {
+        return new CacheInvalidation(origem, Tipo.EVICT, cacheName, key, versao, null, Instant.now());
+    }
+
+    public static CacheInvalidation clear(String origem, String cacheName) {
+        return new CacheInvalidation(origem, Tipo.CLEAR, cacheName, null, null, null, Instant.now());
+    }
+
+    public static CacheInvalidation generation(String origem, String tipoListagem, long generation) {
+        return new CacheInvalidation(origem, Tipo.GENERATION, tipoListagem, null, null, generation, Instant.now());
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Canal pub/sub de invalidações de cache entre instâncias.
+ *
+ * Cada instância publica suas invalidações e, ao receber as das demais, remove a chave
+ * do seu L1 (Caffeine). Entrega é best-effort: uma mensagem perdida é limitada pelo TTL.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+
+    /**
+     * Indica se uma publicação feita dentro de uma transação só é entregue no commit dela
+     * (ex.: NOTIFY do PostgreSQL). Nesse caso o writer publica antes do commit; nos demais
+     * barramentos, publicar antes do commit entregaria a invalidação cedo demais.
+     */
+    default boolean transacional() {
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Serializa valores de cache para o L2 compartilhado.
+ *
+ * <p>Usa serialização Java (os DTOs de saída são records {@code Serializable}), com um
+ * {@link ObjectInputFilter} que só aceita classes da aplicação e do JDK básico: bytes vindos
+ * do store compartilhado nunca instanciam classes arbitrárias.
+ */
+public class CacheValueSerializer {
+
+    private static final ObjectInputFilter FILTRO = ObjectInputFilter.Config.createFilter(
+            "maxdepth=20;maxrefs=100000;maxbytes=16777216;"
+                    + "br.com.vanessa_mudanca.cliente_core.**;"
+                    + "java.lang.*;java.util.*;java.time.*;java.math.*;!*");
+
+    public byte[] serialize(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao serializar valor de cache", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public Object deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            in.setObjectInputFilter(FILTRO);
+            return in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Falha ao desserializar valor de cache", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByIdUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByIdUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pré-carrega o cache com os clientes mais lidos antes da aplicação ficar pronta.
+ *
+ * O {@link ApplicationRunner} executa antes do {@code ApplicationReadyEvent}, que é quando o
+ * readiness probe passa para UP. O warm-up:
+ * <ul>
+ *   <li>lê o snapshot do {@link HotKeySnapshotStore} e reinjeta as contagens no tracker</li>
+ *   <li>carrega cada cliente pelo use case ({@code @Cacheable} popula {@code clientes:findById})</li>
+ *   <li>roda em paralelo ({@code parallelism}) e limitado a {@code ratePerSecond} cargas/s</li>
+ *   <li>desiste após {@code timeout} – o readiness não fica preso por um banco lento</li>
+ * </ul>
+ *
+ * Métricas:
+ * - cache.warmup.keys: total de chaves do snapshot (gauge)
+ * - cache.warmup.loaded: chaves carregadas (gauge de progresso)
+ * - cache.warmup.failed: cargas com erro (ex.: cliente removido)
+ * - cache.warmup.duration: duração do warm-up
+ */
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmupRunner.class);
+
+    private final HotKeySnapshotStore snapshotStore;
+    private final HotKeyTracker tracker;
+    private final FindClientePFByIdUseCase findClientePF;
+    private final FindClientePJByIdUseCase findClientePJ;
+    private final int parallelism;
+    private final int ratePerSecond;
+    private final Duration timeout;
+
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger carregados = new AtomicInteger();
+    private final Counter falhas;
+    private final Timer duracao;
+
+    public CacheWarmupRunner(HotKeySnapshotStore snapshotStore,
+                             HotKeyTracker tracker,
+                             FindClientePFByIdUseCase findClientePF,
+                             FindClientePJByIdUseCase findClientePJ,
+                             MeterRegistry meterRegistry,
+                             int parallelism,
+                             int ratePerSecond,
+                             Duration timeout) {
+        this.snapshotStore = snapshotStore;
+        this.tracker = tracker;
+        this.findClientePF = findClientePF;
+        this.findClientePJ = findClientePJ;
+        this.parallelism = parallelism;
+        this.ratePerSecond = ratePerSecond;
+        this.timeout = timeout;
+
+        meterRegistry.gauge("cache.warmup.keys", total);
+        meterRegistry.gauge("cache.warmup.loaded", carregados);
+        this.falhas = meterRegistry.counter("cache.warmup.failed");
+        this.duracao = meterRegistry.timer("cache.warmup.duration");
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        List<HotKeyTracker.HotKeyCount> snapshot = snapshotStore.read();
+        if (snapshot.isEmpty()) {
+            log.info("Warm-up de cache ignorado - nenhum snapshot de hot keys");
+            return;
+        }
+
+        tracker.seed(snapshot);
+        total.set(snapshot.size());
+        log.info("Iniciando warm-up de cache - Chaves: {}, Paralelismo: {}, Limite: {}/s",
+                snapshot.size(), parallelism, ratePerSecond);
+
+        long inicio = System.nanoTime();
+        boolean concluido = preload(snapshot);
+        long nanos = System.nanoTime() - inicio;
+        duracao.record(nanos, TimeUnit.NANOSECONDS);
+
+        if (concluido) {
+            log.info("Warm-up de cache concluído - Carregados: {}/{}, Duração: {}ms",
+                    carregados.get(), snapshot.size(), TimeUnit.NANOSECONDS.toMillis(nanos));
+        } else {
+            log.warn("Warm-up de cache interrompido por timeout - Carregados: {}/{}, Timeout: {}",
+                    carregados.get(), snapshot.size(), timeout);
+        }
+    }
+
+    private boolean preload(List<HotKeyTracker.HotKeyCount> snapshot) throws InterruptedException {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("cache-warmup", parallelism);
+        CountDownLatch pendentes = new CountDownLatch(snapshot.size());
+        long intervalo = TimeUnit.SECONDS.toNanos(1) / Math.max(1, ratePerSecond);
+        AtomicLong proximoSlot = new AtomicLong(System.nanoTime());
+        long prazo = System.nanoTime() + timeout.toNanos();
+
+        for (HotKeyTracker.HotKeyCount hotKey : snapshot) {
+            executor.execute(() -> {
+                try {
+                    long slot = proximoSlot.getAndAdd(intervalo);
+                    if (slot > prazo) {
+                        return;
+                    }
+                    LockSupport.parkNanos(slot - System.nanoTime());
+                    carregar(hotKey.key());
+                    carregados.incrementAndGet();
+                } catch (RuntimeException e) {
+                    falhas.increment();
+                    log.debug("Falha no warm-up - PublicId: {}, Erro: {}",
+                            hotKey.key().publicId(), e.getMessage());
+                } finally {
+                    pendentes.countDown();
+                }
+            });
+        }
+
+        return pendentes.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void carregar(HotKeyTracker.HotKey key) {
+        switch (key.tipo()) {
+            case PF -> findClientePF.findByPublicId(key.publicId());
+            case PJ -> findClientePJ.findByPublicId(key.publicId());
+        }
+    }
+}
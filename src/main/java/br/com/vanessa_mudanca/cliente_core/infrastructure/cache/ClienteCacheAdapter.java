@@ -0,0 +1,161 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Adapter que implementa a invalidação direcionada do cache de clientes.
+ *
+ * Dentro de uma transação, a invalidação é adiada para o {@code afterCommit}: antes do commit
+ * um leitor concorrente repopularia o cache com os dados ainda não commitados (antigos).
+ * Em caso de rollback nada é invalidado. Leitores que carregaram a versão anterior e gravam
+ * depois do commit são barrados pelo tombstone do {@link VersionGuardedCache}.
+ *
+ * Com um barramento transacional ({@link CacheInvalidationBus#transacional()}, ex.: NOTIFY do
+ * PostgreSQL), as invalidações das demais instâncias são publicadas no {@code beforeCommit},
+ * na própria transação da escrita: entregues no commit, descartadas no rollback. O L1 desta
+ * instância é invalidado de novo no {@code afterCommit}, sem republicar, pelo mesmo motivo acima.
+ *
+ * <ul>
+ *   <li>{@code clientes:findById} e {@code clientes:findById:json}: evict da chave {@code publicId.toString()}</li>
+ *   <li>{@code clientes:list}: avança a geração do tipo (PF ou PJ) em {@link ListCacheGenerations}</li>
+ *   <li>{@code clientes:notFound}: remove publicId e CPF/CNPJ do cliente (ex.: cliente recém-criado)</li>
+ *   <li>{@code clientes:lookup}: evict do CPF/CNPJ do cliente (nome exibido no lookup)</li>
+ * </ul>
+ */
+@Component
+public class ClienteCacheAdapter implements ClienteCachePort {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteCacheAdapter.class);
+
+    static final String FIND_BY_ID = "clientes:findById";
+    static final String LOOKUP = "clientes:lookup";
+
+    private final CacheManager cacheManager;
+    private final ListCacheGenerations listCacheGenerations;
+    private final boolean publicarNaTransacao;
+
+    public ClienteCacheAdapter(CacheManager cacheManager, ListCacheGenerations listCacheGenerations,
+                               ObjectProvider<SharedCacheTier> sharedTier) {
+        SharedCacheTier tier = sharedTier.getIfAvailable();
+        this.cacheManager = cacheManager;
+        this.listCacheGenerations = listCacheGenerations;
+        this.publicarNaTransacao = tier != null && tier.bus().transacional();
+    }
+
+    @Override
+    public void invalidar(Cliente cliente) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (publicarNaTransacao) {
+                        invalidarAgora(cliente, true);
+                    }
+                }
+
+                @Override
+                public void afterCommit() {
+                    invalidarAgora(cliente, !publicarNaTransacao);
+                }
+            });
+            return;
+        }
+        invalidarAgora(cliente, true);
+    }
+
+    /**
+     * @param publicar {@code false} invalida só o L1 desta instância, sem publicar no barramento
+     *                 (a invalidação já foi publicada no {@code beforeCommit})
+     */
+    private void invalidarAgora(Cliente cliente, boolean publicar) {
+        String tipo = cliente instanceof ClientePJ ? ListCacheGenerations.PJ : ListCacheGenerations.PF;
+
+        evictFindById(FIND_BY_ID, cliente, publicar);
+        evictFindById(RenderedJsonCache.RENDERED_JSON, cliente, publicar);
+        evictNotFound(cliente, publicar);
+        evictLookup(cliente, publicar);
+        long geracao = publicar ? listCacheGenerations.advance(tipo) : listCacheGenerations.advanceLocal(tipo);
+
+        log.debug("Cache invalidado - PublicId: {}, Tipo: {}, GeracaoListagem: {}",
+                cliente.getPublicId(), tipo, geracao);
+    }
+
+    private Cache cache(String cacheName, boolean publicar) {
+        Cache cache = cacheManager.getCache(cacheName);
+        return !publicar && cache instanceof TwoTierCache twoTier ? twoTier.getLocalCache() : cache;
+    }
+
+    private void evictFindById(String cacheName, Cliente cliente, boolean publicar) {
+        Cache cache = cache(cacheName, publicar);
+        if (cache == null || cliente.getPublicId() == null) {
+            return;
+        }
+        String key = cliente.getPublicId().toString();
+        if (cache instanceof VersionedEvict versionado) {
+            versionado.evict(key, cliente.getDataAtualizacao());
+        } else {
+            cache.evict(key);
+        }
+    }
+
+    /**
+     * Remove as entradas negativas do cliente com tombstone no instante atual: buscas iniciadas
+     * antes (que não viram o cliente) não gravam "não encontrado" depois desta invalidação.
+     */
+    private void evictNotFound(Cliente cliente, boolean publicar) {
+        Cache notFound = cache(NegativeCacheAspect.NOT_FOUND, publicar);
+        if (notFound == null) {
+            return;
+        }
+        LocalDateTime agora = LocalDateTime.now();
+        switch (cliente) {
+            case ClientePF pf -> {
+                evictNotFound(notFound, NotFoundKey.PF_ID.key(pf.getPublicId()), agora);
+                if (pf.getCpf() != null) {
+                    evictNotFound(notFound, NotFoundKey.CPF.key(pf.getCpf()), agora);
+                }
+            }
+            case ClientePJ pj -> {
+                evictNotFound(notFound, NotFoundKey.PJ_ID.key(pj.getPublicId()), agora);
+                if (pj.getCnpj() != null) {
+                    evictNotFound(notFound, NotFoundKey.CNPJ.key(pj.getCnpj()), agora);
+                }
+            }
+            default -> { }
+        }
+    }
+
+    private static void evictNotFound(Cache notFound, String key, LocalDateTime agora) {
+        if (notFound instanceof VersionedEvict versionado) {
+            versionado.evict(key, agora);
+        } else {
+            notFound.evict(key);
+        }
+    }
+
+    private void evictLookup(Cliente cliente, boolean publicar) {
+        Cache lookup = cache(LOOKUP, publicar);
+        if (lookup == null) {
+            return;
+        }
+        switch (cliente) {
+            case ClientePF pf when pf.getCpf() != null -> lookup.evict(NotFoundKey.CPF.key(pf.getCpf()));
+            case ClientePJ pj when pj.getCnpj() != null -> lookup.evict(NotFoundKey.CNPJ.key(pj.getCnpj()));
+            default -> { }
+        }
+    }
+}
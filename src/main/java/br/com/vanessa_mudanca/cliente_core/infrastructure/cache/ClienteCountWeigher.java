@@ -0,0 +1,26 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weigher que conta quantos clientes cada entrada de cache carrega.
+ *
+ * <ul>
+ *   <li>Cliente individual ({@code ClientePFResponse}/{@code ClientePJResponse}): peso 1</li>
+ *   <li>{@link PageResponse}: peso = nº de clientes da página (mínimo 1)</li>
+ * </ul>
+ *
+ * Assim uma página de 100 clientes consome o mesmo orçamento que 100 entradas
+ * individuais, em vez de contar como uma única entrada.
+ */
+public class ClienteCountWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        if (value instanceof PageResponse<?> page && page.content() != null) {
+            return Math.max(1, page.content().size());
+        }
+        return 1;
+    }
+}
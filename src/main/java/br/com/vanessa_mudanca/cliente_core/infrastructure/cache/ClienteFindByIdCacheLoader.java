@@ -0,0 +1,66 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+/**
+ * Loader de refresh-ahead para {@code clientes:findById}.
+ *
+ * <ul>
+ *   <li>{@link #load}: retorna {@code null} – o miss continua sendo tratado pelo
+ *       {@code @Cacheable} dos services ({@code FindClientePFByIdService}/{@code FindClientePJByIdService})</li>
+ *   <li>{@link #reload}: executado em background quando a entrada passa de
+ *       {@code refresh-after-write}; enquanto isso, leitores recebem o valor em cache</li>
+ * </ul>
+ *
+ * Se o cliente não existir mais, o reload retorna {@code null} e a entrada é removida.
+ */
+@Component
+public class ClienteFindByIdCacheLoader implements NamedCacheLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(ClienteFindByIdCacheLoader.class);
+
+    private final ClienteRepositoryPort clienteRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ClienteFindByIdCacheLoader(ClienteRepositoryPort clienteRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.clienteRepository = clienteRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public String cacheName() {
+        return "clientes:findById";
+    }
+
+    @Override
+    public Object load(Object key) {
+        return null;
+    }
+
+    @Override
+    public Object reload(Object key, Object oldValue) {
+        UUID publicId = UUID.fromString(key.toString());
+        log.debug("Refresh-ahead de cliente - PublicId: {}", publicId);
+
+        return readOnlyTransaction.execute(status -> clienteRepository.findByPublicId(publicId)
+                .map(cliente -> switch (cliente) {
+                    case ClientePF pf -> (Object) ClientePFMapper.toResponse(pf);
+                    case ClientePJ pj -> ClientePJMapper.toResponse(pj);
+                    default -> null;
+                })
+                .orElse(null));
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weigher que pesa cada entrada pelos bytes retidos estimados (chave + valor + nó do cache).
+ *
+ * Com ele o limite do cache ({@code maximum-memory}) é um orçamento de heap: um PJ com dezenas
+ * de documentos, contatos e endereços – ou uma página inteira de {@code clientes:list} – consome
+ * proporcionalmente mais que um PF com um único endereço.
+ *
+ * @see RetainedSizeEstimator
+ */
+public class ClienteMemoryWeigher implements Weigher<Object, Object> {
+
+    /**
+     * Nó do Caffeine (chave, valor, timestamps de expiração, ponteiros da fila de acesso/escrita).
+     */
+    static final int ENTRY_OVERHEAD = 64;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long bytes = ENTRY_OVERHEAD + RetainedSizeEstimator.estimate(key) + RetainedSizeEstimator.estimate(value);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+}
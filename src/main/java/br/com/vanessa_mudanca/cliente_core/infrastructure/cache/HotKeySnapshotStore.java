@@ -0,0 +1,117 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Persiste o top-K do {@link HotKeyTracker} em arquivo local.
+ *
+ * Formato (uma linha por cliente, do mais lido para o menos lido):
+ * <pre>
+ * PF;3fa85f64-5717-4562-b3fc-2c963f66afa6;1532
+ * </pre>
+ *
+ * A escrita usa arquivo temporário + move atômico: um crash no meio do snapshot
+ * não deixa arquivo corrompido. O sketch é envelhecido a cada snapshot.
+ */
+public class HotKeySnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(HotKeySnapshotStore.class);
+
+    private final HotKeyTracker tracker;
+    private final Path file;
+
+    public HotKeySnapshotStore(HotKeyTracker tracker, Path file) {
+        this.tracker = tracker;
+        this.file = file;
+    }
+
+    @Scheduled(
+            initialDelayString = "${cache.warmup.snapshot-interval:1m}",
+            fixedDelayString = "${cache.warmup.snapshot-interval:1m}"
+    )
+    public void snapshot() {
+        List<HotKeyTracker.HotKeyCount> top = tracker.top();
+        if (top.isEmpty()) {
+            return;
+        }
+        try {
+            write(top);
+            tracker.decay();
+            log.debug("Snapshot de hot keys gravado - Arquivo: {}, Chaves: {}", file, top.size());
+        } catch (UncheckedIOException e) {
+            log.warn("Falha ao gravar snapshot de hot keys - Arquivo: {}, Erro: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Grava o snapshot final no shutdown (deploy), sem envelhecer o sketch.
+     */
+    public void snapshotOnShutdown() {
+        List<HotKeyTracker.HotKeyCount> top = tracker.top();
+        if (!top.isEmpty()) {
+            try {
+                write(top);
+                log.info("Snapshot de hot keys gravado no shutdown - Chaves: {}", top.size());
+            } catch (UncheckedIOException e) {
+                log.warn("Falha ao gravar snapshot de hot keys no shutdown - Erro: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Lê o último snapshot. Arquivo ausente ou linhas inválidas são ignorados.
+     */
+    public List<HotKeyTracker.HotKeyCount> read() {
+        if (!Files.isReadable(file)) {
+            return List.of();
+        }
+        try {
+            return Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                    .map(HotKeySnapshotStore::parse)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (IOException e) {
+            log.warn("Falha ao ler snapshot de hot keys - Arquivo: {}, Erro: {}", file, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void write(List<HotKeyTracker.HotKeyCount> top) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tmp, top.stream()
+                    .map(c -> c.key().tipo() + ";" + c.key().publicId() + ";" + c.count())
+                    .toList(), StandardCharsets.UTF_8);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static HotKeyTracker.HotKeyCount parse(String line) {
+        String[] partes = line.split(";");
+        if (partes.length != 3) {
+            return null;
+        }
+        try {
+            return new HotKeyTracker.HotKeyCount(
+                    new HotKeyTracker.HotKey(HotKeyTracker.Tipo.valueOf(partes[0]), UUID.fromString(partes[1])),
+                    Long.parseLong(partes[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
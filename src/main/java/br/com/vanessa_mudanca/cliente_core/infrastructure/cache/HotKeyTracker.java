@@ -0,0 +1,147 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Rastreia os clientes mais lidos (top-K) com um Count-Min sketch.
+ *
+ * <ul>
+ *   <li>Sketch: {@value #DEPTH} linhas x {@code width} contadores; memória fixa, sem guardar
+ *       um contador por cliente</li>
+ *   <li>Candidatos: até {@code 2 * topK} chaves; quando passa disso, as de menor estimativa
+ *       são descartadas</li>
+ *   <li>{@link #decay()}: divide os contadores por 2, para o top-K acompanhar mudanças de padrão</li>
+ * </ul>
+ *
+ * Estimativas podem superestimar (colisões), nunca subestimar.
+ */
+public class HotKeyTracker {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    /**
+     * Tipo do cliente rastreado (define qual use case recarrega a chave no warm-up).
+     */
+    public enum Tipo { PF, PJ }
+
+    public record HotKey(Tipo tipo, UUID publicId) { }
+
+    public record HotKeyCount(HotKey key, long count) { }
+
+    private final int topK;
+    private final int mask;
+    private final AtomicLongArray table;
+    private final Map<HotKey, Boolean> candidatos = new ConcurrentHashMap<>();
+    private final ReentrantLock pruneLock = new ReentrantLock();
+
+    /**
+     * @param topK  quantidade de chaves quentes mantidas
+     * @param width contadores por linha do sketch (arredondado para baixo, potência de 2)
+     */
+    public HotKeyTracker(int topK, int width) {
+        this.topK = topK;
+        int size = Integer.highestOneBit(Math.max(16, width));
+        this.mask = size - 1;
+        this.table = new AtomicLongArray(DEPTH * size);
+    }
+
+    /**
+     * Registra uma leitura do cliente.
+     */
+    public void record(Tipo tipo, UUID publicId) {
+        add(new HotKey(tipo, publicId), 1);
+    }
+
+    /**
+     * Reinjeta contagens (ex.: snapshot lido no startup).
+     */
+    public void seed(List<HotKeyCount> counts) {
+        counts.forEach(c -> add(c.key(), c.count()));
+    }
+
+    /**
+     * Estimativa de leituras de um cliente.
+     */
+    public long estimate(HotKey key) {
+        long hash = hash(key.publicId());
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            min = Math.min(min, table.get(index(row, hash)));
+        }
+        return min;
+    }
+
+    /**
+     * Top-K atual, do mais lido para o menos lido.
+     */
+    public List<HotKeyCount> top() {
+        return candidatos.keySet().stream()
+                .map(key -> new HotKeyCount(key, estimate(key)))
+                .filter(c -> c.count() > 0)
+                .sorted(Comparator.comparingLong(HotKeyCount::count).reversed())
+                .limit(topK)
+                .toList();
+    }
+
+    /**
+     * Envelhece o sketch (contadores / 2) e descarta candidatos que zeraram.
+     */
+    public void decay() {
+        for (int i = 0; i < table.length(); i++) {
+            table.updateAndGet(i, v -> v >>> 1);
+        }
+        candidatos.keySet().removeIf(key -> estimate(key) == 0);
+    }
+
+    private void add(HotKey key, long delta) {
+        long hash = hash(key.publicId());
+        for (int row = 0; row < DEPTH; row++) {
+            table.addAndGet(index(row, hash), delta);
+        }
+        candidatos.put(key, Boolean.TRUE);
+
+        if (candidatos.size() > topK * 2L && pruneLock.tryLock()) {
+            try {
+                prune();
+            } finally {
+                pruneLock.unlock();
+            }
+        }
+    }
+
+    private void prune() {
+        Set<HotKey> manter = top().stream().map(HotKeyCount::key).collect(Collectors.toSet());
+        candidatos.keySet().retainAll(manter);
+    }
+
+    private int index(int row, long hash) {
+        return row * (mask + 1) + (int) (mix(hash ^ SEEDS[row]) & mask);
+    }
+
+    private static long hash(UUID publicId) {
+        return publicId.getMostSignificantBits() * 31 + publicId.getLeastSignificantBits();
+    }
+
+    /**
+     * Finalizador do MurmurHash3 (fmix64).
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.UUID;
+
+/**
+ * Alimenta o {@link HotKeyTracker} com as leituras por Public ID.
+ *
+ * Roda antes do interceptor de cache ({@code HIGHEST_PRECEDENCE}), então conta hits e misses.
+ * Apenas leituras bem-sucedidas são registradas (clientes inexistentes não entram no top-K).
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HotKeyTrackingAspect {
+
+    private final HotKeyTracker tracker;
+
+    public HotKeyTrackingAspect(HotKeyTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @AfterReturning("execution(* br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByIdUseCase.findByPublicId(..)) && args(publicId)")
+    public void leituraPF(UUID publicId) {
+        tracker.record(HotKeyTracker.Tipo.PF, publicId);
+    }
+
+    @AfterReturning("execution(* br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByIdUseCase.findByPublicId(..)) && args(publicId)")
+    public void leituraPJ(UUID publicId) {
+        tracker.record(HotKeyTracker.Tipo.PJ, publicId);
+    }
+}
@@ -0,0 +1,58 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link SharedCacheStore} em memória, compartilhável entre vários {@link TwoTierCacheManager}
+ * do mesmo processo. Substitui o Redis em testes e em desenvolvimento ({@code cache.backend=memory}).
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private record Entrada(byte[] value, long expiraEmNanos) {
+    }
+
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+
+    @Override
+    public byte[] get(String key) {
+        Entrada entrada = entradas.get(key);
+        if (entrada == null) {
+            return null;
+        }
+        if (System.nanoTime() - entrada.expiraEmNanos() >= 0) {
+            entradas.remove(key, entrada);
+            return null;
+        }
+        return entrada.value();
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        entradas.put(key, new Entrada(value, System.nanoTime() + ttl.toNanos()));
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, byte[] value, Duration ttl) {
+        boolean[] gravou = new boolean[1];
+        entradas.compute(key, (k, atual) -> {
+            if (atual != null && System.nanoTime() - atual.expiraEmNanos() < 0) {
+                return atual;
+            }
+            gravou[0] = true;
+            return new Entrada(value, System.nanoTime() + ttl.toNanos());
+        });
+        return gravou[0];
+    }
+
+    @Override
+    public void evict(String key) {
+        entradas.remove(key);
+    }
+
+    @Override
+    public void evictByPrefix(String prefix) {
+        entradas.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+}
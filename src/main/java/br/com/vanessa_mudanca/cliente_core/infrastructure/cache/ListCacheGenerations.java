@@ -0,0 +1,92 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Geração corrente das listagens de clientes, separada por tipo (PF/PJ).
+ *
+ * <p>A geração faz parte da chave do cache {@code clientes:list}
+ * ({@code 'pf-g' + geração + '-' + página ...}). Avançar a geração de um tipo torna
+ * todas as suas páginas inalcançáveis de uma vez, sem {@code allEntries = true}:
+ * as páginas do outro tipo e as entradas de {@code clientes:findById} permanecem.
+ * As páginas antigas expiram pelo TTL/peso do próprio cache.
+ *
+ * <p>Gerações são valores aleatórios, não um contador: com o cache compartilhado
+ * ({@link SharedCacheTier}) uma instância recém-iniciada nunca reaproveita a chave de uma
+ * geração antiga gravada no L2. Cada avanço é publicado no {@link CacheInvalidationBus}
+ * e as demais instâncias adotam a nova geração.
+ *
+ * <p>Referenciado via SpEL nos services de listagem: {@code @listCacheGenerations.current('pf')}.
+ */
+@Component("listCacheGenerations")
+public class ListCacheGenerations {
+
+    public static final String PF = "pf";
+    public static final String PJ = "pj";
+
+    private final AtomicLong pf = new AtomicLong(novaGeracao());
+    private final AtomicLong pj = new AtomicLong(novaGeracao());
+    private final SharedCacheTier sharedTier;
+
+    public ListCacheGenerations(ObjectProvider<SharedCacheTier> sharedTier) {
+        this.sharedTier = sharedTier.getIfAvailable();
+        if (this.sharedTier != null) {
+            this.sharedTier.bus().subscribe(this::aoReceber);
+        }
+    }
+
+    /**
+     * Geração corrente do tipo informado ({@code pf} ou {@code pj}).
+     */
+    public long current(String tipo) {
+        return counter(tipo).get();
+    }
+
+    /**
+     * Avança a geração do tipo informado, invalidando suas páginas em cache
+     * (nesta e, com cache compartilhado, nas demais instâncias).
+     *
+     * @return nova geração
+     */
+    public long advance(String tipo) {
+        long geracao = advanceLocal(tipo);
+        if (sharedTier != null) {
+            sharedTier.bus().publish(CacheInvalidation.generation(sharedTier.instanceId(), tipo, geracao));
+        }
+        return geracao;
+    }
+
+    /**
+     * Avança a geração do tipo informado só nesta instância, sem publicar
+     * (as demais instâncias já receberam o avanço).
+     *
+     * @return nova geração
+     */
+    public long advanceLocal(String tipo) {
+        long geracao = novaGeracao();
+        counter(tipo).set(geracao);
+        return geracao;
+    }
+
+    private void aoReceber(CacheInvalidation invalidation) {
+        if (invalidation.tipo() == CacheInvalidation.Tipo.GENERATION && sharedTier.isRemota(invalidation)) {
+            counter(invalidation.cacheName()).set(invalidation.generation());
+        }
+    }
+
+    private AtomicLong counter(String tipo) {
+        return switch (tipo) {
+            case PF -> pf;
+            case PJ -> pj;
+            default -> throw new IllegalArgumentException("Tipo de listagem desconhecido: " + tipo);
+        };
+    }
+
+    private static long novaGeracao() {
+        return ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+
+/**
+ * {@link CacheLoader} associado a um cache nomeado.
+ *
+ * O {@code CacheConfig} registra o cache correspondente como {@code LoadingCache},
+ * o que habilita {@code refresh-after-write} na política do cache.
+ */
+public interface NamedCacheLoader extends CacheLoader<Object, Object> {
+
+    /**
+     * Nome do cache atendido por este loader (ex.: {@code clientes:findById}).
+     */
+    String cacheName();
+}
@@ -0,0 +1,66 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.cache.CacheNotFound;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Aspect que implementa o cache negativo de {@link CacheNotFound}.
+ *
+ * Usa o cache {@value #NOT_FOUND} (política própria em {@code cache.specs}: TTL curto,
+ * tamanho limitado), então hit/miss aparecem em {@code cache.gets{cache="clientes:notFound"}},
+ * separados dos caches positivos.
+ *
+ * A entrada ({@link NotFoundEntry}) leva o instante em que a busca começou e o cache é um
+ * {@link VersionGuardedCache}: uma busca iniciada antes do commit de uma criação não grava
+ * "não encontrado" depois da invalidação, o que esconderia o cliente novo até o TTL.
+ *
+ * Ordem: {@code HIGHEST_PRECEDENCE + 5} – depois do cache positivo, antes do {@code @SingleFlight}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class NegativeCacheAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(NegativeCacheAspect.class);
+
+    public static final String NOT_FOUND = "clientes:notFound";
+
+    private final CacheManager cacheManager;
+
+    public NegativeCacheAspect(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Around("@annotation(cacheNotFound)")
+    public Object negativeCache(ProceedingJoinPoint joinPoint, CacheNotFound cacheNotFound) throws Throwable {
+        Cache cache = cacheManager.getCache(NOT_FOUND);
+        String key = cacheNotFound.value().key(joinPoint.getArgs()[0]);
+
+        // Outro tipo (ex.: entrada de uma versão anterior ainda no L2) conta como miss
+        Cache.ValueWrapper emCache = cache.get(key);
+        if (emCache != null && emCache.get() instanceof NotFoundEntry entrada) {
+            log.debug("Cache negativo: cliente sabidamente inexistente - Chave: {}", cacheNotFound.value());
+            throw new ClienteNaoEncontradoException(entrada.mensagem());
+        }
+
+        LocalDateTime inicio = LocalDateTime.now();
+        try {
+            return joinPoint.proceed();
+        } catch (ClienteNaoEncontradoException e) {
+            cache.put(key, new NotFoundEntry(e.getMessage(), inicio));
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.VersionedResponse;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Entrada do cache negativo ({@code clientes:notFound}).
+ *
+ * A "versão" é o instante em que a busca começou: a criação do cliente grava um tombstone com
+ * o instante da invalidação (após o commit), e o {@link VersionGuardedCache} descarta o
+ * "não encontrado" de uma busca iniciada antes dela.
+ *
+ * @param mensagem        mensagem da {@code ClienteNaoEncontradoException} original
+ * @param dataAtualizacao início da busca que não encontrou o cliente
+ */
+record NotFoundEntry(String mensagem, LocalDateTime dataAtualizacao) implements VersionedResponse, Serializable {
+}
@@ -0,0 +1,202 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memória fora do heap para valores serializados, em slabs de {@link ByteBuffer} diretos.
+ *
+ * <p>Cada slab tem 1 MB e é dividido em slots de um único tamanho (potências de 2, de 64 B a
+ * 1 MB). Um valor ocupa o menor slot em que cabe; slots liberados voltam para o topo da lista
+ * livre da sua classe (LIFO: o slot reaproveitado tende a estar no cache da CPU). Slabs são
+ * alocados sob demanda até {@code capacity} e nunca devolvidos: o consumo de memória direta
+ * é fixo e previsível, e o GC não enxerga os valores. Slabs ficam presos à classe do primeiro
+ * uso; se o perfil de tamanhos mudar muito, uma classe pode esgotar antes da capacidade total
+ * – o {@link OffHeapCache} então libera a entrada mais fria da mesma classe.
+ *
+ * <p>Cada slot tem uma geração, incrementada ao ser liberado. Leituras seguem o padrão
+ * <i>seqlock</i>: confere a geração, copia os bytes e confere de novo – se o slot foi
+ * liberado (e talvez reaproveitado) no meio da cópia, a leitura devolve {@code null} e o
+ * chamador trata como miss. Assim nenhuma leitura concorrente com um free precisa de lock.
+ *
+ * <p><b>Atenção:</b> a memória direta é limitada por {@code -XX:MaxDirectMemorySize}
+ * (default = {@code -Xmx}); o parâmetro precisa cobrir a soma das capacidades configuradas.
+ */
+public class OffHeapArena {
+
+    static final int SLAB_BYTES = 1 << 20;
+    private static final int MIN_SHIFT = 6;
+    private static final int MAX_SHIFT = 20;
+    private static final int SLOT_BITS = 32;
+
+    /** Handle devolvido por {@link #allocate(int)} quando não há memória disponível. */
+    public static final long SEM_ESPACO = -1L;
+
+    private final long capacity;
+    private final int maxSlabs;
+    private final CopyOnWriteArrayList<Slab> slabs = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedDeque<Long>[] livres;
+    private final AtomicIntegerArray slabsPorClasse = new AtomicIntegerArray(MAX_SHIFT - MIN_SHIFT + 1);
+    private final AtomicLong usedBytes = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    public OffHeapArena(long capacityBytes) {
+        if (capacityBytes < SLAB_BYTES) {
+            throw new IllegalArgumentException("capacidade off-heap mínima é 1MB: " + capacityBytes);
+        }
+        this.maxSlabs = (int) Math.min(Integer.MAX_VALUE, capacityBytes / SLAB_BYTES);
+        this.capacity = (long) maxSlabs * SLAB_BYTES;
+        this.livres = new ConcurrentLinkedDeque[MAX_SHIFT - MIN_SHIFT + 1];
+        for (int i = 0; i < livres.length; i++) {
+            livres[i] = new ConcurrentLinkedDeque<>();
+        }
+    }
+
+    /**
+     * Tamanho do slot usado para um valor de {@code length} bytes, ou -1 se não couber em um slab.
+     */
+    public static int slotSize(int length) {
+        if (length > SLAB_BYTES) {
+            return -1;
+        }
+        return 1 << shiftFor(length);
+    }
+
+    /**
+     * Reserva um slot para {@code length} bytes.
+     *
+     * @return handle do slot, ou {@link #SEM_ESPACO} se a capacidade estiver esgotada
+     */
+    public long allocate(int length) {
+        if (length > SLAB_BYTES) {
+            return SEM_ESPACO;
+        }
+        int shift = shiftFor(length);
+        ConcurrentLinkedDeque<Long> fila = livres[shift - MIN_SHIFT];
+        Long slot = fila.pollFirst();
+        if (slot == null && novoSlab(shift)) {
+            slot = fila.pollFirst();
+        }
+        if (slot == null) {
+            return SEM_ESPACO;
+        }
+        usedBytes.addAndGet(1L << shift);
+        return slot;
+    }
+
+    /**
+     * Copia {@code bytes} para o slot. Deve acontecer antes do handle ser publicado.
+     */
+    public void write(long handle, byte[] bytes) {
+        Slab slab = slab(handle);
+        slab.buffer.put(slab.offset(handle), bytes);
+    }
+
+    /**
+     * Geração atual do slot (a que deve ser informada em {@link #read} e {@link #free}).
+     */
+    public int generation(long handle) {
+        return slab(handle).generations.get(slotIndex(handle));
+    }
+
+    /**
+     * Lê {@code length} bytes do slot.
+     *
+     * @return os bytes, ou {@code null} se o slot foi liberado antes ou durante a cópia
+     */
+    public byte[] read(long handle, int length, int generation) {
+        Slab slab = slab(handle);
+        int index = slotIndex(handle);
+        if (slab.generations.get(index) != generation) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        slab.buffer.get(slab.offset(handle), bytes);
+        VarHandle.loadLoadFence();
+        return slab.generations.get(index) == generation ? bytes : null;
+    }
+
+    /**
+     * Devolve o slot para a lista livre. Idempotente: um free com geração antiga é ignorado.
+     */
+    public void free(long handle, int generation) {
+        Slab slab = slab(handle);
+        if (slab.generations.compareAndSet(slotIndex(handle), generation, generation + 1)) {
+            usedBytes.addAndGet(-(1L << slab.shift));
+            livres[slab.shift - MIN_SHIFT].offerFirst(handle);
+        }
+    }
+
+    /**
+     * Indica se a classe de {@code length} bytes já tem algum slab – isto é, se liberar um slot
+     * dessa classe pode abrir espaço quando a capacidade está esgotada.
+     */
+    public boolean temSlab(int length) {
+        return length <= SLAB_BYTES && slabsPorClasse.get(shiftFor(length) - MIN_SHIFT) > 0;
+    }
+
+    /** Bytes ocupados pelos slots em uso. */
+    public long usedBytes() {
+        return usedBytes.get();
+    }
+
+    /** Bytes de memória direta já alocados em slabs. */
+    public long reservedBytes() {
+        return (long) slabs.size() * SLAB_BYTES;
+    }
+
+    public long capacityBytes() {
+        return capacity;
+    }
+
+    private synchronized boolean novoSlab(int shift) {
+        if (!livres[shift - MIN_SHIFT].isEmpty()) {
+            return true;
+        }
+        if (slabs.size() >= maxSlabs) {
+            return false;
+        }
+        int slabIndex = slabs.size();
+        Slab slab = new Slab(ByteBuffer.allocateDirect(SLAB_BYTES), shift);
+        slabs.add(slab);
+        slabsPorClasse.incrementAndGet(shift - MIN_SHIFT);
+        for (int i = 0; i < slab.generations.length(); i++) {
+            livres[shift - MIN_SHIFT].offerLast(((long) slabIndex << SLOT_BITS) | i);
+        }
+        return true;
+    }
+
+    private Slab slab(long handle) {
+        return slabs.get((int) (handle >>> SLOT_BITS));
+    }
+
+    private static int slotIndex(long handle) {
+        return (int) handle;
+    }
+
+    private static int shiftFor(int length) {
+        int bits = 32 - Integer.numberOfLeadingZeros(Math.max(length, 1) - 1);
+        return Math.max(MIN_SHIFT, bits);
+    }
+
+    private static final class Slab {
+
+        private final ByteBuffer buffer;
+        private final int shift;
+        private final AtomicIntegerArray generations;
+
+        Slab(ByteBuffer buffer, int shift) {
+            this.buffer = buffer;
+            this.shift = shift;
+            this.generations = new AtomicIntegerArray(SLAB_BYTES >> shift);
+        }
+
+        int offset(long handle) {
+            return slotIndex(handle) << shift;
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.VersionedResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.cache.support.NullValue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache Spring cujos valores ficam serializados fora do heap ({@link OffHeapArena}).
+ *
+ * <p>O heap guarda só o índice Caffeine (chave → slot, tamanho, geração e versão), algumas
+ * dezenas de bytes por entrada; o objeto em si vive em memória direta, codificado pelo
+ * {@link BinaryRecordCodec}. O custo é desserializar a cada hit (~1-2 µs por cliente), em
+ * troca de ~8x mais entradas pelo mesmo orçamento de heap e de nenhuma pressão no GC.
+ *
+ * <ul>
+ *   <li>Limite e evicção: política do Caffeine, com o peso de cada entrada = tamanho do slot.
+ *       Como os slabs ficam presos a uma classe de tamanho ({@link OffHeapArena}), uma classe
+ *       pode esgotar com o peso total abaixo do limite; nesse caso a entrada mais fria da mesma
+ *       classe é removida para abrir o slot</li>
+ *   <li>Slots são liberados no {@code removalListener} (evicção, expiração, troca ou evict)</li>
+ *   <li>Version guard: as mesmas regras do {@link VersionGuardedCache}, comparando a versão
+ *       guardada no índice – sem desserializar o valor atual</li>
+ *   <li>Refresh-ahead: o {@link NamedCacheLoader} do cache é envolvido por um loader que
+ *       serializa o valor recarregado</li>
+ * </ul>
+ *
+ * {@link #getNativeCache()} devolve o índice, de modo que {@code /actuator/caches} e
+ * {@code /actuator/cachefootprint} enxergam as entradas (e o heap que de fato ocupam).
+ */
+public class OffHeapCache extends AbstractValueAdaptingCache implements VersionedEvict, MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(OffHeapCache.class);
+
+    private final String name;
+    private final OffHeapArena arena;
+    private final BinaryRecordCodec codec;
+    private final Cache<Object, OffHeapEntry> index;
+    private final Cache<Object, LocalDateTime> tombstones;
+    private final Policy.Eviction<Object, OffHeapEntry> eviction;
+
+    /**
+     * @param name            nome do cache
+     * @param builder         builder com TTL, refresh e estatísticas (sem limite nem weigher)
+     * @param loader          loader do cache (null se não houver)
+     * @param arena           memória off-heap exclusiva deste cache
+     * @param codec           codec dos valores
+     * @param tombstoneTtl    TTL dos tombstones do version guard (null = sem version guard)
+     * @param allowNullValues se {@code null} pode ser armazenado
+     */
+    public OffHeapCache(String name, Caffeine<Object, Object> builder, NamedCacheLoader loader,
+                        OffHeapArena arena, BinaryRecordCodec codec, Duration tombstoneTtl,
+                        boolean allowNullValues) {
+        super(allowNullValues);
+        this.name = name;
+        this.arena = arena;
+        this.codec = codec;
+        Caffeine<Object, OffHeapEntry> indexBuilder = builder
+                .maximumWeight(arena.capacityBytes())
+                .weigher((Object key, OffHeapEntry entry) -> entry.peso())
+                .removalListener((Object key, OffHeapEntry entry, RemovalCause cause) -> liberar(entry));
+        this.index = loader != null ? indexBuilder.build(new SerializingLoader(loader)) : indexBuilder.build();
+        this.eviction = index.policy().eviction().orElseThrow();
+        this.tombstones = tombstoneTtl == null ? null : Caffeine.newBuilder()
+                .expireAfterWrite(tombstoneTtl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Cache<Object, OffHeapEntry> getNativeCache() {
+        return index;
+    }
+
+    public OffHeapArena getArena() {
+        return arena;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        OffHeapEntry entry = index.getIfPresent(key);
+        return entry == null ? null : ler(entry);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object valor = lookup(key);
+        if (valor != null) {
+            return (T) fromStoreValue(valor);
+        }
+        Object[] carregado = new Object[1];
+        OffHeapEntry entry = index.get(key, k -> {
+            try {
+                carregado[0] = toStoreValue(valueLoader.call());
+            } catch (Exception e) {
+                throw new ValueRetrievalException(k, valueLoader, e);
+            }
+            // Dentro do compute não se remove outra chave: sem espaço, grava depois (abaixo)
+            return gravar(carregado[0], false);
+        });
+        if (carregado[0] != null) {
+            if (entry == null && carregado[0] != NullValue.INSTANCE) {
+                put(key, carregado[0]);
+            }
+            return (T) fromStoreValue(carregado[0]);
+        }
+        // Outra thread carregou a chave enquanto esta esperava
+        valor = entry == null ? null : ler(entry);
+        return valor != null ? (T) fromStoreValue(valor) : get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        OffHeapEntry novo = gravar(storeValue, true);
+        index.asMap().compute(key, (k, atual) -> {
+            if (isStale(k, atual, storeValue)) {
+                log.debug("Put descartado por versão antiga - Cache: {}, Chave: {}", name, k);
+                liberar(novo);
+                return atual;
+            }
+            return novo;
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        OffHeapEntry novo = gravar(storeValue, true);
+        OffHeapEntry[] existente = new OffHeapEntry[1];
+        index.asMap().compute(key, (k, atual) -> {
+            existente[0] = atual;
+            if (atual != null || isStale(k, null, storeValue)) {
+                liberar(novo);
+                return atual;
+            }
+            return novo;
+        });
+        return existente[0] == null ? null : toValueWrapper(ler(existente[0]));
+    }
+
+    @Override
+    public void evict(Object key) {
+        index.invalidate(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return index.asMap().remove(key) != null;
+    }
+
+    @Override
+    public void evict(Object key, LocalDateTime versao) {
+        if (versao == null || tombstones == null) {
+            evict(key);
+            return;
+        }
+        index.asMap().compute(key, (k, atual) -> {
+            tombstones.asMap().merge(k, versao, (a, b) -> a.isAfter(b) ? a : b);
+            return null;
+        });
+    }
+
+    @Override
+    public void clear() {
+        index.invalidateAll();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean tinhaEntradas = index.estimatedSize() > 0;
+        index.invalidateAll();
+        return tinhaEntradas;
+    }
+
+    /**
+     * Registra as métricas do índice ({@code cache.gets}, ...) e da memória off-heap
+     * ({@code cache.offheap.used}, {@code cache.offheap.reserved}, {@code cache.offheap.capacity}).
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, index, name, List.of());
+        Gauge.builder("cache.offheap.used", arena, OffHeapArena::usedBytes)
+                .description("Bytes off-heap ocupados por entradas do cache")
+                .baseUnit("bytes").tag("cache", name).register(registry);
+        Gauge.builder("cache.offheap.reserved", arena, OffHeapArena::reservedBytes)
+                .description("Bytes de memória direta alocados pelo cache")
+                .baseUnit("bytes").tag("cache", name).register(registry);
+        Gauge.builder("cache.offheap.capacity", arena, OffHeapArena::capacityBytes)
+                .description("Capacidade off-heap configurada para o cache")
+                .baseUnit("bytes").tag("cache", name).register(registry);
+    }
+
+    /**
+     * Serializa e copia o valor para um slot. Sem espaço (ou valor maior que um slab),
+     * devolve {@code null}: o compute remove a chave em vez de manter o valor anterior.
+     *
+     * @param liberarEspaco se pode remover a entrada mais fria da classe do slot quando a classe
+     *                      esgotou; {@code false} dentro de um compute do índice
+     */
+    private OffHeapEntry gravar(Object storeValue, boolean liberarEspaco) {
+        if (storeValue == NullValue.INSTANCE) {
+            return OffHeapEntry.NULO;
+        }
+        byte[] bytes = codec.encode(storeValue);
+        long handle = arena.allocate(bytes.length);
+        if (handle == OffHeapArena.SEM_ESPACO && liberarEspaco && liberarSlot(bytes.length)) {
+            handle = arena.allocate(bytes.length);
+        }
+        if (handle == OffHeapArena.SEM_ESPACO) {
+            log.debug("Sem espaço off-heap - Cache: {}, Bytes: {}, Em uso: {}", name, bytes.length, arena.usedBytes());
+            return null;
+        }
+        arena.write(handle, bytes);
+        LocalDateTime versao = storeValue instanceof VersionedResponse versionado ? versionado.dataAtualizacao() : null;
+        return new OffHeapEntry(handle, bytes.length, arena.generation(handle), versao);
+    }
+
+    /**
+     * Remove a entrada mais fria (na ordem de evicção do Caffeine) cujo slot é da mesma classe
+     * de {@code length} bytes e devolve o slot à arena. O free feito depois pelo
+     * {@code removalListener} é ignorado (geração antiga).
+     *
+     * @return se um slot da classe foi liberado
+     */
+    private boolean liberarSlot(int length) {
+        if (!arena.temSlab(length)) {
+            return false;
+        }
+        int slot = OffHeapArena.slotSize(length);
+        Optional<Policy.CacheEntry<Object, OffHeapEntry>> vitima = eviction.coldest(entradas -> entradas
+                .filter(entrada -> !entrada.getValue().isNulo() && entrada.getValue().peso() == slot)
+                .findFirst());
+        if (vitima.isEmpty() || !index.asMap().remove(vitima.get().getKey(), vitima.get().getValue())) {
+            return false;
+        }
+        liberar(vitima.get().getValue());
+        log.debug("Entrada removida para abrir slot off-heap - Cache: {}, Slot: {} bytes", name, slot);
+        return true;
+    }
+
+    private Object ler(OffHeapEntry entry) {
+        if (entry.isNulo()) {
+            return NullValue.INSTANCE;
+        }
+        byte[] bytes = arena.read(entry.handle(), entry.length(), entry.generation());
+        return bytes == null ? null : codec.decode(bytes);
+    }
+
+    private void liberar(OffHeapEntry entry) {
+        if (entry != null && !entry.isNulo()) {
+            arena.free(entry.handle(), entry.generation());
+        }
+    }
+
+    private boolean isStale(Object key, OffHeapEntry atual, Object novo) {
+        if (tombstones == null || !(novo instanceof VersionedResponse versionado)
+                || versionado.dataAtualizacao() == null) {
+            return false;
+        }
+        LocalDateTime versao = versionado.dataAtualizacao();
+
+        LocalDateTime tombstone = tombstones.getIfPresent(key);
+        if (tombstone != null && versao.isBefore(tombstone)) {
+            return true;
+        }
+        return atual != null && atual.versao() != null && versao.isBefore(atual.versao());
+    }
+
+    /**
+     * Entrada do índice: onde o valor está na arena e a versão do cliente serializado.
+     */
+    public record OffHeapEntry(long handle, int length, int generation, LocalDateTime versao) {
+
+        static final OffHeapEntry NULO = new OffHeapEntry(OffHeapArena.SEM_ESPACO, 0, 0, null);
+
+        boolean isNulo() {
+            return handle == OffHeapArena.SEM_ESPACO;
+        }
+
+        int peso() {
+            return isNulo() ? 1 : OffHeapArena.slotSize(length);
+        }
+    }
+
+    /**
+     * Adapta o {@link NamedCacheLoader} (que trabalha com objetos) ao índice (que guarda slots).
+     * O reload do refresh roda no executor, fora de um compute, e pode liberar espaço; o load
+     * não (pode rodar dentro do compute da chave).
+     */
+    private final class SerializingLoader implements CacheLoader<Object, OffHeapEntry> {
+
+        private final NamedCacheLoader delegate;
+
+        SerializingLoader(NamedCacheLoader delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public OffHeapEntry load(Object key) throws Exception {
+            Object valor = delegate.load(key);
+            return valor == null ? null : gravar(valor, false);
+        }
+
+        @Override
+        public OffHeapEntry reload(Object key, OffHeapEntry oldValue) throws Exception {
+            Object anterior = ler(oldValue);
+            Object valor = delegate.reload(key, anterior == NullValue.INSTANCE ? null : anterior);
+            return valor == null ? null : gravar(valor, true);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * {@link CacheInvalidationBus} sobre LISTEN/NOTIFY do PostgreSQL – sem infraestrutura extra.
+ *
+ * <ul>
+ *   <li><b>Publicação:</b> {@code SELECT pg_notify(canal, json)}. Dentro de uma transação,
+ *       na própria conexão da transação: o writer ({@link ClienteCacheAdapter}) publica no
+ *       {@code beforeCommit} e o PostgreSQL entrega o NOTIFY atomicamente no commit – nunca
+ *       em rollback, sem conexão extra do pool e sem janela entre commit e publicação.
+ *       Fora de transação, em uma conexão do pool em auto-commit.</li>
+ *   <li><b>Assinatura:</b> conexão dedicada, fora do pool (um LISTEN morre com a sessão),
+ *       consultada por uma thread daemon. Em caso de queda, reconecta com backoff.</li>
+ * </ul>
+ *
+ * Notificações emitidas enquanto a conexão de LISTEN está fora são perdidas: o TTL do L1
+ * limita o tempo de dado velho. O payload do NOTIFY é limitado a 8000 bytes; as mensagens
+ * de invalidação têm poucas centenas.
+ */
+public class PostgresCacheInvalidationBus implements CacheInvalidationBus, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresCacheInvalidationBus.class);
+
+    private static final Pattern CANAL_VALIDO = Pattern.compile("[A-Za-z0-9_:.\\-]{1,63}");
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final Duration BACKOFF_MAXIMO = Duration.ofSeconds(30);
+
+    /**
+     * Abre a conexão dedicada de LISTEN (fora do pool).
+     */
+    @FunctionalInterface
+    public interface ConnectionFactory {
+        Connection connect() throws SQLException;
+    }
+
+    private final DataSource dataSource;
+    private final ConnectionFactory listenConnectionFactory;
+    private final String channel;
+    private final ObjectMapper objectMapper;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread listenerThread;
+    private volatile boolean running = true;
+    private volatile Connection listenConnection;
+
+    public PostgresCacheInvalidationBus(DataSource dataSource, ConnectionFactory listenConnectionFactory,
+                                        String channel, ObjectMapper objectMapper) {
+        if (!CANAL_VALIDO.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Canal LISTEN/NOTIFY inválido: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.listenConnectionFactory = listenConnectionFactory;
+        this.channel = channel;
+        this.objectMapper = objectMapper;
+        this.listenerThread = Thread.ofPlatform()
+                .name("cache-invalidation-listen")
+                .daemon()
+                .start(this::escutar);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            publicarNaTransacao(invalidation);
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            notificar(connection, invalidation);
+        } catch (SQLException | JsonProcessingException e) {
+            log.warn("Falha ao publicar invalidação de cache via NOTIFY: {}", invalidation, e);
+        }
+    }
+
+    /**
+     * O NOTIFY entra na transação corrente: entregue no commit, descartado no rollback.
+     */
+    @Override
+    public boolean transacional() {
+        return true;
+    }
+
+    private void publicarNaTransacao(CacheInvalidation invalidation) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            notificar(connection, invalidation);
+        } catch (SQLException | JsonProcessingException e) {
+            log.warn("Falha ao publicar invalidação de cache via NOTIFY: {}", invalidation, e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void notificar(Connection connection, CacheInvalidation invalidation)
+            throws SQLException, JsonProcessingException {
+        try (PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            notify.setString(1, channel);
+            notify.setString(2, objectMapper.writeValueAsString(invalidation));
+            notify.execute();
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    private void escutar() {
+        Duration backoff = Duration.ofSeconds(1);
+        while (running) {
+            try (Connection connection = listenConnectionFactory.connect()) {
+                listenConnection = connection;
+                try (Statement listen = connection.createStatement()) {
+                    listen.execute("LISTEN \"" + channel + "\"");
+                }
+                log.info("LISTEN ativo para invalidações de cache - Canal: {}", channel);
+                backoff = Duration.ofSeconds(1);
+
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notificacoes = pg.getNotifications(POLL_TIMEOUT_MS);
+                    if (notificacoes != null) {
+                        for (PGNotification notificacao : notificacoes) {
+                            receber(notificacao.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Conexão LISTEN perdida - reconectando em {}s", backoff.toSeconds(), e);
+                dormir(backoff);
+                backoff = backoff.multipliedBy(2).compareTo(BACKOFF_MAXIMO) > 0
+                        ? BACKOFF_MAXIMO : backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    private void receber(String payload) {
+        try {
+            CacheInvalidation invalidation = objectMapper.readValue(payload, CacheInvalidation.class);
+            listeners.forEach(listener -> listener.accept(invalidation));
+        } catch (Exception e) {
+            log.warn("Invalidação de cache ignorada - Payload: {}", payload, e);
+        }
+    }
+
+    private void dormir(Duration duracao) {
+        try {
+            Thread.sleep(duracao);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        listenerThread.interrupt();
+        Connection connection = listenConnection;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Falha ao fechar conexão LISTEN", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * {@link CacheInvalidationBus} sobre Redis Pub/Sub.
+ *
+ * <p>Mensagens trafegam como JSON em um canal único. A assinatura usa uma conexão dedicada
+ * (uma conexão em modo subscribe não aceita outros comandos); o Lettuce reassina o canal
+ * automaticamente após reconexão. Mensagens publicadas enquanto uma instância está
+ * desconectada são perdidas – o TTL do L1 limita o tempo de dado velho nesse caso.
+ */
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+
+    private final String channel;
+    private final ObjectMapper objectMapper;
+    private final StatefulRedisConnection<String, String> publishConnection;
+    private final StatefulRedisPubSubConnection<String, String> subscribeConnection;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public RedisCacheInvalidationBus(RedisClient client, String channel, ObjectMapper objectMapper) {
+        this.channel = channel;
+        this.objectMapper = objectMapper;
+        this.publishConnection = client.connect();
+        this.subscribeConnection = client.connectPubSub();
+        this.subscribeConnection.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String canal, String mensagem) {
+                receber(mensagem);
+            }
+        });
+        this.subscribeConnection.sync().subscribe(channel);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            publishConnection.async().publish(channel, objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException e) {
+            log.warn("Falha ao serializar invalidação de cache: {}", invalidation, e);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    private void receber(String mensagem) {
+        try {
+            CacheInvalidation invalidation = objectMapper.readValue(mensagem, CacheInvalidation.class);
+            listeners.forEach(listener -> listener.accept(invalidation));
+        } catch (Exception e) {
+            log.warn("Invalidação de cache ignorada - Mensagem: {}", mensagem, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        subscribeConnection.close();
+        publishConnection.close();
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+
+import java.time.Duration;
+
+/**
+ * {@link SharedCacheStore} sobre Redis (protocolo RESP, cliente Lettuce).
+ *
+ * <p>Uma única conexão thread-safe é compartilhada por todas as threads (Lettuce multiplexa
+ * os comandos). TTL via {@code PSETEX} ({@code SET NX PX} no putIfAbsent); o clear de um cache usa {@code SCAN} + {@code DEL}
+ * por prefixo, sem {@code KEYS} nem {@code FLUSHDB}.
+ */
+public class RedisSharedCacheStore implements SharedCacheStore, AutoCloseable {
+
+    private static final int SCAN_BATCH = 500;
+
+    private final StatefulRedisConnection<String, byte[]> connection;
+    private final RedisCommands<String, byte[]> commands;
+
+    public RedisSharedCacheStore(RedisClient client) {
+        this.connection = client.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        this.commands = connection.sync();
+    }
+
+    @Override
+    public byte[] get(String key) {
+        return commands.get(key);
+    }
+
+    @Override
+    public void put(String key, byte[] value, Duration ttl) {
+        commands.psetex(key, ttl.toMillis(), value);
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, byte[] value, Duration ttl) {
+        return "OK".equals(commands.set(key, value, SetArgs.Builder.nx().px(ttl.toMillis())));
+    }
+
+    @Override
+    public void evict(String key) {
+        commands.del(key);
+    }
+
+    @Override
+    public void evictByPrefix(String prefix) {
+        ScanArgs args = ScanArgs.Builder.matches(prefix + "*").limit(SCAN_BATCH);
+        ScanCursor cursor = ScanCursor.INITIAL;
+        do {
+            KeyScanCursor<String> pagina = commands.scan(cursor, args);
+            if (!pagina.getKeys().isEmpty()) {
+                commands.del(pagina.getKeys().toArray(String[]::new));
+            }
+            cursor = pagina;
+        } while (!cursor.isFinished());
+    }
+
+    @Override
+    public void close() {
+        connection.close();
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.VersionedResponse;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Response já serializado em JSON, pronto para ser escrito no corpo HTTP.
+ *
+ * @param json            JSON renderizado pelo {@code ObjectMapper} da aplicação
+ * @param gzip            mesmo JSON comprimido com gzip (null se pequeno demais ou desligado)
+ * @param dataAtualizacao versão do cliente renderizado
+ */
+public record RenderedJson(
+        byte[] json,
+        byte[] gzip,
+        LocalDateTime dataAtualizacao
+) implements VersionedResponse, Serializable {
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.VersionedResponse;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.RenderedJsonProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache do JSON (e do gzip) dos clientes servidos pelo findById.
+ *
+ * <p>Num hit de {@code clientes:findById} o custo dominante passa a ser o Jackson percorrendo
+ * o agregado inteiro. Aqui os bytes renderizados ficam em {@code clientes:findById:json}, na
+ * mesma chave ({@code publicId}), e o controller os escreve direto na resposta.
+ *
+ * <p>Consistência: os bytes só são reaproveitados se foram renderizados a partir da mesma
+ * versão ({@code dataAtualizacao}) do response devolvido pelo use case – o cache de records
+ * continua sendo a fonte da verdade. Além disso o {@link ClienteCacheAdapter} invalida as
+ * duas entradas juntas, nos mesmos pontos de escrita.
+ */
+@Component
+public class RenderedJsonCache {
+
+    static final String RENDERED_JSON = "clientes:findById:json";
+
+    private final CacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+    private final RenderedJsonProperties properties;
+
+    public RenderedJsonCache(CacheManager cacheManager, ObjectMapper objectMapper,
+                             RenderedJsonProperties properties) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Devolve o JSON de {@code response}, renderizando (e guardando) só se não houver em cache
+     * uma renderização da mesma versão.
+     */
+    public RenderedJson render(Object key, VersionedResponse response) {
+        Cache cache = properties.enabled() ? cacheManager.getCache(RENDERED_JSON) : null;
+        if (cache == null || response.dataAtualizacao() == null) {
+            return renderizar(response);
+        }
+        RenderedJson emCache = cache.get(key, RenderedJson.class);
+        if (emCache != null && response.dataAtualizacao().equals(emCache.dataAtualizacao())) {
+            return emCache;
+        }
+        RenderedJson renderizado = renderizar(response);
+        cache.put(key, renderizado);
+        return renderizado;
+    }
+
+    private RenderedJson renderizar(VersionedResponse response) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar response em JSON", e);
+        }
+        return new RenderedJson(json, comprimir(json), response.dataAtualizacao());
+    }
+
+    private byte[] comprimir(byte[] json) {
+        if (!properties.gzip() || json.length < properties.gzipMinSize().toBytes()) {
+            return null;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao comprimir JSON", e);
+        }
+        return bytes.size() < json.length ? bytes.toByteArray() : null;
+    }
+}
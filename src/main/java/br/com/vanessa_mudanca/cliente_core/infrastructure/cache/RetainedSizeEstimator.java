@@ -0,0 +1,158 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Estimativa de bytes retidos no heap por um valor de cache (objeto + tudo que só ele referencia).
+ *
+ * <p>Percorre records recursivamente (ex.: {@code ClientePFResponse} → listas de
+ * {@code DocumentoResponse}/{@code ContatoResponse}/{@code EnderecoResponse}) e soma o tamanho
+ * raso de cada objeto segundo o layout da HotSpot 64 bits com compressed oops:
+ * cabeçalho de 12 bytes, referências de 4 bytes, alinhamento em 8.
+ *
+ * <ul>
+ *   <li>Strings compactas (LATIN1, o caso do português): 24 bytes + array de {@code 16 + n}</li>
+ *   <li>Enums e {@code Boolean} são instâncias compartilhadas: 0 bytes</li>
+ *   <li>{@code LocalDateTime} = objeto + {@code LocalDate} + {@code LocalTime}</li>
+ * </ul>
+ *
+ * É uma estimativa (±20% contra medição com JOL), não uma medição: o objetivo é que um cliente PJ
+ * com 30 documentos pese proporcionalmente mais que um PF com um endereço.
+ */
+public final class RetainedSizeEstimator {
+
+    static final int HEADER = 12;
+    static final int REFERENCE = 4;
+    static final int ARRAY_HEADER = 16;
+    private static final int MAX_DEPTH = 16;
+
+    private static final ClassValue<RecordLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected RecordLayout computeValue(Class<?> type) {
+            return RecordLayout.of(type);
+        }
+    };
+
+    private RetainedSizeEstimator() {
+    }
+
+    /**
+     * Bytes retidos estimados por {@code value}.
+     */
+    public static long estimate(Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(Object value, int depth) {
+        if (value == null || value instanceof Enum<?> || value instanceof Boolean || depth > MAX_DEPTH) {
+            return 0;
+        }
+        return switch (value) {
+            case String s -> 24 + align(ARRAY_HEADER + s.length());
+            case Long ignored -> 24;
+            case Double ignored -> 24;
+            case BigDecimal d -> 40 + (d.precision() > 18 ? estimate(d.unscaledValue(), depth + 1) : 0);
+            case BigInteger i -> 40 + align(ARRAY_HEADER + 4L * Math.max(1, (i.bitLength() + 31) / 32));
+            case LocalDate ignored -> 24;
+            case LocalTime ignored -> 24;
+            case LocalDateTime ignored -> 24 + 24 + 24;
+            case Instant ignored -> 24;
+            case UUID ignored -> 32;
+            case Integer ignored -> 16;
+            case Short ignored -> 16;
+            case Float ignored -> 16;
+            case byte[] bytes -> align(ARRAY_HEADER + bytes.length);
+            case Collection<?> c -> estimateCollection(c, depth);
+            case Map<?, ?> m -> estimateMap(m, depth);
+            case Record r -> LAYOUTS.get(r.getClass()).estimate(r, depth);
+            default -> align(HEADER + REFERENCE);
+        };
+    }
+
+    private static long estimateCollection(Collection<?> collection, int depth) {
+        long total = align(HEADER + 4 + 4 + REFERENCE) + align(ARRAY_HEADER + (long) REFERENCE * collection.size());
+        for (Object element : collection) {
+            total += estimate(element, depth + 1);
+        }
+        return total;
+    }
+
+    private static long estimateMap(Map<?, ?> map, int depth) {
+        // HashMap: objeto + tabela + um nó (hash, key, value, next) por entrada
+        long total = 48 + align(ARRAY_HEADER + (long) REFERENCE * Integer.highestOneBit(Math.max(1, map.size()) * 2))
+                + 32L * map.size();
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            total += estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+        }
+        return total;
+    }
+
+    static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * Tamanho raso e acessores de um tipo record, calculados uma vez por classe.
+     */
+    private record RecordLayout(long shallowSize, MethodHandle[] referenceAccessors) {
+
+        static RecordLayout of(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            long fields = 0;
+            List<MethodHandle> referencias = new ArrayList<>();
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            for (RecordComponent component : components) {
+                Class<?> tipo = component.getType();
+                if (tipo.isPrimitive()) {
+                    fields += primitiveSize(tipo);
+                    continue;
+                }
+                fields += REFERENCE;
+                try {
+                    referencias.add(lookup.unreflect(component.getAccessor()));
+                } catch (IllegalAccessException e) {
+                    // record não público: só o tamanho raso é contado
+                }
+            }
+            return new RecordLayout(align(HEADER + fields), referencias.toArray(MethodHandle[]::new));
+        }
+
+        long estimate(Record record, int depth) {
+            long total = shallowSize;
+            for (MethodHandle accessor : referenceAccessors) {
+                try {
+                    total += RetainedSizeEstimator.estimate(accessor.invoke(record), depth + 1);
+                } catch (Throwable e) {
+                    // acessor de record não lança exceção; ignora o componente por segurança
+                }
+            }
+            return total;
+        }
+
+        private static int primitiveSize(Class<?> tipo) {
+            if (tipo == long.class || tipo == double.class) {
+                return 8;
+            }
+            if (tipo == int.class || tipo == float.class) {
+                return 4;
+            }
+            if (tipo == short.class || tipo == char.class) {
+                return 2;
+            }
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.time.Duration;
+
+/**
+ * Armazenamento compartilhado entre instâncias (L2 do {@link TwoTierCache}).
+ *
+ * Chaves já chegam qualificadas pelo nome do cache; valores são bytes serializados
+ * por {@link CacheValueSerializer}.
+ */
+public interface SharedCacheStore {
+
+    byte[] get(String key);
+
+    void put(String key, byte[] value, Duration ttl);
+
+    /**
+     * Grava só se a chave não existir, numa única operação atômica no store.
+     *
+     * @return true se o valor foi gravado; false se a chave já tinha valor
+     */
+    boolean putIfAbsent(String key, byte[] value, Duration ttl);
+
+    void evict(String key);
+
+    /**
+     * Remove todas as chaves com o prefixo informado (clear de um cache nomeado).
+     */
+    void evictByPrefix(String prefix);
+}
@@ -0,0 +1,38 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.util.UUID;
+
+/**
+ * Nível compartilhado (L2) do cache de uma instância: store, barramento de invalidação
+ * e a identidade da instância nas mensagens publicadas.
+ *
+ * @param store      armazenamento compartilhado entre instâncias; {@code null} quando só as
+ *                   invalidações são compartilhadas ({@link #invalidationOnly})
+ * @param bus        canal pub/sub de invalidações
+ * @param instanceId origem das mensagens desta instância (mensagens próprias são ignoradas)
+ */
+public record SharedCacheTier(SharedCacheStore store, CacheInvalidationBus bus, String instanceId) {
+
+    public SharedCacheTier(SharedCacheStore store, CacheInvalidationBus bus) {
+        this(store, bus, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Sem L2: cada instância mantém só o Caffeine local e o barramento apenas propaga
+     * as invalidações (ex.: LISTEN/NOTIFY do PostgreSQL).
+     */
+    public static SharedCacheTier invalidationOnly(CacheInvalidationBus bus) {
+        return new SharedCacheTier(null, bus);
+    }
+
+    public boolean hasStore() {
+        return store != null;
+    }
+
+    /**
+     * Indica se a mensagem foi publicada por outra instância.
+     */
+    public boolean isRemota(CacheInvalidation invalidation) {
+        return !instanceId.equals(invalidation.origem());
+    }
+}
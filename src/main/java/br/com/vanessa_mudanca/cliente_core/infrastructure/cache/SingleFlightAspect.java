@@ -0,0 +1,111 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.cache.SingleFlight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.Order;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Aspect que implementa o single-flight de {@link SingleFlight}.
+ *
+ * A primeira chamada para uma chave (líder) executa o método; chamadas concorrentes com a
+ * mesma chave aguardam o {@link CompletableFuture} do líder. Ao terminar, a chave sai do
+ * mapa de cargas em andamento.
+ *
+ * Métricas (tag {@code name}):
+ * - cache.singleflight.leaders: cargas efetivamente executadas
+ * - cache.singleflight.coalesced: chamadas que aguardaram a carga de outro
+ * - cache.singleflight.inflight: cargas em andamento (gauge)
+ *
+ * Ordem: {@code HIGHEST_PRECEDENCE + 10}, logo após o interceptor de cache
+ * ({@code @EnableCaching(order = HIGHEST_PRECEDENCE + 1)}) e antes do {@code @Transactional}.
+ *
+ * @see SingleFlight
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SingleFlightAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(SingleFlightAspect.class);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Expression> expressions = new ConcurrentHashMap<>();
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNames = new DefaultParameterNameDiscoverer();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        meterRegistry.gauge("cache.singleflight.inflight", inFlight, ConcurrentMap::size);
+    }
+
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        String key = singleFlight.name() + "|" + evaluateKey(joinPoint, singleFlight.key());
+
+        CompletableFuture<Object> carga = new CompletableFuture<>();
+        CompletableFuture<Object> emAndamento = inFlight.putIfAbsent(key, carga);
+
+        if (emAndamento != null) {
+            counter("cache.singleflight.coalesced", singleFlight.name()).increment();
+            log.debug("Single-flight: aguardando carga em andamento - Nome: {}", singleFlight.name());
+            return await(emAndamento);
+        }
+
+        counter("cache.singleflight.leaders", singleFlight.name()).increment();
+        try {
+            Object result = joinPoint.proceed();
+            carga.complete(result);
+            return result;
+        } catch (Throwable e) {
+            carga.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, carga);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> carga) throws Throwable {
+        try {
+            return carga.join();
+        } catch (CompletionException e) {
+            throw e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    private String evaluateKey(ProceedingJoinPoint joinPoint, String keyExpression) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                null, method, joinPoint.getArgs(), parameterNames);
+        Expression expression = expressions.computeIfAbsent(keyExpression, parser::parseExpression);
+        return String.valueOf(expression.getValue(context));
+    }
+
+    private Counter counter(String metric, String name) {
+        return Counter.builder(metric)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+}
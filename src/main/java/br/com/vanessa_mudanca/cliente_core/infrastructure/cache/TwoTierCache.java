@@ -0,0 +1,285 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache em dois níveis: Caffeine local (L1) na frente de um {@link SharedCacheStore} (L2).
+ *
+ * <ul>
+ *   <li>{@link #get}: L1 → L2 → miss. Um hit no L2 repopula o L1.</li>
+ *   <li>{@link #put}: grava no L1 e, se o L1 aceitou (ver {@link VersionGuardedCache}), no L2</li>
+ *   <li>{@link #evict}/{@link #clear}: removem dos dois níveis e publicam a invalidação no
+ *       {@link CacheInvalidationBus} para que as demais instâncias limpem seus L1</li>
+ * </ul>
+ *
+ * Falhas no L2 (ex.: Redis fora do ar) são logadas e tratadas como miss: o serviço continua
+ * funcionando só com o L1 e o banco. Sem store ({@link SharedCacheTier#invalidationOnly}),
+ * o cache é só o L1 e apenas as invalidações são propagadas.
+ *
+ * <p>Métrica {@code cache.tier.gets} (tags {@code cache}, {@code tier}=l1|l2,
+ * {@code result}=hit|miss) permite calcular o hit ratio de cada nível.
+ */
+public class TwoTierCache implements Cache, VersionedEvict {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+
+    static final String KEY_PREFIX = "cliente-core:";
+
+    private final Cache l1;
+    private final SharedCacheTier tier;
+    private final Duration ttl;
+    private final CacheValueSerializer serializer;
+    private final String prefixo;
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    public TwoTierCache(Cache l1, SharedCacheTier tier, Duration ttl,
+                        CacheValueSerializer serializer, MeterRegistry meterRegistry) {
+        this.l1 = l1;
+        this.tier = tier;
+        this.ttl = ttl;
+        this.serializer = serializer;
+        this.prefixo = KEY_PREFIX + l1.getName() + "::";
+        this.l1Hits = counter(meterRegistry, "l1", "hit");
+        this.l1Misses = counter(meterRegistry, "l1", "miss");
+        this.l2Hits = counter(meterRegistry, "l2", "hit");
+        this.l2Misses = counter(meterRegistry, "l2", "miss");
+    }
+
+    @Override
+    public String getName() {
+        return l1.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l1.getNativeCache();
+    }
+
+    /**
+     * Cache local (L1) desta instância.
+     */
+    public Cache getLocalCache() {
+        return l1;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper local = l1.get(key);
+        if (local != null) {
+            l1Hits.increment();
+            return local;
+        }
+        l1Misses.increment();
+        if (!tier.hasStore()) {
+            return null;
+        }
+
+        Object remoto = lerL2(key);
+        if (remoto == null) {
+            l2Misses.increment();
+            return null;
+        }
+        if (!gravarNoL1(key, remoto)) {
+            // L1 rejeitou por versão antiga: a cópia do L2 é anterior a uma invalidação
+            log.debug("Valor do L2 descartado por versão antiga - Cache: {}, Chave: {}", getName(), key);
+            evictL2(key);
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+        return new SimpleValueWrapper(remoto);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Valor em cache não é do tipo [%s]: %s".formatted(type.getName(), value));
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (gravarNoL1(key, value) && value != null && tier.hasStore()) {
+            gravarNoL2(key, value);
+        }
+    }
+
+    /**
+     * Atômico em cada nível: {@code SET NX} no L2 e {@code putIfAbsent} no L1. Se outra
+     * instância gravou antes no L2, o valor dela vence e é o que fica no L1.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null || !tier.hasStore()) {
+            return l1.putIfAbsent(key, value);
+        }
+        ValueWrapper local = l1.get(key);
+        if (local != null) {
+            return local;
+        }
+
+        Object remoto = gravarNoL2SeAusente(key, value);
+        Object vencedor = remoto != null ? remoto : value;
+        ValueWrapper existente = l1.putIfAbsent(key, vencedor);
+        if (existente != null) {
+            return existente;
+        }
+        if (!aceitoNoL1(key, vencedor)) {
+            // L1 rejeitou por versão antiga: o valor não pode sobreviver no L2
+            evictL2(key);
+            return null;
+        }
+        return remoto != null ? new SimpleValueWrapper(remoto) : null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        evict(key, null);
+    }
+
+    @Override
+    public void evict(Object key, LocalDateTime versao) {
+        evictLocal(key, versao);
+        evictL2(key);
+        tier.bus().publish(CacheInvalidation.evict(tier.instanceId(), getName(), key.toString(), versao));
+    }
+
+    @Override
+    public void clear() {
+        l1.clear();
+        if (tier.hasStore()) {
+            try {
+                tier.store().evictByPrefix(prefixo);
+            } catch (RuntimeException e) {
+                log.warn("Falha ao limpar L2 - Cache: {}", getName(), e);
+            }
+        }
+        tier.bus().publish(CacheInvalidation.clear(tier.instanceId(), getName()));
+    }
+
+    /**
+     * Aplica uma invalidação publicada por outra instância (somente L1: o L2 já foi
+     * limpo pelo publicador).
+     */
+    void aplicarRemota(CacheInvalidation invalidation) {
+        switch (invalidation.tipo()) {
+            case EVICT -> evictLocal(invalidation.key(), invalidation.versao());
+            case CLEAR -> l1.clear();
+            default -> { }
+        }
+    }
+
+    private void evictLocal(Object key, LocalDateTime versao) {
+        if (l1 instanceof VersionedEvict versionado) {
+            versionado.evict(key, versao);
+        } else {
+            l1.evict(key);
+        }
+    }
+
+    /**
+     * Grava no L1 e indica se o valor foi aceito (um {@link VersionGuardedCache} descarta
+     * versões antigas). A leitura via {@code asMap()} não conta nas estatísticas do Caffeine.
+     */
+    private boolean gravarNoL1(Object key, Object value) {
+        l1.put(key, value);
+        return aceitoNoL1(key, value);
+    }
+
+    private boolean aceitoNoL1(Object key, Object value) {
+        if (value != null && l1 instanceof CaffeineCache caffeine) {
+            return caffeine.getNativeCache().asMap().get(key) == value;
+        }
+        return true;
+    }
+
+    private Object lerL2(Object key) {
+        try {
+            byte[] bytes = tier.store().get(prefixo + key);
+            return bytes != null ? serializer.deserialize(bytes) : null;
+        } catch (RuntimeException e) {
+            log.warn("Falha ao ler L2 - Cache: {}, Chave: {}", getName(), key, e);
+            return null;
+        }
+    }
+
+    private void gravarNoL2(Object key, Object value) {
+        try {
+            tier.store().put(prefixo + key, serializer.serialize(value), ttl);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar L2 - Cache: {}, Chave: {}", getName(), key, e);
+        }
+    }
+
+    /**
+     * Grava no L2 só se a chave estiver livre e devolve o valor que já estava lá
+     * (null quando este valor foi gravado ou o L2 falhou).
+     */
+    private Object gravarNoL2SeAusente(Object key, Object value) {
+        try {
+            if (tier.store().putIfAbsent(prefixo + key, serializer.serialize(value), ttl)) {
+                return null;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar L2 - Cache: {}, Chave: {}", getName(), key, e);
+            return null;
+        }
+        return lerL2(key);
+    }
+
+    private void evictL2(Object key) {
+        if (!tier.hasStore()) {
+            return;
+        }
+        try {
+            tier.store().evict(prefixo + key);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao remover do L2 - Cache: {}, Chave: {}", getName(), key, e);
+        }
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String nivel, String resultado) {
+        return Counter.builder("cache.tier.gets")
+                .description("Leituras do cache em dois níveis por nível e resultado")
+                .tag("cache", l1.getName())
+                .tag("tier", nivel)
+                .tag("result", resultado)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * {@link CacheManager} que envolve cada cache do manager local (Caffeine) em um
+ * {@link TwoTierCache} e aplica as invalidações publicadas pelas demais instâncias.
+ *
+ * <p>As anotações ({@code @Cacheable}, {@code @CacheNotFound}, ...) continuam as mesmas:
+ * o nível compartilhado é transparente para os services.
+ *
+ * <p>Mensagens remotas alimentam o timer {@code cache.invalidation.lag} (tag {@code tipo}):
+ * tempo entre a publicação e a aplicação nesta instância. Depende dos relógios das
+ * instâncias estarem sincronizados (NTP).
+ *
+ * <p>Como o registrar de métricas do Spring Boot só reconhece {@code CaffeineCache}, as
+ * estatísticas do L1 ({@code cache.gets}, {@code cache.evictions}, ...) são registradas aqui.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final SharedCacheTier tier;
+    private final Function<String, Duration> ttlPorCache;
+    private final MeterRegistry meterRegistry;
+    private final CacheValueSerializer serializer = new CacheValueSerializer();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param localCacheManager manager dos caches L1
+     * @param tier              nível compartilhado (store + barramento)
+     * @param ttlPorCache       TTL das entradas no L2 por nome de cache
+     * @param meterRegistry     registro das métricas por nível
+     */
+    public TwoTierCacheManager(CacheManager localCacheManager, SharedCacheTier tier,
+                               Function<String, Duration> ttlPorCache, MeterRegistry meterRegistry) {
+        this.localCacheManager = localCacheManager;
+        this.tier = tier;
+        this.ttlPorCache = ttlPorCache;
+        this.meterRegistry = meterRegistry;
+        tier.bus().subscribe(this::aoReceber);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::criar);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    private TwoTierCache criar(String name) {
+        Cache local = localCacheManager.getCache(name);
+        if (local == null) {
+            return null;
+        }
+        if (local instanceof CaffeineCache caffeine) {
+            CaffeineCacheMetrics.monitor(meterRegistry, caffeine.getNativeCache(), name, List.of());
+        }
+        return new TwoTierCache(local, tier, ttlPorCache.apply(name), serializer, meterRegistry);
+    }
+
+    private void aoReceber(CacheInvalidation invalidation) {
+        if (!tier.isRemota(invalidation)) {
+            return;
+        }
+        registrarAtraso(invalidation);
+        if (invalidation.tipo() == CacheInvalidation.Tipo.GENERATION) {
+            return;
+        }
+        TwoTierCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            cache.aplicarRemota(invalidation);
+        }
+    }
+
+    private void registrarAtraso(CacheInvalidation invalidation) {
+        if (invalidation.publicadoEm() == null) {
+            return;
+        }
+        Duration atraso = Duration.between(invalidation.publicadoEm(), Instant.now());
+        Timer.builder("cache.invalidation.lag")
+                .description("Tempo entre a publicação de uma invalidação e sua aplicação nesta instância")
+                .tag("tipo", invalidation.tipo().name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(atraso.isNegative() ? Duration.ZERO : atraso);
+    }
+}
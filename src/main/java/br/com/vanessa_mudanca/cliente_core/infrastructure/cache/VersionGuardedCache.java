@@ -0,0 +1,98 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.VersionedResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * {@link CaffeineCache} que nunca deixa uma versão antiga sobrescrever uma mais nova.
+ *
+ * <p>Cenário protegido: um leitor carrega o cliente antes do commit de um update, o writer
+ * commita e invalida a chave, e só então o leitor grava o valor antigo no cache – que ficaria
+ * servindo dados velhos até o TTL.
+ *
+ * <ul>
+ *   <li>{@link #evict(Object, LocalDateTime)}: remove a entrada e grava um <i>tombstone</i>
+ *       com a versão ({@code dataAtualizacao}) do write</li>
+ *   <li>{@link #put}: valores {@link VersionedResponse} mais antigos que o tombstone ou que a
+ *       entrada atual são descartados</li>
+ * </ul>
+ *
+ * Checagem e gravação acontecem dentro de {@code asMap().compute}, atômico por chave, então
+ * um evict versionado e um put concorrente nunca se intercalam. Os tombstones vivem pelo
+ * mesmo TTL do cache: depois disso qualquer entrada antiga já teria expirado.
+ *
+ * Como estende {@link CaffeineCache}, as métricas Micrometer do cache continuam registradas.
+ */
+public class VersionGuardedCache extends CaffeineCache implements VersionedEvict {
+
+    private static final Logger log = LoggerFactory.getLogger(VersionGuardedCache.class);
+
+    private final Cache<Object, LocalDateTime> tombstones;
+
+    public VersionGuardedCache(String name, Cache<Object, Object> cache, Duration tombstoneTtl,
+                               boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+        this.tombstones = Caffeine.newBuilder()
+                .expireAfterWrite(tombstoneTtl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        getNativeCache().asMap().compute(key, (k, atual) -> {
+            if (isStale(k, atual, value)) {
+                log.debug("Put descartado por versão antiga - Cache: {}, Chave: {}", getName(), k);
+                return atual;
+            }
+            return toStoreValue(value);
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object[] existente = new Object[1];
+        getNativeCache().asMap().compute(key, (k, atual) -> {
+            existente[0] = atual;
+            if (atual != null || isStale(k, null, value)) {
+                return atual;
+            }
+            return toStoreValue(value);
+        });
+        return toValueWrapper(existente[0]);
+    }
+
+    @Override
+    public void evict(Object key, LocalDateTime versao) {
+        if (versao == null) {
+            evict(key);
+            return;
+        }
+        getNativeCache().asMap().compute(key, (k, atual) -> {
+            tombstones.asMap().merge(k, versao, (a, b) -> a.isAfter(b) ? a : b);
+            return null;
+        });
+    }
+
+    private boolean isStale(Object key, Object atual, Object novo) {
+        if (!(novo instanceof VersionedResponse versionado) || versionado.dataAtualizacao() == null) {
+            return false;
+        }
+        LocalDateTime versao = versionado.dataAtualizacao();
+
+        LocalDateTime tombstone = tombstones.getIfPresent(key);
+        if (tombstone != null && versao.isBefore(tombstone)) {
+            return true;
+        }
+        return fromStoreValue(atual) instanceof VersionedResponse emCache
+                && emCache.dataAtualizacao() != null
+                && versao.isBefore(emCache.dataAtualizacao());
+    }
+}
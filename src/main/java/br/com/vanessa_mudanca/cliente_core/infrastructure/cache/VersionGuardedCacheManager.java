@@ -0,0 +1,33 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * {@link CaffeineCacheManager} que adapta os caches informados como {@link VersionGuardedCache}.
+ *
+ * @see VersionGuardedCache
+ */
+public class VersionGuardedCacheManager extends CaffeineCacheManager {
+
+    private final Map<String, Duration> versionedCaches;
+
+    /**
+     * @param versionedCaches nome do cache → TTL dos tombstones (TTL do próprio cache)
+     */
+    public VersionGuardedCacheManager(Map<String, Duration> versionedCaches) {
+        this.versionedCaches = Map.copyOf(versionedCaches);
+    }
+
+    @Override
+    protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+        Duration tombstoneTtl = versionedCaches.get(name);
+        if (tombstoneTtl == null) {
+            return super.adaptCaffeineCache(name, cache);
+        }
+        return new VersionGuardedCache(name, cache, tombstoneTtl, isAllowNullValues());
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cache que aceita invalidação versionada (tombstone com a versão commitada).
+ *
+ * @see VersionGuardedCache
+ */
+public interface VersionedEvict {
+
+    /**
+     * Remove a entrada e impede que versões anteriores a {@code versao} voltem ao cache.
+     *
+     * @param versao {@code dataAtualizacao} commitada pelo write (null = evict simples)
+     */
+    void evict(Object key, LocalDateTime versao);
+}
@@ -1,13 +1,45 @@
 package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
 
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.BinaryRecordCodec;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.BoundedVirtualThreadExecutor;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.CacheFootprintEndpoint;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.ClienteCountWeigher;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.ClienteMemoryWeigher;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.NamedCacheLoader;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.NegativeCacheAspect;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.OffHeapArena;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.OffHeapCache;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.SharedCacheTier;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.TwoTierCacheManager;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.VersionGuardedCache;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.VersionGuardedCacheManager;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.CompositeCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Configuração de cache in-memory usando Caffeine.
@@ -16,40 +48,69 @@ import java.util.concurrent.TimeUnit;
  * <ul>
  *   <li><b>Performance:</b> <1ms de latência (vs 10-20ms DynamoDB)</li>
  *   <li><b>Simplicidade:</b> zero dependências de infra</li>
- *   <li><b>Adequado para MVP:</b> até 10.000 clientes (~100 MB RAM)</li>
+ *   <li><b>Heap previsível:</b> limites em bytes estimados por entrada ({@link ClienteMemoryWeigher})</li>
  * </ul>
  * </p>
  *
+ * <h3>Políticas por cache:</h3>
+ * Cada cache nomeado tem TTL, limite e estatísticas próprios ({@link CacheProperties}),
+ * configurados por profile no YAML. Páginas de {@code clientes:list} não disputam mais
+ * o mesmo orçamento das entradas de {@code clientes:findById}.
+ *
+ * <h3>Ordem dos interceptors:</h3>
+ * Rastreamento de hot keys ({@code HIGHEST_PRECEDENCE}) → cache ({@code HIGHEST_PRECEDENCE + 1})
+ * → {@code @SingleFlight} → transação. Um hit não passa por {@code @SingleFlight} nem abre transação.
+ *
  * <h3>Limitações:</h3>
  * <ul>
- *   <li>Cache perdido em restart (aceitável para dados de referência)</li>
+ *   <li>Cache perdido em restart – mitigado pelo warm-up dos clientes mais lidos ({@link CacheWarmupConfig})</li>
  *   <li>Limitado à memória JVM (max 512 MB recomendado)</li>
- *   <li>Não compartilhado entre instâncias (usar Redis quando escalar)</li>
  * </ul>
  *
- * <h3>Quando migrar para Redis:</h3>
- * <ul>
- *   <li>Múltiplas instâncias da aplicação (horizontal scaling)</li>
- *   <li>>50.000 clientes ativos</li>
- *   <li>Necessidade de cache persistente (sobreviver a restarts)</li>
- * </ul>
+ * <h3>Cache em dois níveis (múltiplas instâncias):</h3>
+ * Com {@code cache.shared.backend=redis} ({@link SharedCacheConfig}), cada cache Caffeine vira
+ * o L1 de um {@link TwoTierCacheManager}: misses no L1 consultam o Redis (L2) e evicts são
+ * publicados via pub/sub para que todas as instâncias descartem a chave do seu L1.
+ * As anotações nos services não mudam. Com {@code cache.shared.backend=postgres} não há L2:
+ * só as invalidações trafegam, via LISTEN/NOTIFY no próprio PostgreSQL.
+ *
+ * <h3>Off-heap:</h3>
+ * Caches listados em {@code cache.off-heap.caches} viram {@link OffHeapCache}: os valores ficam
+ * serializados em memória direta e o heap guarda só o índice. Continuam atrás da mesma
+ * abstração (e do L2, se houver); desligado por padrão.
  *
+ * @see CacheProperties
  * @see org.springframework.cache.annotation.Cacheable
  * @see org.springframework.cache.annotation.CacheEvict
  * @see org.springframework.cache.annotation.CachePut
  */
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE + 1)
+@EnableConfigurationProperties({CacheProperties.class, RenderedJsonProperties.class})
 public class CacheConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
+
+    /**
+     * Caches cujos valores ({@code VersionedResponse}) são protegidos contra sobrescrita
+     * por versões antigas (ver {@link VersionGuardedCache}). Inclui o cache negativo: um
+     * "não encontrado" anterior à criação do cliente não volta ao cache.
+     */
+    static final Set<String> VERSIONED_CACHES = Set.of(
+            "clientes:findById", "clientes:findById:json", NegativeCacheAspect.NOT_FOUND);
+
     /**
      * Configura Caffeine como backend de cache do Spring.
      * <p>
      * <b>Configurações:</b>
      * <ul>
-     *   <li>TTL: 5 minutos (dados de cliente mudam raramente)</li>
-     *   <li>Max Size: 10.000 entradas (~100 MB de RAM)</li>
-     *   <li>Stats: habilitado para monitoramento via Actuator</li>
+     *   <li>Caches em {@code cache.specs}: registrados na inicialização com política própria</li>
+     *   <li>Demais caches: criados sob demanda com {@code cache.defaults}</li>
+     *   <li>Refresh-ahead: caches com {@code refresh-after-write} e um {@link NamedCacheLoader}
+     *       devolvem o valor atual e recarregam em background (executor de virtual threads limitado)</li>
+     *   <li>Version guard: {@code clientes:findById} não aceita versão mais antiga que a atual
+     *       ou que a última invalidação</li>
+     *   <li>Stats: habilitado por padrão (série Micrometer por cache, tag {@code cache})</li>
      * </ul>
      * </p>
      *
@@ -57,23 +118,176 @@ public class CacheConfig {
      * <b>Métricas disponíveis via Actuator:</b>
      * <pre>
      * GET /actuator/caches
-     * GET /actuator/metrics/cache.gets
+     * GET /actuator/metrics/cache.gets?tag=cache:clientes:findById
      * GET /actuator/metrics/cache.puts
      * GET /actuator/metrics/cache.evictions
      * </pre>
      * </p>
      *
+     * Com um {@link SharedCacheTier} registrado, o manager Caffeine é envolvido em um
+     * {@link TwoTierCacheManager} (TTL do L2 = {@code expire-after-write} de cada cache).
+     *
      * @return CacheManager configurado com Caffeine
      */
     @Bean
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    public CacheManager cacheManager(CacheProperties properties,
+                                     ObjectProvider<NamedCacheLoader> loaders,
+                                     ObjectProvider<SharedCacheTier> sharedTier,
+                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, Duration> versionados = VERSIONED_CACHES.stream()
+                .collect(Collectors.toMap(Function.identity(),
+                        name -> properties.specFor(name).expireAfterWrite()));
+        CaffeineCacheManager cacheManager = new VersionGuardedCacheManager(versionados);
+        cacheManager.setCaffeine(builder("default", properties.defaults()));
+
+        Map<String, NamedCacheLoader> loadersPorCache = loaders.orderedStream()
+                .collect(Collectors.toMap(NamedCacheLoader::cacheName, Function.identity()));
+        Executor refreshExecutor = new BoundedVirtualThreadExecutor(
+                "cache-refresh", properties.refreshMaxConcurrency());
+
+        Map<String, DataSize> offHeap = properties.offHeap().ativos();
+        properties.specs().forEach((name, spec) -> {
+            if (offHeap.containsKey(name)) {
+                return;
+            }
+            log.info("Registrando cache '{}' - TTL: {}, refresh: {}, maxSize: {}, maxWeight: {}, maxMemory: {}",
+                    name, spec.expireAfterWrite(), spec.refreshAfterWrite(),
+                    spec.maximumSize(), spec.maximumWeight(), spec.maximumMemory());
+            cacheManager.registerCustomCache(name,
+                    build(name, spec, loadersPorCache.get(name), refreshExecutor));
+        });
+
+        CacheManager localManager = offHeap.isEmpty() ? cacheManager
+                : comOffHeap(cacheManager, properties, loadersPorCache, refreshExecutor,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+
+        SharedCacheTier tier = sharedTier.getIfAvailable();
+        if (tier == null) {
+            return localManager;
+        }
+        log.info("Cache em dois níveis - L1: Caffeine, L2: {}, Invalidação: {}",
+                tier.hasStore() ? tier.store().getClass().getSimpleName() : "nenhum",
+                tier.bus().getClass().getSimpleName());
+        return new TwoTierCacheManager(localManager, tier,
+                name -> properties.specFor(name).expireAfterWrite(),
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    /**
+     * Consumo de heap estimado por cache ({@code GET /actuator/cachefootprint}).
+     */
+    @Bean
+    public CacheFootprintEndpoint cacheFootprintEndpoint(CacheManager cacheManager, CacheProperties properties) {
+        return new CacheFootprintEndpoint(cacheManager, name -> properties.specFor(name).maximumMemory());
+    }
+
+    /**
+     * Registra os caches off-heap à frente do manager Caffeine: nomes configurados em
+     * {@code cache.off-heap.caches} resolvem para o {@link OffHeapCache}, os demais seguem no Caffeine.
+     */
+    private CacheManager comOffHeap(CaffeineCacheManager cacheManager, CacheProperties properties,
+                                    Map<String, NamedCacheLoader> loadersPorCache, Executor refreshExecutor,
+                                    MeterRegistry meterRegistry) {
+        BinaryRecordCodec codec = new BinaryRecordCodec();
+        List<OffHeapCache> caches = properties.offHeap().ativos().entrySet().stream()
+                .map(e -> offHeap(e.getKey(), properties.specFor(e.getKey()), e.getValue(),
+                        loadersPorCache.get(e.getKey()), refreshExecutor, codec,
+                        cacheManager.isAllowNullValues()))
+                .toList();
+        caches.forEach(cache -> cache.bindTo(meterRegistry));
+
+        SimpleCacheManager offHeapManager = new SimpleCacheManager();
+        offHeapManager.setCaches(caches);
+        offHeapManager.initializeCaches();
+        return new CompositeCacheManager(offHeapManager, cacheManager);
+    }
+
+    /**
+     * Cria um {@link OffHeapCache}: TTL, refresh e estatísticas da política do cache,
+     * limite = capacidade off-heap.
+     */
+    static OffHeapCache offHeap(String cacheName, CacheProperties.CacheSpec spec, DataSize capacity,
+                                NamedCacheLoader loader, Executor refreshExecutor,
+                                BinaryRecordCodec codec, boolean allowNullValues) {
+        if (spec.expireAfterWrite() == null) {
+            throw new IllegalStateException(
+                    "cache '%s': expire-after-write é obrigatório".formatted(cacheName));
+        }
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(spec.expireAfterWrite());
+        if (spec.refreshAfterWrite() != null) {
+            if (loader == null) {
+                throw new IllegalStateException(
+                        "cache '%s': refresh-after-write exige um CacheLoader registrado".formatted(cacheName));
+            }
+            builder.refreshAfterWrite(spec.refreshAfterWrite()).executor(refreshExecutor);
+        }
+        if (spec.isRecordStats()) {
+            builder.recordStats();
+        }
+        log.info("Registrando cache off-heap '{}' - TTL: {}, refresh: {}, capacidade: {}",
+                cacheName, spec.expireAfterWrite(), spec.refreshAfterWrite(), capacity);
+        Duration tombstoneTtl = VERSIONED_CACHES.contains(cacheName) ? spec.expireAfterWrite() : null;
+        return new OffHeapCache(cacheName, builder, loader, new OffHeapArena(capacity.toBytes()),
+                codec, tombstoneTtl, allowNullValues);
+    }
+
+    /**
+     * Cria o cache nativo. Com {@code refresh-after-write}, o cache é um {@code LoadingCache}
+     * cujo reload roda no executor limitado; sem loader registrado a política é rejeitada.
+     */
+    static Cache<Object, Object> build(String cacheName, CacheProperties.CacheSpec spec,
+                                       NamedCacheLoader loader, Executor refreshExecutor) {
+        Caffeine<Object, Object> builder = builder(cacheName, spec);
+
+        if (spec.refreshAfterWrite() == null) {
+            return loader != null ? builder.build(loader) : builder.build();
+        }
+        if (loader == null) {
+            throw new IllegalStateException(
+                    "cache '%s': refresh-after-write exige um CacheLoader registrado".formatted(cacheName));
+        }
+        return builder.refreshAfterWrite(spec.refreshAfterWrite())
+                .executor(refreshExecutor)
+                .build(loader);
+    }
+
+    /**
+     * Monta o builder Caffeine para uma política (sem refresh).
+     *
+     * @throws IllegalStateException se a política for inconsistente
+     */
+    static Caffeine<Object, Object> builder(String cacheName, CacheProperties.CacheSpec spec) {
+        if (spec.expireAfterWrite() == null) {
+            throw new IllegalStateException(
+                    "cache '%s': expire-after-write é obrigatório".formatted(cacheName));
+        }
+        long limites = Stream.of(spec.maximumSize(), spec.maximumWeight(), spec.maximumMemory())
+                .filter(Objects::nonNull)
+                .count();
+        if (limites > 1) {
+            throw new IllegalStateException(
+                    "cache '%s': use maximum-size OU maximum-weight OU maximum-memory, não mais de um"
+                            .formatted(cacheName));
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .expireAfterWrite(spec.expireAfterWrite());
+
+        if (spec.maximumMemory() != null) {
+            builder.maximumWeight(spec.maximumMemory().toBytes())
+                    .weigher(new ClienteMemoryWeigher());
+        } else if (spec.maximumWeight() != null) {
+            builder.maximumWeight(spec.maximumWeight())
+                    .weigher(new ClienteCountWeigher());
+        } else if (spec.maximumSize() != null) {
+            builder.maximumSize(spec.maximumSize());
+        }
 
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-            .expireAfterWrite(5, TimeUnit.MINUTES)  // TTL 5 minutos
-            .maximumSize(10_000)                     // Max 10k entradas (~100 MB)
-            .recordStats());                         // Métricas via Actuator
+        if (spec.isRecordStats()) {
+            builder.recordStats();
+        }
 
-        return cacheManager;
+        return builder;
     }
 }
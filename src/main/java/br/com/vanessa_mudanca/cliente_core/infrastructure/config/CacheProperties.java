@@ -0,0 +1,127 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Políticas de cache por nome, configuradas via YAML (prefixo {@code cache}).
+ *
+ * <p>Cada cache nomeado ({@code clientes:findById}, {@code clientes:list}, ...) recebe
+ * sua própria política. Caches criados dinamicamente e sem política explícita usam
+ * {@code cache.defaults}.
+ *
+ * <p><b>Exemplo (application.yml):</b>
+ * <pre>
+ * cache:
+ *   defaults:
+ *     expire-after-write: 5m
+ *     maximum-memory: 16MB
+ *   refresh-max-concurrency: 8
+ *   specs:
+ *     "[clientes:findById]":
+ *       expire-after-write: 5m
+ *       refresh-after-write: 4m
+ *       maximum-memory: 64MB
+ *     "[clientes:list]":
+ *       expire-after-write: 1m
+ *       maximum-memory: 32MB
+ * </pre>
+ *
+ * <p><b>Nota:</b> nomes com {@code :} precisam da notação {@code "[...]"} no YAML,
+ * caso contrário o Spring remove o caractere da chave do Map.
+ *
+ * @param defaults política aplicada a caches sem configuração específica
+ * @param specs    políticas por nome de cache
+ * @param refreshMaxConcurrency máximo de reloads (refresh-after-write) simultâneos
+ * @param offHeap  caches cujos valores ficam serializados fora do heap
+ */
+@ConfigurationProperties(prefix = "cache")
+public record CacheProperties(
+        CacheSpec defaults,
+        Map<String, CacheSpec> specs,
+        Integer refreshMaxConcurrency,
+        OffHeap offHeap
+) {
+
+    @ConstructorBinding
+    public CacheProperties {
+        defaults = defaults != null ? defaults : CacheSpec.PADRAO;
+        specs = specs != null ? Map.copyOf(specs) : Map.of();
+        refreshMaxConcurrency = refreshMaxConcurrency != null ? refreshMaxConcurrency : 8;
+        offHeap = offHeap != null ? offHeap : new OffHeap(false, null);
+    }
+
+    /**
+     * Retorna a política do cache informado, ou {@link #defaults()} se não houver.
+     */
+    public CacheSpec specFor(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    /**
+     * Política de um cache individual.
+     *
+     * @param expireAfterWrite  TTL contado a partir da escrita (obrigatório)
+     * @param refreshAfterWrite idade a partir da qual a entrada é recarregada em background
+     *                          (exige um {@code CacheLoader} registrado para o cache)
+     * @param maximumSize       limite em número de entradas
+     * @param maximumWeight     limite em peso (1 por cliente; páginas pesam o nº de clientes)
+     * @param maximumMemory     limite em bytes de heap estimados ({@code ClienteMemoryWeigher})
+     * @param recordStats       habilita estatísticas (hit/miss/eviction) para o Micrometer
+     */
+    public record CacheSpec(
+            Duration expireAfterWrite,
+            Duration refreshAfterWrite,
+            Long maximumSize,
+            Long maximumWeight,
+            DataSize maximumMemory,
+            Boolean recordStats
+    ) {
+
+        /**
+         * Política aplicada sem {@code cache.defaults}: 5 minutos, 16 MB de heap estimado.
+         */
+        static final CacheSpec PADRAO = new CacheSpec(
+                Duration.ofMinutes(5), null, null, null, DataSize.ofMegabytes(16), true);
+
+        public boolean isRecordStats() {
+            return recordStats == null || recordStats;
+        }
+    }
+
+    /**
+     * Caches mantidos fora do heap ({@code OffHeapCache}).
+     *
+     * <pre>
+     * cache:
+     *   off-heap:
+     *     enabled: true
+     *     caches:
+     *       "[clientes:findById]": 256MB
+     * </pre>
+     *
+     * TTL, refresh e estatísticas continuam vindo de {@code specs}; os limites de
+     * {@code maximum-*} são substituídos pela capacidade off-heap. A JVM precisa de
+     * {@code -XX:MaxDirectMemorySize} maior que a soma das capacidades.
+     *
+     * @param enabled liga o nível off-heap (desligado por padrão)
+     * @param caches  capacidade de memória direta por nome de cache
+     */
+    public record OffHeap(boolean enabled, Map<String, DataSize> caches) {
+
+        public OffHeap {
+            caches = caches != null ? Map.copyOf(caches) : Map.of();
+        }
+
+        /**
+         * Capacidades dos caches off-heap ativos (vazio se desligado).
+         */
+        public Map<String, DataSize> ativos() {
+            return enabled ? caches : Map.of();
+        }
+    }
+}
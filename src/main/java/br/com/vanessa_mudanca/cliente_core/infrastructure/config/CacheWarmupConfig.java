@@ -0,0 +1,67 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByIdUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByIdUseCase;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.CacheWarmupRunner;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.HotKeySnapshotStore;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.HotKeyTracker;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.HotKeyTrackingAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Warm-up de cache persistente entre restarts.
+ * <p>
+ * Cada deploy no ECS sobe com cache vazio. Para evitar minutos de latência de cache frio:
+ * <ol>
+ *   <li>{@link HotKeyTrackingAspect} conta leituras por Public ID em um Count-Min sketch</li>
+ *   <li>{@link HotKeySnapshotStore} grava o top-K periodicamente (e no shutdown) em arquivo local</li>
+ *   <li>{@link CacheWarmupRunner} pré-carrega esses clientes no startup, antes do readiness UP</li>
+ * </ol>
+ * </p>
+ *
+ * Desabilitar com {@code cache.warmup.enabled=false} (ex.: testes).
+ *
+ * @see CacheWarmupProperties
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CacheWarmupProperties.class)
+@ConditionalOnProperty(prefix = "cache.warmup", name = "enabled", havingValue = "true")
+public class CacheWarmupConfig {
+
+    /**
+     * Largura do Count-Min sketch: 4 x 16384 contadores (~512 KB), erro ~0,02% das leituras.
+     */
+    private static final int SKETCH_WIDTH = 16_384;
+
+    @Bean
+    public HotKeyTracker hotKeyTracker(CacheWarmupProperties properties) {
+        return new HotKeyTracker(properties.topK(), SKETCH_WIDTH);
+    }
+
+    @Bean
+    public HotKeyTrackingAspect hotKeyTrackingAspect(HotKeyTracker hotKeyTracker) {
+        return new HotKeyTrackingAspect(hotKeyTracker);
+    }
+
+    @Bean(destroyMethod = "snapshotOnShutdown")
+    public HotKeySnapshotStore hotKeySnapshotStore(HotKeyTracker hotKeyTracker, CacheWarmupProperties properties) {
+        return new HotKeySnapshotStore(hotKeyTracker, properties.snapshotFile());
+    }
+
+    @Bean
+    public CacheWarmupRunner cacheWarmupRunner(HotKeySnapshotStore hotKeySnapshotStore,
+                                               HotKeyTracker hotKeyTracker,
+                                               FindClientePFByIdUseCase findClientePF,
+                                               FindClientePJByIdUseCase findClientePJ,
+                                               MeterRegistry meterRegistry,
+                                               CacheWarmupProperties properties) {
+        return new CacheWarmupRunner(hotKeySnapshotStore, hotKeyTracker, findClientePF, findClientePJ,
+                meterRegistry, properties.parallelism(), properties.ratePerSecond(), properties.timeout());
+    }
+}
@@ -0,0 +1,39 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuração do rastreamento de hot keys e do warm-up de cache (prefixo {@code cache.warmup}).
+ *
+ * @param enabled          habilita rastreamento, snapshot e warm-up
+ * @param snapshotFile     arquivo local com o top-K de clientes mais lidos
+ * @param snapshotInterval intervalo entre snapshots
+ * @param topK             quantidade de clientes mantidos no snapshot
+ * @param parallelism      cargas simultâneas durante o warm-up
+ * @param ratePerSecond    limite de cargas por segundo durante o warm-up
+ * @param timeout          tempo máximo que o warm-up pode segurar o readiness
+ */
+@ConfigurationProperties(prefix = "cache.warmup")
+public record CacheWarmupProperties(
+        boolean enabled,
+        Path snapshotFile,
+        Duration snapshotInterval,
+        Integer topK,
+        Integer parallelism,
+        Integer ratePerSecond,
+        Duration timeout
+) {
+
+    public CacheWarmupProperties {
+        snapshotFile = snapshotFile != null ? snapshotFile
+                : Path.of(System.getProperty("java.io.tmpdir"), "cliente-core", "hot-keys.snapshot");
+        snapshotInterval = snapshotInterval != null ? snapshotInterval : Duration.ofMinutes(1);
+        topK = topK != null ? topK : 1000;
+        parallelism = parallelism != null ? parallelism : 8;
+        ratePerSecond = ratePerSecond != null ? ratePerSecond : 200;
+        timeout = timeout != null ? timeout : Duration.ofSeconds(60);
+    }
+}
@@ -0,0 +1,22 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import br.com.vanessa_mudanca.cliente_core.application.service.ConcorrenciaAtualizacao;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra as propriedades da criação de clientes em lote ({@code clientes.batch}), da
+ * importação de arquivos ({@code clientes.import}) e das atualizações concorrentes
+ * ({@code clientes.concorrencia}), estas entregues aos casos de uso como {@link ConcorrenciaAtualizacao}.
+ */
+@Configuration
+@EnableConfigurationProperties({ClienteBatchProperties.class, ClienteImportProperties.class,
+        ClienteConcorrenciaProperties.class})
+public class ClienteBatchConfig {
+
+    @Bean
+    public ConcorrenciaAtualizacao concorrenciaAtualizacao(ClienteConcorrenciaProperties properties) {
+        return properties.concorrenciaAtualizacao();
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Criação de clientes em lote (prefixo {@code clientes.batch}).
+ *
+ * @param chunkSize itens por transação: uma consulta de duplicados e um flush em lote por bloco
+ *                  (default 500; múltiplo de {@code hibernate.jdbc.batch_size})
+ * @param maxItens  máximo de itens aceitos por requisição (default 5000)
+ */
+@ConfigurationProperties(prefix = "clientes.batch")
+public record ClienteBatchProperties(
+        Integer chunkSize,
+        Integer maxItens
+) {
+
+    /** Valores default, usados também fora do contexto Spring. */
+    public static final ClienteBatchProperties PADRAO = new ClienteBatchProperties(null, null);
+
+    public ClienteBatchProperties {
+        chunkSize = chunkSize != null && chunkSize > 0 ? chunkSize : 500;
+        maxItens = maxItens != null && maxItens > 0 ? maxItens : 5000;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import br.com.vanessa_mudanca.cliente_core.application.service.ConcorrenciaAtualizacao;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Atualizações concorrentes de clientes (prefixo {@code clientes.concorrencia}).
+ *
+ * Só se aplica às chamadas internas, sem precondição: pelo HTTP (com versão ou {@code If-Match: *})
+ * um conflito vira 412 na hora, pois reaplicar a alteração sobrescreveria a outra.
+ *
+ * @param maxTentativas tentativas da atualização quando outra requisição grava no meio dela
+ *                      (default 3; cada tentativa relê o cliente e reaplica o request)
+ * @param espera        espera antes da 2ª tentativa, multiplicada pelo número da tentativa (default 20ms)
+ */
+@ConfigurationProperties(prefix = "clientes.concorrencia")
+public record ClienteConcorrenciaProperties(
+        Integer maxTentativas,
+        Duration espera
+) {
+
+    public ClienteConcorrenciaProperties {
+        maxTentativas = maxTentativas != null && maxTentativas > 0 ? maxTentativas : 3;
+        espera = espera != null && !espera.isNegative() ? espera : Duration.ofMillis(20);
+    }
+
+    /**
+     * Limites entregues aos casos de uso de atualização.
+     */
+    public ConcorrenciaAtualizacao concorrenciaAtualizacao() {
+        return new ConcorrenciaAtualizacao(maxTentativas, espera);
+    }
+}
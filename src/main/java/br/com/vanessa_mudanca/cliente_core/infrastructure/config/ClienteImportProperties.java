@@ -0,0 +1,39 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Importação de arquivos de clientes (prefixo {@code clientes.import}).
+ * O tamanho de cada bloco gravado é o da criação em lote ({@code clientes.batch.chunk-size}).
+ *
+ * @param writers    blocos gravados em paralelo, somando todas as importações (default 4; cada um
+ *                   ocupa uma conexão do pool durante a transação do bloco)
+ * @param fila       blocos lidos aguardando gravação, por importação (default 4). Fila cheia
+ *                   bloqueia a leitura do upload: a memória fica em (fila + writers) x chunk-size
+ * @param maxJobs    importações recebendo arquivo ao mesmo tempo (default 2)
+ * @param retencao   por quanto tempo o job e o relatório de erros ficam disponíveis (default 24h)
+ * @param diretorio  onde gravar os relatórios de erros (default: diretório temporário da JVM)
+ */
+@ConfigurationProperties(prefix = "clientes.import")
+public record ClienteImportProperties(
+        Integer writers,
+        Integer fila,
+        Integer maxJobs,
+        Duration retencao,
+        Path diretorio
+) {
+
+    /** Valores default, usados também fora do contexto Spring. */
+    public static final ClienteImportProperties PADRAO = new ClienteImportProperties(null, null, null, null, null);
+
+    public ClienteImportProperties {
+        writers = writers != null && writers > 0 ? writers : 4;
+        fila = fila != null && fila > 0 ? fila : 4;
+        maxJobs = maxJobs != null && maxJobs > 0 ? maxJobs : 2;
+        retencao = retencao != null ? retencao : Duration.ofHours(24);
+        diretorio = diretorio != null ? diretorio : Path.of(System.getProperty("java.io.tmpdir"));
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import br.com.vanessa_mudanca.cliente_core.infrastructure.datasource.DataSourceRoute;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.datasource.ReadReplicaRoutingDataSource;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.datasource.ReadYourWritesAspect;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.datasource.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Roteamento de leituras para a réplica ({@code datasource.replica.enabled=true}).
+ * <p>
+ * Substitui o DataSource único do Spring Boot por dois pools Hikari ({@code primary} e
+ * {@code replica}, cada um com suas métricas {@code hikaricp.*{pool=...}}) atrás de um
+ * {@link ReadReplicaRoutingDataSource}: transações {@code @Transactional(readOnly = true)}
+ * vão para a réplica, o restante (inclusive Liquibase) para a primária.
+ * </p>
+ * <p>
+ * Read-your-writes: por {@code read-your-writes-window} após uma escrita, as leituras do mesmo
+ * cliente feitas pelo {@code ReadYourWritesPort} continuam na primária. A janela é por instância
+ * ({@link ReadYourWritesTracker}): só vale para leituras no nó que fez a escrita. Leituras antigas
+ * da réplica não voltam para o cache: o tombstone do {@code VersionGuardedCache} rejeita versões
+ * anteriores à escrita.
+ * </p>
+ * Desligado (padrão), nenhum bean é criado e o Spring Boot configura o DataSource como sempre.
+ *
+ * @see ReadReplicaProperties
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaDataSourceConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaDataSourceConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(DataSourceRoute.PRIMARY.tag());
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primaria, ReadReplicaProperties replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primaria.determineDriverClassName())
+                .url(replica.url())
+                .username(replica.username() != null ? replica.username() : primaria.determineUsername())
+                .password(replica.password() != null ? replica.password() : primaria.determinePassword())
+                .build();
+        dataSource.setPoolName(DataSourceRoute.REPLICA.tag());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * DataSource usado pelo JPA: o proxy lazy adia a escolha da rota até o primeiro statement,
+     * quando o flag read-only da transação já está disponível.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReadReplicaProperties properties, MeterRegistry meterRegistry) {
+        log.info("Leituras read-only roteadas para a réplica - Read-your-writes: {}",
+                properties.readYourWritesWindow());
+        return new LazyConnectionDataSourceProxy(
+                new ReadReplicaRoutingDataSource(primaryDataSource, replicaDataSource, meterRegistry));
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.readYourWritesWindow(), properties.readYourWritesMaxClientes());
+    }
+
+    @Bean
+    public ReadYourWritesAspect readYourWritesAspect(ReadYourWritesTracker readYourWritesTracker) {
+        return new ReadYourWritesAspect(readYourWritesTracker);
+    }
+}
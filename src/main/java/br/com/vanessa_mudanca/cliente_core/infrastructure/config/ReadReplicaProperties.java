@@ -0,0 +1,34 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Réplica de leitura (prefixo {@code datasource.replica}).
+ * O pool da réplica é configurado em {@code datasource.replica.hikari.*}, como o da primária em
+ * {@code spring.datasource.hikari.*}.
+ *
+ * @param enabled             liga o roteamento; desligado, só existe o DataSource da primária
+ * @param url                 JDBC URL da réplica
+ * @param username            usuário da réplica (padrão: o da primária)
+ * @param password            senha da réplica (padrão: a da primária)
+ * @param readYourWritesWindow por quanto tempo, após uma escrita, as leituras do mesmo cliente
+ *                             continuam na primária (deve cobrir o atraso de replicação)
+ * @param readYourWritesMaxClientes limite de clientes lembrados na janela
+ */
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReadReplicaProperties(
+        boolean enabled,
+        String url,
+        String username,
+        String password,
+        Duration readYourWritesWindow,
+        Long readYourWritesMaxClientes
+) {
+
+    public ReadReplicaProperties {
+        readYourWritesWindow = readYourWritesWindow != null ? readYourWritesWindow : Duration.ofSeconds(5);
+        readYourWritesMaxClientes = readYourWritesMaxClientes != null ? readYourWritesMaxClientes : 100_000L;
+    }
+}
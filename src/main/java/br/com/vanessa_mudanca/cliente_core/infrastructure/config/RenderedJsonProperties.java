@@ -0,0 +1,28 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache de respostas pré-serializadas do findById (prefixo {@code cache.rendered-json}).
+ *
+ * @param enabled     guarda o JSON renderizado em {@code clientes:findById:json} (default true)
+ * @param gzip        guarda também a variante gzip, servida a clientes com {@code Accept-Encoding: gzip}
+ * @param gzipMinSize tamanho mínimo do JSON para valer a compressão (default 1KB)
+ */
+@ConfigurationProperties(prefix = "cache.rendered-json")
+public record RenderedJsonProperties(
+        Boolean enabled,
+        Boolean gzip,
+        DataSize gzipMinSize
+) {
+
+    /** Valores default, usados também fora do contexto Spring. */
+    public static final RenderedJsonProperties PADRAO = new RenderedJsonProperties(null, null, null);
+
+    public RenderedJsonProperties {
+        enabled = enabled == null || enabled;
+        gzip = gzip == null || gzip;
+        gzipMinSize = gzipMinSize != null ? gzipMinSize : DataSize.ofKilobytes(1);
+    }
+}
@@ -0,0 +1,102 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.InMemoryCacheInvalidationBus;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.InMemorySharedCacheStore;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.PostgresCacheInvalidationBus;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.RedisCacheInvalidationBus;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.RedisSharedCacheStore;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.SharedCacheTier;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.RedisClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.DriverManager;
+
+/**
+ * Nível compartilhado (L2) do cache, selecionado por {@code cache.shared.backend}.
+ * <p>
+ * Com um {@link SharedCacheTier} registrado, o {@link CacheConfig} envolve os caches Caffeine
+ * em caches de dois níveis e as invalidações passam a ser propagadas entre instâncias.
+ * Sem backend ({@code none}, padrão), nenhum bean é criado e o cache continua só local.
+ * </p>
+ *
+ * @see SharedCacheProperties
+ */
+@Configuration
+@EnableConfigurationProperties(SharedCacheProperties.class)
+public class SharedCacheConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SharedCacheConfig.class);
+
+    /**
+     * Store e barramento em memória: várias "instâncias" só existem dentro do mesmo processo.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "cache.shared", name = "backend", havingValue = "memory")
+    public SharedCacheTier memorySharedCacheTier() {
+        log.info("Cache L2 em memória (cache.shared.backend=memory)");
+        return new SharedCacheTier(new InMemorySharedCacheStore(), new InMemoryCacheInvalidationBus());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "cache.shared", name = "backend", havingValue = "redis")
+    static class RedisSharedCacheConfig {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient cacheRedisClient(SharedCacheProperties properties) {
+            log.info("Cache L2 em Redis - Canal de invalidação: {}", properties.channel());
+            return RedisClient.create(properties.redisUri());
+        }
+
+        @Bean(destroyMethod = "close")
+        public RedisSharedCacheStore redisSharedCacheStore(RedisClient cacheRedisClient) {
+            return new RedisSharedCacheStore(cacheRedisClient);
+        }
+
+        @Bean(destroyMethod = "close")
+        public RedisCacheInvalidationBus redisCacheInvalidationBus(RedisClient cacheRedisClient,
+                                                                   SharedCacheProperties properties,
+                                                                   ObjectMapper objectMapper) {
+            return new RedisCacheInvalidationBus(cacheRedisClient, properties.channel(), objectMapper);
+        }
+
+        @Bean
+        public SharedCacheTier redisSharedCacheTier(RedisSharedCacheStore redisSharedCacheStore,
+                                                    RedisCacheInvalidationBus redisCacheInvalidationBus) {
+            return new SharedCacheTier(redisSharedCacheStore, redisCacheInvalidationBus);
+        }
+    }
+
+    /**
+     * Sem servidor de cache: só o Caffeine local, com invalidações entre instâncias via
+     * LISTEN/NOTIFY na própria conexão PostgreSQL da aplicação.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "cache.shared", name = "backend", havingValue = "postgres")
+    static class PostgresSharedCacheConfig {
+
+        @Bean(destroyMethod = "close")
+        public PostgresCacheInvalidationBus postgresCacheInvalidationBus(DataSource dataSource,
+                                                                         DataSourceProperties dataSourceProperties,
+                                                                         SharedCacheProperties properties,
+                                                                         ObjectMapper objectMapper) {
+            log.info("Invalidação de cache via LISTEN/NOTIFY - Canal: {}", properties.channel());
+            return new PostgresCacheInvalidationBus(dataSource,
+                    () -> DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                            dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword()),
+                    properties.channel(), objectMapper);
+        }
+
+        @Bean
+        public SharedCacheTier postgresSharedCacheTier(PostgresCacheInvalidationBus postgresCacheInvalidationBus) {
+            return SharedCacheTier.invalidationOnly(postgresCacheInvalidationBus);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuração do nível compartilhado (L2) do cache (prefixo {@code cache.shared}).
+ *
+ * @param backend  {@code none} (só Caffeine local), {@code memory} (store em memória, para
+ *                 testes/dev), {@code redis} (L2 + pub/sub) ou {@code postgres} (só invalidação,
+ *                 via LISTEN/NOTIFY no banco da aplicação)
+ * @param redisUri URI do Redis ({@code redis://host:6379}, {@code rediss://...} com TLS)
+ * @param channel  canal pub/sub (Redis) ou LISTEN/NOTIFY (PostgreSQL) das invalidações
+ */
+@ConfigurationProperties(prefix = "cache.shared")
+public record SharedCacheProperties(
+        Backend backend,
+        String redisUri,
+        String channel
+) {
+
+    public enum Backend { NONE, MEMORY, REDIS, POSTGRES }
+
+    public SharedCacheProperties {
+        backend = backend != null ? backend : Backend.NONE;
+        redisUri = redisUri != null ? redisUri : "redis://localhost:6379";
+        channel = channel != null ? channel : "cliente-core:cache-invalidation";
+    }
+}
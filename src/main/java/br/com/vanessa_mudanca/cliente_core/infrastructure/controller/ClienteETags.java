@@ -0,0 +1,163 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.VersionedResponse;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.PrecondicaoObrigatoriaException;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * ETags fortes dos recursos de cliente, para GETs condicionais ({@code If-None-Match} → 304)
+ * e atualizações condicionais ({@code If-Match} → 412).
+ *
+ * <ul>
+ *   <li>Cliente: a versão otimista ({@code @Version}), conhecida já no hit de
+ *       {@code clientes:findById} – o 304 sai sem banco, sem mapeamento e sem serialização.
+ *       No PUT, a versão do {@code If-Match} é comparada com a do banco ({@link #versaoEsperada})</li>
+ *   <li>Página: hash de {@code publicId} + versão de cada cliente e dos metadados da página</li>
+ *   <li>Variante gzip: sufixo {@code -gzip} (codificações diferentes, validadores diferentes)</li>
+ * </ul>
+ *
+ * O prefixo {@link #FORMATO} muda quando o formato do JSON muda, invalidando as cópias
+ * guardadas pelos clientes HTTP após o deploy.
+ *
+ * As respostas levam {@code Cache-Control: no-cache, private} (dados pessoais, sempre
+ * revalidar), que substitui o {@code no-store} padrão do Spring Security – sem isso o
+ * navegador não guardaria a cópia e nunca mandaria {@code If-None-Match}.
+ */
+final class ClienteETags {
+
+    static final String FORMATO = "v2";
+    static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+    private static final String GZIP = "-gzip";
+
+    /** Versão que nenhum cliente tem (começam em 0): If-Match que não é uma ETag nossa nunca casa. */
+    static final long VERSAO_INEXISTENTE = -1L;
+
+    private ClienteETags() {
+    }
+
+    /**
+     * ETag do cliente, ou null se o response não tiver versão.
+     */
+    static String of(VersionedResponse response) {
+        Long versao = response.versao();
+        if (versao == null) {
+            return null;
+        }
+        return "\"" + FORMATO + "-" + versao + "\"";
+    }
+
+    /**
+     * ETag de uma página de clientes: a mesma versão que compõe a ETag de cada cliente.
+     */
+    static <T extends VersionedResponse> String of(PageResponse<T> page, Function<T, UUID> publicId) {
+        MessageDigest digest = sha256();
+        atualizar(digest, page.pageNumber() + ":" + page.pageSize() + ":" + page.totalElements() + ":"
+                + page.estimatedTotalElements() + ":" + page.last());
+        for (T cliente : page.content()) {
+            atualizar(digest, "|" + publicId.apply(cliente) + "@" + cliente.versao());
+        }
+        return "\"" + FORMATO + "-p" + HexFormat.of().formatHex(digest.digest(), 0, 12) + "\"";
+    }
+
+    /**
+     * ETag da variante gzip.
+     */
+    static String gzip(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP + "\"";
+    }
+
+    /**
+     * Compara o {@code If-None-Match} com a ETag (comparação fraca, RFC 9110 §13.1.2).
+     *
+     * @return a ETag casada (a própria ou a variante gzip), ou null se nenhuma casar
+     */
+    static String match(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return null;
+        }
+        for (String candidata : ifNoneMatch.split(",")) {
+            String tag = candidata.trim();
+            if (tag.equals("*")) {
+                return etag;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return etag;
+            }
+            if (tag.equals(gzip(etag))) {
+                return tag;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Versão esperada pelo {@code If-Match} de uma atualização (comparação forte, RFC 9110 §13.1.1).
+     *
+     * Só a primeira ETag da lista é considerada. Tags fracas, de outro {@link #FORMATO} ou que não
+     * são nossas viram {@link #VERSAO_INEXISTENTE}: a atualização falha com 412, como manda a RFC.
+     *
+     * @return a versão, ou null para {@code *} (o cliente existe; a versão lida é aceita, mas um
+     *         conflito na gravação ainda responde 412)
+     * @throws PrecondicaoObrigatoriaException sem {@code If-Match}
+     */
+    static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            throw new PrecondicaoObrigatoriaException();
+        }
+        String tag = ifMatch.split(",")[0].trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        String prefixo = "\"" + FORMATO + "-";
+        if (!tag.startsWith(prefixo) || !tag.endsWith("\"")) {
+            return VERSAO_INEXISTENTE;
+        }
+        String versao = tag.substring(prefixo.length(), tag.length() - 1);
+        if (versao.endsWith(GZIP)) {
+            versao = versao.substring(0, versao.length() - GZIP.length());
+        }
+        try {
+            return Long.parseLong(versao);
+        } catch (NumberFormatException e) {
+            return VERSAO_INEXISTENTE;
+        }
+    }
+
+    /**
+     * 304 com a ETag casada e os mesmos cabeçalhos de cache do 200.
+     */
+    static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .build();
+    }
+
+    private static void atualizar(MessageDigest digest, String valor) {
+        digest.update(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
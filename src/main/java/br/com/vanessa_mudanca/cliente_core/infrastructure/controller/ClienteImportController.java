@@ -0,0 +1,124 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteImportJobResponse;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.bulkimport.ClienteImportJob;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.bulkimport.ClienteImporter;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.bulkimport.ImportFormat;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.logging.LogExecutionTime;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Controller REST para importação de arquivos de clientes (NDJSON ou CSV).
+ * Adapter de entrada (driving adapter) na arquitetura hexagonal.
+ *
+ * O corpo é lido em streaming pelo {@link ClienteImporter}: não passa por {@code @RequestBody},
+ * que carregaria o arquivo inteiro em memória.
+ */
+@RestController
+@RequestMapping("/v1/clientes")
+@Tag(name = "Importação de clientes", description = "Carga de arquivos de clientes PF/PJ com acompanhamento por job")
+public class ClienteImportController {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(ImportFormat.CSV_VALUE);
+
+    private final ClienteImporter clienteImporter;
+
+    public ClienteImportController(ClienteImporter clienteImporter) {
+        this.clienteImporter = clienteImporter;
+    }
+
+    @PostMapping(path = "/pf/import", consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE')")
+    @LogExecutionTime(layer = LogExecutionTime.Layer.CONTROLLER)
+    @Operation(summary = "Importar arquivo de clientes PF",
+               description = "Recebe um arquivo NDJSON (application/x-ndjson) ou CSV com cabeçalho (text/csv) com os campos " +
+                       "do POST /v1/clientes/pf. O arquivo é lido em streaming e gravado em blocos enquanto chega. " +
+                       "Responde 202 ao fim do upload, com o job para acompanhar o progresso (Location). " +
+                       "Requer role ADMIN ou EMPLOYEE.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Arquivo recebido; gravação em andamento"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - requer role ADMIN ou EMPLOYEE"),
+            @ApiResponse(responseCode = "415", description = "Content-Type diferente de NDJSON ou CSV"),
+            @ApiResponse(responseCode = "429", description = "Limite de importações simultâneas atingido")
+    })
+    public ResponseEntity<ClienteImportJobResponse> importarPF(HttpServletRequest request) throws IOException {
+        return aceito(clienteImporter.importarPF(ImportFormat.of(request.getContentType()), request.getInputStream()));
+    }
+
+    @PostMapping(path = "/pj/import", consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE})
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE')")
+    @LogExecutionTime(layer = LogExecutionTime.Layer.CONTROLLER)
+    @Operation(summary = "Importar arquivo de clientes PJ",
+               description = "Como a importação PF, com os campos do POST /v1/clientes/pj. Requer role ADMIN ou EMPLOYEE.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Arquivo recebido; gravação em andamento"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - requer role ADMIN ou EMPLOYEE"),
+            @ApiResponse(responseCode = "415", description = "Content-Type diferente de NDJSON ou CSV"),
+            @ApiResponse(responseCode = "429", description = "Limite de importações simultâneas atingido")
+    })
+    public ResponseEntity<ClienteImportJobResponse> importarPJ(HttpServletRequest request) throws IOException {
+        return aceito(clienteImporter.importarPJ(ImportFormat.of(request.getContentType()), request.getInputStream()));
+    }
+
+    @GetMapping("/imports/{id}")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE')")
+    @Operation(summary = "Progresso da importação",
+               description = "Linhas lidas, clientes criados, falhas e vazão da importação. O job fica na instância " +
+                       "que recebeu o upload: com várias instâncias, a consulta precisa chegar a ela (sessão sticky). " +
+                       "Requer role ADMIN ou EMPLOYEE.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Importação encontrada"),
+            @ApiResponse(responseCode = "404", description = "Importação inexistente, expirada ou recebida por outra instância")
+    })
+    public ResponseEntity<ClienteImportJobResponse> buscar(
+            @Parameter(description = "Id da importação") @PathVariable UUID id) {
+        return ResponseEntity.ok(clienteImporter.buscar(id).toResponse());
+    }
+
+    @GetMapping(path = "/imports/{id}/erros", produces = ImportFormat.CSV_VALUE)
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE')")
+    @Operation(summary = "Relatório de erros da importação",
+               description = "CSV (linha;status;mensagem) com as linhas rejeitadas. Completo quando o status é " +
+                       "CONCLUIDO ou INTERROMPIDO. Requer role ADMIN ou EMPLOYEE.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Relatório de erros"),
+            @ApiResponse(responseCode = "404", description = "Importação inexistente, expirada ou recebida por outra instância")
+    })
+    public ResponseEntity<Resource> relatorioErros(
+            @Parameter(description = "Id da importação") @PathVariable UUID id) {
+        ClienteImportJob job = clienteImporter.buscar(id);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("importacao-" + id + "-erros.csv").build().toString())
+                .body(new FileSystemResource(job.relatorio()));
+    }
+
+    private static ResponseEntity<ClienteImportJobResponse> aceito(ClienteImportJob job) {
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path("/v1/clientes/imports/{id}").buildAndExpand(job.id()).toUri())
+                .body(job.toResponse());
+    }
+}
@@ -2,18 +2,24 @@ package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
 
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.BloquearClienteRequest;
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePFRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateClientePFRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.CursorPageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.logging.LogExecutionTime;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.BloquearClienteUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePFBatchUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePFUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.DeleteClienteUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.ExportClientePFUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByCpfUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByIdUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.ListClientePFUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.UpdateClientePFUseCase;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,18 +27,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.RenderedJsonCache;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.security.CustomerAccessValidator;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -45,31 +59,43 @@ import java.util.UUID;
 public class ClientePFController {
 
     private final CreateClientePFUseCase createClientePFUseCase;
+    private final CreateClientePFBatchUseCase createClientePFBatchUseCase;
     private final UpdateClientePFUseCase updateClientePFUseCase;
     private final FindClientePFByIdUseCase findClientePFByIdUseCase;
     private final FindClientePFByCpfUseCase findClientePFByCpfUseCase;
     private final ListClientePFUseCase listClientePFUseCase;
+    private final ExportClientePFUseCase exportClientePFUseCase;
     private final DeleteClienteUseCase deleteClienteUseCase;
     private final BloquearClienteUseCase bloquearClienteUseCase;
     private final CustomerAccessValidator customerAccessValidator;
+    private final RenderedJsonCache renderedJsonCache;
+    private final ObjectMapper objectMapper;
 
     public ClientePFController(
             CreateClientePFUseCase createClientePFUseCase,
+            CreateClientePFBatchUseCase createClientePFBatchUseCase,
             UpdateClientePFUseCase updateClientePFUseCase,
             FindClientePFByIdUseCase findClientePFByIdUseCase,
             FindClientePFByCpfUseCase findClientePFByCpfUseCase,
             ListClientePFUseCase listClientePFUseCase,
+            ExportClientePFUseCase exportClientePFUseCase,
             DeleteClienteUseCase deleteClienteUseCase,
             BloquearClienteUseCase bloquearClienteUseCase,
-            CustomerAccessValidator customerAccessValidator) {
+            CustomerAccessValidator customerAccessValidator,
+            RenderedJsonCache renderedJsonCache,
+            ObjectMapper objectMapper) {
         this.createClientePFUseCase = createClientePFUseCase;
+        this.createClientePFBatchUseCase = createClientePFBatchUseCase;
         this.updateClientePFUseCase = updateClientePFUseCase;
         this.findClientePFByIdUseCase = findClientePFByIdUseCase;
         this.findClientePFByCpfUseCase = findClientePFByCpfUseCase;
         this.listClientePFUseCase = listClientePFUseCase;
+        this.exportClientePFUseCase = exportClientePFUseCase;
         this.deleteClienteUseCase = deleteClienteUseCase;
         this.bloquearClienteUseCase = bloquearClienteUseCase;
         this.customerAccessValidator = customerAccessValidator;
+        this.renderedJsonCache = renderedJsonCache;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -87,24 +113,57 @@ public class ClientePFController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE')")
+    @LogExecutionTime(layer = LogExecutionTime.Layer.CONTROLLER)
+    @Operation(summary = "Criar clientes PF em lote",
+               description = "Cria vários clientes pessoa física numa única requisição (carga de bases de parceiros). " +
+                       "Cada item é validado e gravado de forma independente: a resposta traz, na ordem recebida, " +
+                       "o status que o item teria no POST unitário (201, 400, 404 ou 409) e o publicId dos criados, " +
+                       "além da vazão em clientes/segundo. Requer role ADMIN ou EMPLOYEE.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; ver o status de cada item",
+                        content = @Content(schema = @Schema(implementation = ClienteBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do máximo por requisição"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - requer role ADMIN ou EMPLOYEE")
+    })
+    public ResponseEntity<ClienteBatchResponse> criarEmLote(@RequestBody List<CreateClientePFRequest> requests) {
+        // Sem @Valid: itens inválidos são rejeitados um a um, sem derrubar o lote
+        return ResponseEntity.ok(createClientePFBatchUseCase.criarEmLote(requests));
+    }
+
     @GetMapping("/{publicId}")
     @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE', 'CUSTOMER', 'SERVICE')")
     @Operation(summary = "Buscar cliente PF por Public ID", description = "Retorna um cliente pessoa física pelo UUID público. Requer autenticação. CUSTOMER vê apenas próprio cadastro.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Cliente encontrado"),
+            @ApiResponse(responseCode = "200", description = "Cliente encontrado",
+                        content = @Content(mediaType = "application/json",
+                                schema = @Schema(implementation = ClientePFResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Não modificado desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Acesso negado - CUSTOMER tentou acessar dados de outro cliente"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
     })
-    public ResponseEntity<ClientePFResponse> buscarPorId(
+    public ResponseEntity<byte[]> buscarPorId(
             @Parameter(description = "UUID público do cliente") @PathVariable UUID publicId,
-            Authentication authentication) {
+            Authentication authentication,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         // Valida se CUSTOMER está tentando acessar apenas próprio cadastro
         customerAccessValidator.validateAccess(publicId, authentication);
 
         ClientePFResponse response = findClientePFByIdUseCase.findByPublicId(publicId);
-        return ResponseEntity.ok(response);
+
+        // Versão conhecida pelo cliente HTTP: 304 sem renderizar nada
+        String etag = ClienteETags.of(response);
+        String naoModificado = ClienteETags.match(ifNoneMatch, etag);
+        if (naoModificado != null) {
+            return ClienteETags.notModified(naoModificado);
+        }
+
+        // JSON (e gzip) pré-renderado: hits não passam pelo Jackson
+        return RenderedJsonResponses.ok(renderedJsonCache.render(publicId.toString(), response), acceptEncoding, etag);
     }
 
     @GetMapping("/cpf/{cpf}")
@@ -127,18 +186,11 @@ public class ClientePFController {
                       example = "12345678910") @PathVariable String cpf,
             Authentication authentication) {
 
-        // Busca cliente completo
-        ClientePFResponse response = findClientePFByCpfUseCase.findByCpf(cpf);
+        // Apenas dados reduzidos (LGPD - minimização de dados): projeção, sem carregar o agregado
+        ClientePFLookupResponse lookupResponse = findClientePFByCpfUseCase.lookupByCpf(cpf);
 
         // Valida se CUSTOMER está tentando acessar apenas próprio cadastro
-        customerAccessValidator.validateAccess(response.publicId(), authentication);
-
-        // Retorna apenas dados reduzidos (LGPD - minimização de dados)
-        ClientePFLookupResponse lookupResponse = new ClientePFLookupResponse(
-                response.primeiroNome(),
-                response.sobrenome(),
-                response.publicId()
-        );
+        customerAccessValidator.validateAccess(lookupResponse.publicId(), authentication);
 
         return ResponseEntity.ok(lookupResponse);
     }
@@ -152,19 +204,83 @@ public class ClientePFController {
                     description = "Lista retornada com sucesso",
                     content = @Content(schema = @Schema(implementation = PageResponse.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Página não modificada desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Não autenticado")
     })
     public ResponseEntity<PageResponse<ClientePFResponse>> listar(
             @Parameter(description = "Número da página (inicia em 0)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Campo para ordenação") @RequestParam(defaultValue = "id") String sort,
-            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction) {
+            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Total de elementos: EXACT (COUNT a cada página), ESTIMATED (aproximado) ou NONE (só indica se há próxima página)")
+            @RequestParam(defaultValue = "EXACT") TotalMode total,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        PageResponse<ClientePFResponse> response = listClientePFUseCase.findAll(pageable);
-        return ResponseEntity.ok(response);
+        PageResponse<ClientePFResponse> response = listClientePFUseCase.findAll(pageable, total);
+
+        String etag = ClienteETags.of(response, ClientePFResponse::publicId);
+        if (ClienteETags.match(ifNoneMatch, etag) != null) {
+            return ClienteETags.notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(ClienteETags.CACHE_CONTROL).body(response);
+    }
+
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE', 'SERVICE')")
+    @Operation(summary = "Listar clientes PF por cursor",
+               description = "Lista clientes pessoa física em ordem de criação, paginando por cursor. " +
+                       "O custo por página é constante em qualquer profundidade: use para varrer a base inteira. " +
+                       "Requer role ADMIN, EMPLOYEE ou SERVICE.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido ou tamanho de página fora de 1 a 100"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado")
+    })
+    public ResponseEntity<CursorPageResponse<ClientePFResponse>> listarPorCursor(
+            @Parameter(description = "Cursor devolvido em nextCursor pela página anterior (vazio na primeira)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(listClientePFUseCase.findAllByCursor(cursor, size));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE', 'SERVICE')")
+    @LogExecutionTime(layer = LogExecutionTime.Layer.CONTROLLER)
+    @Operation(summary = "Exportar clientes PF",
+               description = "Exporta todos os clientes pessoa física (inclusive deletados) em NDJSON, um cliente por linha, " +
+                       "em ordem de dataAtualizacao. O corpo é escrito enquanto os clientes são lidos do banco: memória " +
+                       "constante em qualquer volume. Com atualizadoDesde, exporta só o que mudou (incremental). " +
+                       "Comprimido com gzip se Accept-Encoding permitir. Requer role ADMIN, EMPLOYEE ou SERVICE.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Clientes em NDJSON",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ClientePFResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "atualizadoDesde não é anterior a atualizadoAte"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado")
+    })
+    public void exportar(
+            @Parameter(description = "Só clientes com dataAtualizacao a partir desta data (ISO, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime atualizadoDesde,
+            @Parameter(description = "Só clientes com dataAtualizacao antes desta data (ISO, exclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime atualizadoAte,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+
+        NdjsonResponseWriter saida = new NdjsonResponseWriter(
+                response, objectMapper, RenderedJsonResponses.aceitaGzip(acceptEncoding));
+        exportClientePFUseCase.exportar(atualizadoDesde, atualizadoAte, saida::escrever);
+        saida.concluir();
     }
 
     @PutMapping("/{publicId}")
@@ -172,19 +288,29 @@ public class ClientePFController {
     @Operation(
             summary = "Atualizar cliente PF",
             description = "Atualiza dados do cliente PF e suas entidades relacionadas (documentos, endereços, contatos). " +
-                    "Permite atualização seletiva: apenas os campos presentes no request serão atualizados. Requer role ADMIN ou EMPLOYEE."
+                    "Permite atualização seletiva: apenas os campos presentes no request serão atualizados. " +
+                    "Exige If-Match com a ETag do GET (versão do cliente): se outra requisição alterou o cliente " +
+                    "depois, responde 412 em vez de sobrescrever. If-Match: * só exige que o cliente exista " +
+                    "(412 se outra requisição gravar durante a atualização). " +
+                    "Requer role ADMIN ou EMPLOYEE."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Cliente atualizado com sucesso"),
+            @ApiResponse(responseCode = "200", description = "Cliente atualizado com sucesso (ETag com a nova versão)"),
             @ApiResponse(responseCode = "400", description = "Dados inválidos"),
             @ApiResponse(responseCode = "403", description = "Acesso negado - requer role ADMIN ou EMPLOYEE"),
             @ApiResponse(responseCode = "404", description = "Cliente, documento, endereço ou contato não encontrado"),
-            @ApiResponse(responseCode = "409", description = "Conflito ao tentar marcar mais de um item como principal")
+            @ApiResponse(responseCode = "409", description = "Conflito ao tentar marcar mais de um item como principal"),
+            @ApiResponse(responseCode = "412", description = "Cliente alterado por outra requisição depois da versão do If-Match"),
+            @ApiResponse(responseCode = "428", description = "If-Match ausente")
     })
     public ResponseEntity<ClientePFResponse> atualizar(
             @Parameter(description = "UUID público do cliente") @PathVariable UUID publicId,
+            @Parameter(description = "ETag do cliente (GET), ou * para a versão atual")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateClientePFRequest request) {
 
+        Long versaoEsperada = ClienteETags.versaoEsperada(ifMatch);
+
         // Garantir que o publicId do path seja usado (segurança)
         UpdateClientePFRequest requestComId = UpdateClientePFRequest.builder()
                 .publicId(publicId)
@@ -207,8 +333,8 @@ public class ClientePFController {
                 .contatos(request.contatos())
                 .build();
 
-        ClientePFResponse response = updateClientePFUseCase.atualizar(requestComId);
-        return ResponseEntity.ok(response);
+        ClientePFResponse response = updateClientePFUseCase.atualizar(requestComId, versaoEsperada);
+        return ResponseEntity.ok().eTag(ClienteETags.of(response)).body(response);
     }
 
     @DeleteMapping("/{publicId}")
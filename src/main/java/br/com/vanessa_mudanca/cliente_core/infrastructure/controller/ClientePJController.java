@@ -1,18 +1,25 @@
 package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
 
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePJRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateClientePJRequest;
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.BloquearClienteRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.CursorPageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePJBatchUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePJUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.DeleteClienteUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.ExportClientePJUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByCnpjUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByIdUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.ListClientePJUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.UpdateClientePJUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.BloquearClienteUseCase;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.logging.LogExecutionTime;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,18 +27,26 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.RenderedJsonCache;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.security.CustomerAccessValidator;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -44,31 +59,43 @@ import java.util.UUID;
 public class ClientePJController {
 
     private final CreateClientePJUseCase createClientePJUseCase;
+    private final CreateClientePJBatchUseCase createClientePJBatchUseCase;
     private final UpdateClientePJUseCase updateClientePJUseCase;
     private final FindClientePJByIdUseCase findClientePJByIdUseCase;
     private final FindClientePJByCnpjUseCase findClientePJByCnpjUseCase;
     private final ListClientePJUseCase listClientePJUseCase;
+    private final ExportClientePJUseCase exportClientePJUseCase;
     private final DeleteClienteUseCase deleteClienteUseCase;
     private final BloquearClienteUseCase bloquearClienteUseCase;
     private final CustomerAccessValidator customerAccessValidator;
+    private final RenderedJsonCache renderedJsonCache;
+    private final ObjectMapper objectMapper;
 
     public ClientePJController(
             CreateClientePJUseCase createClientePJUseCase,
+            CreateClientePJBatchUseCase createClientePJBatchUseCase,
             UpdateClientePJUseCase updateClientePJUseCase,
             FindClientePJByIdUseCase findClientePJByIdUseCase,
             FindClientePJByCnpjUseCase findClientePJByCnpjUseCase,
             ListClientePJUseCase listClientePJUseCase,
+            ExportClientePJUseCase exportClientePJUseCase,
             DeleteClienteUseCase deleteClienteUseCase,
             BloquearClienteUseCase bloquearClienteUseCase,
-            CustomerAccessValidator customerAccessValidator) {
+            CustomerAccessValidator customerAccessValidator,
+            RenderedJsonCache renderedJsonCache,
+            ObjectMapper objectMapper) {
         this.createClientePJUseCase = createClientePJUseCase;
+        this.createClientePJBatchUseCase = createClientePJBatchUseCase;
         this.updateClientePJUseCase = updateClientePJUseCase;
         this.findClientePJByIdUseCase = findClientePJByIdUseCase;
         this.findClientePJByCnpjUseCase = findClientePJByCnpjUseCase;
         this.listClientePJUseCase = listClientePJUseCase;
+        this.exportClientePJUseCase = exportClientePJUseCase;
         this.deleteClienteUseCase = deleteClienteUseCase;
         this.bloquearClienteUseCase = bloquearClienteUseCase;
         this.customerAccessValidator = customerAccessValidator;
+        this.renderedJsonCache = renderedJsonCache;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -84,24 +111,57 @@ public class ClientePJController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/batch")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE')")
+    @LogExecutionTime(layer = LogExecutionTime.Layer.CONTROLLER)
+    @Operation(summary = "Criar clientes PJ em lote",
+               description = "Cria vários clientes pessoa jurídica numa única requisição (carga de bases de parceiros). " +
+                       "Cada item é validado e gravado de forma independente: a resposta traz, na ordem recebida, " +
+                       "o status que o item teria no POST unitário (201, 400, 404 ou 409) e o publicId dos criados, " +
+                       "além da vazão em clientes/segundo. Requer role ADMIN ou EMPLOYEE.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; ver o status de cada item",
+                        content = @Content(schema = @Schema(implementation = ClienteBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou acima do máximo por requisição"),
+            @ApiResponse(responseCode = "403", description = "Acesso negado - requer role ADMIN ou EMPLOYEE")
+    })
+    public ResponseEntity<ClienteBatchResponse> criarEmLote(@RequestBody List<CreateClientePJRequest> requests) {
+        // Sem @Valid: itens inválidos são rejeitados um a um, sem derrubar o lote
+        return ResponseEntity.ok(createClientePJBatchUseCase.criarEmLote(requests));
+    }
+
     @GetMapping("/{publicId}")
     @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE', 'CUSTOMER', 'SERVICE')")
     @Operation(summary = "Buscar cliente PJ por Public ID", description = "Retorna um cliente pessoa jurídica pelo UUID público. Requer autenticação. CUSTOMER vê apenas próprio cadastro.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Cliente encontrado"),
+            @ApiResponse(responseCode = "200", description = "Cliente encontrado",
+                        content = @Content(mediaType = "application/json",
+                                schema = @Schema(implementation = ClientePJResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Não modificado desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Acesso negado - CUSTOMER tentou acessar dados de outro cliente"),
             @ApiResponse(responseCode = "404", description = "Cliente não encontrado")
     })
-    public ResponseEntity<ClientePJResponse> buscarPorId(
+    public ResponseEntity<byte[]> buscarPorId(
             @Parameter(description = "UUID público do cliente") @PathVariable UUID publicId,
-            Authentication authentication) {
+            Authentication authentication,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         // Valida se CUSTOMER está tentando acessar apenas próprio cadastro
         customerAccessValidator.validateAccess(publicId, authentication);
 
         ClientePJResponse response = findClientePJByIdUseCase.findByPublicId(publicId);
-        return ResponseEntity.ok(response);
+
+        // Versão conhecida pelo cliente HTTP: 304 sem renderizar nada
+        String etag = ClienteETags.of(response);
+        String naoModificado = ClienteETags.match(ifNoneMatch, etag);
+        if (naoModificado != null) {
+            return ClienteETags.notModified(naoModificado);
+        }
+
+        // JSON (e gzip) pré-renderado: hits não passam pelo Jackson
+        return RenderedJsonResponses.ok(renderedJsonCache.render(publicId.toString(), response), acceptEncoding, etag);
     }
 
     @GetMapping("/cnpj/{cnpj}")
@@ -125,17 +185,11 @@ public class ClientePJController {
                       example = "12345678000190") @PathVariable String cnpj,
             Authentication authentication) {
 
-        // Busca cliente completo
-        ClientePJResponse response = findClientePJByCnpjUseCase.findByCnpj(cnpj);
+        // Apenas dados reduzidos (LGPD - minimização de dados): projeção, sem carregar o agregado
+        ClientePJLookupResponse lookupResponse = findClientePJByCnpjUseCase.lookupByCnpj(cnpj);
 
         // Valida se CUSTOMER está tentando acessar apenas próprio cadastro
-        customerAccessValidator.validateAccess(response.publicId(), authentication);
-
-        // Retorna apenas dados reduzidos (LGPD - minimização de dados)
-        ClientePJLookupResponse lookupResponse = new ClientePJLookupResponse(
-                response.nomeFantasia(),
-                response.publicId()
-        );
+        customerAccessValidator.validateAccess(lookupResponse.publicId(), authentication);
 
         return ResponseEntity.ok(lookupResponse);
     }
@@ -149,6 +203,7 @@ public class ClientePJController {
                     description = "Lista retornada com sucesso",
                     content = @Content(schema = @Schema(implementation = PageResponse.class))
             ),
+            @ApiResponse(responseCode = "304", description = "Página não modificada desde a ETag informada em If-None-Match"),
             @ApiResponse(responseCode = "401", description = "Não autenticado"),
             @ApiResponse(responseCode = "403", description = "Acesso negado - CUSTOMER não pode listar todos os clientes")
     })
@@ -156,13 +211,76 @@ public class ClientePJController {
             @Parameter(description = "Número da página (inicia em 0)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size,
             @Parameter(description = "Campo para ordenação") @RequestParam(defaultValue = "id") String sort,
-            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction) {
+            @Parameter(description = "Direção da ordenação (ASC ou DESC)") @RequestParam(defaultValue = "ASC") String direction,
+            @Parameter(description = "Total de elementos: EXACT (COUNT a cada página), ESTIMATED (aproximado) ou NONE (só indica se há próxima página)")
+            @RequestParam(defaultValue = "EXACT") TotalMode total,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
 
-        PageResponse<ClientePJResponse> response = listClientePJUseCase.findAll(pageable);
-        return ResponseEntity.ok(response);
+        PageResponse<ClientePJResponse> response = listClientePJUseCase.findAll(pageable, total);
+
+        String etag = ClienteETags.of(response, ClientePJResponse::publicId);
+        if (ClienteETags.match(ifNoneMatch, etag) != null) {
+            return ClienteETags.notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(ClienteETags.CACHE_CONTROL).body(response);
+    }
+
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE', 'SERVICE')")
+    @Operation(summary = "Listar clientes PJ por cursor",
+               description = "Lista clientes pessoa jurídica em ordem de criação, paginando por cursor. " +
+                       "O custo por página é constante em qualquer profundidade: use para varrer a base inteira. " +
+                       "Requer role ADMIN, EMPLOYEE ou SERVICE.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Página retornada com sucesso",
+                    content = @Content(schema = @Schema(implementation = CursorPageResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Cursor inválido ou tamanho de página fora de 1 a 100"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado")
+    })
+    public ResponseEntity<CursorPageResponse<ClientePJResponse>> listarPorCursor(
+            @Parameter(description = "Cursor devolvido em nextCursor pela página anterior (vazio na primeira)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamanho da página (máximo 100)") @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(listClientePJUseCase.findAllByCursor(cursor, size));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyAuthority('ADMIN', 'EMPLOYEE', 'SERVICE')")
+    @LogExecutionTime(layer = LogExecutionTime.Layer.CONTROLLER)
+    @Operation(summary = "Exportar clientes PJ",
+               description = "Exporta todos os clientes pessoa jurídica (inclusive deletados) em NDJSON, um cliente por linha, " +
+                       "em ordem de dataAtualizacao. O corpo é escrito enquanto os clientes são lidos do banco: memória " +
+                       "constante em qualquer volume. Com atualizadoDesde, exporta só o que mudou (incremental). " +
+                       "Comprimido com gzip se Accept-Encoding permitir. Requer role ADMIN, EMPLOYEE ou SERVICE.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Clientes em NDJSON",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ClientePJResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "atualizadoDesde não é anterior a atualizadoAte"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado")
+    })
+    public void exportar(
+            @Parameter(description = "Só clientes com dataAtualizacao a partir desta data (ISO, inclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime atualizadoDesde,
+            @Parameter(description = "Só clientes com dataAtualizacao antes desta data (ISO, exclusive)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime atualizadoAte,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) throws IOException {
+
+        NdjsonResponseWriter saida = new NdjsonResponseWriter(
+                response, objectMapper, RenderedJsonResponses.aceitaGzip(acceptEncoding));
+        exportClientePJUseCase.exportar(atualizadoDesde, atualizadoAte, saida::escrever);
+        saida.concluir();
     }
 
     @PutMapping("/{publicId}")
@@ -170,19 +288,29 @@ public class ClientePJController {
     @Operation(
             summary = "Atualizar cliente PJ",
             description = "Atualiza dados do cliente PJ e suas entidades relacionadas (documentos, endereços, contatos). " +
-                    "Permite atualização seletiva: apenas os campos presentes no request serão atualizados. Requer role ADMIN ou EMPLOYEE."
+                    "Permite atualização seletiva: apenas os campos presentes no request serão atualizados. " +
+                    "Exige If-Match com a ETag do GET (versão do cliente): se outra requisição alterou o cliente " +
+                    "depois, responde 412 em vez de sobrescrever. If-Match: * só exige que o cliente exista " +
+                    "(412 se outra requisição gravar durante a atualização). " +
+                    "Requer role ADMIN ou EMPLOYEE."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Cliente atualizado com sucesso"),
+            @ApiResponse(responseCode = "200", description = "Cliente atualizado com sucesso (ETag com a nova versão)"),
             @ApiResponse(responseCode = "400", description = "Dados inválidos"),
             @ApiResponse(responseCode = "403", description = "Acesso negado - requer role ADMIN ou EMPLOYEE"),
             @ApiResponse(responseCode = "404", description = "Cliente, documento, endereço ou contato não encontrado"),
-            @ApiResponse(responseCode = "409", description = "Conflito ao tentar marcar mais de um item como principal")
+            @ApiResponse(responseCode = "409", description = "Conflito ao tentar marcar mais de um item como principal"),
+            @ApiResponse(responseCode = "412", description = "Cliente alterado por outra requisição depois da versão do If-Match"),
+            @ApiResponse(responseCode = "428", description = "If-Match ausente")
     })
     public ResponseEntity<ClientePJResponse> atualizar(
             @Parameter(description = "UUID público do cliente") @PathVariable UUID publicId,
+            @Parameter(description = "ETag do cliente (GET), ou * para a versão atual")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateClientePJRequest request) {
 
+        Long versaoEsperada = ClienteETags.versaoEsperada(ifMatch);
+
         // Garantir que o publicId do path seja usado (segurança)
         UpdateClientePJRequest requestComId = UpdateClientePJRequest.builder()
                 .publicId(publicId)
@@ -207,8 +335,8 @@ public class ClientePJController {
                 .contatos(request.contatos())
                 .build();
 
-        ClientePJResponse response = updateClientePJUseCase.atualizar(requestComId);
-        return ResponseEntity.ok(response);
+        ClientePJResponse response = updateClientePJUseCase.atualizar(requestComId, versaoEsperada);
+        return ResponseEntity.ok().eTag(ClienteETags.of(response)).body(response);
     }
 
     @DeleteMapping("/{publicId}")
@@ -0,0 +1,79 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escreve uma resposta NDJSON (um JSON por linha) direto no corpo, à medida que os itens chegam:
+ * nada é acumulado além dos buffers do Jackson, do gzip e do container.
+ *
+ * A resposta só é aberta no primeiro item (ou no {@link #concluir()}): até lá, uma exceção
+ * ainda vira a resposta de erro normal do GlobalExceptionHandler. Depois, o status 200 já foi
+ * enviado e uma falha só interrompe o corpo (com gzip, o cliente detecta o arquivo truncado).
+ */
+final class NdjsonResponseWriter {
+
+    private final HttpServletResponse response;
+    private final ObjectWriter writer;
+    private final boolean gzip;
+    private JsonGenerator gerador;
+
+    /**
+     * @param gzip comprime o corpo ({@code Content-Encoding: gzip}); ver {@link RenderedJsonResponses#aceitaGzip}
+     */
+    NdjsonResponseWriter(HttpServletResponse response, ObjectMapper objectMapper, boolean gzip) {
+        this.response = response;
+        // Sem flush por item: o container envia o buffer quando enche
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.gzip = gzip;
+    }
+
+    void escrever(Object item) {
+        try {
+            if (gerador == null) {
+                abrir();
+            }
+            writer.writeValue(gerador, item);
+            gerador.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fecha o corpo (e o gzip). Sem nenhum item, responde 200 com corpo vazio.
+     */
+    void concluir() throws IOException {
+        if (gerador == null) {
+            abrir();
+        }
+        gerador.close();
+    }
+
+    private void abrir() throws IOException {
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        OutputStream saida = response.getOutputStream();
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            saida = new GZIPOutputStream(saida, 8192);
+        }
+        gerador = writer.getFactory().createGenerator(saida, JsonEncoding.UTF8);
+        // Separador entre valores de raiz é um espaço por padrão; a quebra de linha vai explícita
+        gerador.setRootValueSeparator(null);
+    }
+}
@@ -0,0 +1,65 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
+
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.RenderedJson;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Monta a resposta HTTP a partir de um {@link RenderedJson}: os bytes vão direto para o corpo,
+ * sem passar pelo conversor Jackson do Spring MVC.
+ */
+final class RenderedJsonResponses {
+
+    private RenderedJsonResponses() {
+    }
+
+    /**
+     * 200 com o JSON (ou a variante gzip, se o cliente aceitar), {@code Content-Length},
+     * {@code Vary: Accept-Encoding} e, se houver, a ETag da variante servida.
+     *
+     * @param etag ETag do cliente ({@link ClienteETags#of}); null = sem GET condicional
+     */
+    static ResponseEntity<byte[]> ok(RenderedJson rendered, String acceptEncoding, String etag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = rendered.hasGzip() && aceitaGzip(acceptEncoding);
+        if (etag != null) {
+            builder.eTag(gzip ? ClienteETags.gzip(etag) : etag).cacheControl(ClienteETags.CACHE_CONTROL);
+        }
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .contentLength(rendered.gzip().length)
+                    .body(rendered.gzip());
+        }
+        return builder.contentLength(rendered.json().length).body(rendered.json());
+    }
+
+    /**
+     * {@code true} se o {@code Accept-Encoding} lista {@code gzip} (ou {@code *}) sem {@code q=0}.
+     */
+    static boolean aceitaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacao : acceptEncoding.split(",")) {
+            String[] partes = codificacao.split(";");
+            String nome = partes[0].trim();
+            if (!nome.equalsIgnoreCase("gzip") && !nome.equals("*")) {
+                continue;
+            }
+            boolean recusado = false;
+            for (int i = 1; i < partes.length; i++) {
+                String parametro = partes[i].trim().replace(" ", "");
+                if (parametro.matches("q=0(\\.0{0,3})?")) {
+                    recusado = true;
+                }
+            }
+            if (!recusado) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.datasource;
+
+/**
+ * Destino de uma conexão no {@link ReadReplicaRoutingDataSource}.
+ * O nome em minúsculas é o {@code poolName} do Hikari e a tag {@code route} das métricas.
+ */
+public enum DataSourceRoute {
+
+    /** Instância primária: escritas e leituras que precisam ver a última escrita. */
+    PRIMARY,
+
+    /** Réplica de leitura: transações {@code readOnly = true}. */
+    REPLICA;
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
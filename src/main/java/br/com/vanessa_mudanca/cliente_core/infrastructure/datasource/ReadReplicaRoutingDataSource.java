@@ -0,0 +1,78 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * DataSource que envia transações {@code readOnly = true} para a réplica e todo o resto
+ * para a primária.
+ *
+ * A rota é decidida quando a conexão física é obtida. Por isso este DataSource precisa ficar
+ * atrás de um {@code LazyConnectionDataSourceProxy}: o JPA pede a conexão no início da
+ * transação, antes de o flag read-only estar disponível em {@link TransactionSynchronizationManager};
+ * o proxy adia a obtenção até o primeiro statement.
+ *
+ * {@link #primary(Supplier)} força a primária no trecho (read-your-writes), mesmo em
+ * transação read-only.
+ *
+ * Métrica: {@code datasource.route.connections{route=primary|replica}} – conexões obtidas por rota.
+ * O estado de cada pool sai das métricas do Hikari ({@code hikaricp.connections.*{pool=...}}).
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final ThreadLocal<Boolean> FORCAR_PRIMARIA = new ThreadLocal<>();
+
+    private final Map<DataSourceRoute, Counter> conexoes = new EnumMap<>(DataSourceRoute.class);
+
+    public ReadReplicaRoutingDataSource(DataSource primaria, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primaria, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primaria);
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            conexoes.put(route, Counter.builder("datasource.route.connections")
+                    .tag("route", route.tag())
+                    .register(meterRegistry));
+        }
+        afterPropertiesSet();
+    }
+
+    /**
+     * Executa o trecho com as conexões obtidas na primária.
+     */
+    public static <T> T primary(Supplier<T> trecho) {
+        Boolean anterior = FORCAR_PRIMARIA.get();
+        FORCAR_PRIMARIA.set(Boolean.TRUE);
+        try {
+            return trecho.get();
+        } finally {
+            if (anterior == null) {
+                FORCAR_PRIMARIA.remove();
+            } else {
+                FORCAR_PRIMARIA.set(anterior);
+            }
+        }
+    }
+
+    /**
+     * Rota que uma conexão obtida agora receberia.
+     */
+    public static DataSourceRoute currentRoute() {
+        if (FORCAR_PRIMARIA.get() == null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRoute.REPLICA;
+        }
+        return DataSourceRoute.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRoute route = currentRoute();
+        conexoes.get(route).increment();
+        return route;
+    }
+}
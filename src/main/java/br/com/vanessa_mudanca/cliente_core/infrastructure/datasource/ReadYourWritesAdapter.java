@@ -0,0 +1,44 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.datasource;
+
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Implementação de {@link ReadYourWritesPort} sobre a réplica de leitura.
+ *
+ * Leituras de um cliente registrado no {@link ReadYourWritesTracker} vão para a primária.
+ * Sem réplica configurada ({@code datasource.replica.enabled=false}) não há tracker e a
+ * leitura segue sem desvio.
+ *
+ * A leitura roda dentro da transação read-only do chamador: a rota é decidida no primeiro
+ * statement (ver {@link ReadReplicaRoutingDataSource}), portanto já dentro de
+ * {@link ReadReplicaRoutingDataSource#primary}.
+ *
+ * Métrica: {@code datasource.read-your-writes.primary} – leituras desviadas para a primária.
+ */
+@Component
+public class ReadYourWritesAdapter implements ReadYourWritesPort {
+
+    private final ReadYourWritesTracker tracker;
+    private final Counter desviadas;
+
+    public ReadYourWritesAdapter(ObjectProvider<ReadYourWritesTracker> tracker, MeterRegistry meterRegistry) {
+        this.tracker = tracker.getIfAvailable();
+        this.desviadas = Counter.builder("datasource.read-your-writes.primary")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T> T ler(String chave, Supplier<T> leitura) {
+        if (tracker == null || !tracker.escritoRecentemente(chave)) {
+            return leitura.get();
+        }
+        desviadas.increment();
+        return ReadReplicaRoutingDataSource.primary(leitura);
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.datasource;
+
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Registra as escritas em cliente para o read-your-writes sobre a réplica de leitura.
+ *
+ * Toda escrita em cliente já termina em {@code ClienteCachePort.invalidar(cliente)};
+ * o mesmo ponto registra o cliente no {@link ReadYourWritesTracker}. As leituras consultam
+ * o tracker pelo {@code ReadYourWritesPort} ({@link ReadYourWritesAdapter}).
+ */
+@Aspect
+public class ReadYourWritesAspect {
+
+    private final ReadYourWritesTracker tracker;
+
+    public ReadYourWritesAspect(ReadYourWritesTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @AfterReturning("execution(* br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort.invalidar(..)) && args(cliente)")
+    public void registrarEscrita(Cliente cliente) {
+        tracker.registrar(cliente);
+    }
+}
@@ -0,0 +1,63 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.datasource;
+
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import br.com.vanessa_mudanca.cliente_core.domain.validator.DocumentoValidator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+
+/**
+ * Clientes escritos recentemente por esta instância, para a janela de read-your-writes.
+ *
+ * Cada escrita registra o publicId e o CPF/CNPJ (só dígitos) do cliente; as entradas expiram
+ * após a janela configurada, que deve cobrir o atraso de replicação observado.
+ *
+ * O registro fica na memória da instância: read-your-writes só vale quando a leitura cai no
+ * mesmo nó que fez a escrita. Com várias instâncias atrás do balanceador, uma leitura em outro
+ * nó pode ir para a réplica e ver o estado anterior; é preciso sessão sticky por cliente ou um
+ * registro compartilhado (ex.: Redis) para estender a garantia ao cluster.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentes;
+
+    public ReadYourWritesTracker(Duration janela, long maximoDeClientes) {
+        this(janela, maximoDeClientes, Ticker.systemTicker());
+    }
+
+    ReadYourWritesTracker(Duration janela, long maximoDeClientes, Ticker ticker) {
+        this.recentes = Caffeine.newBuilder()
+                .expireAfterWrite(janela)
+                .maximumSize(maximoDeClientes)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Registra a escrita do cliente (publicId e CPF/CNPJ).
+     */
+    public void registrar(Cliente cliente) {
+        if (cliente.getPublicId() != null) {
+            recentes.put(cliente.getPublicId().toString(), Boolean.TRUE);
+        }
+        String documento = switch (cliente) {
+            case ClientePF pf -> pf.getCpf();
+            case ClientePJ pj -> pj.getCnpj();
+            default -> null;
+        };
+        if (documento != null) {
+            recentes.put(DocumentoValidator.limparDocumento(documento), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Indica se o cliente da chave foi escrito dentro da janela.
+     */
+    public boolean escritoRecentemente(String chave) {
+        return recentes.getIfPresent(chave) != null;
+    }
+}
@@ -1,9 +1,12 @@
 package br.com.vanessa_mudanca.cliente_core.infrastructure.repository;
 
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -21,12 +24,25 @@ public interface ClienteJpaRepository extends JpaRepository<Cliente, Long> {
     /**
      * Busca cliente por Public ID (UUID).
      * ATENÇÃO: Retorna cliente mesmo se deletado (soft delete).
+     * Usa o mesmo grafo de ClientePFJpaRepository/ClientePJJpaRepository: é o caminho do
+     * refresh-ahead de clientes:findById, que monta a resposta completa.
      *
      * @param publicId UUID público do cliente
      * @return Optional contendo o cliente se encontrado
      */
+    @EntityGraph(Cliente.GRAFO_RESPOSTA)
     Optional<Cliente> findByPublicId(UUID publicId);
 
+    /**
+     * Busca clientes por Public ID (UUID) com um único {@code IN}, sem grafo: usado para
+     * resolver os clientes indicadores da criação em lote.
+     * ATENÇÃO: Retorna clientes mesmo se deletados (soft delete), como {@link #findByPublicId(UUID)}.
+     *
+     * @param publicIds UUIDs públicos dos clientes
+     * @return clientes encontrados
+     */
+    List<Cliente> findByPublicIdIn(Collection<UUID> publicIds);
+
     /**
      * Busca cliente ATIVO (não deletado) por Public ID (UUID).
      * Aplica filtro: ativo = true AND data_delecao IS NULL.
@@ -1,11 +1,26 @@
 package br.com.vanessa_mudanca.cliente_core.infrastructure.repository;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository JPA para Cliente Pessoa Física.
@@ -14,6 +29,26 @@ import java.util.UUID;
  * IMPORTANTE:
  * - Métodos com sufixo "AndAtivoTrueAndDataDelecaoIsNull" retornam APENAS registros ativos (não deletados)
  * - Métodos sem sufixo retornam TODOS os registros (incluindo deletados) - use com cuidado!
+ *
+ * CARGA DO AGREGADO:
+ * - As buscas que alimentam a resposta completa usam o grafo nomeado ClientePF.GRAFO_RESPOSTA:
+ *   indicador, preferências e documentos vêm no mesmo SELECT do cliente; contatos e endereços,
+ *   em um SELECT cada.
+ *   Total fixo de 3 statements, independente do tamanho das listas.
+ * - Só uma lista (bag) entra no join: duas ou mais gerariam produto cartesiano
+ *   (e MultipleBagFetchException no Hibernate).
+ * - preferenciaCliente é o lado inverso de um @OneToOne e é carregado mesmo sem ser usado:
+ *   fora do grafo custaria um SELECT extra (inclusive para o indicador).
+ * - Na listagem paginada só as associações to-one entram no grafo (ClientePF.GRAFO_LISTAGEM):
+ *   join em lista quebraria o LIMIT/OFFSET; as listas da página inteira vêm pelos métodos findWith*ByIdIn.
+ *
+ * EXPORTAÇÃO:
+ * - streamForExport abre um cursor forward-only (fetch size fixo; no PostgreSQL só vale dentro
+ *   de transação) em vez de materializar a lista; as listas vêm em blocos pelos findWith*ByIdIn.
+ *
+ * LISTAGEM POR CURSOR:
+ * - findFirstPage/findPageAfter fazem seek em (data_criacao, public_id) sobre
+ *   idx_clientes_data_criacao: o custo não cresce com a profundidade, ao contrário do OFFSET.
  */
 @Repository
 public interface ClientePFJpaRepository extends JpaRepository<ClientePF, Long> {
@@ -25,8 +60,22 @@ public interface ClientePFJpaRepository extends JpaRepository<ClientePF, Long> {
      * @param cpf CPF do cliente
      * @return Optional contendo o cliente se encontrado
      */
+    @EntityGraph(ClientePF.GRAFO_RESPOSTA)
     Optional<ClientePF> findByCpf(String cpf);
 
+    /**
+     * Dados reduzidos do cliente PF por CPF (publicId, primeiro nome e sobrenome).
+     * Projeção por construtor: um único SELECT pelo índice único de cpf, sem carregar a
+     * entidade, o grafo nem as listas.
+     * ATENÇÃO: Retorna cliente mesmo se deletado (soft delete), como {@link #findByCpf(String)}.
+     *
+     * @param cpf CPF do cliente (formatado)
+     * @return Optional contendo os dados reduzidos se encontrado
+     */
+    @Query("select new br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse(c.primeiroNome, c.sobrenome, c.publicId) "
+            + "from ClientePF c where c.cpf = :cpf")
+    Optional<ClientePFLookupResponse> findLookupByCpf(@Param("cpf") String cpf);
+
     /**
      * Busca cliente PF ATIVO (não deletado) por CPF.
      * Aplica filtro: ativo = true AND data_delecao IS NULL.
@@ -45,6 +94,16 @@ public interface ClientePFJpaRepository extends JpaRepository<ClientePF, Long> {
      */
     boolean existsByCpf(String cpf);
 
+    /**
+     * CPFs já cadastrados dentre os informados (criação em lote: uma consulta por bloco).
+     * ATENÇÃO: Considera clientes deletados também.
+     *
+     * @param cpfs CPFs a verificar
+     * @return CPFs encontrados
+     */
+    @Query("select c.cpf from ClientePF c where c.cpf in :cpfs")
+    List<String> findCpfsIn(@Param("cpfs") Collection<String> cpfs);
+
     /**
      * Verifica se existe cliente PF ATIVO com o CPF informado.
      * Aplica filtro: ativo = true AND data_delecao IS NULL.
@@ -62,6 +121,7 @@ public interface ClientePFJpaRepository extends JpaRepository<ClientePF, Long> {
      * @param publicId UUID público do cliente
      * @return Optional contendo o cliente se encontrado
      */
+    @EntityGraph(ClientePF.GRAFO_RESPOSTA)
     Optional<ClientePF> findByPublicId(UUID publicId);
 
     /**
@@ -71,5 +131,110 @@ public interface ClientePFJpaRepository extends JpaRepository<ClientePF, Long> {
      * @param publicId UUID público do cliente
      * @return Optional contendo o cliente se encontrado e ativo
      */
+    @EntityGraph(ClientePF.GRAFO_RESPOSTA)
     Optional<ClientePF> findByPublicIdAndAtivoTrueAndDataDelecaoIsNull(UUID publicId);
+
+    /**
+     * Página de clientes PF com indicador e preferências no mesmo SELECT.
+     * As listas continuam lazy: use os métodos findWith*ByIdIn para carregá-las em lote.
+     *
+     * @param pageable paginação e ordenação
+     * @return página de clientes
+     */
+    @Override
+    @EntityGraph(ClientePF.GRAFO_LISTAGEM)
+    Page<ClientePF> findAll(Pageable pageable);
+
+    /**
+     * Mesma listagem de {@link #findAll(Pageable)}, sem o SELECT COUNT(*): o Spring Data
+     * busca pageSize + 1 linhas para preencher {@link Slice#hasNext()}.
+     *
+     * @param pageable paginação e ordenação
+     * @return fatia de clientes
+     */
+    @EntityGraph(ClientePF.GRAFO_LISTAGEM)
+    Slice<ClientePF> findAllBy(Pageable pageable);
+
+    /**
+     * Primeira página da listagem por cursor.
+     *
+     * @param limit máximo de clientes
+     * @return clientes ordenados por data de criação e publicId
+     */
+    @EntityGraph(ClientePF.GRAFO_LISTAGEM)
+    @Query("select c from ClientePF c order by c.dataCriacao, c.publicId")
+    List<ClientePF> findFirstPage(Limit limit);
+
+    /**
+     * Página seguinte da listagem por cursor: clientes depois de (dataCriacao, publicId).
+     * O {@code data_criacao >= ?} explícito é o que vira range scan em idx_clientes_data_criacao
+     * (o índice não tem public_id); o restante só desempata clientes do mesmo instante.
+     *
+     * @param dataCriacao data de criação do último cliente lido
+     * @param publicId    publicId do último cliente lido (desempate)
+     * @param limit       máximo de clientes
+     * @return clientes ordenados por data de criação e publicId
+     */
+    @EntityGraph(ClientePF.GRAFO_LISTAGEM)
+    @Query("""
+            select c from ClientePF c
+            where c.dataCriacao >= :dataCriacao
+              and (c.dataCriacao > :dataCriacao or c.publicId > :publicId)
+            order by c.dataCriacao, c.publicId""")
+    List<ClientePF> findPageAfter(@Param("dataCriacao") LocalDateTime dataCriacao,
+                                   @Param("publicId") UUID publicId,
+                                   Limit limit);
+
+    /**
+     * Todos os clientes PF (inclusive deletados) em ordem de atualização, como stream sobre um
+     * cursor do banco: as linhas chegam em lotes de fetch size, sem carregar o resultado inteiro.
+     * Entidades somente leitura (sem snapshot para dirty checking).
+     * Filtros nulos são ignorados; a ordem (dataAtualizacao, id) permite retomar uma exportação
+     * incremental a partir da última data recebida.
+     * O stream precisa ser fechado e consumido dentro de uma transação.
+     *
+     * @param atualizadoDesde data de atualização mínima (inclusive), ou null
+     * @param atualizadoAte   data de atualização máxima (exclusive), ou null
+     * @return stream de clientes
+     */
+    @EntityGraph(ClientePF.GRAFO_LISTAGEM)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select c from ClientePF c
+            where (:atualizadoDesde is null or c.dataAtualizacao >= :atualizadoDesde)
+              and (:atualizadoAte is null or c.dataAtualizacao < :atualizadoAte)
+            order by c.dataAtualizacao, c.id""")
+    Stream<ClientePF> streamForExport(@Param("atualizadoDesde") LocalDateTime atualizadoDesde,
+                                     @Param("atualizadoAte") LocalDateTime atualizadoAte);
+
+    /**
+     * Inicializa listaDocumentos de todos os clientes informados em um único SELECT.
+     * Os clientes já presentes no contexto de persistência recebem a lista carregada.
+     *
+     * @param ids IDs internos dos clientes (tipicamente os da página atual)
+     * @return os mesmos clientes, com a lista inicializada
+     */
+    @Query("select c from ClientePF c left join fetch c.listaDocumentos where c.id in :ids")
+    List<ClientePF> findWithDocumentosByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Inicializa listaContatos de todos os clientes informados em um único SELECT.
+     *
+     * @param ids IDs internos dos clientes
+     * @return os mesmos clientes, com a lista inicializada
+     */
+    @Query("select c from ClientePF c left join fetch c.listaContatos where c.id in :ids")
+    List<ClientePF> findWithContatosByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Inicializa listaEnderecos de todos os clientes informados em um único SELECT.
+     *
+     * @param ids IDs internos dos clientes
+     * @return os mesmos clientes, com a lista inicializada
+     */
+    @Query("select c from ClientePF c left join fetch c.listaEnderecos where c.id in :ids")
+    List<ClientePF> findWithEnderecosByIdIn(@Param("ids") Collection<Long> ids);
 }
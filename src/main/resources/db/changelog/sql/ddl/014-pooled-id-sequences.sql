@@ -0,0 +1,36 @@
+-- ==============================================================================
+-- Liquibase Changeset: Sequences pooled para os IDs (batch de INSERTs)
+-- ==============================================================================
+-- Description: As entidades passam de GenerationType.IDENTITY para SEQUENCE com
+--              allocationSize = 50, reaproveitando as sequences criadas pelos
+--              BIGSERIAL. IDENTITY obriga um INSERT por round trip (o ID só existe
+--              depois do INSERT), o que anulava hibernate.jdbc.batch_size.
+--
+-- Compatibilidade:
+--   - O DEFAULT nextval(...) das colunas continua valendo para INSERTs manuais.
+--     Cada nextval avança 50: o valor devolvido é o topo de um bloco que o
+--     Hibernate nunca usa, então não há colisão entre os dois caminhos.
+--   - O Hibernate usa os IDs (n - 49 .. n) para cada nextval n; o setval abaixo
+--     garante que o primeiro bloco comece depois do maior ID existente.
+-- ==============================================================================
+
+ALTER SEQUENCE clientes_id_seq INCREMENT BY 50;
+SELECT setval('clientes_id_seq', COALESCE((SELECT MAX(id) FROM clientes), 0) + 50, false);
+
+ALTER SEQUENCE documentos_id_seq INCREMENT BY 50;
+SELECT setval('documentos_id_seq', COALESCE((SELECT MAX(id) FROM documentos), 0) + 50, false);
+
+ALTER SEQUENCE contatos_id_seq INCREMENT BY 50;
+SELECT setval('contatos_id_seq', COALESCE((SELECT MAX(id) FROM contatos), 0) + 50, false);
+
+ALTER SEQUENCE enderecos_id_seq INCREMENT BY 50;
+SELECT setval('enderecos_id_seq', COALESCE((SELECT MAX(id) FROM enderecos), 0) + 50, false);
+
+ALTER SEQUENCE dados_bancarios_id_seq INCREMENT BY 50;
+SELECT setval('dados_bancarios_id_seq', COALESCE((SELECT MAX(id) FROM dados_bancarios), 0) + 50, false);
+
+ALTER SEQUENCE preferencias_cliente_id_seq INCREMENT BY 50;
+SELECT setval('preferencias_cliente_id_seq', COALESCE((SELECT MAX(id) FROM preferencias_cliente), 0) + 50, false);
+
+ALTER SEQUENCE auditoria_cliente_id_seq INCREMENT BY 50;
+SELECT setval('auditoria_cliente_id_seq', COALESCE((SELECT MAX(id) FROM auditoria_cliente), 0) + 50, false);
@@ -0,0 +1,11 @@
+-- ==============================================================================
+-- Liquibase Changeset: Índice de data de atualização (exportação incremental)
+-- ==============================================================================
+-- Description: GET /v1/clientes/{pf|pj}/export percorre os clientes em ordem de
+--              (data_atualizacao, id) e filtra por faixa de data_atualizacao.
+--              Com o índice, a exportação incremental lê só a faixa pedida e a
+--              completa sai na ordem do índice, sem ordenar a tabela inteira
+--              antes da primeira linha.
+-- ==============================================================================
+
+CREATE INDEX idx_clientes_data_atualizacao ON clientes(data_atualizacao, id);
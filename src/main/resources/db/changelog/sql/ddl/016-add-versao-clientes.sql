@@ -0,0 +1,13 @@
+-- ==============================================================================
+-- Liquibase Changeset: Versão otimista dos clientes
+-- ==============================================================================
+-- Description: Coluna de versão (@Version) de Cliente. Cada UPDATE do cliente
+--              faz "SET versao = versao + 1 ... WHERE id = ? AND versao = ?":
+--              uma alteração concorrente não casa a versão e é detectada em
+--              vez de sobrescrever a outra. A versão é a ETag do cliente e
+--              o PUT exige If-Match com ela.
+--              Linhas existentes começam na versão 0 (DEFAULT, sem reescrita
+--              da tabela no PostgreSQL 11+).
+-- ==============================================================================
+
+ALTER TABLE clientes ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
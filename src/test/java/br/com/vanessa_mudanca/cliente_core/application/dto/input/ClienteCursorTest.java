@@ -0,0 +1,49 @@
+package br.com.vanessa_mudanca.cliente_core.application.dto.input;
+
+import br.com.vanessa_mudanca.cliente_core.domain.exception.CursorInvalidoException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para ClienteCursor.
+ * Valida o token opaco da paginação por cursor.
+ */
+@DisplayName("ClienteCursor - Token de continuação")
+class ClienteCursorTest {
+
+    @Test
+    @DisplayName("Deve preservar data (com microssegundos) e publicId no token")
+    void devePreservarPosicaoNoToken() {
+        ClienteCursor cursor = new ClienteCursor(
+                LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_456_000), UUID.randomUUID());
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain(cursor.publicId().toString()).matches("[A-Za-z0-9_-]+");
+        assertThat(ClienteCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("Cursor ausente deve começar do início")
+    void cursorAusenteDeveComecarDoInicio() {
+        assertThat(ClienteCursor.decode(null)).isNull();
+        assertThat(ClienteCursor.decode(" ")).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"@@@", "bWFsZm9ybWFkbw", "MjAyNS0wMS0wMVQxMDowMH5ub3QtYS11dWlk"})
+    @DisplayName("Deve rejeitar token que não foi gerado pela API")
+    void deveRejeitarTokenInvalido(String token) {
+        assertThatThrownBy(() -> ClienteCursor.decode(token))
+                .isInstanceOf(CursorInvalidoException.class)
+                .hasMessageContaining(token);
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
@@ -36,6 +37,9 @@ class BloquearClienteServiceTest {
     @Mock
     private ClienteRepositoryPort clienteRepository;
 
+    @Mock
+    private ClienteCachePort clienteCache;
+
     @InjectMocks
     private BloquearClienteService service;
 
@@ -109,6 +113,7 @@ class BloquearClienteServiceTest {
         assertNotNull(clienteSalvo.getDataBloqueio(), "Data de bloqueio deve estar preenchida");
         assertEquals(motivo, clienteSalvo.getMotivoBloqueio(), "Motivo de bloqueio deve estar correto");
         assertEquals(usuario, clienteSalvo.getUsuarioBloqueou(), "Usuário que bloqueou deve estar correto");
+        verify(clienteCache).invalidar(clienteSalvo);
         assertTrue(clienteSalvo.isBloqueado(), "isBloqueado() deve retornar true");
     }
 
@@ -151,6 +156,7 @@ class BloquearClienteServiceTest {
                 "Deve lançar ClienteNaoEncontradoException");
 
         verify(clienteRepository, never()).save(any(Cliente.class));
+        verify(clienteCache, never()).invalidar(any());
     }
 
     @Test
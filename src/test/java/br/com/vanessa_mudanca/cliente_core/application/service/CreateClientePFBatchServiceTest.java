@@ -0,0 +1,188 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePFRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchItemResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoClienteEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.LoteInvalidoException;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteBatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CreateClientePFBatchService.
+ * Resultado por item, consultas por bloco e isolamento de falhas entre blocos.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateClientePFBatchService - Criação de clientes PF em lote")
+class CreateClientePFBatchServiceTest {
+
+    @Mock
+    private ClientePFRepositoryPort clientePFRepository;
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private ClienteCachePort clienteCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CreateClientePFBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CreateClientePFBatchService(clientePFRepository, clienteRepository, clienteCache,
+                transactionManager,
+                new ClienteBatchProperties(2, 10));
+    }
+
+    @Test
+    @DisplayName("Deve devolver um resultado por item, na ordem recebida")
+    void deveDevolverResultadoPorItem() {
+        UUID indicadorInexistente = UUID.randomUUID();
+        when(clientePFRepository.findExistingCpfs(anyCollection())).thenReturn(Set.of("111.444.777-35"));
+        when(clienteRepository.findAllByPublicId(anyCollection())).thenReturn(List.of());
+        when(clientePFRepository.saveAll(anyList())).thenAnswer(invocation -> salvar(invocation.getArgument(0)));
+
+        ClienteBatchResponse response = service.criarEmLote(List.of(
+                request("529.982.247-25", null),
+                request("123.456.789-00", null),
+                request("52998224725", null),
+                request("11144477735", null),
+                request("390.533.447-05", indicadorInexistente)));
+
+        assertThat(response.itens()).extracting(ClienteBatchItemResponse::indice).containsExactly(0, 1, 2, 3, 4);
+        assertThat(response.itens()).extracting(ClienteBatchItemResponse::status).containsExactly(201, 400, 409, 409, 404);
+        assertThat(response.itens().get(0).publicId()).isNotNull();
+        assertThat(response.itens().get(2).mensagem()).contains("repetido no lote");
+        assertThat(response.itens().get(3).mensagem()).contains("já está cadastrado");
+        assertThat(response.total()).isEqualTo(5);
+        assertThat(response.criados()).isEqualTo(1);
+        assertThat(response.falhas()).isEqualTo(4);
+        assertThat(response.clientesPorSegundo()).isPositive();
+        verify(clienteCache, times(1)).invalidar(any(ClientePF.class));
+    }
+
+    @Test
+    @DisplayName("Deve consultar duplicados uma vez por bloco, com CPF nas duas formas")
+    void deveConsultarDuplicadosUmaVezPorBloco() {
+        when(clientePFRepository.findExistingCpfs(anyCollection())).thenReturn(Set.of());
+        when(clienteRepository.findAllByPublicId(anyCollection())).thenReturn(List.of());
+        when(clientePFRepository.saveAll(anyList())).thenAnswer(invocation -> salvar(invocation.getArgument(0)));
+
+        ClienteBatchResponse response = service.criarEmLote(List.of(
+                request("529.982.247-25", null),
+                request("111.444.777-35", null),
+                request("390.533.447-05", null)));
+
+        assertThat(response.criados()).isEqualTo(3);
+        verify(clientePFRepository, times(2)).findExistingCpfs(anyCollection());
+        verify(clientePFRepository).findExistingCpfs(Set.of("52998224725", "529.982.247-25", "11144477735", "111.444.777-35"));
+        verify(clientePFRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Falha ao gravar um bloco não deve afetar os demais")
+    void falhaAoGravarBlocoNaoDeveAfetarDemais() {
+        when(clientePFRepository.findExistingCpfs(anyCollection())).thenReturn(Set.of());
+        when(clienteRepository.findAllByPublicId(anyCollection())).thenReturn(List.of());
+        when(clientePFRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> salvar(invocation.getArgument(0)));
+
+        ClienteBatchResponse response = service.criarEmLote(List.of(
+                request("529.982.247-25", null),
+                request("111.444.777-35", null),
+                request("390.533.447-05", null)));
+
+        assertThat(response.itens()).extracting(ClienteBatchItemResponse::status).containsExactly(500, 500, 201);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Deve resolver clientes indicadores com uma consulta por bloco")
+    void deveResolverIndicadoresEmLote() {
+        UUID indicadorId = UUID.randomUUID();
+        Cliente indicador = ClientePF.builder().publicId(indicadorId).build();
+        when(clientePFRepository.findExistingCpfs(anyCollection())).thenReturn(Set.of());
+        when(clienteRepository.findAllByPublicId(Set.of(indicadorId))).thenReturn(List.of(indicador));
+        when(clientePFRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ClientePF> clientes = invocation.getArgument(0);
+            assertThat(clientes).allSatisfy(c -> assertThat(c.getClienteIndicador()).isSameAs(indicador));
+            return salvar(clientes);
+        });
+
+        ClienteBatchResponse response = service.criarEmLote(List.of(
+                request("529.982.247-25", indicadorId),
+                request("111.444.777-35", indicadorId)));
+
+        assertThat(response.criados()).isEqualTo(2);
+        verify(clienteRepository, times(1)).findAllByPublicId(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio ou acima do máximo")
+    void deveRejeitarLoteVazioOuAcimaDoMaximo() {
+        List<CreateClientePFRequest> grande = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            grande.add(request("529.982.247-25", null));
+        }
+
+        assertThatThrownBy(() -> service.criarEmLote(List.of())).isInstanceOf(LoteInvalidoException.class);
+        assertThatThrownBy(() -> service.criarEmLote(grande)).isInstanceOf(LoteInvalidoException.class);
+        verifyNoInteractions(clientePFRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar item sem campos obrigatórios sem consultar o banco")
+    void deveRejeitarItemSemCamposObrigatorios() {
+        CreateClientePFRequest semNome = new CreateClientePFRequest(
+                " ", null, "Lote", "529.982.247-25", null, null, null, null, null, null, null, null,
+                null, null, null, null, null, null, null, null, null);
+
+        ClienteBatchResponse response = service.criarEmLote(List.of(semNome, request("123.456.789-00", null)));
+
+        assertThat(response.itens()).extracting(ClienteBatchItemResponse::status).containsExactly(400, 400);
+        assertThat(response.itens().get(0).mensagem())
+                .isEqualTo("primeiroNome: Primeiro nome é obrigatório; tipoCliente: Tipo de cliente é obrigatório");
+        assertThat(response.itens().get(1).mensagem()).isEqualTo("cpf: CPF '123.456.789-00' é inválido");
+        verifyNoInteractions(clientePFRepository, transactionManager, clienteCache);
+    }
+
+    private static List<ClientePF> salvar(List<ClientePF> clientes) {
+        clientes.forEach(c -> c.setPublicId(UUID.randomUUID()));
+        return clientes;
+    }
+
+    private static CreateClientePFRequest request(String cpf, UUID clienteIndicadorId) {
+        return new CreateClientePFRequest(
+                "Cliente", null, "Lote", cpf, null, null, null, null, null, null, null, null,
+                null, null, TipoClienteEnum.COMPRADOR, null, null, null, null, clienteIndicadorId, null);
+    }
+}
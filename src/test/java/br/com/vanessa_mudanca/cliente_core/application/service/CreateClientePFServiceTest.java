@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePFRequest;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
@@ -43,6 +44,9 @@ class CreateClientePFServiceTest {
     @Mock
     private ClienteRepositoryPort clienteRepository;
 
+    @Mock
+    private ClienteCachePort clienteCache;
+
     @InjectMocks
     private CreateClientePFService service;
 
@@ -117,6 +121,7 @@ class CreateClientePFServiceTest {
 
         verify(clientePFRepository, times(1)).existsByCpf("12345678909");
         verify(clientePFRepository, times(1)).save(any(ClientePF.class));
+        verify(clienteCache).invalidar(clientePFSalvo);
         verify(clienteRepository, never()).findByPublicId(any());
     }
 
@@ -245,6 +250,7 @@ class CreateClientePFServiceTest {
         assertTrue(exception.getMessage().contains("inválido"));
         verify(clientePFRepository, never()).existsByCpf(any());
         verify(clientePFRepository, never()).save(any());
+        verifyNoInteractions(clienteCache);
     }
 
     @Test
@@ -262,6 +268,7 @@ class CreateClientePFServiceTest {
         // Act & Assert
         assertThrows(CpfInvalidoException.class, () -> service.criar(requestCpfInvalido));
         verify(clientePFRepository, never()).save(any());
+        verifyNoInteractions(clienteCache);
     }
 
     // ========== CENÁRIOS DE ERRO - CPF DUPLICADO ==========
@@ -282,6 +289,7 @@ class CreateClientePFServiceTest {
         assertTrue(exception.getMessage().contains("já está cadastrado"));
         verify(clientePFRepository, times(1)).existsByCpf("12345678909");
         verify(clientePFRepository, never()).save(any());
+        verifyNoInteractions(clienteCache);
     }
 
     // ========== CENÁRIOS DE ERRO - CLIENTE INDICADOR ==========
@@ -328,6 +336,7 @@ class CreateClientePFServiceTest {
         assertTrue(exception.getMessage().contains("não encontrado"));
         verify(clienteRepository, times(1)).findByPublicId(clienteIndicadorIdInexistente);
         verify(clientePFRepository, never()).save(any());
+        verifyNoInteractions(clienteCache);
     }
 
     // ========== CENÁRIOS DE VALIDAÇÃO DE FLUXO ==========
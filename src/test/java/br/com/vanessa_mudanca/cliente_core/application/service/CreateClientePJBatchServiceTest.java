@@ -0,0 +1,105 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePJRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchItemResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoClienteEnum;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteBatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CreateClientePJBatchService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateClientePJBatchService - Criação de clientes PJ em lote")
+class CreateClientePJBatchServiceTest {
+
+    @Mock
+    private ClientePJRepositoryPort clientePJRepository;
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private ClienteCachePort clienteCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CreateClientePJBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CreateClientePJBatchService(clientePJRepository, clienteRepository, clienteCache,
+                transactionManager,
+                ClienteBatchProperties.PADRAO);
+    }
+
+    @Test
+    @DisplayName("Deve devolver um resultado por item com uma consulta de CNPJs por bloco")
+    void deveDevolverResultadoPorItem() {
+        when(clientePJRepository.findExistingCnpjs(anyCollection())).thenReturn(Set.of("11444777000161"));
+        when(clienteRepository.findAllByPublicId(anyCollection())).thenReturn(List.of());
+        when(clientePJRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ClientePJ> clientes = invocation.getArgument(0);
+            clientes.forEach(c -> c.setPublicId(UUID.randomUUID()));
+            return clientes;
+        });
+
+        ClienteBatchResponse response = service.criarEmLote(List.of(
+                request("11.222.333/0001-81"),
+                request("11.222.333/0001-00"),
+                request("11222333000181"),
+                request("11.444.777/0001-61")));
+
+        assertThat(response.itens()).extracting(ClienteBatchItemResponse::status).containsExactly(201, 400, 409, 409);
+        assertThat(response.criados()).isEqualTo(1);
+        verify(clientePJRepository, times(1)).findExistingCnpjs(
+                Set.of("11222333000181", "11.222.333/0001-81", "11444777000161", "11.444.777/0001-61"));
+        verify(clienteCache, times(1)).invalidar(any(ClientePJ.class));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar item sem campos obrigatórios ou com CPF do responsável inválido")
+    void deveRejeitarItemSemCamposObrigatorios() {
+        CreateClientePJRequest invalido = new CreateClientePJRequest(
+                null, null, "11.222.333/0001-81", null, null, null, null, null, null, null,
+                null, "123.456.789-00", null, null, null, TipoClienteEnum.CONSIGNANTE,
+                null, null, null, null, null, null);
+
+        ClienteBatchResponse response = service.criarEmLote(List.of(invalido));
+
+        assertThat(response.itens().getFirst().status()).isEqualTo(400);
+        assertThat(response.itens().getFirst().mensagem())
+                .isEqualTo("razaoSocial: Razão social é obrigatória; cpfResponsavel: CPF do responsável inválido");
+        verifyNoInteractions(clientePJRepository, transactionManager, clienteCache);
+    }
+
+    private static CreateClientePJRequest request(String cnpj) {
+        return new CreateClientePJRequest(
+                "Empresa Lote Ltda", null, cnpj, null, null, null, null, null, null, null,
+                null, "529.982.247-25", null, null, null, TipoClienteEnum.CONSIGNANTE,
+                null, null, null, null, null, null);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePJRequest;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
@@ -44,6 +45,9 @@ class CreateClientePJServiceTest {
     @Mock
     private ClienteRepositoryPort clienteRepository;
 
+    @Mock
+    private ClienteCachePort clienteCache;
+
     @InjectMocks
     private CreateClientePJService service;
 
@@ -115,6 +119,7 @@ class CreateClientePJServiceTest {
 
         verify(clientePJRepository, times(1)).existsByCnpj("11222333000181");
         verify(clientePJRepository, times(1)).save(any(ClientePJ.class));
+        verify(clienteCache).invalidar(clientePJSalvo);
         verify(clienteRepository, never()).findByPublicId(any());
     }
 
@@ -245,6 +250,7 @@ class CreateClientePJServiceTest {
         assertTrue(exception.getMessage().contains("inválido"));
         verify(clientePJRepository, never()).existsByCnpj(any());
         verify(clientePJRepository, never()).save(any());
+        verifyNoInteractions(clienteCache);
     }
 
     @Test
@@ -262,6 +268,7 @@ class CreateClientePJServiceTest {
         // Act & Assert
         assertThrows(CnpjInvalidoException.class, () -> service.criar(requestCnpjInvalido));
         verify(clientePJRepository, never()).save(any());
+        verifyNoInteractions(clienteCache);
     }
 
     // ========== CENÁRIOS DE ERRO - CNPJ DUPLICADO ==========
@@ -282,6 +289,7 @@ class CreateClientePJServiceTest {
         assertTrue(exception.getMessage().contains("já está cadastrado"));
         verify(clientePJRepository, times(1)).existsByCnpj("11222333000181");
         verify(clientePJRepository, never()).save(any());
+        verifyNoInteractions(clienteCache);
     }
 
     // ========== CENÁRIOS DE ERRO - CLIENTE INDICADOR ==========
@@ -329,6 +337,7 @@ class CreateClientePJServiceTest {
         assertTrue(exception.getMessage().contains("não encontrado"));
         verify(clienteRepository, times(1)).findByPublicId(clienteIndicadorIdInexistente);
         verify(clientePJRepository, never()).save(any());
+        verifyNoInteractions(clienteCache);
     }
 
     // ========== CENÁRIOS DE VALIDAÇÃO DE FLUXO ==========
@@ -1,5 +1,6 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
@@ -36,6 +37,9 @@ class DeleteClienteServiceTest {
     @Mock
     private ClienteRepositoryPort clienteRepository;
 
+    @Mock
+    private ClienteCachePort clienteCache;
+
     @InjectMocks
     private DeleteClienteService service;
 
@@ -110,6 +114,7 @@ class DeleteClienteServiceTest {
         assertEquals(motivo, clienteSalvo.getMotivoDelecao(), "Motivo de deleção deve estar correto");
         assertEquals(usuario, clienteSalvo.getUsuarioDeletou(), "Usuário que deletou deve estar correto");
         assertTrue(clienteSalvo.isDeletado(), "isDeletado() deve retornar true");
+        verify(clienteCache).invalidar(clienteSalvo);
     }
 
     @Test
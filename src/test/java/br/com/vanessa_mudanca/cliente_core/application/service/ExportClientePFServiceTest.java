@@ -0,0 +1,75 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.BusinessException;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteBatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ExportClientePFService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportClientePFService - Exportação de clientes PF")
+class ExportClientePFServiceTest {
+
+    @Mock
+    private ClientePFRepositoryPort clientePFRepository;
+
+    private ExportClientePFService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportClientePFService(clientePFRepository, new ClienteBatchProperties(2, 100));
+    }
+
+    @Test
+    @DisplayName("Deve entregar cada cliente de cada bloco ao destino, no tamanho de bloco configurado")
+    void deveEntregarClientesDeTodosOsBlocos() {
+        LocalDateTime desde = LocalDateTime.of(2025, 1, 1, 0, 0);
+        doAnswer(invocation -> {
+            Consumer<List<ClientePF>> consumidor = invocation.getArgument(3);
+            consumidor.accept(List.of(cliente("Ana"), cliente("Bia")));
+            consumidor.accept(List.of(cliente("Caio")));
+            return null;
+        }).when(clientePFRepository).forEachBlock(eq(desde), isNull(), eq(2), any());
+
+        List<ClientePFResponse> exportados = new ArrayList<>();
+        long total = service.exportar(desde, null, exportados::add);
+
+        assertThat(total).isEqualTo(3);
+        assertThat(exportados).extracting(ClientePFResponse::primeiroNome).containsExactly("Ana", "Bia", "Caio");
+    }
+
+    @Test
+    @DisplayName("Período com início depois do fim deve lançar exceção sem consultar o banco")
+    void periodoInvalidoDeveLancarExcecao() {
+        LocalDateTime data = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        assertThatThrownBy(() -> service.exportar(data, data, response -> { }))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(clientePFRepository);
+    }
+
+    private static ClientePF cliente(String nome) {
+        return ClientePF.builder().primeiroNome(nome).sobrenome("Silva").build();
+    }
+}
@@ -1,7 +1,9 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.SexoEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -32,6 +35,9 @@ class FindClientePFByCpfServiceTest {
     @Mock
     private ClientePFRepositoryPort clientePFRepository;
 
+    @Spy
+    private ReadYourWritesPort readYourWrites = ReadYourWritesPort.SEM_REPLICA;
+
     @InjectMocks
     private FindClientePFByCpfService service;
 
@@ -174,4 +180,34 @@ class FindClientePFByCpfServiceTest {
         // Verifica que buscou exatamente com o CPF fornecido
         verify(clientePFRepository, times(1)).findByCpf(cpfJaFormatado);
     }
+
+    @Test
+    @DisplayName("Lookup deve usar a projeção, sem carregar o cliente completo")
+    void lookupDeveUsarProjecao() {
+        // Arrange
+        ClientePFLookupResponse lookup = new ClientePFLookupResponse(
+                "João", "Silva", clientePFMock.getPublicId());
+        when(clientePFRepository.findLookupByCpf(CPF_FORMATADO))
+                .thenReturn(Optional.of(lookup));
+
+        // Act
+        ClientePFLookupResponse response = service.lookupByCpf(CPF_SEM_FORMATACAO);
+
+        // Assert
+        assertEquals(lookup, response);
+        verify(clientePFRepository, times(1)).findLookupByCpf(CPF_FORMATADO);
+        verify(clientePFRepository, never()).findByCpf(anyString());
+    }
+
+    @Test
+    @DisplayName("Lookup deve lançar exceção quando CPF não existe")
+    void lookupDeveLancarExcecaoQuandoCpfNaoExiste() {
+        // Arrange
+        when(clientePFRepository.findLookupByCpf(anyString()))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ClienteNaoEncontradoException.class,
+                () -> service.lookupByCpf(CPF_FORMATADO));
+    }
 }
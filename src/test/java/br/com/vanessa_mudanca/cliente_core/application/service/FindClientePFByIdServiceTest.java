@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.SexoEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -33,6 +35,9 @@ class FindClientePFByIdServiceTest {
     @Mock
     private ClientePFRepositoryPort clientePFRepository;
 
+    @Spy
+    private ReadYourWritesPort readYourWrites = ReadYourWritesPort.SEM_REPLICA;
+
     @InjectMocks
     private FindClientePFByIdService service;
 
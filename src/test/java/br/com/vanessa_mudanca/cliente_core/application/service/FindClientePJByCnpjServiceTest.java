@@ -1,7 +1,9 @@
 package br.com.vanessa_mudanca.cliente_core.application.service;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -32,6 +35,9 @@ class FindClientePJByCnpjServiceTest {
     @Mock
     private ClientePJRepositoryPort clientePJRepository;
 
+    @Spy
+    private ReadYourWritesPort readYourWrites = ReadYourWritesPort.SEM_REPLICA;
+
     @InjectMocks
     private FindClientePJByCnpjService service;
 
@@ -212,4 +218,34 @@ class FindClientePJByCnpjServiceTest {
         assertEquals(cnpjEsperadoFormatado, response.cnpj());
         verify(clientePJRepository, times(1)).findByCnpj(cnpjEsperadoFormatado);
     }
+
+    @Test
+    @DisplayName("Lookup deve usar a projeção, sem carregar o cliente completo")
+    void lookupDeveUsarProjecao() {
+        // Arrange
+        ClientePJLookupResponse lookup = new ClientePJLookupResponse(
+                "Mudanças Express", clientePJMock.getPublicId());
+        when(clientePJRepository.findLookupByCnpj(CNPJ_FORMATADO))
+                .thenReturn(Optional.of(lookup));
+
+        // Act
+        ClientePJLookupResponse response = service.lookupByCnpj(CNPJ_SEM_FORMATACAO);
+
+        // Assert
+        assertEquals(lookup, response);
+        verify(clientePJRepository, times(1)).findLookupByCnpj(CNPJ_FORMATADO);
+        verify(clientePJRepository, never()).findByCnpj(anyString());
+    }
+
+    @Test
+    @DisplayName("Lookup deve lançar exceção quando CNPJ não existe")
+    void lookupDeveLancarExcecaoQuandoCnpjNaoExiste() {
+        // Arrange
+        when(clientePJRepository.findLookupByCnpj(anyString()))
+                .thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(ClienteNaoEncontradoException.class,
+                () -> service.lookupByCnpj(CNPJ_FORMATADO));
+    }
 }
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ReadYourWritesPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -33,6 +35,9 @@ class FindClientePJByIdServiceTest {
     @Mock
     private ClientePJRepositoryPort clientePJRepository;
 
+    @Spy
+    private ReadYourWritesPort readYourWrites = ReadYourWritesPort.SEM_REPLICA;
+
     @InjectMocks
     private FindClientePJByIdService service;
 
@@ -2,11 +2,16 @@ package br.com.vanessa_mudanca.cliente_core.application.service;
 
 import java.util.UUID;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.CursorPageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.SexoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.BusinessException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.CursorInvalidoException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,11 +22,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -86,7 +93,7 @@ class ListClientePFServiceTest {
         when(clientePFRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
 
         // When
-        PageResponse<ClientePFResponse> response = service.findAll(pageable);
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response).isNotNull();
@@ -112,7 +119,7 @@ class ListClientePFServiceTest {
         when(clientePFRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePFResponse> response = service.findAll(pageable);
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response).isNotNull();
@@ -143,7 +150,7 @@ class ListClientePFServiceTest {
         when(clientePFRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePFResponse> response = service.findAll(pageable);
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response).isNotNull();
@@ -169,7 +176,7 @@ class ListClientePFServiceTest {
         when(clientePFRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePFResponse> response = service.findAll(pageable);
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response).isNotNull();
@@ -198,7 +205,7 @@ class ListClientePFServiceTest {
         when(clientePFRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePFResponse> response = service.findAll(pageable);
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response.content()).hasSize(3);
@@ -219,7 +226,7 @@ class ListClientePFServiceTest {
         when(clientePFRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePFResponse> response = service.findAll(pageable);
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response.content()).hasSize(3);
@@ -240,7 +247,7 @@ class ListClientePFServiceTest {
         when(clientePFRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePFResponse> response = service.findAll(pageable);
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response.content()).hasSize(1);
@@ -255,4 +262,100 @@ class ListClientePFServiceTest {
 
         verify(clientePFRepository, times(1)).findAll(pageable);
     }
+
+    @Test
+    @DisplayName("Cursor - Deve devolver próximo cursor quando houver mais clientes")
+    void cursorDeveDevolverProximoCursor_QuandoHouverMaisClientes() {
+        // Given - repositório devolve size + 1 clientes
+        clientePF2.setDataCriacao(LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_456_000));
+        when(clientePFRepository.findAfter(null, 3)).thenReturn(List.of(clientePF1, clientePF2, clientePF3));
+
+        // When
+        CursorPageResponse<ClientePFResponse> response = service.findAllByCursor(null, 2);
+
+        // Then - o excedente só indica que há próxima página
+        assertThat(response.content()).extracting(ClientePFResponse::primeiroNome).containsExactly("João", "Maria");
+        assertThat(response.hasNext()).isTrue();
+        assertThat(ClienteCursor.decode(response.nextCursor()))
+                .isEqualTo(new ClienteCursor(clientePF2.getDataCriacao(), clientePF2.getPublicId()));
+    }
+
+    @Test
+    @DisplayName("Cursor - Última página não deve ter próximo cursor")
+    void cursorUltimaPaginaNaoDeveTerProximoCursor() {
+        // Given
+        ClienteCursor cursor = new ClienteCursor(LocalDateTime.of(2025, 1, 1, 10, 0), UUID.randomUUID());
+        when(clientePFRepository.findAfter(cursor, 3)).thenReturn(List.of(clientePF3));
+
+        // When
+        CursorPageResponse<ClientePFResponse> response = service.findAllByCursor(cursor.encode(), 2);
+
+        // Then
+        assertThat(response.content()).hasSize(1);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Cursor - Deve rejeitar página acima do tamanho máximo sem consultar o banco")
+    void cursorDeveRejeitarPaginaAcimaDoMaximo() {
+        assertThatThrownBy(() -> service.findAllByCursor(null, Integer.MAX_VALUE))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> service.findAllByCursor(null, ClienteCursor.TAMANHO_MAXIMO + 1))
+                .isInstanceOf(BusinessException.class);
+
+        verifyNoInteractions(clientePFRepository);
+    }
+
+    @Test
+    @DisplayName("Cursor - Deve rejeitar cursor adulterado")
+    void cursorDeveRejeitarCursorAdulterado() {
+        assertThatThrownBy(() -> service.findAllByCursor("nao-e-um-cursor", 20))
+                .isInstanceOf(CursorInvalidoException.class);
+
+        verifyNoInteractions(clientePFRepository);
+    }
+
+    @Test
+    @DisplayName("Total NONE - Deve listar fatia sem contar o total")
+    void totalNoneDeveListarFatiaSemContar() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 2);
+        when(clientePFRepository.findSlice(pageable))
+                .thenReturn(new SliceImpl<>(List.of(clientePF1, clientePF2), pageable, true));
+
+        // When
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.NONE);
+
+        // Then
+        assertThat(response.content()).hasSize(2);
+        // Sem COUNT: o mínimo que a fatia prova (2 vistos + ao menos 1 na próxima página)
+        assertThat(response.totalElements()).isEqualTo(3L);
+        assertThat(response.totalPages()).isEqualTo(2);
+        assertThat(response.estimatedTotalElements()).isNull();
+        assertThat(response.last()).isFalse();
+        assertThat(response.totalMode()).isEqualTo(TotalMode.NONE);
+        verify(clientePFRepository, never()).findAll(any(Pageable.class));
+        verify(clientePFRepository, never()).estimateCount();
+    }
+
+    @Test
+    @DisplayName("Total ESTIMATED - Estimativa defasada não deve contradizer a fatia")
+    void totalEstimatedNaoDeveContradizerFatia() {
+        // Given - a estimativa (3) ficou para trás: a página 2 ainda tem próxima
+        Pageable pageable = PageRequest.of(2, 2);
+        when(clientePFRepository.findSlice(pageable))
+                .thenReturn(new SliceImpl<>(List.of(clientePF1, clientePF2), pageable, true));
+        when(clientePFRepository.estimateCount()).thenReturn(3L);
+
+        // When
+        PageResponse<ClientePFResponse> response = service.findAll(pageable, TotalMode.ESTIMATED);
+
+        // Then - 6 já vistos + ao menos 1 na próxima página
+        assertThat(response.estimatedTotalElements()).isEqualTo(7L);
+        assertThat(response.estimatedTotalPages()).isEqualTo(4);
+        assertThat(response.totalElements()).isEqualTo(7L);
+        assertThat(response.totalMode()).isEqualTo(TotalMode.ESTIMATED);
+        verify(clientePFRepository, never()).findAll(any(Pageable.class));
+    }
 }
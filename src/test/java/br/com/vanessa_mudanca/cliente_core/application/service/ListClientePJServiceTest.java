@@ -2,6 +2,7 @@ package br.com.vanessa_mudanca.cliente_core.application.service;
 
 import java.util.UUID;
 
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
@@ -88,7 +89,7 @@ class ListClientePJServiceTest {
         when(clientePJRepository.findAll(any(Pageable.class))).thenReturn(emptyPage);
 
         // When
-        PageResponse<ClientePJResponse> response = service.findAll(pageable);
+        PageResponse<ClientePJResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response).isNotNull();
@@ -114,7 +115,7 @@ class ListClientePJServiceTest {
         when(clientePJRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePJResponse> response = service.findAll(pageable);
+        PageResponse<ClientePJResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response).isNotNull();
@@ -145,7 +146,7 @@ class ListClientePJServiceTest {
         when(clientePJRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePJResponse> response = service.findAll(pageable);
+        PageResponse<ClientePJResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response).isNotNull();
@@ -171,7 +172,7 @@ class ListClientePJServiceTest {
         when(clientePJRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePJResponse> response = service.findAll(pageable);
+        PageResponse<ClientePJResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response).isNotNull();
@@ -200,7 +201,7 @@ class ListClientePJServiceTest {
         when(clientePJRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePJResponse> response = service.findAll(pageable);
+        PageResponse<ClientePJResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response.content()).hasSize(3);
@@ -221,7 +222,7 @@ class ListClientePJServiceTest {
         when(clientePJRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePJResponse> response = service.findAll(pageable);
+        PageResponse<ClientePJResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response.content()).hasSize(3);
@@ -242,7 +243,7 @@ class ListClientePJServiceTest {
         when(clientePJRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePJResponse> response = service.findAll(pageable);
+        PageResponse<ClientePJResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response.content()).hasSize(1);
@@ -270,7 +271,7 @@ class ListClientePJServiceTest {
         when(clientePJRepository.findAll(any(Pageable.class))).thenReturn(page);
 
         // When
-        PageResponse<ClientePJResponse> response = service.findAll(pageable);
+        PageResponse<ClientePJResponse> response = service.findAll(pageable, TotalMode.EXACT);
 
         // Then
         assertThat(response.content()).hasSize(1);
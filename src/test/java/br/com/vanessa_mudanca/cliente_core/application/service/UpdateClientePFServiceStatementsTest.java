@@ -0,0 +1,196 @@
+package br.com.vanessa_mudanca.cliente_core.application.service;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateClientePFRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateContatoDTO;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateDocumentoDTO;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateEnderecoDTO;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.PreferenciaCliente;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.EstadoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoContatoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoEnderecoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ContatoPrincipalDuplicadoException;
+import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarContatoPrincipalUnicoStrategy;
+import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarDataValidadeStrategy;
+import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarEnderecoPrincipalUnicoStrategy;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.adapter.ClientePFRepositoryAdapter;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.adapter.ContatoRepositoryAdapter;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.adapter.DocumentoRepositoryAdapter;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.adapter.EnderecoRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Statements da atualização do agregado PF: cada coleção é lida uma vez e os UPDATEs
+ * dos itens saem em lote, qualquer que seja o número de itens no request.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({UpdateClientePFService.class, ClientePFRepositoryAdapter.class, DocumentoRepositoryAdapter.class,
+        EnderecoRepositoryAdapter.class, ContatoRepositoryAdapter.class, ValidarDataValidadeStrategy.class,
+        ValidarEnderecoPrincipalUnicoStrategy.class, ValidarContatoPrincipalUnicoStrategy.class,
+        UpdateClientePFServiceStatementsTest.Config.class})
+@DisplayName("UpdateClientePFService - Statements por atualização")
+class UpdateClientePFServiceStatementsTest {
+
+    /**
+     * Cliente (com documentos) + contatos + endereços + UPDATE do cliente + um lote por tabela de itens,
+     * mais o que o mapper carrega para a resposta: bem menos que um statement por item.
+     */
+    private static final long MAX_STATEMENTS = 10;
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        ConcorrenciaAtualizacao concorrenciaAtualizacao() {
+            return ConcorrenciaAtualizacao.PADRAO;
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockBean
+    private ClienteCachePort clienteCache;
+
+    @Autowired
+    private UpdateClientePFService service;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("Atualizar 10 itens por coleção deve custar os mesmos statements que 2")
+    void statementsNaoDevemCrescerComOsItens() {
+        ClientePF pequeno = persistir(2);
+        ClientePF grande = persistir(10);
+
+        long statementsPequeno = atualizar(pequeno);
+        long statementsGrande = atualizar(grande);
+
+        assertThat(statementsGrande).isEqualTo(statementsPequeno).isLessThanOrEqualTo(MAX_STATEMENTS);
+
+        entityManager.clear();
+        ClientePF atualizado = entityManager.find(ClientePF.class, grande.getId());
+        assertThat(atualizado.getListaDocumentos()).extracting(Documento::getOrgaoEmissor).containsOnly("SSP/SP");
+        assertThat(atualizado.getListaEnderecos()).extracting(Endereco::getCidade).containsOnly("São Paulo");
+        assertThat(atualizado.getListaContatos()).filteredOn(Contato::getContatoPrincipal).hasSize(1);
+        assertThat(atualizado.getListaEnderecos()).filteredOn(Endereco::getEnderecoPrincipal).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Principal duplicado deve ser rejeitado pelo agregado carregado, sem consulta por item")
+    void principalDuplicadoDeveSerRejeitadoEmMemoria() {
+        ClientePF cliente = persistir(3);
+        Long outroContato = cliente.getListaContatos().getLast().getId();
+        entityManager.clear();
+        statistics.clear();
+
+        UpdateClientePFRequest request = UpdateClientePFRequest.builder()
+                .publicId(cliente.getPublicId())
+                .contatos(List.of(UpdateContatoDTO.builder().id(outroContato).contatoPrincipal(true).build()))
+                .build();
+
+        assertThatThrownBy(() -> service.atualizar(request)).isInstanceOf(ContatoPrincipalDuplicadoException.class);
+        // Cliente (com documentos) + contatos
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    /**
+     * Altera todos os itens do cliente, trocando o contato e o endereço principal
+     * (o antigo é desmarcado antes, no mesmo request). Retorna os statements executados.
+     */
+    private long atualizar(ClientePF cliente) {
+        List<UpdateDocumentoDTO> documentos = new ArrayList<>();
+        for (Documento documento : cliente.getListaDocumentos()) {
+            documentos.add(UpdateDocumentoDTO.builder().id(documento.getId()).orgaoEmissor("SSP/SP").build());
+        }
+        List<UpdateEnderecoDTO> enderecos = new ArrayList<>();
+        List<Endereco> listaEnderecos = cliente.getListaEnderecos();
+        for (int i = 0; i < listaEnderecos.size(); i++) {
+            // A atualização de endereço substitui todos os campos: o request leva o endereço completo
+            Endereco endereco = listaEnderecos.get(i);
+            enderecos.add(UpdateEnderecoDTO.builder().id(endereco.getId())
+                    .cep(endereco.getCep()).logradouro(endereco.getLogradouro()).bairro(endereco.getBairro())
+                    .cidade("São Paulo").estado(EstadoEnum.SP)
+                    .enderecoPrincipal(i == 0 ? Boolean.FALSE : i == listaEnderecos.size() - 1 ? Boolean.TRUE : null)
+                    .build());
+        }
+        List<UpdateContatoDTO> contatos = new ArrayList<>();
+        List<Contato> listaContatos = cliente.getListaContatos();
+        for (int i = 0; i < listaContatos.size(); i++) {
+            contatos.add(UpdateContatoDTO.builder().id(listaContatos.get(i).getId())
+                    .valor("(11) 91234-56" + i)
+                    .contatoPrincipal(i == 0 ? Boolean.FALSE : i == listaContatos.size() - 1 ? Boolean.TRUE : null)
+                    .build());
+        }
+        UpdateClientePFRequest request = UpdateClientePFRequest.builder()
+                .publicId(cliente.getPublicId())
+                .documentos(documentos)
+                .enderecos(enderecos)
+                .contatos(contatos)
+                .build();
+
+        entityManager.clear();
+        statistics.clear();
+        service.atualizar(request);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /** Cliente com {@code itens} documentos, contatos e endereços; o primeiro contato e endereço são principais. */
+    private ClientePF persistir(int itens) {
+        ClientePF cliente = ClientePF.builder()
+                .primeiroNome("Cliente").sobrenome(itens + " itens").build();
+        cliente.setPreferenciaCliente(PreferenciaCliente.builder().cliente(cliente).build());
+        for (int i = 0; i < itens; i++) {
+            cliente.adicionarDocumento(Documento.builder().cliente(cliente)
+                    .tipoDocumento(TipoDocumentoEnum.RG).numero("MG-" + UUID.randomUUID()).build());
+            cliente.adicionarContato(Contato.builder().cliente(cliente)
+                    .tipoContato(TipoContatoEnum.CELULAR).valor("(31) 9876-54" + i)
+                    .contatoPrincipal(i == 0).build());
+            cliente.adicionarEndereco(Endereco.builder().cliente(cliente)
+                    .tipoEndereco(TipoEnderecoEnum.RESIDENCIAL)
+                    .cep("30130-100").logradouro("Rua " + i).bairro("Centro")
+                    .cidade("Belo Horizonte").estado(EstadoEnum.MG)
+                    .enderecoPrincipal(i == 0).build());
+        }
+        entityManager.persist(cliente);
+        entityManager.flush();
+        return cliente;
+    }
+}
@@ -5,6 +5,7 @@ import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateContatoDT
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateDocumentoDTO;
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateEnderecoDTO;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePFRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ContatoRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.DocumentoRepositoryPort;
@@ -18,17 +19,21 @@ import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontrado
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ContatoNaoEncontradoException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.DocumentoNaoEncontradoException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.EnderecoNaoEncontradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.VersaoConflitanteException;
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarContatoPrincipalUnicoStrategy;
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarDataValidadeStrategy;
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarEnderecoPrincipalUnicoStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -76,7 +81,14 @@ class UpdateClientePFServiceTest {
     @Mock
     private ValidarContatoPrincipalUnicoStrategy validadorContatoPrincipal;
 
-    @InjectMocks
+    @Mock
+    private ClienteCachePort clienteCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private UpdateClientePFService service;
 
     private UUID publicId;
@@ -87,6 +99,11 @@ class UpdateClientePFServiceTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new UpdateClientePFService(clientePFRepository, documentoRepository, enderecoRepository,
+                contatoRepository, validadorDataValidade, validadorEnderecoPrincipal, validadorContatoPrincipal,
+                clienteCache, transactionManager, new ConcorrenciaAtualizacao(2, Duration.ZERO), meterRegistry);
+
         publicId = UUID.randomUUID();
 
         // Cliente existente no banco
@@ -149,6 +166,11 @@ class UpdateClientePFServiceTest {
                 .contatoPrincipal(true)
                 .verificado(false)
                 .build();
+
+        // Itens carregados com o agregado
+        clienteExistente.adicionarDocumento(documentoExistente);
+        clienteExistente.adicionarEndereco(enderecoExistente);
+        clienteExistente.adicionarContato(contatoExistente);
     }
 
     // ========== CENÁRIOS DE SUCESSO - DADOS BÁSICOS ==========
@@ -166,7 +188,7 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
         // Act
         ClientePFResponse response = service.atualizar(request);
@@ -174,7 +196,7 @@ class UpdateClientePFServiceTest {
         // Assert
         assertNotNull(response);
         verify(clientePFRepository, times(1)).findByPublicId(publicId);
-        verify(clientePFRepository, times(1)).save(clienteExistente);
+        verify(clientePFRepository, times(1)).saveAndFlush(clienteExistente);
 
         // Não deve tentar atualizar entidades relacionadas
         verify(documentoRepository, never()).findById(any());
@@ -199,7 +221,7 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
@@ -233,9 +255,7 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(documentoRepository.findById(100L)).thenReturn(Optional.of(documentoExistente));
-        when(documentoRepository.save(any(Documento.class))).thenReturn(documentoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
         doNothing().when(validadorDataValidade).validar(any(UpdateDocumentoDTO.class));
 
@@ -243,9 +263,7 @@ class UpdateClientePFServiceTest {
         service.atualizar(request);
 
         // Assert
-        verify(documentoRepository, times(1)).findById(100L);
         verify(validadorDataValidade, times(1)).validar(documentoDTO);
-        verify(documentoRepository, times(1)).save(documentoExistente);
 
         assertEquals(novaDataEmissao, documentoExistente.getDataEmissao());
         assertEquals(novaDataValidade, documentoExistente.getDataValidade());
@@ -285,13 +303,13 @@ class UpdateClientePFServiceTest {
                 .build();
 
         Documento documentoDeOutroCliente = Documento.builder()
-                .id(100L)
+                .id(101L)
                 .cliente(outroCliente) // Pertence a outro cliente
                 .tipoDocumento(TipoDocumentoEnum.RG)
                 .build();
 
         UpdateDocumentoDTO documentoDTO = UpdateDocumentoDTO.builder()
-                .id(100L)
+                .id(101L)
                 .dataEmissao(LocalDate.now())
                 .build();
 
@@ -301,7 +319,7 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(documentoRepository.findById(100L)).thenReturn(Optional.of(documentoDeOutroCliente));
+        when(documentoRepository.findById(101L)).thenReturn(Optional.of(documentoDeOutroCliente));
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -338,17 +356,12 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(enderecoRepository.findById(200L)).thenReturn(Optional.of(enderecoExistente));
-        when(enderecoRepository.save(any(Endereco.class))).thenReturn(enderecoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(enderecoRepository, times(1)).findById(200L);
-        verify(enderecoRepository, times(1)).save(enderecoExistente);
-
         assertEquals("01310100", enderecoExistente.getCep());
         assertEquals("Av. Paulista", enderecoExistente.getLogradouro());
         assertEquals("1578", enderecoExistente.getNumero());
@@ -373,18 +386,16 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(enderecoRepository.findById(200L)).thenReturn(Optional.of(enderecoExistente));
-        when(enderecoRepository.save(any(Endereco.class))).thenReturn(enderecoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
-        doNothing().when(validadorEnderecoPrincipal).validar(any(), any(), any(), anyBoolean());
+        doNothing().when(validadorEnderecoPrincipal).validarEmMemoria(anyCollection(), any(), any(), anyBoolean());
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(validadorEnderecoPrincipal, times(1)).validar(
-                clienteExistente.getId(),
+        verify(validadorEnderecoPrincipal, times(1)).validarEmMemoria(
+                clienteExistente.getListaEnderecos(),
                 200L,
                 TipoEnderecoEnum.RESIDENCIAL,
                 true
@@ -408,18 +419,16 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(enderecoRepository.findById(200L)).thenReturn(Optional.of(enderecoExistente));
-        when(enderecoRepository.save(any(Endereco.class))).thenReturn(enderecoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
-        doNothing().when(validadorEnderecoPrincipal).validar(any(), any(), any(), anyBoolean());
+        doNothing().when(validadorEnderecoPrincipal).validarEmMemoria(anyCollection(), any(), any(), anyBoolean());
 
         // Act
         service.atualizar(request);
 
         // Assert - Deve usar o tipo da entidade existente (RESIDENCIAL)
-        verify(validadorEnderecoPrincipal, times(1)).validar(
-                clienteExistente.getId(),
+        verify(validadorEnderecoPrincipal, times(1)).validarEmMemoria(
+                clienteExistente.getListaEnderecos(),
                 200L,
                 TipoEnderecoEnum.RESIDENCIAL, // Tipo da entidade existente
                 true
@@ -467,17 +476,12 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(contatoRepository.save(any(Contato.class))).thenReturn(contatoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(contatoRepository, times(1)).findById(300L);
-        verify(contatoRepository, times(1)).save(contatoExistente);
-
         assertEquals(TipoContatoEnum.EMAIL, contatoExistente.getTipoContato());
         assertEquals("novo.email@example.com", contatoExistente.getValor());
         assertEquals("Email comercial", contatoExistente.getObservacoes());
@@ -498,18 +502,16 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(contatoRepository.save(any(Contato.class))).thenReturn(contatoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
-        doNothing().when(validadorContatoPrincipal).validar(any(), any(), anyBoolean());
+        doNothing().when(validadorContatoPrincipal).validarEmMemoria(anyCollection(), any(), anyBoolean());
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(validadorContatoPrincipal, times(1)).validar(
-                clienteExistente.getId(),
+        verify(validadorContatoPrincipal, times(1)).validarEmMemoria(
+                clienteExistente.getListaContatos(),
                 300L,
                 true
         );
@@ -531,18 +533,16 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(contatoRepository.save(any(Contato.class))).thenReturn(contatoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
-        doNothing().when(validadorContatoPrincipal).validar(any(), any(), anyBoolean());
+        doNothing().when(validadorContatoPrincipal).validarEmMemoria(anyCollection(), any(), anyBoolean());
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(validadorContatoPrincipal, times(1)).validar(
-                clienteExistente.getId(),
+        verify(validadorContatoPrincipal, times(1)).validarEmMemoria(
+                clienteExistente.getListaContatos(),
                 300L,
                 false
         );
@@ -588,7 +588,7 @@ class UpdateClientePFServiceTest {
 
         // Act & Assert
         assertThrows(ClienteNaoEncontradoException.class, () -> service.atualizar(request));
-        verify(clientePFRepository, never()).save(any());
+        verify(clientePFRepository, never()).saveAndFlush(any());
     }
 
     // ========== CENÁRIOS INTEGRADOS ==========
@@ -622,13 +622,7 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(documentoRepository.findById(100L)).thenReturn(Optional.of(documentoExistente));
-        when(enderecoRepository.findById(200L)).thenReturn(Optional.of(enderecoExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(documentoRepository.save(any())).thenReturn(documentoExistente);
-        when(enderecoRepository.save(any())).thenReturn(enderecoExistente);
-        when(contatoRepository.save(any())).thenReturn(contatoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
         doNothing().when(validadorDataValidade).validar(any());
 
@@ -645,11 +639,7 @@ class UpdateClientePFServiceTest {
         assertEquals("Rio de Janeiro", enderecoExistente.getCidade());
         assertEquals("21987654321", contatoExistente.getValor());
 
-        // Verifica que todas as operações de save foram chamadas
-        verify(documentoRepository, times(1)).save(documentoExistente);
-        verify(enderecoRepository, times(1)).save(enderecoExistente);
-        verify(contatoRepository, times(1)).save(contatoExistente);
-        verify(clientePFRepository, times(1)).save(clienteExistente);
+        verify(clientePFRepository, times(1)).saveAndFlush(clienteExistente);
     }
 
     @Test
@@ -669,20 +659,154 @@ class UpdateClientePFServiceTest {
                 .build();
 
         when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(contatoRepository.save(any())).thenReturn(contatoExistente);
-        when(clientePFRepository.save(any(ClientePF.class))).thenReturn(clienteExistente);
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(contatoRepository, times(1)).save(contatoExistente);
-
         // Não deve tentar atualizar documentos e endereços
         verify(documentoRepository, never()).findById(any());
         verify(enderecoRepository, never()).findById(any());
         verify(documentoRepository, never()).save(any());
         verify(enderecoRepository, never()).save(any());
     }
+
+    @Test
+    @DisplayName("Itens do agregado devem ser atualizados em memória, sem busca nem save por item")
+    void deveAtualizarItensDoAgregadoSemBuscaNemSavePorItem() {
+        // Arrange - Itens já carregados com o cliente (setUp)
+        UpdateClientePFRequest request = UpdateClientePFRequest.builder()
+                .publicId(publicId)
+                .documentos(List.of(UpdateDocumentoDTO.builder().id(100L).orgaoEmissor("SSP/RJ").build()))
+                .enderecos(List.of(UpdateEnderecoDTO.builder().id(200L).cidade("Rio de Janeiro").build()))
+                .contatos(List.of(UpdateContatoDTO.builder().id(300L).valor("21987654321").build()))
+                .build();
+
+        when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class))).thenReturn(clienteExistente);
+
+        // Act
+        service.atualizar(request);
+
+        // Assert - Itens gravados pelo flush do cliente
+        verify(documentoRepository, never()).findById(any());
+        verify(enderecoRepository, never()).findById(any());
+        verify(contatoRepository, never()).findById(any());
+        verify(documentoRepository, never()).save(any());
+        verify(enderecoRepository, never()).save(any());
+        verify(contatoRepository, never()).save(any());
+        verify(clientePFRepository, times(1)).saveAndFlush(clienteExistente);
+    }
+
+    // ========== CENÁRIOS DE CONCORRÊNCIA (LOCKING OTIMISTA) ==========
+
+    @Test
+    @DisplayName("Deve lançar VersaoConflitanteException sem gravar quando a versão do If-Match não é a atual")
+    void deveRejeitarVersaoDesatualizada() {
+        // Arrange
+        clienteExistente.setVersao(4L);
+        UpdateClientePFRequest request = UpdateClientePFRequest.builder()
+                .publicId(publicId)
+                .primeiroNome("Carlos")
+                .build();
+
+        when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+
+        // Act & Assert
+        assertThrows(VersaoConflitanteException.class, () -> service.atualizar(request, 3L));
+        assertEquals("João", clienteExistente.getPrimeiroNome());
+        verify(clientePFRepository, never()).saveAndFlush(any());
+        assertEquals(1.0, conflitos("rejeitado"));
+    }
+
+    @Test
+    @DisplayName("Com If-Match, conflito na gravação deve virar VersaoConflitanteException sem retentar")
+    void naoDeveRetentarComVersaoEsperada() {
+        // Arrange
+        clienteExistente.setVersao(3L);
+        UpdateClientePFRequest request = UpdateClientePFRequest.builder()
+                .publicId(publicId)
+                .primeiroNome("Carlos")
+                .build();
+
+        when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(ClientePF.class, 1L));
+
+        // Act & Assert
+        assertThrows(VersaoConflitanteException.class, () -> service.atualizar(request, 3L));
+        verify(clientePFRepository, times(1)).saveAndFlush(any());
+        verify(clienteCache, never()).invalidar(any());
+        assertEquals(1.0, conflitos("rejeitado"));
+    }
+
+    @Test
+    @DisplayName("Com If-Match: *, conflito na gravação deve virar VersaoConflitanteException sem retentar")
+    void naoDeveRetentarComIfMatchQualquer() {
+        // Arrange
+        UpdateClientePFRequest request = UpdateClientePFRequest.builder()
+                .publicId(publicId)
+                .primeiroNome("Carlos")
+                .build();
+
+        when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(ClientePF.class, 1L));
+
+        // Act & Assert
+        assertThrows(VersaoConflitanteException.class, () -> service.atualizar(request, null));
+        verify(clientePFRepository, times(1)).saveAndFlush(any());
+        verify(clienteCache, never()).invalidar(any());
+        assertEquals(1.0, conflitos("rejeitado"));
+        assertEquals(0.0, conflitos("retentado"));
+    }
+
+    @Test
+    @DisplayName("Chamada interna sem precondição: conflito na gravação deve ser retentado relendo o cliente")
+    void deveRetentarConflitoSemVersaoEsperada() {
+        // Arrange
+        UpdateClientePFRequest request = UpdateClientePFRequest.builder()
+                .publicId(publicId)
+                .primeiroNome("Carlos")
+                .build();
+
+        when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(ClientePF.class, 1L))
+                .thenReturn(clienteExistente);
+
+        // Act
+        ClientePFResponse response = service.atualizar(request);
+
+        // Assert
+        assertEquals("Carlos", response.primeiroNome());
+        verify(clientePFRepository, times(2)).findByPublicId(publicId);
+        verify(transactionManager, times(2)).getTransaction(any());
+        assertEquals(1.0, conflitos("retentado"));
+    }
+
+    @Test
+    @DisplayName("Chamada interna sem precondição: conflitos seguidos devem esgotar as tentativas e virar VersaoConflitanteException")
+    void deveDesistirAposMaxTentativas() {
+        // Arrange
+        UpdateClientePFRequest request = UpdateClientePFRequest.builder()
+                .publicId(publicId)
+                .primeiroNome("Carlos")
+                .build();
+
+        when(clientePFRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+        when(clientePFRepository.saveAndFlush(any(ClientePF.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(ClientePF.class, 1L));
+
+        // Act & Assert
+        assertThrows(VersaoConflitanteException.class, () -> service.atualizar(request));
+        verify(clientePFRepository, times(2)).saveAndFlush(any());
+        assertEquals(1.0, conflitos("retentado"));
+        assertEquals(1.0, conflitos("esgotado"));
+    }
+
+    private double conflitos(String resultado) {
+        return meterRegistry.counter("clientes.update.conflitos", "tipo", "PF", "resultado", resultado).count();
+    }
 }
@@ -5,6 +5,7 @@ import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateContatoDT
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateDocumentoDTO;
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateEnderecoDTO;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteCachePort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClientePJRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ContatoRepositoryPort;
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.DocumentoRepositoryPort;
@@ -18,18 +19,22 @@ import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontrado
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ContatoNaoEncontradoException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.DocumentoNaoEncontradoException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.EnderecoNaoEncontradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.VersaoConflitanteException;
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarContatoPrincipalUnicoStrategy;
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarDataValidadeStrategy;
 import br.com.vanessa_mudanca.cliente_core.domain.validator.ValidarEnderecoPrincipalUnicoStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -79,7 +84,14 @@ class UpdateClientePJServiceTest {
     @Mock
     private ValidarContatoPrincipalUnicoStrategy validadorContatoPrincipal;
 
-    @InjectMocks
+    @Mock
+    private ClienteCachePort clienteCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private UpdateClientePJService service;
 
     private UUID publicId;
@@ -90,6 +102,11 @@ class UpdateClientePJServiceTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new UpdateClientePJService(clientePJRepository, documentoRepository, enderecoRepository,
+                contatoRepository, validadorDataValidade, validadorEnderecoPrincipal, validadorContatoPrincipal,
+                clienteCache, transactionManager, new ConcorrenciaAtualizacao(2, Duration.ZERO), meterRegistry);
+
         publicId = UUID.randomUUID();
 
         // Cliente PJ existente no banco
@@ -153,6 +170,11 @@ class UpdateClientePJServiceTest {
                 .contatoPrincipal(true)
                 .verificado(false)
                 .build();
+
+        // Itens carregados com o agregado
+        clienteExistente.adicionarDocumento(documentoExistente);
+        clienteExistente.adicionarEndereco(enderecoExistente);
+        clienteExistente.adicionarContato(contatoExistente);
     }
 
     // ========== CENÁRIOS DE SUCESSO - DADOS BÁSICOS ==========
@@ -169,7 +191,7 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         // Act
         ClientePJResponse response = service.atualizar(request);
@@ -177,7 +199,7 @@ class UpdateClientePJServiceTest {
         // Assert
         assertNotNull(response);
         verify(clientePJRepository, times(1)).findByPublicId(publicId);
-        verify(clientePJRepository, times(1)).save(clienteExistente);
+        verify(clientePJRepository, times(1)).saveAndFlush(clienteExistente);
 
         // Não deve tentar atualizar entidades relacionadas
         verify(documentoRepository, never()).findById(any());
@@ -202,7 +224,7 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
@@ -226,7 +248,7 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
@@ -249,7 +271,7 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
@@ -281,9 +303,7 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(documentoRepository.findById(100L)).thenReturn(Optional.of(documentoExistente));
-        when(documentoRepository.save(any(Documento.class))).thenReturn(documentoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         doNothing().when(validadorDataValidade).validar(any(UpdateDocumentoDTO.class));
 
@@ -291,9 +311,7 @@ class UpdateClientePJServiceTest {
         service.atualizar(request);
 
         // Assert
-        verify(documentoRepository, times(1)).findById(100L);
         verify(validadorDataValidade, times(1)).validar(documentoDTO);
-        verify(documentoRepository, times(1)).save(documentoExistente);
 
         assertEquals(novaDataEmissao, documentoExistente.getDataEmissao());
         assertEquals("Receita Federal - 2ª Via", documentoExistente.getOrgaoEmissor());
@@ -332,13 +350,13 @@ class UpdateClientePJServiceTest {
                 .build();
 
         Documento documentoDeOutroCliente = Documento.builder()
-                .id(100L)
+                .id(101L)
                 .cliente(outroCliente) // Pertence a outro cliente
                 .tipoDocumento(TipoDocumentoEnum.CNPJ)
                 .build();
 
         UpdateDocumentoDTO documentoDTO = UpdateDocumentoDTO.builder()
-                .id(100L)
+                .id(101L)
                 .dataEmissao(LocalDate.now())
                 .build();
 
@@ -348,7 +366,7 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(documentoRepository.findById(100L)).thenReturn(Optional.of(documentoDeOutroCliente));
+        when(documentoRepository.findById(101L)).thenReturn(Optional.of(documentoDeOutroCliente));
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -385,17 +403,12 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(enderecoRepository.findById(200L)).thenReturn(Optional.of(enderecoExistente));
-        when(enderecoRepository.save(any(Endereco.class))).thenReturn(enderecoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(enderecoRepository, times(1)).findById(200L);
-        verify(enderecoRepository, times(1)).save(enderecoExistente);
-
         assertEquals("01310100", enderecoExistente.getCep());
         assertEquals("Av. Paulista", enderecoExistente.getLogradouro());
         assertEquals("2000", enderecoExistente.getNumero());
@@ -420,18 +433,16 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(enderecoRepository.findById(200L)).thenReturn(Optional.of(enderecoExistente));
-        when(enderecoRepository.save(any(Endereco.class))).thenReturn(enderecoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
-        doNothing().when(validadorEnderecoPrincipal).validar(any(), any(), any(), anyBoolean());
+        doNothing().when(validadorEnderecoPrincipal).validarEmMemoria(anyCollection(), any(), any(), anyBoolean());
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(validadorEnderecoPrincipal, times(1)).validar(
-                clienteExistente.getId(),
+        verify(validadorEnderecoPrincipal, times(1)).validarEmMemoria(
+                clienteExistente.getListaEnderecos(),
                 200L,
                 TipoEnderecoEnum.COMERCIAL,
                 true
@@ -455,18 +466,16 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(enderecoRepository.findById(200L)).thenReturn(Optional.of(enderecoExistente));
-        when(enderecoRepository.save(any(Endereco.class))).thenReturn(enderecoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
-        doNothing().when(validadorEnderecoPrincipal).validar(any(), any(), any(), anyBoolean());
+        doNothing().when(validadorEnderecoPrincipal).validarEmMemoria(anyCollection(), any(), any(), anyBoolean());
 
         // Act
         service.atualizar(request);
 
         // Assert - Deve usar o tipo da entidade existente (COMERCIAL)
-        verify(validadorEnderecoPrincipal, times(1)).validar(
-                clienteExistente.getId(),
+        verify(validadorEnderecoPrincipal, times(1)).validarEmMemoria(
+                clienteExistente.getListaEnderecos(),
                 200L,
                 TipoEnderecoEnum.COMERCIAL, // Tipo da entidade existente
                 true
@@ -514,17 +523,12 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(contatoRepository.save(any(Contato.class))).thenReturn(contatoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(contatoRepository, times(1)).findById(300L);
-        verify(contatoRepository, times(1)).save(contatoExistente);
-
         assertEquals(TipoContatoEnum.EMAIL, contatoExistente.getTipoContato());
         assertEquals("contato@techsolbrasil.com.br", contatoExistente.getValor());
         assertEquals("Email corporativo", contatoExistente.getObservacoes());
@@ -545,18 +549,16 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(contatoRepository.save(any(Contato.class))).thenReturn(contatoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
-        doNothing().when(validadorContatoPrincipal).validar(any(), any(), anyBoolean());
+        doNothing().when(validadorContatoPrincipal).validarEmMemoria(anyCollection(), any(), anyBoolean());
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(validadorContatoPrincipal, times(1)).validar(
-                clienteExistente.getId(),
+        verify(validadorContatoPrincipal, times(1)).validarEmMemoria(
+                clienteExistente.getListaContatos(),
                 300L,
                 true
         );
@@ -578,18 +580,16 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(contatoRepository.save(any(Contato.class))).thenReturn(contatoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
-        doNothing().when(validadorContatoPrincipal).validar(any(), any(), anyBoolean());
+        doNothing().when(validadorContatoPrincipal).validarEmMemoria(anyCollection(), any(), anyBoolean());
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(validadorContatoPrincipal, times(1)).validar(
-                clienteExistente.getId(),
+        verify(validadorContatoPrincipal, times(1)).validarEmMemoria(
+                clienteExistente.getListaContatos(),
                 300L,
                 false
         );
@@ -635,7 +635,7 @@ class UpdateClientePJServiceTest {
 
         // Act & Assert
         assertThrows(ClienteNaoEncontradoException.class, () -> service.atualizar(request));
-        verify(clientePJRepository, never()).save(any());
+        verify(clientePJRepository, never()).saveAndFlush(any());
     }
 
     // ========== CENÁRIOS INTEGRADOS ==========
@@ -670,13 +670,7 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(documentoRepository.findById(100L)).thenReturn(Optional.of(documentoExistente));
-        when(enderecoRepository.findById(200L)).thenReturn(Optional.of(enderecoExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(documentoRepository.save(any())).thenReturn(documentoExistente);
-        when(enderecoRepository.save(any())).thenReturn(enderecoExistente);
-        when(contatoRepository.save(any())).thenReturn(contatoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         doNothing().when(validadorDataValidade).validar(any());
 
@@ -694,11 +688,7 @@ class UpdateClientePJServiceTest {
         assertEquals("Rio de Janeiro", enderecoExistente.getCidade());
         assertEquals("21987654321", contatoExistente.getValor());
 
-        // Verifica que todas as operações de save foram chamadas
-        verify(documentoRepository, times(1)).save(documentoExistente);
-        verify(enderecoRepository, times(1)).save(enderecoExistente);
-        verify(contatoRepository, times(1)).save(contatoExistente);
-        verify(clientePJRepository, times(1)).save(clienteExistente);
+        verify(clientePJRepository, times(1)).saveAndFlush(clienteExistente);
     }
 
     @Test
@@ -718,16 +708,12 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(contatoRepository.findById(300L)).thenReturn(Optional.of(contatoExistente));
-        when(contatoRepository.save(any())).thenReturn(contatoExistente);
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
 
         // Assert
-        verify(contatoRepository, times(1)).save(contatoExistente);
-
         // Não deve tentar atualizar documentos e endereços
         verify(documentoRepository, never()).findById(any());
         verify(enderecoRepository, never()).findById(any());
@@ -749,7 +735,7 @@ class UpdateClientePJServiceTest {
                 .build();
 
         when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
-        when(clientePJRepository.save(any(ClientePJ.class))).thenReturn(clienteExistente);
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
 
         // Act
         service.atualizar(request);
@@ -770,4 +756,73 @@ class UpdateClientePJServiceTest {
         verify(enderecoRepository, never()).findById(any());
         verify(contatoRepository, never()).findById(any());
     }
+
+    @Test
+    @DisplayName("Itens do agregado devem ser atualizados em memória, sem busca nem save por item")
+    void deveAtualizarItensDoAgregadoSemBuscaNemSavePorItem() {
+        // Arrange - Itens já carregados com o cliente (setUp)
+        UpdateClientePJRequest request = UpdateClientePJRequest.builder()
+                .publicId(publicId)
+                .documentos(List.of(UpdateDocumentoDTO.builder().id(100L).orgaoEmissor("SSP/RJ").build()))
+                .enderecos(List.of(UpdateEnderecoDTO.builder().id(200L).cidade("Rio de Janeiro").build()))
+                .contatos(List.of(UpdateContatoDTO.builder().id(300L).valor("21987654321").build()))
+                .build();
+
+        when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class))).thenReturn(clienteExistente);
+
+        // Act
+        service.atualizar(request);
+
+        // Assert - Itens gravados pelo flush do cliente
+        verify(documentoRepository, never()).findById(any());
+        verify(enderecoRepository, never()).findById(any());
+        verify(contatoRepository, never()).findById(any());
+        verify(documentoRepository, never()).save(any());
+        verify(enderecoRepository, never()).save(any());
+        verify(contatoRepository, never()).save(any());
+        verify(clientePJRepository, times(1)).saveAndFlush(clienteExistente);
+    }
+
+    // ========== CENÁRIOS DE CONCORRÊNCIA (LOCKING OTIMISTA) ==========
+
+    @Test
+    @DisplayName("Deve lançar VersaoConflitanteException sem gravar quando a versão do If-Match não é a atual")
+    void deveRejeitarVersaoDesatualizada() {
+        // Arrange
+        clienteExistente.setVersao(4L);
+        UpdateClientePJRequest request = UpdateClientePJRequest.builder()
+                .publicId(publicId)
+                .nomeFantasia("Nova Fantasia")
+                .build();
+
+        when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+
+        // Act & Assert
+        assertThrows(VersaoConflitanteException.class, () -> service.atualizar(request, 3L));
+        verify(clientePJRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("Chamada interna sem precondição: conflito na gravação deve ser retentado relendo o cliente")
+    void deveRetentarConflitoSemVersaoEsperada() {
+        // Arrange
+        UpdateClientePJRequest request = UpdateClientePJRequest.builder()
+                .publicId(publicId)
+                .nomeFantasia("Nova Fantasia")
+                .build();
+
+        when(clientePJRepository.findByPublicId(publicId)).thenReturn(Optional.of(clienteExistente));
+        when(clientePJRepository.saveAndFlush(any(ClientePJ.class)))
+                .thenThrow(new ObjectOptimisticLockingFailureException(ClientePJ.class, 1L))
+                .thenReturn(clienteExistente);
+
+        // Act
+        ClientePJResponse response = service.atualizar(request);
+
+        // Assert
+        assertNotNull(response);
+        verify(clientePJRepository, times(2)).findByPublicId(publicId);
+        assertEquals(1.0, meterRegistry.counter("clientes.update.conflitos", "tipo", "PJ", "resultado", "retentado").count());
+    }
 }
@@ -0,0 +1,132 @@
+package br.com.vanessa_mudanca.cliente_core.benchmark;
+
+import br.com.vanessa_mudanca.cliente_core.ClienteCoreApplication;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.PreferenciaCliente;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.EstadoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoContatoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.repository.ClientePFJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Custo de gravar {@value #AGREGADOS} PFs típicos (cliente + preferências, 2 documentos,
+ * 2 contatos, 1 endereço = 8 linhas) numa transação, sem lote ({@code batch_size=1}) vs
+ * lotes de 20.
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     org.openjdk.jmh.Main AggregateInsertBenchmark -prof gc
+ * </pre>
+ *
+ * Statements por agregado (impressos no TearDown): {@code batch_size=1} ≈ 8, o mesmo que
+ * IDENTITY impunha com qualquer {@code batch_size} (um INSERT por linha, o ID só existe depois
+ * dele); {@code batch_size=20} ≈ 0,4 (6 tabelas em lotes + um nextval a cada 50 IDs).
+ *
+ * Sobe o contexto com o profile {@code test} (H2 em memória), onde o lote rende ~2x. Com
+ * PostgreSQL cada statement economizado é também um round trip. Ver {@link CacheTierBenchmark}
+ * para gerar o classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class AggregateInsertBenchmark {
+
+    private static final int AGREGADOS = 100;
+
+    @Param({"1", "20"})
+    public String batchSize;
+
+    private ConfigurableApplicationContext context;
+    private ClientePFJpaRepository jpaRepository;
+    private TransactionTemplate tx;
+    private Statistics statistics;
+    private final AtomicLong sequencial = new AtomicLong();
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(ClienteCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.properties.hibernate.generate_statistics=true");
+        jpaRepository = context.getBean(ClientePFJpaRepository.class);
+        tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%nbatch_size=%s: %.2f statements por agregado%n", batchSize,
+                (double) statistics.getPrepareStatementCount() / sequencial.get());
+        context.close();
+    }
+
+    @Benchmark
+    public List<ClientePF> inserir() {
+        return tx.execute(status -> {
+            List<ClientePF> clientes = new ArrayList<>(AGREGADOS);
+            for (int i = 0; i < AGREGADOS; i++) {
+                clientes.add(cliente(sequencial.incrementAndGet()));
+            }
+            return jpaRepository.saveAll(clientes);
+        });
+    }
+
+    private static ClientePF cliente(long i) {
+        ClientePF cliente = ClientePF.builder()
+                .primeiroNome("Cliente").sobrenome("Número " + i)
+                .email("cliente" + i + "@exemplo.com.br").build();
+        cliente.setPreferenciaCliente(PreferenciaCliente.builder().cliente(cliente).build());
+        for (int j = 0; j < 2; j++) {
+            cliente.adicionarDocumento(Documento.builder().cliente(cliente)
+                    .tipoDocumento(TipoDocumentoEnum.RG).numero("12.345.678-" + i + j).build());
+            cliente.adicionarContato(Contato.builder().cliente(cliente)
+                    .tipoContato(TipoContatoEnum.CELULAR).valor("(11) 99999-" + i + j).build());
+        }
+        cliente.adicionarEndereco(Endereco.builder().cliente(cliente)
+                .cep("01310-100").logradouro("Avenida Paulista").numero(String.valueOf(i))
+                .bairro("Bela Vista").cidade("São Paulo").estado(EstadoEnum.SP).build());
+        return cliente;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(AggregateInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.vanessa_mudanca.cliente_core.benchmark;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Dados dos benchmarks: um PF típico (2 documentos, 2 contatos, 1 endereço).
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static ClientePFResponse clientePF(int i) {
+        ClientePF pf = ClientePF.builder()
+                .publicId(UUID.randomUUID())
+                .primeiroNome("Cliente")
+                .sobrenome("Número " + i)
+                .cpf("123.456.789-%02d".formatted(i % 100))
+                .email("cliente" + i + "@exemplo.com.br")
+                .dataNascimento(LocalDateTime.of(1990, 1, 1, 0, 0).toLocalDate())
+                .dataCriacao(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .dataAtualizacao(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build();
+        pf.getListaDocumentos().add(Documento.builder()
+                .tipoDocumento(TipoDocumentoEnum.RG).numero("12.345.678-" + i).orgaoEmissor("SSP").build());
+        pf.getListaDocumentos().add(Documento.builder()
+                .tipoDocumento(TipoDocumentoEnum.CNH).numero("0" + i).orgaoEmissor("DETRAN").build());
+        pf.getListaContatos().add(Contato.builder().valor("(11) 99999-" + i).build());
+        pf.getListaContatos().add(Contato.builder().valor("cliente" + i + "@exemplo.com.br").build());
+        pf.getListaEnderecos().add(Endereco.builder()
+                .cep("01310-100").logradouro("Avenida Paulista").numero(String.valueOf(i))
+                .bairro("Bela Vista").cidade("São Paulo").build());
+        return ClientePFMapper.toResponse(pf);
+    }
+}
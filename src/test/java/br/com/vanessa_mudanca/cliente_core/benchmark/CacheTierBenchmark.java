@@ -0,0 +1,101 @@
+package br.com.vanessa_mudanca.cliente_core.benchmark;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.BinaryRecordCodec;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.ClienteMemoryWeigher;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.OffHeapArena;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.OffHeapCache;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.VersionGuardedCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o cache on-heap ({@link VersionGuardedCache} limitado por {@code maximum-memory})
+ * com o {@link OffHeapCache} no {@code clientes:findById}: hit e put de um PF típico
+ * (2 documentos, 2 contatos, 1 endereço).
+ *
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     org.openjdk.jmh.Main CacheTierBenchmark -prof gc
+ * </pre>
+ *
+ * Não roda no {@code mvn test}: benchmarks ficam fora do surefire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx512m", "-XX:MaxDirectMemorySize=512m"})
+public class CacheTierBenchmark {
+
+    private static final int CLIENTES = 10_000;
+
+    @Param({"onHeap", "offHeap"})
+    public String tier;
+
+    private Cache cache;
+    private String[] chaves;
+    private ClientePFResponse[] clientes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cache = switch (tier) {
+            case "onHeap" -> new VersionGuardedCache("clientes:findById", Caffeine.newBuilder()
+                    .expireAfterWrite(Duration.ofMinutes(5))
+                    .maximumWeight(DataSize.ofMegabytes(256).toBytes())
+                    .weigher(new ClienteMemoryWeigher())
+                    .build(), Duration.ofMinutes(5), true);
+            case "offHeap" -> new OffHeapCache("clientes:findById",
+                    Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(5)), null,
+                    new OffHeapArena(DataSize.ofMegabytes(256).toBytes()), new BinaryRecordCodec(),
+                    Duration.ofMinutes(5), true);
+            default -> throw new IllegalArgumentException(tier);
+        };
+        chaves = new String[CLIENTES];
+        clientes = new ClientePFResponse[CLIENTES];
+        for (int i = 0; i < CLIENTES; i++) {
+            clientes[i] = BenchmarkFixtures.clientePF(i);
+            chaves[i] = clientes[i].publicId().toString();
+            cache.put(chaves[i], clientes[i]);
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        return cache.get(chaves[ThreadLocalRandom.current().nextInt(CLIENTES)]).get();
+    }
+
+    @Benchmark
+    public void put() {
+        int i = ThreadLocalRandom.current().nextInt(CLIENTES);
+        cache.put(chaves[i], clientes[i]);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheTierBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
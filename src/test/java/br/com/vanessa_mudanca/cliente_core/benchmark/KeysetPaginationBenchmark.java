@@ -0,0 +1,126 @@
+package br.com.vanessa_mudanca.cliente_core.benchmark;
+
+import br.com.vanessa_mudanca.cliente_core.ClienteCoreApplication;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.adapter.ClientePFRepositoryAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listagem de PF na página 0 e na página 10.000 (20 por página): OFFSET ({@code GET /v1/clientes/pf})
+ * vs cursor ({@code GET /v1/clientes/pf/scroll}).
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     org.openjdk.jmh.Main KeysetPaginationBenchmark
+ * </pre>
+ *
+ * Sobe o contexto com o profile {@code test} (H2 em memória) com 200.100 clientes e o
+ * {@code idx_clientes_data_criacao} da migration. O cursor fica plano (~1,5 ms nas duas páginas,
+ * 1 CPU); no H2 as linhas puladas pelo OFFSET já estão em memória, então ele também quase não
+ * cresce e o ruído é maior que a diferença. No PostgreSQL o OFFSET lê e descarta as 200.000 linhas
+ * anteriores a cada página, e é aí que o seek faz diferença. Ver {@link CacheTierBenchmark} para
+ * gerar o classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class KeysetPaginationBenchmark {
+
+    private static final int TAMANHO = 20;
+    private static final int CLIENTES = 200_100;
+    private static final LocalDateTime INICIO = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Param({"0", "10000"})
+    public int pagina;
+
+    private ConfigurableApplicationContext context;
+    private ClientePFRepositoryAdapter adapter;
+    private TransactionTemplate readOnly;
+    private Pageable pageable;
+    private ClienteCursor cursor;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(ClienteCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test");
+        adapter = context.getBean(ClientePFRepositoryAdapter.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        pageable = PageRequest.of(pagina, TAMANHO, Sort.by("dataCriacao", "publicId"));
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.execute("CREATE INDEX idx_clientes_data_criacao ON clientes(data_criacao DESC)");
+        List<Object[]> clientes = new ArrayList<>(CLIENTES);
+        List<Object[]> pfs = new ArrayList<>(CLIENTES);
+        for (long id = 1; id <= CLIENTES; id++) {
+            clientes.add(new Object[]{id, UUID.randomUUID(), Timestamp.valueOf(INICIO.plusSeconds(id))});
+            pfs.add(new Object[]{id, "Cliente", "Número " + id});
+        }
+        jdbc.batchUpdate("INSERT INTO clientes (id, public_id, dtype, data_criacao, ativo, bloqueado) "
+                + "VALUES (?, ?, 'PF', ?, true, false)", clientes);
+        jdbc.batchUpdate("INSERT INTO clientes_pf (id, primeiro_nome, sobrenome) VALUES (?, ?, ?)", pfs);
+
+        // Cursor equivalente ao fim da página anterior
+        if (pagina > 0) {
+            ClientePF anterior = readOnly.execute(status -> adapter
+                    .findAll(PageRequest.of(pagina * TAMANHO - 1, 1, pageable.getSort())).getContent().getFirst());
+            cursor = ClienteCursor.apos(anterior);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ClientePF> offset() {
+        return readOnly.execute(status -> adapter.findAll(pageable).getContent());
+    }
+
+    @Benchmark
+    public List<ClientePF> cursor() {
+        return readOnly.execute(status -> adapter.findAfter(cursor, TAMANHO));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(KeysetPaginationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,142 @@
+package br.com.vanessa_mudanca.cliente_core.benchmark;
+
+import br.com.vanessa_mudanca.cliente_core.ClienteCoreApplication;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.PreferenciaCliente;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.EstadoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoContatoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.adapter.ClientePFRepositoryAdapter;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.repository.ClientePFJpaRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de montar uma página de {@code GET /v1/clientes/pf} (sem cache) em páginas de 20/100/500:
+ * listas lazy, um SELECT por lista e por cliente (comportamento anterior), vs listas da página
+ * carregadas em lote pelo {@link ClientePFRepositoryAdapter}.
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     org.openjdk.jmh.Main ListPageLoadingBenchmark -prof gc
+ * </pre>
+ *
+ * Statements por página: {@code lazy} = 2 + 3 × tamanho (62 / 302 / 1502); {@code emLote} = 5.
+ *
+ * Sobe o contexto com o profile {@code test} (H2 em memória): sem rede entre aplicação e banco,
+ * os dois ficam na mesma faixa de tempo (1 CPU: ~2 ms / ~4 ms / ~16 ms). Com PostgreSQL cada
+ * statement economizado poupa também um round trip. Ver {@link CacheTierBenchmark} para gerar
+ * o classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx1g")
+public class ListPageLoadingBenchmark {
+
+    private static final int CLIENTES = 500;
+
+    @Param({"20", "100", "500"})
+    public int tamanho;
+
+    private ConfigurableApplicationContext context;
+    private ClientePFJpaRepository jpaRepository;
+    private ClientePFRepositoryAdapter adapter;
+    private TransactionTemplate readOnly;
+    private Pageable pageable;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(ClienteCoreApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.profiles.active=test");
+        jpaRepository = context.getBean(ClientePFJpaRepository.class);
+        adapter = context.getBean(ClientePFRepositoryAdapter.class);
+        TransactionTemplate tx = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        pageable = PageRequest.of(0, tamanho);
+
+        tx.executeWithoutResult(status -> {
+            List<ClientePF> clientes = new ArrayList<>(CLIENTES);
+            for (int i = 0; i < CLIENTES; i++) {
+                clientes.add(cliente(i));
+            }
+            jpaRepository.saveAll(clientes);
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ClientePFResponse> lazy() {
+        return readOnly.execute(status -> mapear(jpaRepository.findAll(pageable)));
+    }
+
+    @Benchmark
+    public List<ClientePFResponse> emLote() {
+        return readOnly.execute(status -> mapear(adapter.findAll(pageable)));
+    }
+
+    private static List<ClientePFResponse> mapear(Page<ClientePF> page) {
+        return page.map(ClientePFMapper::toResponse).getContent();
+    }
+
+    private static ClientePF cliente(int i) {
+        ClientePF cliente = ClientePF.builder()
+                .primeiroNome("Cliente").sobrenome("Número " + i)
+                .email("cliente" + i + "@exemplo.com.br").build();
+        cliente.setPreferenciaCliente(PreferenciaCliente.builder().cliente(cliente).build());
+        for (int j = 0; j < 2; j++) {
+            cliente.adicionarDocumento(Documento.builder().cliente(cliente)
+                    .tipoDocumento(TipoDocumentoEnum.RG).numero("12.345.678-" + i + j).build());
+            cliente.adicionarContato(Contato.builder().cliente(cliente)
+                    .tipoContato(TipoContatoEnum.CELULAR).valor("(11) 99999-" + i + j).build());
+        }
+        cliente.adicionarEndereco(Endereco.builder().cliente(cliente)
+                .cep("01310-100").logradouro("Avenida Paulista").numero(String.valueOf(i))
+                .bairro("Bela Vista").cidade("São Paulo").estado(EstadoEnum.SP).build());
+        return cliente;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ListPageLoadingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.vanessa_mudanca.cliente_core.benchmark;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.RenderedJson;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.RenderedJsonCache;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.RenderedJsonProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Custo de produzir o corpo de um hit do {@code GET /v1/clientes/pf/{publicId}}: Jackson sobre o
+ * {@link ClientePFResponse} a cada request (comportamento anterior) vs bytes do {@link RenderedJsonCache}.
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *     org.openjdk.jmh.Main RenderedJsonBenchmark -prof gc
+ * </pre>
+ *
+ * Ver {@link CacheTierBenchmark} para gerar o classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenderedJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private RenderedJsonCache cache;
+    private ClientePFResponse cliente;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cache = new RenderedJsonCache(new ConcurrentMapCacheManager(), objectMapper, RenderedJsonProperties.PADRAO);
+        cliente = BenchmarkFixtures.clientePF(42);
+        cache.render(cliente.publicId().toString(), cliente);
+    }
+
+    @Benchmark
+    public byte[] jackson() throws IOException {
+        return objectMapper.writeValueAsBytes(cliente);
+    }
+
+    @Benchmark
+    public byte[] jacksonGzip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, cliente);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public RenderedJson preRenderizado() {
+        return cache.render(cliente.publicId().toString(), cliente);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(RenderedJsonBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
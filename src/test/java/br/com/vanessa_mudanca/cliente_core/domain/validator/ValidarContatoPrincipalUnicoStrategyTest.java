@@ -1,6 +1,7 @@
 package br.com.vanessa_mudanca.cliente_core.domain.validator;
 
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.ContatoRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ContatoPrincipalDuplicadoException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.*;
@@ -37,6 +40,13 @@ class ValidarContatoPrincipalUnicoStrategyTest {
         validator = new ValidarContatoPrincipalUnicoStrategy(contatoRepository);
     }
 
+    private static Contato contato(Long id, boolean principal) {
+        return Contato.builder()
+                .id(id)
+                .contatoPrincipal(principal)
+                .build();
+    }
+
     @Nested
     @DisplayName("Cenários Válidos - Não deve lançar exceção")
     class CenariosValidos {
@@ -379,4 +389,116 @@ class ValidarContatoPrincipalUnicoStrategyTest {
             ).isInstanceOf(ContatoPrincipalDuplicadoException.class);
         }
     }
+
+    /**
+     * {@code validar} sobre a coleção já carregada do agregado (atualização do cliente),
+     * incluindo as alterações ainda não gravadas do mesmo request.
+     */
+    @Nested
+    @DisplayName("Agregado carregado - Validação em memória")
+    class AgregadoCarregado {
+
+        @Nested
+        @DisplayName("Cenários Válidos - Não deve lançar exceção")
+        class Validos {
+
+            @Test
+            @DisplayName("Deve aceitar quando não está marcando como principal (false)")
+            void deveAceitarQuandoNaoMarcandoComoPrincipal() {
+                // Given - Já existe outro principal, mas não está marcando
+                List<Contato> contatos = List.of(contato(10L, false), contato(11L, true));
+
+                // When/Then
+                assertDoesNotThrow(() -> validator.validarEmMemoria(contatos, 10L, false));
+            }
+
+            @Test
+            @DisplayName("Deve aceitar quando marcandoComoPrincipal é null")
+            void deveAceitarQuandoMarcandoComoPrincipalEhNull() {
+                // Given
+                List<Contato> contatos = List.of(contato(10L, false), contato(11L, true));
+
+                // When/Then
+                assertDoesNotThrow(() -> validator.validarEmMemoria(contatos, 10L, null));
+            }
+
+            @Test
+            @DisplayName("Deve aceitar quando cliente tem múltiplos contatos mas nenhum é principal")
+            void deveAceitarQuandoTemMultiplosContatosMasNenhumPrincipal() {
+                // Given
+                List<Contato> contatos = List.of(contato(50L, false), contato(51L, false), contato(52L, false));
+
+                // When/Then
+                assertDoesNotThrow(() -> validator.validarEmMemoria(contatos, 50L, true));
+            }
+
+            @Test
+            @DisplayName("Deve aceitar quando o próprio contato já é principal (atualizando outros campos)")
+            void deveAceitarQuandoProprioContatoJaEhPrincipal() {
+                // Given
+                List<Contato> contatos = List.of(contato(100L, true), contato(101L, false));
+
+                // When/Then
+                assertDoesNotThrow(() -> validator.validarEmMemoria(contatos, 100L, true));
+            }
+
+            @Test
+            @DisplayName("Deve aceitar quando outro principal foi desmarcado antes no mesmo request")
+            void deveAceitarQuandoOutroPrincipalFoiDesmarcado() {
+                // Given - Contato 10 era principal e já foi desmarcado em memória
+                Contato anterior = contato(10L, true);
+                List<Contato> contatos = List.of(anterior, contato(20L, false));
+                anterior.removerFlagPrincipal();
+
+                // When/Then
+                assertDoesNotThrow(() -> validator.validarEmMemoria(contatos, 20L, true));
+            }
+
+            @Test
+            @DisplayName("Deve aceitar primeiro contato de um cliente sem contatos")
+            void deveAceitarClienteSemContatos() {
+                assertDoesNotThrow(() -> validator.validarEmMemoria(List.of(), 20L, true));
+            }
+        }
+
+        @Nested
+        @DisplayName("Cenários Inválidos - Deve lançar exceção")
+        class Invalidos {
+
+            @Test
+            @DisplayName("Deve rejeitar quando já existe outro contato principal")
+            void deveRejeitarQuandoJaExisteOutroPrincipal() {
+                // Given
+                List<Contato> contatos = List.of(contato(10L, false), contato(11L, true));
+
+                // When/Then
+                assertThatThrownBy(() -> validator.validarEmMemoria(contatos, 10L, true))
+                        .isInstanceOf(ContatoPrincipalDuplicadoException.class);
+            }
+
+            @Test
+            @DisplayName("Deve rejeitar contato fora da lista quando o cliente já tem um principal")
+            void deveRejeitarContatoForaDaListaComPrincipal() {
+                // Given
+                List<Contato> contatos = List.of(contato(70L, true));
+
+                // When/Then
+                assertThatThrownBy(() -> validator.validarEmMemoria(contatos, 99L, true))
+                        .isInstanceOf(ContatoPrincipalDuplicadoException.class);
+            }
+
+            @Test
+            @DisplayName("Deve rejeitar quando outro contato foi marcado antes no mesmo request")
+            void deveRejeitarQuandoOutroFoiMarcadoNoMesmoRequest() {
+                // Given - Contato 50 acabou de ser marcado em memória
+                Contato marcado = contato(50L, false);
+                List<Contato> contatos = List.of(marcado, contato(51L, false));
+                marcado.marcarComoPrincipal();
+
+                // When/Then
+                assertThatThrownBy(() -> validator.validarEmMemoria(contatos, 51L, true))
+                        .isInstanceOf(ContatoPrincipalDuplicadoException.class);
+            }
+        }
+    }
 }
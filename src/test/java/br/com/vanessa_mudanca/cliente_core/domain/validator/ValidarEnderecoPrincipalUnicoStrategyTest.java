@@ -1,6 +1,7 @@
 package br.com.vanessa_mudanca.cliente_core.domain.validator;
 
 import br.com.vanessa_mudanca.cliente_core.application.ports.output.EnderecoRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoEnderecoEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.EnderecoPrincipalDuplicadoException;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.Mockito.*;
@@ -38,6 +41,14 @@ class ValidarEnderecoPrincipalUnicoStrategyTest {
         validator = new ValidarEnderecoPrincipalUnicoStrategy(enderecoRepository);
     }
 
+    private static Endereco endereco(Long id, TipoEnderecoEnum tipo, boolean principal) {
+        return Endereco.builder()
+                .id(id)
+                .tipoEndereco(tipo)
+                .enderecoPrincipal(principal)
+                .build();
+    }
+
     @Nested
     @DisplayName("Cenários Válidos - Não deve lançar exceção")
     class CenariosValidos {
@@ -348,4 +359,184 @@ class ValidarEnderecoPrincipalUnicoStrategyTest {
             verifyNoInteractions(enderecoRepository);
         }
     }
+
+    /**
+     * {@code validar} sobre a coleção já carregada do agregado (atualização do cliente),
+     * incluindo as alterações ainda não gravadas do mesmo request.
+     */
+    @Nested
+    @DisplayName("Agregado carregado - Validação em memória")
+    class AgregadoCarregado {
+
+        @Nested
+        @DisplayName("Cenários Válidos - Não deve lançar exceção")
+        class Validos {
+
+            @Test
+            @DisplayName("Deve aceitar quando não está marcando como principal (false)")
+            void deveAceitarQuandoNaoMarcandoComoPrincipal() {
+                // Given - Já existe outro principal do mesmo tipo, mas não está marcando
+                List<Endereco> enderecos = List.of(
+                        endereco(10L, TipoEnderecoEnum.RESIDENCIAL, false),
+                        endereco(11L, TipoEnderecoEnum.RESIDENCIAL, true)
+                );
+
+                // When/Then
+                assertDoesNotThrow(() ->
+                        validator.validarEmMemoria(enderecos, 10L, TipoEnderecoEnum.RESIDENCIAL, false)
+                );
+            }
+
+            @Test
+            @DisplayName("Deve aceitar quando marcandoComoPrincipal é null")
+            void deveAceitarQuandoMarcandoComoPrincipalEhNull() {
+                // Given
+                List<Endereco> enderecos = List.of(
+                        endereco(10L, TipoEnderecoEnum.COMERCIAL, false),
+                        endereco(11L, TipoEnderecoEnum.COMERCIAL, true)
+                );
+
+                // When/Then
+                assertDoesNotThrow(() ->
+                        validator.validarEmMemoria(enderecos, 10L, TipoEnderecoEnum.COMERCIAL, null)
+                );
+            }
+
+            @Test
+            @DisplayName("Deve aceitar quando não existe outro endereço principal do mesmo tipo")
+            void deveAceitarQuandoNaoExisteOutroPrincipal() {
+                // Given
+                List<Endereco> enderecos = List.of(
+                        endereco(10L, TipoEnderecoEnum.RESIDENCIAL, false),
+                        endereco(11L, TipoEnderecoEnum.RESIDENCIAL, false)
+                );
+
+                // When/Then
+                assertDoesNotThrow(() ->
+                        validator.validarEmMemoria(enderecos, 10L, TipoEnderecoEnum.RESIDENCIAL, true)
+                );
+            }
+
+            @Test
+            @DisplayName("Deve aceitar quando o próprio endereço já é principal (atualizando outros campos)")
+            void deveAceitarQuandoProprioEnderecoJaEhPrincipal() {
+                // Given
+                List<Endereco> enderecos = List.of(
+                        endereco(10L, TipoEnderecoEnum.ENTREGA, true),
+                        endereco(11L, TipoEnderecoEnum.ENTREGA, false)
+                );
+
+                // When/Then
+                assertDoesNotThrow(() ->
+                        validator.validarEmMemoria(enderecos, 10L, TipoEnderecoEnum.ENTREGA, true)
+                );
+            }
+
+            @Test
+            @DisplayName("Deve aceitar marcar como principal COMERCIAL quando já existe RESIDENCIAL principal")
+            void deveAceitarPrincipalDeTiposDiferentes() {
+                // Given - Existe endereço RESIDENCIAL principal, mas é tipo diferente (ok)
+                List<Endereco> enderecos = List.of(
+                        endereco(10L, TipoEnderecoEnum.RESIDENCIAL, true),
+                        endereco(20L, TipoEnderecoEnum.COMERCIAL, false)
+                );
+
+                // When/Then
+                assertDoesNotThrow(() ->
+                        validator.validarEmMemoria(enderecos, 20L, TipoEnderecoEnum.COMERCIAL, true)
+                );
+            }
+
+            @Test
+            @DisplayName("Deve considerar o tipo informado, não o tipo atual do próprio endereço")
+            void deveConsiderarTipoInformado() {
+                // Given - O endereço 20 está mudando de RESIDENCIAL para COBRANCA
+                List<Endereco> enderecos = List.of(
+                        endereco(10L, TipoEnderecoEnum.RESIDENCIAL, true),
+                        endereco(20L, TipoEnderecoEnum.RESIDENCIAL, false)
+                );
+
+                // When/Then
+                assertDoesNotThrow(() ->
+                        validator.validarEmMemoria(enderecos, 20L, TipoEnderecoEnum.COBRANCA, true)
+                );
+            }
+
+            @Test
+            @DisplayName("Deve aceitar quando outro principal foi desmarcado antes no mesmo request")
+            void deveAceitarQuandoOutroPrincipalFoiDesmarcado() {
+                // Given - Endereço 10 era principal e já foi desmarcado em memória
+                Endereco anterior = endereco(10L, TipoEnderecoEnum.RESIDENCIAL, true);
+                List<Endereco> enderecos = List.of(anterior, endereco(20L, TipoEnderecoEnum.RESIDENCIAL, false));
+                anterior.removerFlagPrincipal();
+
+                // When/Then
+                assertDoesNotThrow(() ->
+                        validator.validarEmMemoria(enderecos, 20L, TipoEnderecoEnum.RESIDENCIAL, true)
+                );
+            }
+
+            @Test
+            @DisplayName("Deve aceitar primeiro endereço de um cliente sem endereços")
+            void deveAceitarClienteSemEnderecos() {
+                assertDoesNotThrow(() ->
+                        validator.validarEmMemoria(List.of(), 30L, TipoEnderecoEnum.COBRANCA, true)
+                );
+            }
+        }
+
+        @Nested
+        @DisplayName("Cenários Inválidos - Deve lançar exceção")
+        class Invalidos {
+
+            @Test
+            @DisplayName("Deve rejeitar quando já existe outro endereço principal do mesmo tipo")
+            void deveRejeitarQuandoJaExisteOutroPrincipal() {
+                // Given
+                List<Endereco> enderecos = List.of(
+                        endereco(10L, TipoEnderecoEnum.RESIDENCIAL, false),
+                        endereco(11L, TipoEnderecoEnum.RESIDENCIAL, true)
+                );
+
+                // When/Then
+                assertThatThrownBy(() ->
+                        validator.validarEmMemoria(enderecos, 10L, TipoEnderecoEnum.RESIDENCIAL, true)
+                )
+                        .isInstanceOf(EnderecoPrincipalDuplicadoException.class)
+                        .hasMessageContaining(TipoEnderecoEnum.RESIDENCIAL.name());
+            }
+
+            @Test
+            @DisplayName("Deve rejeitar quando tentando marcar segundo endereço ENTREGA como principal")
+            void deveRejeitarSegundoEntregaPrincipal() {
+                // Given
+                List<Endereco> enderecos = List.of(
+                        endereco(40L, TipoEnderecoEnum.ENTREGA, false),
+                        endereco(41L, TipoEnderecoEnum.COMERCIAL, true),
+                        endereco(42L, TipoEnderecoEnum.ENTREGA, true)
+                );
+
+                // When/Then
+                assertThatThrownBy(() ->
+                        validator.validarEmMemoria(enderecos, 40L, TipoEnderecoEnum.ENTREGA, true)
+                )
+                        .isInstanceOf(EnderecoPrincipalDuplicadoException.class)
+                        .hasMessageContaining(TipoEnderecoEnum.ENTREGA.name());
+            }
+
+            @Test
+            @DisplayName("Deve rejeitar quando outro endereço foi marcado antes no mesmo request")
+            void deveRejeitarQuandoOutroFoiMarcadoNoMesmoRequest() {
+                // Given - Endereço 50 acabou de ser marcado em memória
+                Endereco marcado = endereco(50L, TipoEnderecoEnum.COLETA, false);
+                List<Endereco> enderecos = List.of(marcado, endereco(51L, TipoEnderecoEnum.COLETA, false));
+                marcado.marcarComoPrincipal();
+
+                // When/Then
+                assertThatThrownBy(() ->
+                        validator.validarEmMemoria(enderecos, 51L, TipoEnderecoEnum.COLETA, true)
+                ).isInstanceOf(EnderecoPrincipalDuplicadoException.class);
+            }
+        }
+    }
 }
@@ -0,0 +1,244 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.adapter;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.ClienteCursor;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.PreferenciaCliente;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.EstadoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoContatoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes de persistência para ClientePFRepositoryAdapter.
+ * Valida que a listagem paginada carrega as listas da página em lote, a paginação por cursor,
+ * a exportação em blocos e o locking otimista na gravação.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(ClientePFRepositoryAdapter.class)
+@DisplayName("ClientePFRepositoryAdapter - Listagem paginada")
+class ClientePFRepositoryAdapterTest {
+
+    /** Página + count + documentos + contatos + endereços. */
+    private static final long STATEMENTS_POR_PAGINA = 5;
+
+    private static final int TOTAL_CLIENTES = 30;
+
+    @Autowired
+    private ClientePFRepositoryAdapter adapter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        ClientePF indicador = ClientePF.builder().primeiroNome("Maria").sobrenome("Souza").build();
+        indicador.setPreferenciaCliente(PreferenciaCliente.builder().cliente(indicador).build());
+        entityManager.persist(indicador);
+
+        for (int i = 0; i < TOTAL_CLIENTES; i++) {
+            ClientePF cliente = ClientePF.builder()
+                    .primeiroNome("Cliente").sobrenome("Número " + i)
+                    .clienteIndicador(indicador).build();
+            cliente.setPreferenciaCliente(PreferenciaCliente.builder().cliente(cliente).build());
+            for (int j = 0; j < 2; j++) {
+                cliente.adicionarDocumento(Documento.builder().cliente(cliente)
+                        .tipoDocumento(TipoDocumentoEnum.RG).numero("MG-" + i + "-" + j).build());
+                cliente.adicionarContato(Contato.builder().cliente(cliente)
+                        .tipoContato(TipoContatoEnum.CELULAR).valor("(31) 9876-54" + j).build());
+                cliente.adicionarEndereco(Endereco.builder().cliente(cliente)
+                        .cep("30130-100").logradouro("Rua " + j).bairro("Centro")
+                        .cidade("Belo Horizonte").estado(EstadoEnum.MG).build());
+            }
+            entityManager.persist(cliente);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @ParameterizedTest(name = "página de {0}")
+    @ValueSource(ints = {5, 25})
+    @DisplayName("Página deve custar o mesmo número de statements qualquer que seja o tamanho")
+    void paginaDeveCustarStatementsFixos(int tamanho) {
+        Page<ClientePF> page = adapter.findAll(PageRequest.of(0, tamanho, Sort.by("id").descending()));
+        Page<ClientePFResponse> responses = page.map(ClientePFMapper::toResponse);
+
+        assertThat(responses.getContent()).hasSize(tamanho)
+                .allSatisfy(response -> {
+                    assertThat(response.documentos()).hasSize(2);
+                    assertThat(response.contatos()).hasSize(2);
+                    assertThat(response.enderecos()).hasSize(2);
+                });
+        assertThat(responses.getTotalElements()).isEqualTo(TOTAL_CLIENTES + 1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_POR_PAGINA);
+    }
+
+    @Test
+    @DisplayName("Fatia não deve executar COUNT")
+    void fatiaNaoDeveExecutarCount() {
+        Slice<ClientePF> slice = adapter.findSlice(PageRequest.of(0, 5, Sort.by("id").descending()));
+
+        assertThat(slice.getContent()).hasSize(5)
+                .allSatisfy(cliente -> assertThat(cliente.getListaDocumentos()).hasSize(2));
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_POR_PAGINA - 1);
+    }
+
+    @Test
+    @DisplayName("Cursor deve percorrer todos os clientes uma única vez, em ordem de criação")
+    void cursorDevePercorrerTodosOsClientes() {
+        List<ClientePF> lidos = new ArrayList<>();
+        ClienteCursor cursor = null;
+        List<ClientePF> pagina;
+        do {
+            pagina = adapter.findAfter(cursor, 7);
+            lidos.addAll(pagina);
+            cursor = pagina.isEmpty() ? null : ClienteCursor.apos(pagina.getLast());
+        } while (!pagina.isEmpty());
+
+        assertThat(lidos).hasSize(TOTAL_CLIENTES + 1);
+        assertThat(lidos).extracting(ClientePF::getPublicId).doesNotHaveDuplicates();
+        // Só a data: o banco ordena UUID sem sinal, diferente de UUID.compareTo
+        assertThat(lidos).isSortedAccordingTo(Comparator.comparing(ClientePF::getDataCriacao));
+    }
+
+    @Test
+    @DisplayName("Página por cursor deve carregar as listas em lote")
+    void paginaPorCursorDeveCarregarListasEmLote() {
+        ClientePF primeiro = adapter.findAfter(null, 1).getFirst();
+        entityManager.clear();
+        statistics.clear();
+
+        List<ClientePFResponse> responses = adapter.findAfter(ClienteCursor.apos(primeiro), 20).stream()
+                .map(ClientePFMapper::toResponse)
+                .toList();
+
+        assertThat(responses).hasSize(20).allSatisfy(response -> assertThat(response.documentos()).hasSize(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_POR_PAGINA - 1);
+    }
+
+    @Test
+    @DisplayName("Clientes criados no mesmo instante devem ser desempatados pelo publicId")
+    void deveDesempatarPeloPublicId() {
+        ClientePF primeiro = adapter.findAfter(null, 1).getFirst();
+
+        List<ClientePF> seguintes = adapter.findAfter(
+                new ClienteCursor(primeiro.getDataCriacao(), new UUID(0, 0)), 1);
+
+        assertThat(seguintes).extracting(ClientePF::getPublicId).containsExactly(primeiro.getPublicId());
+    }
+
+    @Test
+    @DisplayName("Exportação deve percorrer todos os clientes em blocos, com as listas carregadas por bloco")
+    void exportacaoDeveCarregarListasPorBloco() {
+        List<ClientePFResponse> exportados = new ArrayList<>();
+        List<ClientePF> primeiroBloco = new ArrayList<>();
+
+        adapter.forEachBlock(null, null, 7, bloco -> {
+            if (primeiroBloco.isEmpty()) {
+                primeiroBloco.addAll(bloco);
+            }
+            bloco.forEach(cliente -> exportados.add(ClientePFMapper.toResponse(cliente)));
+        });
+
+        assertThat(exportados).hasSize(TOTAL_CLIENTES + 1);
+        assertThat(exportados).extracting(ClientePFResponse::publicId).doesNotHaveDuplicates();
+        assertThat(exportados).filteredOn(response -> response.documentos().size() == 2).hasSize(TOTAL_CLIENTES);
+        // Um cursor para todos + documentos, contatos e endereços de cada um dos 5 blocos
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + 3 * 5);
+        // Blocos já entregues saem do contexto de persistência
+        assertThat(entityManager.contains(primeiroBloco.getFirst())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Exportação incremental deve trazer só os clientes atualizados no período")
+    void exportacaoIncrementalDeveFiltrarPorDataAtualizacao() {
+        UUID atualizado = adapter.findAfter(null, 1).getFirst().getPublicId();
+        LocalDateTime amanha = LocalDateTime.now().plusDays(1);
+        entityManager.createQuery("update Cliente c set c.dataAtualizacao = :data where c.publicId = :publicId")
+                .setParameter("data", amanha)
+                .setParameter("publicId", atualizado)
+                .executeUpdate();
+        entityManager.clear();
+
+        List<UUID> desde = new ArrayList<>();
+        adapter.forEachBlock(amanha.minusHours(1), null, 10,
+                bloco -> bloco.forEach(cliente -> desde.add(cliente.getPublicId())));
+        List<UUID> ate = new ArrayList<>();
+        adapter.forEachBlock(null, amanha.minusHours(1), 10,
+                bloco -> bloco.forEach(cliente -> ate.add(cliente.getPublicId())));
+
+        assertThat(desde).containsExactly(atualizado);
+        assertThat(ate).hasSize(TOTAL_CLIENTES).doesNotContain(atualizado);
+    }
+
+    @Test
+    @DisplayName("Gravar deve incrementar a versão, mesmo quando só os filhos mudaram")
+    void gravarDeveIncrementarVersao() {
+        // O indicador não tem contatos
+        ClientePF cliente = adapter.findAfter(null, 2).stream()
+                .filter(lido -> !lido.getListaContatos().isEmpty())
+                .findFirst().orElseThrow();
+        long versao = cliente.getVersao();
+
+        cliente.getListaContatos().getFirst().atualizarObservacoes("Só o contato mudou");
+        cliente.registrarAlteracao();
+        adapter.saveAndFlush(cliente);
+        entityManager.clear();
+
+        ClientePF recarregado = entityManager.find(ClientePF.class, cliente.getId());
+        assertThat(recarregado.getVersao()).isEqualTo(versao + 1);
+        assertThat(recarregado.getListaContatos()).extracting(Contato::getObservacoes).contains("Só o contato mudou");
+    }
+
+    @Test
+    @DisplayName("Gravar uma cópia desatualizada deve falhar em vez de sobrescrever a outra alteração")
+    void gravarVersaoDesatualizadaDeveFalhar() {
+        ClientePF cliente = adapter.findAfter(null, 1).getFirst();
+        // Outra transação grava o cliente depois da leitura
+        entityManager.createQuery("update Cliente c set c.versao = c.versao + 1 where c.id = :id")
+                .setParameter("id", cliente.getId())
+                .executeUpdate();
+
+        cliente.setObservacoes("Alteração concorrente");
+        cliente.registrarAlteracao();
+
+        assertThatThrownBy(() -> adapter.saveAndFlush(cliente))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+    }
+}
@@ -0,0 +1,265 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.bulkimport;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchItemResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteImportJobResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteImportJobResponse.Status;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ImportacaoNaoEncontradaException;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteBatchProperties;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.ClienteImportProperties;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes da importação em streaming: relatório por linha, CSV, reenvio de blocos revertidos
+ * e backpressure (leitura para com a fila cheia).
+ */
+@DisplayName("ClienteImporter - Importação de arquivos em streaming")
+class ClienteImporterTest {
+
+    private static final int BLOCO = 10;
+
+    @TempDir
+    Path diretorio;
+
+    private ClienteImporter importer;
+
+    /** Request mínimo: o importador é genérico no tipo gravado. */
+    record Item(String nome) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        importer = importer(4, 2);
+    }
+
+    @Test
+    @DisplayName("NDJSON: linhas inválidas e rejeitadas vão para o relatório com o número da linha")
+    void ndjsonDeveRegistrarFalhasPorLinha() throws Exception {
+        String arquivo = """
+                {"nome":"Ana"}
+                {"nome":
+                {"nome":"duplicado"}
+
+                {"nome":"Bia"}
+                """;
+
+        ClienteImportJob job = importer.importar("PF", ImportFormat.NDJSON, corpo(arquivo), Item.class, gravador(Set.of()));
+        ClienteImportJobResponse response = aguardar(job);
+
+        assertThat(response.status()).isEqualTo(Status.CONCLUIDO);
+        assertThat(response.linhasLidas()).isEqualTo(4);
+        assertThat(response.criados()).isEqualTo(2);
+        assertThat(response.falhas()).isEqualTo(2);
+        List<String> relatorio = Files.readAllLines(job.relatorio());
+        assertThat(relatorio).hasSize(3);
+        assertThat(relatorio.get(0)).isEqualTo("linha;status;mensagem");
+        assertThat(relatorio).anySatisfy(l -> assertThat(l).startsWith("2;400;\"Linha inválida"));
+        assertThat(relatorio).contains("3;409;\"duplicado\"");
+        assertThat(importer.buscar(job.id())).isSameAs(job);
+    }
+
+    @Test
+    @DisplayName("CSV: cabeçalho define os campos; aceita ponto e vírgula e aspas")
+    void csvDeveUsarCabecalho() throws Exception {
+        String arquivo = "nome;ignorado\n\"Silva; Ana\";x\nBia;y;z\n";
+        List<String> gravados = new ArrayList<>();
+
+        ClienteImportJob job = importer.importar("PF", ImportFormat.CSV, corpo(arquivo), Item.class, itens -> {
+            synchronized (gravados) {
+                itens.forEach(item -> gravados.add(item.nome()));
+            }
+            return gravador(Set.of()).apply(itens);
+        });
+        ClienteImportJobResponse response = aguardar(job);
+
+        assertThat(gravados).containsExactly("Silva; Ana");
+        assertThat(response.falhas()).isEqualTo(1);
+        assertThat(Files.readAllLines(job.relatorio())).contains("3;400;\"Linha inválida: esperadas 2 colunas, encontradas 3\"");
+    }
+
+    @Test
+    @DisplayName("Bloco revertido deve ser regravado item a item: só a linha culpada falha")
+    void blocoRevertidoDeveSerRegravadoItemAItem() throws Exception {
+        StringBuilder arquivo = new StringBuilder();
+        for (int i = 0; i < BLOCO; i++) {
+            arquivo.append("{\"nome\":\"").append(i == 3 ? "conflito" : "c" + i).append("\"}\n");
+        }
+
+        ClienteImportJob job = importer.importar("PF", ImportFormat.NDJSON, corpo(arquivo.toString()), Item.class, itens ->
+                itens.size() > 1 && itens.stream().anyMatch(item -> item.nome().equals("conflito"))
+                        ? resposta(itens, i -> ClienteBatchItemResponse.falha(i, 500, "Bloco não gravado"))
+                        : gravador(Set.of("conflito")).apply(itens));
+        ClienteImportJobResponse response = aguardar(job);
+
+        assertThat(response.criados()).isEqualTo(BLOCO - 1);
+        assertThat(Files.readAllLines(job.relatorio())).containsExactly("linha;status;mensagem", "4;409;\"conflito\"");
+    }
+
+    @Test
+    @DisplayName("Com os writers ocupados, a leitura do upload deve parar (memória limitada)")
+    void leituraDeveAguardarWriters() throws Exception {
+        importer = importer(1, 1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ArquivoGerado arquivo = new ArquivoGerado(100_000);
+        AtomicReference<ClienteImportJob> job = new AtomicReference<>();
+
+        Thread upload = Thread.ofVirtual().start(() -> job.set(importer.importar("PF", ImportFormat.NDJSON, arquivo,
+                Item.class, itens -> {
+                    try {
+                        liberar.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return gravador(Set.of()).apply(itens);
+                })));
+
+        Thread.sleep(300);
+        // 1 bloco no writer + 1 na fila + 1 sendo montado, mais os buffers do reader (8K cada)
+        assertThat(arquivo.linhasLidas()).isLessThan(3 * BLOCO + 2 * 8192 / ArquivoGerado.TAMANHO_LINHA + 1);
+        assertThat(upload.isAlive()).isTrue();
+
+        liberar.countDown();
+        upload.join(Duration.ofSeconds(30));
+        assertThat(aguardar(job.get()).criados()).isEqualTo(100_000);
+    }
+
+    @Test
+    @DisplayName("Falha que impede a gravação deve interromper o job e liberar a leitura do upload")
+    void falhaNaGravacaoDeveLiberarLeitura() throws Exception {
+        importer = importer(1, 1);
+        ArquivoGerado arquivo = new ArquivoGerado(100_000);
+        AtomicReference<ClienteImportJob> job = new AtomicReference<>();
+
+        Thread upload = Thread.ofVirtual().start(() -> job.set(importer.importar("PF", ImportFormat.NDJSON, arquivo,
+                Item.class, itens -> {
+                    // Relatório indisponível (ex.: disco cheio): registrar a falha do bloco lança exceção
+                    jobEmAndamento().descartar();
+                    return resposta(itens, i -> ClienteBatchItemResponse.falha(i, 409, "duplicado"));
+                })));
+
+        upload.join(Duration.ofSeconds(30));
+        assertThat(upload.isAlive()).isFalse();
+        ClienteImportJobResponse response = aguardar(job.get());
+        assertThat(response.status()).isEqualTo(Status.INTERROMPIDO);
+        assertThat(response.mensagem()).startsWith("Falha na gravação");
+        assertThat(arquivo.linhasLidas()).isLessThan(100_000);
+    }
+
+    @Test
+    @DisplayName("Importação inexistente deve lançar exceção")
+    void importacaoInexistenteDeveLancarExcecao() {
+        assertThatThrownBy(() -> importer.buscar(UUID.randomUUID()))
+                .isInstanceOf(ImportacaoNaoEncontradaException.class);
+    }
+
+    private ClienteImporter importer(int writers, int fila) {
+        // Como o ObjectMapper do Spring Boot: campos desconhecidos são ignorados
+        ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return new ClienteImporter(null, null, objectMapper,
+                new ClienteBatchProperties(BLOCO, 100),
+                new ClienteImportProperties(writers, fila, 2, Duration.ofMinutes(5), diretorio),
+                new SimpleMeterRegistry());
+    }
+
+    /** Job da única importação em andamento, pelo nome do relatório ({@code importacao-<id>-...}). */
+    private ClienteImportJob jobEmAndamento() {
+        try (Stream<Path> relatorios = Files.list(diretorio)) {
+            String nome = relatorios.findFirst().orElseThrow().getFileName().toString();
+            return importer.buscar(UUID.fromString(nome.substring("importacao-".length(), "importacao-".length() + 36)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Cria todos os itens, exceto os de nome rejeitado (409). */
+    private static Function<List<Item>, ClienteBatchResponse> gravador(Set<String> rejeitados) {
+        return itens -> resposta(itens, i -> {
+            String nome = itens.get(i).nome();
+            return nome.equals("duplicado") || rejeitados.contains(nome)
+                    ? ClienteBatchItemResponse.falha(i, 409, nome)
+                    : ClienteBatchItemResponse.criado(i, UUID.randomUUID());
+        });
+    }
+
+    private static ClienteBatchResponse resposta(List<Item> itens, Function<Integer, ClienteBatchItemResponse> item) {
+        List<ClienteBatchItemResponse> resultados = new ArrayList<>();
+        for (int i = 0; i < itens.size(); i++) {
+            resultados.add(item.apply(i));
+        }
+        return ClienteBatchResponse.of(resultados, Duration.ofMillis(1));
+    }
+
+    private static ClienteImportJobResponse aguardar(ClienteImportJob job) throws InterruptedException {
+        long prazo = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (job.status() != Status.CONCLUIDO && job.status() != Status.INTERROMPIDO && System.nanoTime() < prazo) {
+            Thread.sleep(10);
+        }
+        return job.toResponse();
+    }
+
+    private static InputStream corpo(String conteudo) {
+        return new ByteArrayInputStream(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Upload gerado sob demanda, contando quantas linhas já foram consumidas.
+     */
+    private static final class ArquivoGerado extends InputStream {
+
+        static final int TAMANHO_LINHA = "{\"nome\":\"c0000000\"}\n".length();
+
+        private final long linhas;
+        private final AtomicLong bytesLidos = new AtomicLong();
+        private byte[] linhaAtual = new byte[0];
+        private int posicao;
+        private long geradas;
+
+        ArquivoGerado(long linhas) {
+            this.linhas = linhas;
+        }
+
+        long linhasLidas() {
+            return bytesLidos.get() / TAMANHO_LINHA;
+        }
+
+        @Override
+        public int read() {
+            if (posicao == linhaAtual.length) {
+                if (geradas == linhas) {
+                    return -1;
+                }
+                linhaAtual = "{\"nome\":\"c%07d\"}\n".formatted(geradas++).getBytes(StandardCharsets.UTF_8);
+                posicao = 0;
+            }
+            bytesLidos.incrementAndGet();
+            return linhaAtual[posicao++];
+        }
+    }
+}
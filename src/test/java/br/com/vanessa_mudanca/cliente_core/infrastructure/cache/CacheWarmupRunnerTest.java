@@ -0,0 +1,93 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByIdUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByIdUseCase;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para o warm-up de cache.
+ * Valida o ciclo snapshot → startup → pré-carga dos clientes quentes.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CacheWarmupRunner - Warm-up a partir do snapshot")
+class CacheWarmupRunnerTest {
+
+    @Mock
+    private FindClientePFByIdUseCase findClientePF;
+
+    @Mock
+    private FindClientePJByIdUseCase findClientePJ;
+
+    @TempDir
+    Path dir;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Deve pré-carregar os clientes do snapshot gravado na execução anterior")
+    void devePreCarregarClientesDoSnapshot() throws Exception {
+        UUID pf = UUID.randomUUID();
+        UUID pj = UUID.randomUUID();
+        UUID removido = UUID.randomUUID();
+        Path arquivo = dir.resolve("hot-keys.snapshot");
+
+        // Execução anterior: leituras registradas e snapshot gravado
+        HotKeyTracker anterior = new HotKeyTracker(10, 1024);
+        anterior.record(HotKeyTracker.Tipo.PF, pf);
+        anterior.record(HotKeyTracker.Tipo.PJ, pj);
+        anterior.record(HotKeyTracker.Tipo.PF, removido);
+        new HotKeySnapshotStore(anterior, arquivo).snapshotOnShutdown();
+
+        // Nova execução
+        when(findClientePF.findByPublicId(pf)).thenReturn(null);
+        when(findClientePF.findByPublicId(removido)).thenThrow(new ClienteNaoEncontradoException(removido));
+        HotKeyTracker tracker = new HotKeyTracker(10, 1024);
+        CacheWarmupRunner runner = new CacheWarmupRunner(new HotKeySnapshotStore(tracker, arquivo), tracker,
+                findClientePF, findClientePJ, meterRegistry, 4, 1000, Duration.ofSeconds(5));
+
+        runner.run(null);
+
+        verify(findClientePF).findByPublicId(pf);
+        verify(findClientePJ).findByPublicId(pj);
+        assertThat(tracker.top()).hasSize(3);
+        assertThat(meterRegistry.get("cache.warmup.keys").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("cache.warmup.loaded").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.warmup.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.warmup.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve ignorar warm-up quando não há snapshot")
+    void deveIgnorarSemSnapshot() throws Exception {
+        HotKeyTracker tracker = new HotKeyTracker(10, 1024);
+        CacheWarmupRunner runner = new CacheWarmupRunner(
+                new HotKeySnapshotStore(tracker, dir.resolve("inexistente")), tracker,
+                findClientePF, findClientePJ, meterRegistry, 4, 1000, Duration.ofSeconds(5));
+
+        runner.run(null);
+
+        verifyNoInteractions(findClientePF, findClientePJ);
+    }
+}
@@ -0,0 +1,177 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para ClienteCacheAdapter.
+ * Valida que uma escrita invalida apenas o cliente e as listagens do seu tipo.
+ */
+@DisplayName("ClienteCacheAdapter - Invalidação direcionada")
+class ClienteCacheAdapterTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ListCacheGenerations generations;
+    private ClienteCacheAdapter adapter;
+    private long geracaoPf;
+    private long geracaoPj;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("clientes:findById", "clientes:findById:json", "clientes:list",
+                ClienteCacheAdapter.LOOKUP);
+        ObjectProvider<SharedCacheTier> sharedTier =
+                provider(SharedCacheTier.invalidationOnly(new InMemoryCacheInvalidationBus()));
+        generations = new ListCacheGenerations(sharedTier);
+        adapter = new ClienteCacheAdapter(cacheManager, generations, sharedTier);
+        geracaoPf = generations.current(ListCacheGenerations.PF);
+        geracaoPj = generations.current(ListCacheGenerations.PJ);
+    }
+
+    @Test
+    @DisplayName("Escrita em PF deve remover só o cliente e avançar só a geração PF")
+    void escritaPfDeveInvalidarSomenteClienteEListagemPf() {
+        UUID alvo = UUID.randomUUID();
+        UUID outro = UUID.randomUUID();
+        Cache findById = cacheManager.getCache("clientes:findById");
+        findById.put(alvo.toString(), "alvo");
+        findById.put(outro.toString(), "outro");
+
+        adapter.invalidar(ClientePF.builder().publicId(alvo).build());
+
+        assertThat(findById.get(alvo.toString())).isNull();
+        assertThat(findById.get(outro.toString())).isNotNull();
+        assertThat(generations.current(ListCacheGenerations.PF)).isNotEqualTo(geracaoPf);
+        assertThat(generations.current(ListCacheGenerations.PJ)).isEqualTo(geracaoPj);
+    }
+
+    @Test
+    @DisplayName("Escrita deve remover também o JSON pré-renderado do cliente")
+    void escritaDeveRemoverJsonRenderizado() {
+        UUID alvo = UUID.randomUUID();
+        Cache json = cacheManager.getCache(RenderedJsonCache.RENDERED_JSON);
+        json.put(alvo.toString(), new RenderedJson(new byte[]{'{', '}'}, null, null));
+
+        adapter.invalidar(ClientePJ.builder().publicId(alvo).build());
+
+        assertThat(json.get(alvo.toString())).isNull();
+    }
+
+    @Test
+    @DisplayName("Escrita deve remover o lookup do CPF do cliente, com ou sem formatação")
+    void escritaDeveRemoverLookupDoCpf() {
+        Cache lookup = cacheManager.getCache(ClienteCacheAdapter.LOOKUP);
+        lookup.put(NotFoundKey.CPF.key("12345678909"), "alvo");
+        lookup.put(NotFoundKey.CPF.key("98765432100"), "outro");
+
+        adapter.invalidar(ClientePF.builder().publicId(UUID.randomUUID()).cpf("123.456.789-09").build());
+
+        assertThat(lookup.get(NotFoundKey.CPF.key("12345678909"))).isNull();
+        assertThat(lookup.get(NotFoundKey.CPF.key("98765432100"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Escrita em PJ deve avançar só a geração PJ")
+    void escritaPjDeveAvancarSomenteGeracaoPj() {
+        adapter.invalidar(ClientePJ.builder().publicId(UUID.randomUUID()).build());
+
+        assertThat(generations.current(ListCacheGenerations.PJ)).isNotEqualTo(geracaoPj);
+        assertThat(generations.current(ListCacheGenerations.PF)).isEqualTo(geracaoPf);
+    }
+
+    @Test
+    @DisplayName("Dentro de transação deve invalidar somente após o commit")
+    void deveInvalidarSomenteAposCommit() {
+        UUID alvo = UUID.randomUUID();
+        Cache findById = cacheManager.getCache("clientes:findById");
+        findById.put(alvo.toString(), "versao-anterior");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            adapter.invalidar(ClientePF.builder().publicId(alvo).build());
+
+            assertThat(findById.get(alvo.toString())).isNotNull();
+            assertThat(generations.current(ListCacheGenerations.PF)).isEqualTo(geracaoPf);
+
+            TransactionSynchronizationUtils.invokeAfterCommit(
+                    TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(findById.get(alvo.toString())).isNull();
+        assertThat(generations.current(ListCacheGenerations.PF)).isNotEqualTo(geracaoPf);
+    }
+
+    @Test
+    @DisplayName("Barramento transacional deve publicar antes do commit e só invalidar o L1 depois dele")
+    void barramentoTransacionalDevePublicarAntesDoCommit() {
+        List<CacheInvalidation> publicadas = new ArrayList<>();
+        SharedCacheTier tier = SharedCacheTier.invalidationOnly(new InMemoryCacheInvalidationBus() {
+            @Override
+            public void publish(CacheInvalidation invalidation) {
+                publicadas.add(invalidation);
+            }
+
+            @Override
+            public boolean transacional() {
+                return true;
+            }
+        });
+        ObjectProvider<SharedCacheTier> sharedTier = provider(tier);
+        TwoTierCacheManager twoTier = new TwoTierCacheManager(
+                new VersionGuardedCacheManager(Map.of(ClienteCacheAdapter.FIND_BY_ID, Duration.ofMinutes(5))),
+                tier, name -> Duration.ofMinutes(5), new SimpleMeterRegistry());
+        ListCacheGenerations geracoes = new ListCacheGenerations(sharedTier);
+        ClienteCacheAdapter transacional = new ClienteCacheAdapter(twoTier, geracoes, sharedTier);
+        UUID alvo = UUID.randomUUID();
+        Cache findById = twoTier.getCache(ClienteCacheAdapter.FIND_BY_ID);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            transacional.invalidar(ClientePF.builder().publicId(alvo).build());
+            assertThat(publicadas).isEmpty();
+
+            TransactionSynchronizationUtils.triggerBeforeCommit(false);
+            assertThat(publicadas).extracting(CacheInvalidation::tipo)
+                    .contains(CacheInvalidation.Tipo.EVICT, CacheInvalidation.Tipo.GENERATION);
+            int publicadasAntesDoCommit = publicadas.size();
+
+            findById.put(alvo.toString(), "lido-antes-do-commit");
+            long geracaoAntesDoCommit = geracoes.current(ListCacheGenerations.PF);
+            TransactionSynchronizationUtils.invokeAfterCommit(
+                    TransactionSynchronizationManager.getSynchronizations());
+
+            assertThat(publicadas).hasSize(publicadasAntesDoCommit);
+            assertThat(findById.get(alvo.toString())).isNull();
+            assertThat(geracoes.current(ListCacheGenerations.PF)).isNotEqualTo(geracaoAntesDoCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static ObjectProvider<SharedCacheTier> provider(SharedCacheTier tier) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("sharedCacheTier", tier);
+        return beanFactory.getBeanProvider(SharedCacheTier.class);
+    }
+}
@@ -0,0 +1,71 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.output.ClienteRepositoryPort;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para ClienteFindByIdCacheLoader.
+ * Valida o reload em background das entradas de clientes:findById.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClienteFindByIdCacheLoader - Refresh-ahead")
+class ClienteFindByIdCacheLoaderTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClienteFindByIdCacheLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new ClienteFindByIdCacheLoader(clienteRepository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Load não deve consultar o banco (miss tratado pelo @Cacheable)")
+    void loadDeveRetornarNull() {
+        assertThat(loader.load(UUID.randomUUID().toString())).isNull();
+    }
+
+    @Test
+    @DisplayName("Reload deve remapear cliente PF e PJ")
+    void reloadDeveRemapearClientes() {
+        UUID pf = UUID.randomUUID();
+        UUID pj = UUID.randomUUID();
+        when(clienteRepository.findByPublicId(pf))
+                .thenReturn(Optional.of(ClientePF.builder().publicId(pf).primeiroNome("Ana").build()));
+        when(clienteRepository.findByPublicId(pj))
+                .thenReturn(Optional.of(ClientePJ.builder().publicId(pj).razaoSocial("Empresa").build()));
+
+        assertThat(loader.reload(pf.toString(), null)).isInstanceOf(ClientePFResponse.class);
+        assertThat(loader.reload(pj.toString(), null)).isInstanceOf(ClientePJResponse.class);
+    }
+
+    @Test
+    @DisplayName("Reload deve retornar null quando o cliente não existe mais")
+    void reloadDeveRemoverClienteInexistente() {
+        UUID publicId = UUID.randomUUID();
+        when(clienteRepository.findByPublicId(publicId)).thenReturn(Optional.empty());
+
+        assertThat(loader.reload(publicId.toString(), null)).isNull();
+    }
+}
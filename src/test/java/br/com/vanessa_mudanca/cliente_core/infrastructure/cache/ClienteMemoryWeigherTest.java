@@ -0,0 +1,136 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para ClienteMemoryWeigher e CacheFootprintEndpoint.
+ * Valida que o peso acompanha o tamanho real do agregado e que o limite é em bytes.
+ */
+@DisplayName("ClienteMemoryWeigher - Peso em bytes estimados")
+class ClienteMemoryWeigherTest {
+
+    private final ClienteMemoryWeigher weigher = new ClienteMemoryWeigher();
+
+    @Test
+    @DisplayName("PJ com 30 documentos deve pesar muito mais que PF com um endereço")
+    void agregadoGrandeDevePesarMais() {
+        int pf = weigher.weigh(UUID.randomUUID().toString(), pfComUmEndereco());
+        int pj = weigher.weigh(UUID.randomUUID().toString(), pjComDocumentos(30));
+
+        assertThat(pf).isBetween(500, 4_000);
+        assertThat(pj).isGreaterThan(pf * 5);
+    }
+
+    @Test
+    @DisplayName("Página deve pesar a soma dos clientes que carrega")
+    void paginaDevePesarSomaDosClientes() {
+        ClientePFResponse cliente = pfComUmEndereco();
+        long umCliente = RetainedSizeEstimator.estimate(cliente);
+        PageResponse<ClientePFResponse> pagina = new PageResponse<>(
+                new ArrayList<>(IntStream.range(0, 20).mapToObj(i -> pfComUmEndereco()).toList()),
+                0, 20, 100, 5, true, false, false);
+
+        assertThat(RetainedSizeEstimator.estimate(pagina)).isGreaterThanOrEqualTo(umCliente * 20);
+    }
+
+    @Test
+    @DisplayName("String deve pesar objeto + array proporcional ao tamanho")
+    void stringDevePesarProporcionalAoTamanho() {
+        assertThat(RetainedSizeEstimator.estimate("")).isEqualTo(40);
+        assertThat(RetainedSizeEstimator.estimate("a".repeat(100))).isEqualTo(24 + 120);
+    }
+
+    @Test
+    @DisplayName("Cache limitado por maximum-memory deve manter o consumo abaixo do limite")
+    void cacheDeveRespeitarLimiteEmBytes() {
+        long limite = DataSize.ofKilobytes(64).toBytes();
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+                .maximumWeight(limite)
+                .weigher(weigher)
+                .executor(Runnable::run)
+                .build();
+
+        for (int i = 0; i < 500; i++) {
+            cache.put(UUID.randomUUID().toString(), pjComDocumentos(5));
+        }
+        cache.cleanUp();
+
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize().orElseThrow()).isLessThanOrEqualTo(limite);
+        assertThat(cache.estimatedSize()).isLessThan(500);
+    }
+
+    @Test
+    @DisplayName("Endpoint deve reportar bytes, média por entrada e ocupação do limite")
+    void endpointDeveReportarConsumoPorCache() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("clientes:findById");
+        cacheManager.getCache("clientes:findById").put("a", pfComUmEndereco());
+        cacheManager.getCache("clientes:findById").put("b", pjComDocumentos(10));
+        CacheFootprintEndpoint endpoint = new CacheFootprintEndpoint(cacheManager, name -> DataSize.ofMegabytes(1));
+
+        CacheFootprintEndpoint.CacheFootprint footprint = endpoint.footprints().get("clientes:findById");
+
+        assertThat(footprint.entries()).isEqualTo(2);
+        assertThat(footprint.estimatedBytes()).isEqualTo(
+                weigher.weigh("a", pfComUmEndereco()) + weigher.weigh("b", pjComDocumentos(10)));
+        assertThat(footprint.averageEntryBytes()).isEqualTo(footprint.estimatedBytes() / 2);
+        assertThat(footprint.maximumBytes()).isEqualTo(DataSize.ofMegabytes(1).toBytes());
+    }
+
+    private static ClientePFResponse pfComUmEndereco() {
+        ClientePF pf = ClientePF.builder()
+                .publicId(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+                .primeiroNome("Ana")
+                .sobrenome("Souza")
+                .cpf("123.456.789-09")
+                .email("ana@exemplo.com.br")
+                .dataCriacao(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .dataAtualizacao(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build();
+        pf.getListaEnderecos().add(Endereco.builder()
+                .cep("01310-100").logradouro("Avenida Paulista").numero("1000")
+                .bairro("Bela Vista").cidade("São Paulo").build());
+        return ClientePFMapper.toResponse(pf);
+    }
+
+    private static ClientePJResponse pjComDocumentos(int documentos) {
+        ClientePJ pj = ClientePJ.builder()
+                .publicId(UUID.fromString("00000000-0000-0000-0000-000000000002"))
+                .razaoSocial("Móveis Estrela Comércio LTDA")
+                .cnpj("12.345.678/0001-90")
+                .dataAtualizacao(LocalDateTime.of(2025, 1, 1, 10, 0))
+                .build();
+        List<Documento> lista = pj.getListaDocumentos();
+        for (int i = 0; i < documentos; i++) {
+            lista.add(Documento.builder()
+                    .tipoDocumento(TipoDocumentoEnum.OUTRO)
+                    .numero("DOC-" + i)
+                    .orgaoEmissor("SSP")
+                    .observacoes("Documento digitalizado e conferido pelo atendimento")
+                    .build());
+        }
+        return ClientePJMapper.toResponse(pj);
+    }
+}
@@ -0,0 +1,55 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para HotKeyTracker.
+ * Valida o top-K estimado pelo Count-Min sketch.
+ */
+@DisplayName("HotKeyTracker - Top-K de clientes mais lidos")
+class HotKeyTrackerTest {
+
+    @Test
+    @DisplayName("Deve manter no top-K os clientes mais lidos, em ordem")
+    void deveManterClientesMaisLidos() {
+        HotKeyTracker tracker = new HotKeyTracker(3, 1024);
+        UUID quente = UUID.randomUUID();
+        UUID morno = UUID.randomUUID();
+        UUID frio = UUID.randomUUID();
+
+        repetir(100, () -> tracker.record(HotKeyTracker.Tipo.PF, quente));
+        repetir(50, () -> tracker.record(HotKeyTracker.Tipo.PJ, morno));
+        repetir(20, () -> tracker.record(HotKeyTracker.Tipo.PF, frio));
+        // Cauda longa: 500 clientes lidos uma vez
+        IntStream.range(0, 500).forEach(i -> tracker.record(HotKeyTracker.Tipo.PF, UUID.randomUUID()));
+
+        List<HotKeyTracker.HotKeyCount> top = tracker.top();
+
+        assertThat(top).extracting(c -> c.key().publicId()).containsExactly(quente, morno, frio);
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(100);
+        assertThat(top.get(1).key().tipo()).isEqualTo(HotKeyTracker.Tipo.PJ);
+    }
+
+    @Test
+    @DisplayName("Decay deve reduzir contagens pela metade")
+    void decayDeveReduzirContagens() {
+        HotKeyTracker tracker = new HotKeyTracker(10, 1024);
+        HotKeyTracker.HotKey key = new HotKeyTracker.HotKey(HotKeyTracker.Tipo.PF, UUID.randomUUID());
+        tracker.seed(List.of(new HotKeyTracker.HotKeyCount(key, 40)));
+
+        tracker.decay();
+
+        assertThat(tracker.estimate(key)).isEqualTo(20);
+    }
+
+    private static void repetir(int vezes, Runnable acao) {
+        IntStream.range(0, vezes).forEach(i -> acao.run());
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.cache.CacheNotFound;
+import br.com.vanessa_mudanca.cliente_core.application.cache.NotFoundKey;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para NegativeCacheAspect.
+ * Valida que buscas por clientes inexistentes não voltam ao banco enquanto a entrada existir.
+ */
+@DisplayName("NegativeCacheAspect - Cache de clientes inexistentes")
+class NegativeCacheAspectTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private Busca busca;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+                "clientes:findById", "clientes:list", NegativeCacheAspect.NOT_FOUND);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Busca());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new NegativeCacheAspect(cacheManager));
+        busca = factory.getProxy();
+        Busca.consultas.set(0);
+        Busca.existentes.clear();
+        Busca.duranteConsulta = () -> { };
+    }
+
+    @Test
+    @DisplayName("Deve responder not found do cache sem consultar novamente")
+    void deveResponderNotFoundDoCache() {
+        assertThatThrownBy(() -> busca.findByCpf("123.456.789-09"))
+                .isInstanceOf(ClienteNaoEncontradoException.class);
+        assertThatThrownBy(() -> busca.findByCpf("12345678909"))
+                .isInstanceOf(ClienteNaoEncontradoException.class)
+                .hasMessageContaining("não encontrado");
+
+        assertThat(Busca.consultas).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Criação do cliente deve invalidar a entrada negativa do CPF")
+    void criacaoDeveInvalidarEntradaNegativa() {
+        assertThatThrownBy(() -> busca.findByCpf("12345678909"))
+                .isInstanceOf(ClienteNaoEncontradoException.class);
+
+        Busca.existentes.add("12345678909");
+        adapter(cacheManager)
+                .invalidar(ClientePF.builder().publicId(UUID.randomUUID()).cpf("123.456.789-09").build());
+
+        assertThat(busca.findByCpf("12345678909")).isEqualTo("cliente");
+        assertThat(Busca.consultas).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Busca iniciada antes do commit da criação não deve gravar not found depois da invalidação")
+    void buscaAnteriorACriacaoNaoDeveEsconderCliente() {
+        VersionGuardedCacheManager versionado = new VersionGuardedCacheManager(
+                Map.of(NegativeCacheAspect.NOT_FOUND, Duration.ofMinutes(1)));
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Busca());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new NegativeCacheAspect(versionado));
+        Busca buscaVersionada = factory.getProxy();
+
+        // A consulta não vê o cliente; a criação commita e invalida antes de a busca gravar o not found
+        Busca.duranteConsulta = () -> {
+            Busca.existentes.add("12345678909");
+            aguardar();
+            adapter(versionado)
+                    .invalidar(ClientePF.builder().publicId(UUID.randomUUID()).cpf("123.456.789-09").build());
+        };
+        assertThatThrownBy(() -> buscaVersionada.findByCpf("12345678909"))
+                .isInstanceOf(ClienteNaoEncontradoException.class);
+
+        assertThat(buscaVersionada.findByCpf("12345678909")).isEqualTo("cliente");
+        assertThat(Busca.consultas).hasValue(2);
+    }
+
+    private static ClienteCacheAdapter adapter(CacheManager cacheManager) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("sharedCacheTier",
+                SharedCacheTier.invalidationOnly(new InMemoryCacheInvalidationBus()));
+        ObjectProvider<SharedCacheTier> sharedTier = beanFactory.getBeanProvider(SharedCacheTier.class);
+        return new ClienteCacheAdapter(cacheManager, new ListCacheGenerations(sharedTier), sharedTier);
+    }
+
+    private static void aguardar() {
+        try {
+            Thread.sleep(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static class Busca {
+
+        static final AtomicInteger consultas = new AtomicInteger();
+        static final Set<String> existentes = new HashSet<>();
+        static Runnable duranteConsulta = () -> { };
+
+        @CacheNotFound(NotFoundKey.CPF)
+        public String findByCpf(String cpf) {
+            consultas.incrementAndGet();
+            String limpo = cpf.replaceAll("\\D", "");
+            boolean existe = existentes.contains(limpo);
+            duranteConsulta.run();
+            duranteConsulta = () -> { };
+            if (!existe) {
+                throw new ClienteNaoEncontradoException(
+                        String.format("Cliente PF com CPF '%s' não encontrado", cpf));
+            }
+            return "cliente";
+        }
+    }
+}
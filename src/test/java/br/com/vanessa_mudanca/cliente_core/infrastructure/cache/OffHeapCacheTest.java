@@ -0,0 +1,191 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para OffHeapCache, OffHeapArena e BinaryRecordCodec.
+ * Valida o round-trip dos DTOs, a liberação de slots e o version guard fora do heap.
+ */
+@DisplayName("OffHeapCache - Valores serializados em memória direta")
+class OffHeapCacheTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final LocalDateTime T2 = T1.plusMinutes(1);
+
+    private final OffHeapArena arena = new OffHeapArena(OffHeapArena.SLAB_BYTES * 4L);
+    private final OffHeapCache cache = new OffHeapCache("clientes:findById",
+            Caffeine.newBuilder().expireAfterWrite(Duration.ofMinutes(5)).executor(Runnable::run),
+            null, arena, new BinaryRecordCodec(), Duration.ofMinutes(5), true);
+
+    @Test
+    @DisplayName("Deve devolver o mesmo agregado que foi gravado")
+    void deveFazerRoundTripDoAgregado() {
+        ClientePFResponse pf = pf(T1);
+        ClientePJResponse pj = pjComDocumentos(10);
+
+        cache.put("pf", pf);
+        cache.put("pj", pj);
+
+        assertThat(cache.get("pf", ClientePFResponse.class)).isEqualTo(pf);
+        assertThat(cache.get("pj", ClientePJResponse.class)).isEqualTo(pj);
+        assertThat(arena.usedBytes()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Codec binário deve ser menor que a serialização Java")
+    void codecDeveSerMaisCompactoQueSerializacaoJava() {
+        ClientePJResponse pj = pjComDocumentos(10);
+
+        byte[] binario = new BinaryRecordCodec().encode(pj);
+
+        assertThat(binario.length).isLessThan(new CacheValueSerializer().serialize(pj).length / 2);
+    }
+
+    @Test
+    @DisplayName("Evict e troca de valor devem devolver os slots para a arena")
+    void evictDeveLiberarSlot() {
+        cache.put("pf", pf(T1));
+        long umCliente = arena.usedBytes();
+
+        cache.put("pf", pf(T2));
+        assertThat(arena.usedBytes()).isEqualTo(umCliente);
+
+        cache.evict("pf");
+        assertThat(arena.usedBytes()).isZero();
+        assertThat(cache.get("pf")).isNull();
+    }
+
+    @Test
+    @DisplayName("Put com versão antiga deve ser descartado sem liberar o slot atual")
+    void putAntigoDeveSerDescartado() {
+        cache.put("pf", pf(T2));
+        long usado = arena.usedBytes();
+
+        cache.put("pf", pf(T1));
+
+        assertThat(cache.get("pf", ClientePFResponse.class).dataAtualizacao()).isEqualTo(T2);
+        assertThat(arena.usedBytes()).isEqualTo(usado);
+    }
+
+    @Test
+    @DisplayName("Evict versionado deve impedir repopulação com versão anterior")
+    void tombstoneDeveBloquearVersaoAnterior() {
+        cache.put("pf", pf(T1));
+
+        cache.evict("pf", T2);
+        cache.put("pf", pf(T1));
+
+        assertThat(cache.get("pf")).isNull();
+        assertThat(arena.usedBytes()).isZero();
+    }
+
+    @Test
+    @DisplayName("Cache cheio deve evictar entradas e nunca passar da capacidade")
+    void deveRespeitarCapacidade() {
+        for (int i = 0; i < 5_000; i++) {
+            cache.put(UUID.randomUUID().toString(), pjComDocumentos(20));
+        }
+        cache.getNativeCache().cleanUp();
+
+        assertThat(arena.usedBytes()).isLessThanOrEqualTo(arena.capacityBytes());
+        assertThat(cache.getNativeCache().estimatedSize()).isBetween(1L, 4_999L);
+    }
+
+    @Test
+    @DisplayName("Classe de slot esgotada abaixo do peso máximo deve liberar uma entrada da mesma classe")
+    void classeEsgotadaDeveLiberarEntradaDaMesmaClasse() {
+        OffHeapArena duasSlabs = new OffHeapArena(OffHeapArena.SLAB_BYTES * 2L);
+        OffHeapCache fragmentado = new OffHeapCache("clientes:findById",
+                Caffeine.newBuilder().executor(Runnable::run),
+                null, duasSlabs, new BinaryRecordCodec(), null, true);
+        String grande = "x".repeat(300_000);
+        fragmentado.put("grande-1", grande);
+        fragmentado.put("grande-2", grande);
+        // O segundo slab fica preso à menor classe: o peso total continua bem abaixo do limite
+        fragmentado.put("pequeno", "p");
+
+        fragmentado.put("grande-3", grande);
+
+        assertThat(fragmentado.get("grande-3", String.class)).isEqualTo(grande);
+        assertThat(Stream.of("grande-1", "grande-2").filter(chave -> fragmentado.get(chave) != null)).hasSize(1);
+        assertThat(fragmentado.get("pequeno", String.class)).isEqualTo("p");
+    }
+
+    @Test
+    @DisplayName("Leitura de slot já liberado deve ser tratada como miss")
+    void leituraDeSlotLiberadoDeveFalhar() {
+        long handle = arena.allocate(100);
+        int geracao = arena.generation(handle);
+        arena.write(handle, new byte[100]);
+
+        arena.free(handle, geracao);
+        arena.free(handle, geracao);
+        long reaproveitado = arena.allocate(100);
+
+        assertThat(reaproveitado).isEqualTo(handle);
+        assertThat(arena.read(handle, 100, geracao)).isNull();
+        assertThat(arena.read(reaproveitado, 100, arena.generation(reaproveitado))).hasSize(100);
+    }
+
+    @Test
+    @DisplayName("Deve armazenar null sem ocupar memória off-heap")
+    void deveArmazenarNull() {
+        cache.put("inexistente", null);
+
+        assertThat(cache.get("inexistente")).isNotNull();
+        assertThat(cache.get("inexistente").get()).isNull();
+        assertThat(arena.usedBytes()).isZero();
+    }
+
+    private static ClientePFResponse pf(LocalDateTime versao) {
+        ClientePF pf = ClientePF.builder()
+                .publicId(UUID.fromString("00000000-0000-0000-0000-000000000001"))
+                .primeiroNome("Ana")
+                .sobrenome("Souza")
+                .cpf("123.456.789-09")
+                .email("ana@exemplo.com.br")
+                .dataCriacao(T1)
+                .dataAtualizacao(versao)
+                .build();
+        pf.getListaEnderecos().add(Endereco.builder()
+                .cep("01310-100").logradouro("Avenida Paulista").numero("1000")
+                .bairro("Bela Vista").cidade("São Paulo").build());
+        return ClientePFMapper.toResponse(pf);
+    }
+
+    private static ClientePJResponse pjComDocumentos(int documentos) {
+        ClientePJ pj = ClientePJ.builder()
+                .publicId(UUID.randomUUID())
+                .razaoSocial("Móveis Estrela Comércio LTDA")
+                .cnpj("12.345.678/0001-90")
+                .dataAtualizacao(T1)
+                .build();
+        for (int i = 0; i < documentos; i++) {
+            pj.getListaDocumentos().add(Documento.builder()
+                    .tipoDocumento(TipoDocumentoEnum.OUTRO)
+                    .numero("DOC-" + i)
+                    .orgaoEmissor("SSP")
+                    .observacoes("Documento digitalizado e conferido pelo atendimento")
+                    .build());
+        }
+        return ClientePJMapper.toResponse(pj);
+    }
+}
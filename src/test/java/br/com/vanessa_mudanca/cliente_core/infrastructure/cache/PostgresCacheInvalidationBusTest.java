@@ -0,0 +1,144 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para PostgresCacheInvalidationBus (JDBC mockado).
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("PostgresCacheInvalidationBus - LISTEN/NOTIFY")
+class PostgresCacheInvalidationBusTest {
+
+    private static final String CANAL = "cliente-core:cache-invalidation";
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection publishConnection;
+
+    @Mock
+    private PreparedStatement notify;
+
+    private PostgresCacheInvalidationBus bus;
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve publicar via pg_notify em conexão auto-commit")
+    void devePublicarViaPgNotify() throws Exception {
+        when(dataSource.getConnection()).thenReturn(publishConnection);
+        when(publishConnection.prepareStatement("SELECT pg_notify(?, ?)")).thenReturn(notify);
+        bus = new PostgresCacheInvalidationBus(dataSource, () -> {
+            throw new SQLException("sem LISTEN neste teste");
+        }, CANAL, objectMapper);
+        CacheInvalidation invalidation = CacheInvalidation.evict("a", "clientes:findById", "k",
+                LocalDateTime.of(2025, 1, 1, 10, 0));
+
+        bus.publish(invalidation);
+
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(publishConnection).setAutoCommit(true);
+        verify(notify).setString(1, CANAL);
+        verify(notify).setString(eq(2), payload.capture());
+        assertThat(objectMapper.readValue(payload.getValue(), CacheInvalidation.class)).isEqualTo(invalidation);
+    }
+
+    @Test
+    @DisplayName("Dentro de transação deve publicar na conexão da transação, sem conexão extra do pool")
+    void devePublicarNaConexaoDaTransacao() throws Exception {
+        Connection transacao = mock(Connection.class);
+        when(transacao.prepareStatement("SELECT pg_notify(?, ?)")).thenReturn(notify);
+        bus = new PostgresCacheInvalidationBus(dataSource, () -> {
+            throw new SQLException("sem LISTEN neste teste");
+        }, CANAL, objectMapper);
+
+        TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(transacao));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            bus.publish(CacheInvalidation.clear("a", "clientes:list"));
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.unbindResource(dataSource);
+        }
+
+        verify(notify).execute();
+        verify(dataSource, never()).getConnection();
+        verify(transacao, never()).setAutoCommit(anyBoolean());
+        verify(transacao, never()).close();
+    }
+
+    @Test
+    @DisplayName("Deve entregar notificações recebidas na conexão LISTEN aos assinantes")
+    void deveEntregarNotificacoesRecebidas() throws Exception {
+        CacheInvalidation invalidation = CacheInvalidation.clear("b", "clientes:list");
+        Connection listenConnection = mock(Connection.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        PGNotification notificacao = mock(PGNotification.class);
+        when(listenConnection.createStatement()).thenReturn(mock(Statement.class));
+        when(listenConnection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(notificacao.getParameter()).thenReturn(objectMapper.writeValueAsString(invalidation));
+        CountDownLatch inscrito = new CountDownLatch(1);
+        when(pgConnection.getNotifications(anyInt()))
+                .thenAnswer(invocation -> inscrito.await(2, TimeUnit.SECONDS)
+                        ? new PGNotification[]{notificacao} : null)
+                .thenReturn(null);
+
+        CompletableFuture<CacheInvalidation> recebida = new CompletableFuture<>();
+        bus = new PostgresCacheInvalidationBus(dataSource, () -> listenConnection, CANAL, objectMapper);
+        bus.subscribe(recebida::complete);
+        inscrito.countDown();
+
+        assertThat(recebida.get(2, TimeUnit.SECONDS)).isEqualTo(invalidation);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar nome de canal inválido")
+    void deveRejeitarCanalInvalido() {
+        assertThatThrownBy(() -> new PostgresCacheInvalidationBus(dataSource, () -> null,
+                "canal\"; DROP TABLE clientes; --", objectMapper))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
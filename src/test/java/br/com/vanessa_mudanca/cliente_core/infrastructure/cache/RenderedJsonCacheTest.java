@@ -0,0 +1,118 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.RenderedJsonProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para RenderedJsonCache.
+ * Valida o reaproveitamento dos bytes por versão e a variante gzip.
+ */
+@DisplayName("RenderedJsonCache - JSON pré-renderado do findById")
+class RenderedJsonCacheTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(RenderedJsonCache.RENDERED_JSON);
+    private final RenderedJsonCache cache = new RenderedJsonCache(cacheManager, objectMapper, RenderedJsonProperties.PADRAO);
+
+    @Test
+    @DisplayName("Mesma versão deve reaproveitar os bytes sem renderizar de novo")
+    void mesmaVersaoDeveReaproveitarBytes() throws IOException {
+        ClientePJResponse pj = pj(T1, 10);
+
+        RenderedJson primeiro = cache.render("id", pj);
+        RenderedJson segundo = cache.render("id", pj(T1, 10));
+
+        assertThat(segundo).isSameAs(primeiro);
+        assertThat(primeiro.json()).isEqualTo(objectMapper.writeValueAsBytes(pj));
+    }
+
+    @Test
+    @DisplayName("Versão diferente da renderizada deve renderizar de novo")
+    void versaoDiferenteDeveRenderizarDeNovo() {
+        RenderedJson antigo = cache.render("id", pj(T1, 10));
+
+        RenderedJson novo = cache.render("id", pj(T1.plusMinutes(1), 11));
+
+        assertThat(novo).isNotSameAs(antigo);
+        assertThat(novo.dataAtualizacao()).isEqualTo(T1.plusMinutes(1));
+        assertThat(cacheManager.getCache(RenderedJsonCache.RENDERED_JSON).get("id", RenderedJson.class)).isSameAs(novo);
+    }
+
+    @Test
+    @DisplayName("Variante gzip deve descomprimir para o mesmo JSON e só existir acima do mínimo")
+    void gzipDeveRespeitarTamanhoMinimo() throws IOException {
+        RenderedJson grande = cache.render("grande", pj(T1, 20));
+        RenderedJson pequeno = new RenderedJsonCache(cacheManager, objectMapper,
+                new RenderedJsonProperties(true, true, DataSize.ofKilobytes(64))).render("pequeno", pj(T1, 20));
+
+        assertThat(grande.hasGzip()).isTrue();
+        assertThat(grande.gzip().length).isLessThan(grande.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(grande.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(grande.json());
+        }
+        assertThat(pequeno.hasGzip()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Desligado deve renderizar sem gravar no cache")
+    void desligadoNaoDeveGravar() {
+        RenderedJsonCache desligado = new RenderedJsonCache(cacheManager, objectMapper,
+                new RenderedJsonProperties(false, null, null));
+
+        assertThat(desligado.render("id", pj(T1, 1)).json()).isNotEmpty();
+        assertThat(cacheManager.getCache(RenderedJsonCache.RENDERED_JSON).get("id")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve trafegar pelo L2 compartilhado")
+    void deveSerSerializavelParaL2() {
+        RenderedJson rendered = cache.render("id", pj(T1, 5));
+        CacheValueSerializer serializer = new CacheValueSerializer();
+
+        RenderedJson copia = (RenderedJson) serializer.deserialize(serializer.serialize(rendered));
+
+        assertThat(copia.json()).isEqualTo(rendered.json());
+        assertThat(copia.gzip()).isEqualTo(rendered.gzip());
+        assertThat(copia.dataAtualizacao()).isEqualTo(T1);
+    }
+
+    private static ClientePJResponse pj(LocalDateTime versao, int documentos) {
+        ClientePJ pj = ClientePJ.builder()
+                .publicId(UUID.fromString("00000000-0000-0000-0000-000000000002"))
+                .razaoSocial("Móveis Estrela Comércio LTDA")
+                .cnpj("12.345.678/0001-90")
+                .dataAtualizacao(versao)
+                .build();
+        for (int i = 0; i < documentos; i++) {
+            pj.getListaDocumentos().add(Documento.builder()
+                    .tipoDocumento(TipoDocumentoEnum.OUTRO)
+                    .numero("DOC-" + i)
+                    .orgaoEmissor("SSP")
+                    .build());
+        }
+        return ClientePJMapper.toResponse(pj);
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.cache.SingleFlight;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para SingleFlightAspect.
+ * Valida que chamadas concorrentes com a mesma chave executam uma única carga.
+ */
+@DisplayName("SingleFlightAspect - Coalescência de cargas concorrentes")
+class SingleFlightAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Loader loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new Loader());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(meterRegistry));
+        loader = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve executar uma única carga para chamadas concorrentes da mesma chave")
+    void deveCoalescerChamadasConcorrentes() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        int chamadas = 20;
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<String>> resultados = new ArrayList<>();
+
+        for (int i = 0; i < chamadas; i++) {
+            resultados.add(executor.submit(() -> loader.load(publicId)));
+        }
+        // Aguarda todos os não-líderes estarem esperando a carga em andamento
+        while (meterRegistry.counter("cache.singleflight.coalesced", "name", "teste").count() < chamadas - 1) {
+            Thread.onSpinWait();
+        }
+        Loader.liberar.countDown();
+
+        for (Future<String> resultado : resultados) {
+            assertThat(resultado.get(5, TimeUnit.SECONDS)).isEqualTo("cliente-" + publicId);
+        }
+        executor.shutdown();
+
+        assertThat(Loader.execucoes.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.singleflight.leaders", "name", "teste").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.singleflight.inflight").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve propagar a exceção da carga e liberar a chave")
+    void devePropagarExcecaoELiberarChave() {
+        Loader.liberar.countDown();
+        UUID inexistente = UUID.randomUUID();
+
+        assertThatThrownBy(() -> loader.loadOuFalha(inexistente))
+                .isInstanceOf(ClienteNaoEncontradoException.class);
+        assertThatThrownBy(() -> loader.loadOuFalha(inexistente))
+                .isInstanceOf(ClienteNaoEncontradoException.class);
+
+        assertThat(meterRegistry.counter("cache.singleflight.leaders", "name", "falha").count()).isEqualTo(2);
+    }
+
+    static class Loader {
+
+        static CountDownLatch liberar;
+        static AtomicInteger execucoes;
+
+        Loader() {
+            liberar = new CountDownLatch(1);
+            execucoes = new AtomicInteger();
+        }
+
+        @SingleFlight(name = "teste", key = "#publicId.toString()")
+        public String load(UUID publicId) throws InterruptedException {
+            execucoes.incrementAndGet();
+            liberar.await(5, TimeUnit.SECONDS);
+            return "cliente-" + publicId;
+        }
+
+        @SingleFlight(name = "falha", key = "#publicId")
+        public String loadOuFalha(UUID publicId) {
+            throw new ClienteNaoEncontradoException(publicId);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.Cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para TwoTierCache/TwoTierCacheManager.
+ * Simula duas instâncias compartilhando o mesmo L2 e o mesmo barramento de invalidação.
+ */
+@DisplayName("TwoTierCache - L1 Caffeine + L2 compartilhado")
+class TwoTierCacheTest {
+
+    private static final String FIND_BY_ID = "clientes:findById";
+    private static final String KEY = UUID.randomUUID().toString();
+    private static final LocalDateTime V1 = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final LocalDateTime V2 = V1.plusSeconds(1);
+
+    private InMemorySharedCacheStore store;
+    private InMemoryCacheInvalidationBus bus;
+    private MeterRegistry meterRegistryA;
+    private SharedCacheTier tierA;
+    private SharedCacheTier tierB;
+    private Cache instanciaA;
+    private Cache instanciaB;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemorySharedCacheStore();
+        bus = new InMemoryCacheInvalidationBus();
+        meterRegistryA = new SimpleMeterRegistry();
+        tierA = new SharedCacheTier(store, bus);
+        tierB = new SharedCacheTier(store, bus);
+        instanciaA = manager(tierA, meterRegistryA).getCache(FIND_BY_ID);
+        instanciaB = manager(tierB, new SimpleMeterRegistry()).getCache(FIND_BY_ID);
+    }
+
+    @Test
+    @DisplayName("Miss no L1 deve ser atendido pelo L2 gravado por outra instância")
+    void missNoL1DeveSerAtendidoPeloL2() {
+        instanciaA.put(KEY, response(V1));
+
+        ClientePFResponse lido = instanciaB.get(KEY, ClientePFResponse.class);
+
+        assertThat(lido).isEqualTo(response(V1));
+        assertThat(local(instanciaB).get(KEY)).as("hit no L2 repopula o L1").isNotNull();
+    }
+
+    @Test
+    @DisplayName("Evict em uma instância deve remover a chave do L1 das demais e do L2")
+    void evictDeveSerPropagadoEntreInstancias() {
+        instanciaA.put(KEY, response(V1));
+        instanciaB.get(KEY);
+        assertThat(local(instanciaB).get(KEY)).isNotNull();
+
+        instanciaA.evict(KEY);
+
+        assertThat(local(instanciaB).get(KEY)).isNull();
+        assertThat(instanciaB.get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Evict versionado deve barrar versão antiga também na outra instância")
+    void evictVersionadoDeveBarrarVersaoAntigaRemotamente() {
+        ((VersionedEvict) instanciaA).evict(KEY, V2);
+
+        // leitor da instância B carregou a V1 antes do commit e grava depois da invalidação
+        instanciaB.put(KEY, response(V1));
+
+        assertThat(instanciaB.get(KEY)).isNull();
+        assertThat(instanciaA.get(KEY)).as("versão antiga não chega ao L2").isNull();
+    }
+
+    @Test
+    @DisplayName("Clear deve limpar L2 e o L1 das demais instâncias")
+    void clearDeveSerPropagado() {
+        instanciaA.put(KEY, response(V1));
+        instanciaB.get(KEY);
+
+        instanciaA.clear();
+
+        assertThat(local(instanciaB).get(KEY)).isNull();
+        assertThat(instanciaB.get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve registrar hits e misses por nível")
+    void deveRegistrarMetricasPorNivel() {
+        instanciaA.get(KEY);                 // L1 miss, L2 miss
+        instanciaB.put(KEY, response(V1));
+        instanciaA.get(KEY);                 // L1 miss, L2 hit
+        instanciaA.get(KEY);                 // L1 hit
+
+        assertThat(contador("l1", "hit")).isEqualTo(1);
+        assertThat(contador("l1", "miss")).isEqualTo(2);
+        assertThat(contador("l2", "hit")).isEqualTo(1);
+        assertThat(contador("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Falha no L2 deve ser tratada como miss sem quebrar a leitura")
+    void falhaNoL2DeveSerTratadaComoMiss() {
+        SharedCacheStore indisponivel = new InMemorySharedCacheStore() {
+            @Override
+            public byte[] get(String key) {
+                throw new IllegalStateException("Redis indisponível");
+            }
+        };
+        Cache cache = manager(new SharedCacheTier(indisponivel, bus), new SimpleMeterRegistry())
+                .getCache(FIND_BY_ID);
+
+        assertThat(cache.get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("putIfAbsent deve devolver o valor que outra instância gravou antes no L2")
+    void putIfAbsentDeveRespeitarValorDeOutraInstancia() {
+        assertThat(instanciaA.putIfAbsent(KEY, response(V1))).isNull();
+
+        Cache.ValueWrapper existente = instanciaB.putIfAbsent(KEY, response(V2));
+
+        assertThat(existente).isNotNull();
+        assertThat(existente.get()).isEqualTo(response(V1));
+        assertThat(local(instanciaB).get(KEY, ClientePFResponse.class)).isEqualTo(response(V1));
+    }
+
+    @Test
+    @DisplayName("putIfAbsent concorrente em duas instâncias deve eleger um único valor")
+    void putIfAbsentConcorrenteDeveElegerUmUnicoValor() throws Exception {
+        int threads = 8;
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> resultados = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                Cache instancia = i % 2 == 0 ? instanciaA : instanciaB;
+                ClientePFResponse proprio = response(V1.plusSeconds(i));
+                resultados.add(executor.submit(() -> {
+                    largada.await();
+                    Cache.ValueWrapper existente = instancia.putIfAbsent(KEY, proprio);
+                    return existente != null ? existente.get() : proprio;
+                }));
+            }
+            largada.countDown();
+
+            Set<Object> vencedores = new HashSet<>();
+            for (Future<Object> resultado : resultados) {
+                vencedores.add(resultado.get(5, TimeUnit.SECONDS));
+            }
+            assertThat(vencedores).hasSize(1);
+            assertThat(instanciaA.get(KEY).get()).isEqualTo(instanciaB.get(KEY).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Sem L2 (LISTEN/NOTIFY), evict deve ser propagado entre os L1 e medir o atraso")
+    void semL2EvictDeveSerPropagadoEntreL1() {
+        MeterRegistry meterRegistryB = new SimpleMeterRegistry();
+        Cache cacheA = manager(SharedCacheTier.invalidationOnly(bus), new SimpleMeterRegistry()).getCache(FIND_BY_ID);
+        Cache cacheB = manager(SharedCacheTier.invalidationOnly(bus), meterRegistryB).getCache(FIND_BY_ID);
+
+        cacheA.put(KEY, response(V1));
+        assertThat(cacheB.get(KEY)).as("sem L2 os valores não são compartilhados").isNull();
+
+        cacheB.put(KEY, response(V1));
+        cacheA.evict(KEY);
+
+        assertThat(cacheB.get(KEY)).isNull();
+        assertThat(meterRegistryB.get("cache.invalidation.lag").tag("tipo", "EVICT").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Nova geração de listagem deve ser adotada pelas demais instâncias")
+    void geracaoDeListagemDeveSerPropagada() {
+        ListCacheGenerations geracoesA = generations(tierA);
+        ListCacheGenerations geracoesB = generations(tierB);
+
+        long nova = geracoesA.advance(ListCacheGenerations.PF);
+
+        assertThat(geracoesB.current(ListCacheGenerations.PF)).isEqualTo(nova);
+        assertThat(geracoesB.current(ListCacheGenerations.PJ)).isNotEqualTo(nova);
+    }
+
+    @Test
+    @DisplayName("Serializer deve recusar classes fora da allowlist")
+    void serializerDeveRecusarClassesDesconhecidas() {
+        CacheValueSerializer serializer = new CacheValueSerializer();
+        byte[] bytes = serializer.serialize(URI.create("http://exemplo"));
+
+        assertThatThrownBy(() -> serializer.deserialize(bytes))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(serializer.deserialize(serializer.serialize(response(V1)))).isEqualTo(response(V1));
+    }
+
+    private static TwoTierCacheManager manager(SharedCacheTier tier, MeterRegistry meterRegistry) {
+        VersionGuardedCacheManager local = new VersionGuardedCacheManager(Map.of(FIND_BY_ID, Duration.ofMinutes(5)));
+        return new TwoTierCacheManager(local, tier, name -> Duration.ofMinutes(5), meterRegistry);
+    }
+
+    private static ListCacheGenerations generations(SharedCacheTier tier) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("sharedCacheTier", tier);
+        return new ListCacheGenerations(beanFactory.getBeanProvider(SharedCacheTier.class));
+    }
+
+    private static Cache local(Cache cache) {
+        return ((TwoTierCache) cache).getLocalCache();
+    }
+
+    private double contador(String nivel, String resultado) {
+        return meterRegistryA.get("cache.tier.gets")
+                .tags("cache", FIND_BY_ID, "tier", nivel, "result", resultado)
+                .counter().count();
+    }
+
+    private static ClientePFResponse response(LocalDateTime dataAtualizacao) {
+        return ClientePFMapper.toResponse(ClientePF.builder()
+                .publicId(UUID.fromString(KEY))
+                .primeiroNome("Ana")
+                .dataAtualizacao(dataAtualizacao)
+                .build());
+    }
+}
@@ -0,0 +1,140 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.cache;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para VersionGuardedCache.
+ * Reproduz a corrida "leitor carrega antes do commit, grava depois da invalidação".
+ */
+@DisplayName("VersionGuardedCache - Proteção contra versões antigas")
+class VersionGuardedCacheTest {
+
+    private static final String KEY = UUID.randomUUID().toString();
+    private static final LocalDateTime V1 = LocalDateTime.of(2025, 1, 1, 10, 0);
+    private static final LocalDateTime V2 = V1.plusSeconds(1);
+
+    @Test
+    @DisplayName("Sem guard: carga pré-commit gravada após o evict deixa o cache com dado velho")
+    void semGuardCorridaDeixaCacheVelho() {
+        CaffeineCache cache = new CaffeineCache("clientes:findById", Caffeine.newBuilder().build());
+        ClientePFResponse lidoAntesDoCommit = response(V1);
+
+        // writer: commit da V2 + evict
+        cache.evict(KEY);
+        // leitor: grava o que leu antes do commit
+        cache.put(KEY, lidoAntesDoCommit);
+
+        assertThat(cache.get(KEY, ClientePFResponse.class).dataAtualizacao()).isEqualTo(V1);
+    }
+
+    @Test
+    @DisplayName("Com guard: carga pré-commit é descartada e a versão nova é aceita")
+    void comGuardCargaAntigaDescartada() {
+        VersionGuardedCache cache = guarded();
+
+        cache.evict(KEY, V2);
+        cache.put(KEY, response(V1));
+        assertThat(cache.get(KEY)).isNull();
+
+        cache.put(KEY, response(V2));
+        assertThat(cache.get(KEY, ClientePFResponse.class).dataAtualizacao()).isEqualTo(V2);
+    }
+
+    @Test
+    @DisplayName("Versão antiga não sobrescreve versão mais nova já em cache")
+    void versaoAntigaNaoSobrescreveNova() {
+        VersionGuardedCache cache = guarded();
+
+        cache.put(KEY, response(V2));
+        cache.put(KEY, response(V1));
+        Cache.ValueWrapper existente = cache.putIfAbsent(KEY, response(V1));
+
+        assertThat(((ClientePFResponse) existente.get()).dataAtualizacao()).isEqualTo(V2);
+        assertThat(cache.get(KEY, ClientePFResponse.class).dataAtualizacao()).isEqualTo(V2);
+    }
+
+    @Test
+    @DisplayName("Sob concorrência, após o evict versionado o cache nunca volta à versão antiga")
+    void concorrenciaNuncaVoltaVersaoAntiga() throws Exception {
+        int rodadas = 200;
+        int leitores = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(leitores + 1);
+        try {
+            for (int rodada = 0; rodada < rodadas; rodada++) {
+                VersionGuardedCache cache = guarded();
+                cache.put(KEY, response(V1));
+                CyclicBarrier largada = new CyclicBarrier(leitores + 1);
+                List<Future<?>> tarefas = new ArrayList<>();
+
+                // Leitores: metade carregou antes do commit (V1), metade depois (V2)
+                for (int i = 0; i < leitores; i++) {
+                    ClientePFResponse lido = response(i % 2 == 0 ? V1 : V2);
+                    tarefas.add(executor.submit(() -> {
+                        largada.await();
+                        busySpin();
+                        cache.put(KEY, lido);
+                        return null;
+                    }));
+                }
+                // Writer: commit da V2 e invalidação
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    busySpin();
+                    cache.evict(KEY, V2);
+                    return null;
+                }));
+                for (Future<?> tarefa : tarefas) {
+                    tarefa.get(5, TimeUnit.SECONDS);
+                }
+
+                ClientePFResponse emCache = cache.get(KEY, ClientePFResponse.class);
+                assertThat(emCache == null || V2.equals(emCache.dataAtualizacao()))
+                        .as("rodada %d terminou com versão antiga em cache", rodada)
+                        .isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static VersionGuardedCache guarded() {
+        return new VersionGuardedCache("clientes:findById", Caffeine.newBuilder().build(),
+                Duration.ofMinutes(5), true);
+    }
+
+    private static ClientePFResponse response(LocalDateTime dataAtualizacao) {
+        return ClientePFMapper.toResponse(ClientePF.builder()
+                .publicId(UUID.fromString(KEY))
+                .primeiroNome("Ana")
+                .dataAtualizacao(dataAtualizacao)
+                .build());
+    }
+
+    private static void busySpin() {
+        int iteracoes = ThreadLocalRandom.current().nextInt(1_000);
+        for (int i = 0; i < iteracoes; i++) {
+            Thread.onSpinWait();
+        }
+    }
+}
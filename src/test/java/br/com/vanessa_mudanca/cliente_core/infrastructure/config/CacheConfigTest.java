@@ -0,0 +1,247 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.config;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.InMemoryCacheInvalidationBus;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.InMemorySharedCacheStore;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.NamedCacheLoader;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.OffHeapCache;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.SharedCacheTier;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.TwoTierCache;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.TwoTierCacheManager;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.VersionGuardedCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para CacheConfig.
+ * Valida que cada cache nomeado recebe sua própria política.
+ */
+@DisplayName("CacheConfig - Políticas por cache")
+class CacheConfigTest {
+
+    private final CacheConfig config = new CacheConfig();
+
+    @Test
+    @DisplayName("Deve registrar caches nomeados com TTL e limites próprios")
+    void deveRegistrarCachesComPoliticasProprias() {
+        CacheProperties properties = properties(null, Map.of(
+                "clientes:findById", spec(Duration.ofMinutes(5), null, 100L),
+                "clientes:list", spec(Duration.ofMinutes(1), null, 50L)
+        ));
+
+        CacheManager cacheManager = cacheManager(properties);
+
+        assertThat(cacheManager.getCacheNames()).contains("clientes:findById", "clientes:list");
+        assertThat(cacheManager.getCache("clientes:findById")).isInstanceOf(VersionGuardedCache.class);
+        assertThat(cacheManager.getCache("clientes:list")).isNotInstanceOf(VersionGuardedCache.class);
+        assertThat(expireAfterWrite(cacheManager, "clientes:findById")).isEqualTo(Duration.ofMinutes(5));
+        assertThat(expireAfterWrite(cacheManager, "clientes:list")).isEqualTo(Duration.ofMinutes(1));
+        assertThat(nativeCache(cacheManager, "clientes:list").policy().eviction().orElseThrow().getMaximum())
+                .isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("Deve usar política default para caches criados sob demanda")
+    void deveUsarDefaultParaCachesDinamicos() {
+        CacheProperties properties = properties(spec(Duration.ofSeconds(30), 10L, null), Map.of());
+
+        CacheManager cacheManager = cacheManager(properties);
+
+        assertThat(expireAfterWrite(cacheManager, "outro-cache")).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Página deve pesar o número de clientes que carrega")
+    void paginaDevePesarNumeroDeClientes() {
+        CacheProperties properties = properties(null, Map.of(
+                "clientes:list", spec(Duration.ofMinutes(1), null, 100L)));
+        Cache<Object, Object> cache = nativeCache(cacheManager(properties), "clientes:list");
+
+        cache.put("pagina", new PageResponse<>(Collections.nCopies(20, "c"), 0, 20, 100, 5, true, false, false));
+        cache.put("cliente", "c");
+        cache.cleanUp();
+
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize()).hasValue(21L);
+    }
+
+    @Test
+    @DisplayName("maximum-memory deve limitar o cache em bytes estimados")
+    void maximumMemoryDeveLimitarEmBytes() {
+        CacheProperties properties = properties(null, Map.of(
+                "clientes:findById", new CacheProperties.CacheSpec(
+                        Duration.ofMinutes(5), null, null, null, DataSize.ofMegabytes(64), true)));
+        Cache<Object, Object> cache = nativeCache(cacheManager(properties), "clientes:findById");
+
+        cache.put("cliente", "a".repeat(1_000));
+        cache.cleanUp();
+
+        assertThat(cache.policy().eviction().orElseThrow().getMaximum()).isEqualTo(DataSize.ofMegabytes(64).toBytes());
+        assertThat(cache.policy().eviction().orElseThrow().weightedSize().orElseThrow()).isGreaterThan(1_000L);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar política com maximum-size e maximum-weight simultâneos")
+    void deveRejeitarPoliticaAmbigua() {
+        CacheProperties.CacheSpec spec = new CacheProperties.CacheSpec(
+                Duration.ofMinutes(1), null, 10L, 10L, null, true);
+
+        assertThatThrownBy(() -> CacheConfig.builder("x", spec))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("maximum-size OU maximum-weight OU maximum-memory");
+    }
+
+    @Test
+    @DisplayName("Deve exigir expire-after-write")
+    void deveExigirTtl() {
+        CacheProperties.CacheSpec spec = new CacheProperties.CacheSpec(null, null, 10L, null, null, true);
+
+        assertThatThrownBy(() -> CacheConfig.builder("x", spec))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("expire-after-write");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar refresh-after-write sem CacheLoader registrado")
+    void deveRejeitarRefreshSemLoader() {
+        CacheProperties properties = properties(null, Map.of(
+                "clientes:findById", new CacheProperties.CacheSpec(
+                        Duration.ofMinutes(5), Duration.ofMinutes(4), null, 100L, null, true)));
+
+        assertThatThrownBy(() -> cacheManager(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("refresh-after-write");
+    }
+
+    @Test
+    @DisplayName("Deve devolver valor em cache e recarregar em background após refresh-after-write")
+    void deveRecarregarEmBackground() throws InterruptedException {
+        CacheProperties properties = properties(null, Map.of(
+                "clientes:findById", new CacheProperties.CacheSpec(
+                        Duration.ofMinutes(5), Duration.ofMillis(1), null, 100L, null, true)));
+        CountDownLatch liberarReload = new CountDownLatch(1);
+        NamedCacheLoader loader = new NamedCacheLoader() {
+            @Override
+            public String cacheName() {
+                return "clientes:findById";
+            }
+
+            @Override
+            public Object load(Object key) {
+                return null;
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) throws InterruptedException {
+                liberarReload.await(2, TimeUnit.SECONDS);
+                return "novo";
+            }
+        };
+        CacheManager cacheManager = cacheManager(properties, loader);
+        org.springframework.cache.Cache cache = cacheManager.getCache("clientes:findById");
+        cache.put("id", "antigo");
+        Thread.sleep(5);
+
+        assertThat(cache.get("id").get()).isEqualTo("antigo");
+        liberarReload.countDown();
+
+        long limite = System.currentTimeMillis() + 2_000;
+        while (!"novo".equals(nativeCache(cacheManager, "clientes:findById").getIfPresent("id"))
+                && System.currentTimeMillis() < limite) {
+            Thread.sleep(5);
+        }
+        assertThat(nativeCache(cacheManager, "clientes:findById").getIfPresent("id")).isEqualTo("novo");
+    }
+
+    @Test
+    @DisplayName("Com nível compartilhado registrado deve envolver os caches em dois níveis")
+    void deveEnvolverCachesComNivelCompartilhado() {
+        CacheProperties properties = properties(null, Map.of(
+                "clientes:findById", spec(Duration.ofMinutes(5), null, 100L)));
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("sharedCacheTier",
+                new SharedCacheTier(new InMemorySharedCacheStore(), new InMemoryCacheInvalidationBus()));
+
+        CacheManager cacheManager = config.cacheManager(properties,
+                beanFactory.getBeanProvider(NamedCacheLoader.class),
+                beanFactory.getBeanProvider(SharedCacheTier.class),
+                beanFactory.getBeanProvider(MeterRegistry.class));
+
+        assertThat(cacheManager).isInstanceOf(TwoTierCacheManager.class);
+        assertThat(cacheManager.getCache("clientes:findById")).isInstanceOf(TwoTierCache.class);
+        assertThat(((TwoTierCache) cacheManager.getCache("clientes:findById")).getLocalCache())
+                .isInstanceOf(VersionGuardedCache.class);
+    }
+
+    @Test
+    @DisplayName("Caches listados em off-heap devem ser OffHeapCache e os demais continuar no Caffeine")
+    void deveRegistrarCachesOffHeap() {
+        CacheProperties properties = new CacheProperties(null, Map.of(
+                "clientes:findById", spec(Duration.ofMinutes(5), null, 100L),
+                "clientes:list", spec(Duration.ofMinutes(1), null, 50L)), null,
+                new CacheProperties.OffHeap(true, Map.of("clientes:findById", DataSize.ofMegabytes(2))));
+
+        CacheManager cacheManager = cacheManager(properties);
+        org.springframework.cache.Cache findById = cacheManager.getCache("clientes:findById");
+        findById.put("id", "valor");
+
+        assertThat(findById).isInstanceOf(OffHeapCache.class);
+        assertThat(((OffHeapCache) findById).getArena().capacityBytes()).isEqualTo(DataSize.ofMegabytes(2).toBytes());
+        assertThat(findById.get("id").get()).isEqualTo("valor");
+        assertThat(cacheManager.getCache("clientes:list")).isInstanceOf(CaffeineCache.class);
+        assertThat(cacheManager.getCacheNames()).contains("clientes:findById", "clientes:list");
+    }
+
+    @Test
+    @DisplayName("Off-heap desligado não deve alterar os caches")
+    void offHeapDesligadoNaoDeveAlterarCaches() {
+        CacheProperties properties = new CacheProperties(null, Map.of(
+                "clientes:findById", spec(Duration.ofMinutes(5), null, 100L)), null,
+                new CacheProperties.OffHeap(false, Map.of("clientes:findById", DataSize.ofMegabytes(2))));
+
+        assertThat(cacheManager(properties).getCache("clientes:findById")).isInstanceOf(VersionGuardedCache.class);
+    }
+
+    private CacheManager cacheManager(CacheProperties properties, NamedCacheLoader... loaders) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        for (int i = 0; i < loaders.length; i++) {
+            beanFactory.registerSingleton("loader" + i, loaders[i]);
+        }
+        return config.cacheManager(properties, beanFactory.getBeanProvider(NamedCacheLoader.class),
+                beanFactory.getBeanProvider(SharedCacheTier.class), beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    /** Sem refresh-max-concurrency nem off-heap: ficam os padrões do record. */
+    private static CacheProperties properties(CacheProperties.CacheSpec defaults,
+                                              Map<String, CacheProperties.CacheSpec> specs) {
+        return new CacheProperties(defaults, specs, null, null);
+    }
+
+    private static CacheProperties.CacheSpec spec(Duration ttl, Long maxSize, Long maxWeight) {
+        return new CacheProperties.CacheSpec(ttl, null, maxSize, maxWeight, null, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Cache<Object, Object> nativeCache(CacheManager cacheManager, String name) {
+        return ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+    }
+
+    private static Duration expireAfterWrite(CacheManager cacheManager, String name) {
+        return Duration.ofNanos(nativeCache(cacheManager, name).policy().expireAfterWrite()
+                .orElseThrow().getExpiresAfter(TimeUnit.NANOSECONDS));
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.VersionedResponse;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.PrecondicaoObrigatoriaException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para ClienteETags.
+ * Valida a derivação pela versão e a comparação com If-None-Match e If-Match.
+ */
+@DisplayName("ClienteETags - GET condicional")
+class ClienteETagsTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_456_000);
+
+    private record Cliente(UUID publicId, LocalDateTime dataAtualizacao, Long versao) implements VersionedResponse {
+
+        Cliente(UUID publicId, LocalDateTime dataAtualizacao) {
+            this(publicId, dataAtualizacao, 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("ETag deve mudar a cada versão e não existir sem versão")
+    void etagDeveAcompanharVersao() {
+        String v1 = ClienteETags.of(new Cliente(UUID.randomUUID(), T1, 1L));
+
+        assertThat(v1).isEqualTo("\"" + ClienteETags.FORMATO + "-1\"");
+        assertThat(ClienteETags.of(new Cliente(UUID.randomUUID(), T1, 1L))).isEqualTo(v1);
+        assertThat(ClienteETags.of(new Cliente(UUID.randomUUID(), T1, 2L))).isNotEqualTo(v1);
+        assertThat(ClienteETags.of(new Cliente(UUID.randomUUID(), T1, null))).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Match deve extrair a versão (também da variante gzip); * não fixa versão")
+    void deveExtrairVersaoDoIfMatch() {
+        String etag = ClienteETags.of(new Cliente(UUID.randomUUID(), T1, 42L));
+
+        assertThat(ClienteETags.versaoEsperada(etag)).isEqualTo(42L);
+        assertThat(ClienteETags.versaoEsperada(ClienteETags.gzip(etag))).isEqualTo(42L);
+        assertThat(ClienteETags.versaoEsperada(etag + ", \"x\"")).isEqualTo(42L);
+        assertThat(ClienteETags.versaoEsperada("*")).isNull();
+    }
+
+    @Test
+    @DisplayName("If-Match fraco, de outro formato ou estranho nunca casa; ausente é obrigatório")
+    void ifMatchInvalidoNuncaDeveCasar() {
+        String etag = ClienteETags.of(new Cliente(UUID.randomUUID(), T1, 42L));
+
+        assertThat(ClienteETags.versaoEsperada("W/" + etag)).isEqualTo(ClienteETags.VERSAO_INEXISTENTE);
+        assertThat(ClienteETags.versaoEsperada("\"v1-42\"")).isEqualTo(ClienteETags.VERSAO_INEXISTENTE);
+        assertThat(ClienteETags.versaoEsperada("\"" + ClienteETags.FORMATO + "-abc\"")).isEqualTo(ClienteETags.VERSAO_INEXISTENTE);
+        assertThatThrownBy(() -> ClienteETags.versaoEsperada(null)).isInstanceOf(PrecondicaoObrigatoriaException.class);
+        assertThatThrownBy(() -> ClienteETags.versaoEsperada(" ")).isInstanceOf(PrecondicaoObrigatoriaException.class);
+    }
+
+    @Test
+    @DisplayName("If-None-Match deve usar comparação fraca, listas e *")
+    void deveCompararIfNoneMatch() {
+        String etag = ClienteETags.of(new Cliente(UUID.randomUUID(), T1));
+
+        assertThat(ClienteETags.match(etag, etag)).isEqualTo(etag);
+        assertThat(ClienteETags.match("W/" + etag, etag)).isEqualTo(etag);
+        assertThat(ClienteETags.match("\"x\", " + ClienteETags.gzip(etag), etag)).isEqualTo(ClienteETags.gzip(etag));
+        assertThat(ClienteETags.match("*", etag)).isEqualTo(etag);
+        assertThat(ClienteETags.match("\"x\"", etag)).isNull();
+        assertThat(ClienteETags.match(null, etag)).isNull();
+    }
+
+    @Test
+    @DisplayName("ETag da página deve mudar quando qualquer cliente da página mudar")
+    void etagDaPaginaDeveAcompanharClientes() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        String original = ClienteETags.of(pagina(new Cliente(a, T1), new Cliente(b, T1)), Cliente::publicId);
+
+        assertThat(ClienteETags.of(pagina(new Cliente(a, T1), new Cliente(b, T1)), Cliente::publicId))
+                .isEqualTo(original);
+        assertThat(ClienteETags.of(pagina(new Cliente(a, T1), new Cliente(b, T1, 2L)), Cliente::publicId))
+                .isNotEqualTo(original);
+        // Mesma regra da ETag individual: só a versão conta, não dataAtualizacao
+        assertThat(ClienteETags.of(pagina(new Cliente(a, T1), new Cliente(b, T1.plusSeconds(1))), Cliente::publicId))
+                .isEqualTo(original);
+    }
+
+    private static PageResponse<Cliente> pagina(Cliente... clientes) {
+        return new PageResponse<>(List.of(clientes), 0, 20, clientes.length, 1, true, true, false);
+    }
+}
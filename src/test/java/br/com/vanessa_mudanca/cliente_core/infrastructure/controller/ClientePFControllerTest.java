@@ -1,20 +1,30 @@
 package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
 
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePFRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateClientePFRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchItemResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.CursorPageResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePFBatchUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePFUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.DeleteClienteUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.ExportClientePFUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByCpfUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePFByIdUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.ListClientePFUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.UpdateClientePFUseCase;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.SexoEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoClienteEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.BusinessException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.CpfInvalidoException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.CpfJaCadastradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.CursorInvalidoException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.VersaoConflitanteException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,21 +35,32 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.exception.GlobalExceptionHandler;
 
+import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -48,7 +69,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Foca em testar regras de negócio e tratamento de exceções.
  */
 @WebMvcTest(ClientePFController.class)
-@Import({GlobalExceptionHandler.class, br.com.vanessa_mudanca.cliente_core.infrastructure.security.TestSecurityConfig.class})
+@Import({GlobalExceptionHandler.class, br.com.vanessa_mudanca.cliente_core.infrastructure.security.TestSecurityConfig.class,
+        RenderedJsonTestConfig.class})
 @DisplayName("ClientePFController - Testes de endpoints REST")
 class ClientePFControllerTest {
 
@@ -58,6 +80,9 @@ class ClientePFControllerTest {
     @MockBean
     private CreateClientePFUseCase createClientePFUseCase;
 
+    @MockBean
+    private CreateClientePFBatchUseCase createClientePFBatchUseCase;
+
     @MockBean
     private FindClientePFByIdUseCase findClientePFByIdUseCase;
 
@@ -67,6 +92,9 @@ class ClientePFControllerTest {
     @MockBean
     private ListClientePFUseCase listClientePFUseCase;
 
+    @MockBean
+    private ExportClientePFUseCase exportClientePFUseCase;
+
     @MockBean
     private UpdateClientePFUseCase updateClientePFUseCase;
 
@@ -148,6 +176,7 @@ class ClientePFControllerTest {
                 true,
                 LocalDateTime.now(),
                 LocalDateTime.now(),
+                1L,
                 List.of(),
                 List.of(),
                 List.of()
@@ -220,6 +249,27 @@ class ClientePFControllerTest {
                 .andExpect(jsonPath("$.message").value("CPF '123.456.789-09' já está cadastrado no sistema"));
     }
 
+    @Test
+    @DisplayName("POST /v1/clientes/pf/batch - Deve devolver o resultado de cada item")
+    void deveCriarClientesPFEmLote() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        when(createClientePFBatchUseCase.criarEmLote(any()))
+                .thenReturn(new ClienteBatchResponse(2, 1, 1, 10, 100.0, List.of(
+                        ClienteBatchItemResponse.criado(0, publicId),
+                        ClienteBatchItemResponse.falha(1, 409, "já está cadastrado"))));
+
+        mockMvc.perform(post("/v1/clientes/pf/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(requestValido, requestValido))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criados").value(1))
+                .andExpect(jsonPath("$.clientesPorSegundo").value(100.0))
+                .andExpect(jsonPath("$.itens[0].status").value(201))
+                .andExpect(jsonPath("$.itens[0].publicId").value(publicId.toString()))
+                .andExpect(jsonPath("$.itens[0].mensagem").doesNotExist())
+                .andExpect(jsonPath("$.itens[1].status").value(409));
+    }
+
     @Test
     @DisplayName("GET /v1/clientes/pf/{publicId} - Deve buscar cliente PF por publicId e retornar 200")
     void deveBuscarClientePorPublicIdComSucesso() throws Exception {
@@ -238,6 +288,83 @@ class ClientePFControllerTest {
                 .andExpect(jsonPath("$.cpf").value("12345678909"));
     }
 
+    @Test
+    @DisplayName("GET /v1/clientes/pf/{publicId} - Com Accept-Encoding gzip deve devolver o JSON pré-comprimido")
+    void deveBuscarClientePorPublicIdComGzip() throws Exception {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        when(findClientePFByIdUseCase.findByPublicId(publicId))
+                .thenReturn(responseEsperado);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/v1/clientes/pf/{publicId}", publicId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+
+        // Assert
+        byte[] gzip = result.getResponse().getContentAsByteArray();
+        assertThat(result.getResponse().getContentLength()).isEqualTo(gzip.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(objectMapper.readTree(in).get("cpf").asText()).isEqualTo("12345678909");
+        }
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf/{publicId} - Com If-None-Match da versão atual deve retornar 304 sem corpo")
+    void deveRetornar304QuandoVersaoNaoMudou() throws Exception {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        when(findClientePFByIdUseCase.findByPublicId(publicId))
+                .thenReturn(responseEsperado);
+        String etag = mockMvc.perform(get("/v1/clientes/pf/{publicId}", publicId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        assertThat(etag).startsWith("\"v2-");
+        mockMvc.perform(get("/v1/clientes/pf/{publicId}", publicId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"outra\", " + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf/{publicId} - Variante gzip deve ter ETag própria e também gerar 304")
+    void etagDaVarianteGzipDeveGerar304() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        when(findClientePFByIdUseCase.findByPublicId(publicId))
+                .thenReturn(responseEsperado);
+        String etagGzip = mockMvc.perform(get("/v1/clientes/pf/{publicId}", publicId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etagGzip).endsWith("-gzip\"");
+        mockMvc.perform(get("/v1/clientes/pf/{publicId}", publicId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, etagGzip))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etagGzip));
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf/{publicId} - Com gzip;q=0 deve devolver o JSON sem compressão")
+    void naoDeveComprimirQuandoGzipRecusado() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        when(findClientePFByIdUseCase.findByPublicId(publicId))
+                .thenReturn(responseEsperado);
+
+        mockMvc.perform(get("/v1/clientes/pf/{publicId}", publicId)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.cpf").value("12345678909"));
+    }
+
     @Test
     @DisplayName("GET /v1/clientes/pf/{publicId} - Deve retornar 404 quando cliente não existir")
     void deveRetornar404QuandoClienteNaoExistir() throws Exception {
@@ -259,8 +386,8 @@ class ClientePFControllerTest {
     void deveBuscarClientePorCpfComSucesso() throws Exception {
         // Arrange
         String cpf = "12345678909";
-        when(findClientePFByCpfUseCase.findByCpf(cpf))
-                .thenReturn(responseEsperado);
+        when(findClientePFByCpfUseCase.lookupByCpf(cpf))
+                .thenReturn(new ClientePFLookupResponse("João", "Silva", responseEsperado.publicId()));
 
         // Act & Assert - Verifica que retorna apenas primeiroNome, sobrenome e publicId
         mockMvc.perform(get("/v1/clientes/pf/cpf/{cpf}", cpf)
@@ -279,8 +406,8 @@ class ClientePFControllerTest {
     void deveBuscarClientePorCpfFormatado() throws Exception {
         // Arrange
         String cpfFormatado = "123.456.789-09";
-        when(findClientePFByCpfUseCase.findByCpf(cpfFormatado))
-                .thenReturn(responseEsperado);
+        when(findClientePFByCpfUseCase.lookupByCpf(cpfFormatado))
+                .thenReturn(new ClientePFLookupResponse("João", "Silva", responseEsperado.publicId()));
 
         // Act & Assert - Verifica que retorna apenas dados reduzidos
         mockMvc.perform(get("/v1/clientes/pf/cpf/{cpf}", cpfFormatado)
@@ -306,7 +433,7 @@ class ClientePFControllerTest {
                 false
         );
 
-        when(listClientePFUseCase.findAll(any(Pageable.class)))
+        when(listClientePFUseCase.findAll(any(Pageable.class), eq(TotalMode.EXACT)))
                 .thenReturn(page);
 
         // Act & Assert
@@ -325,6 +452,137 @@ class ClientePFControllerTest {
                 .andExpect(jsonPath("$.empty").value(false));
     }
 
+    @Test
+    @DisplayName("GET /v1/clientes/pf - Página sem mudanças deve retornar 304")
+    void paginaSemMudancasDeveRetornar304() throws Exception {
+        PageResponse<ClientePFResponse> page = new PageResponse<>(
+                List.of(responseEsperado), 0, 20, 1, 1, true, true, false);
+        when(listClientePFUseCase.findAll(any(Pageable.class), eq(TotalMode.EXACT)))
+                .thenReturn(page);
+        String etag = mockMvc.perform(get("/v1/clientes/pf"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/clientes/pf").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/v1/clientes/pf").header(HttpHeaders.IF_NONE_MATCH, "\"v2-outra\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf?total=NONE - Deve listar sem total exato nem estimado")
+    void deveListarClientesPFSemTotal() throws Exception {
+        // Arrange
+        PageResponse<ClientePFResponse> page = new PageResponse<>(
+                List.of(responseEsperado), 0, 20, 21, 2, true, false, false, TotalMode.NONE, null, null);
+        when(listClientePFUseCase.findAll(any(Pageable.class), eq(TotalMode.NONE)))
+                .thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/clientes/pf").param("total", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].primeiroNome").value("João"))
+                .andExpect(jsonPath("$.totalElements").value(21))
+                .andExpect(jsonPath("$.estimatedTotalElements").doesNotExist())
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalMode").value("NONE"));
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf/scroll - Deve listar por cursor e devolver o próximo cursor")
+    void deveListarClientesPFPorCursor() throws Exception {
+        // Arrange
+        when(listClientePFUseCase.findAllByCursor("abc", 10))
+                .thenReturn(new CursorPageResponse<>(List.of(responseEsperado), 10, "def", true));
+
+        // Act & Assert
+        mockMvc.perform(get("/v1/clientes/pf/scroll")
+                        .param("cursor", "abc")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].primeiroNome").value("João"))
+                .andExpect(jsonPath("$.nextCursor").value("def"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf/scroll - Cursor inválido deve retornar 400")
+    void cursorInvalidoDeveRetornar400() throws Exception {
+        when(listClientePFUseCase.findAllByCursor("xyz", 20))
+                .thenThrow(new CursorInvalidoException("xyz"));
+
+        mockMvc.perform(get("/v1/clientes/pf/scroll").param("cursor", "xyz"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf/export - Deve escrever um cliente por linha (NDJSON)")
+    void deveExportarClientesPFEmNdjson() throws Exception {
+        // Arrange
+        LocalDateTime desde = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(exportClientePFUseCase.exportar(eq(desde), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<ClientePFResponse> destino = invocation.getArgument(2);
+            destino.accept(responseEsperado);
+            destino.accept(responseEsperado);
+            return 2L;
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/v1/clientes/pf/export")
+                        .param("atualizadoDesde", "2025-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+
+        // Assert
+        String[] linhas = result.getResponse().getContentAsString().split("\n");
+        assertThat(linhas).hasSize(2);
+        for (String linha : linhas) {
+            assertThat(objectMapper.readTree(linha).get("primeiroNome").asText()).isEqualTo("João");
+        }
+        verify(exportClientePFUseCase).exportar(eq(desde), isNull(), any());
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf/export - Com Accept-Encoding gzip deve comprimir o corpo")
+    void deveExportarClientesPFComGzip() throws Exception {
+        // Arrange
+        when(exportClientePFUseCase.exportar(isNull(), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<ClientePFResponse> destino = invocation.getArgument(2);
+            destino.accept(responseEsperado);
+            return 1L;
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/v1/clientes/pf/export")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn();
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(
+                new ByteArrayInputStream(result.getResponse().getContentAsByteArray()))) {
+            String corpo = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(corpo).endsWith("\n");
+            assertThat(objectMapper.readTree(corpo).get("cpf").asText()).isEqualTo("12345678909");
+        }
+    }
+
+    @Test
+    @DisplayName("GET /v1/clientes/pf/export - Período inválido deve retornar 400 antes de abrir o corpo")
+    void exportacaoComPeriodoInvalidoDeveRetornar400() throws Exception {
+        when(exportClientePFUseCase.exportar(any(), any(), any()))
+                .thenThrow(new BusinessException("A data de atualização inicial deve ser anterior à final"));
+
+        mockMvc.perform(get("/v1/clientes/pf/export")
+                        .param("atualizadoDesde", "2025-02-01T00:00:00")
+                        .param("atualizadoAte", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
     @Test
     @DisplayName("GET /v1/clientes/pf - Deve listar clientes PF com paginação customizada")
     void deveListarClientesPFComPaginacaoCustomizada() throws Exception {
@@ -340,7 +598,7 @@ class ClientePFControllerTest {
                 false
         );
 
-        when(listClientePFUseCase.findAll(any(Pageable.class)))
+        when(listClientePFUseCase.findAll(any(Pageable.class), eq(TotalMode.EXACT)))
                 .thenReturn(page);
 
         // Act & Assert
@@ -398,20 +656,23 @@ class ClientePFControllerTest {
                 true,
                 LocalDateTime.now(),
                 LocalDateTime.now(),
+                1L,
                 List.of(),
                 List.of(),
                 List.of()
         );
 
-        when(updateClientePFUseCase.atualizar(any(UpdateClientePFRequest.class)))
+        when(updateClientePFUseCase.atualizar(any(UpdateClientePFRequest.class), eq(1L)))
                 .thenReturn(responseAtualizado);
 
         // Act & Assert
         mockMvc.perform(put("/v1/clientes/pf/{publicId}", publicId)
+                        .header(HttpHeaders.IF_MATCH, "\"v2-1\"")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v2-1\""))
                 .andExpect(jsonPath("$.primeiroNome").value("João Carlos"))
                 .andExpect(jsonPath("$.email").value("joao.carlos@email.com"));
     }
@@ -426,17 +687,59 @@ class ClientePFControllerTest {
                 .primeiroNome("João")
                 .build();
 
-        when(updateClientePFUseCase.atualizar(any(UpdateClientePFRequest.class)))
+        when(updateClientePFUseCase.atualizar(any(UpdateClientePFRequest.class), isNull()))
                 .thenThrow(new ClienteNaoEncontradoException(publicId));
 
         // Act & Assert
         mockMvc.perform(put("/v1/clientes/pf/{publicId}", publicId)
+                        .header(HttpHeaders.IF_MATCH, "*")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value(404));
     }
 
+    @Test
+    @DisplayName("PUT /v1/clientes/pf/{publicId} - Sem If-Match deve retornar 428 sem atualizar")
+    void deveRetornar428AoAtualizarSemIfMatch() throws Exception {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        UpdateClientePFRequest updateRequest = UpdateClientePFRequest.builder()
+                .publicId(publicId)
+                .primeiroNome("João")
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(put("/v1/clientes/pf/{publicId}", publicId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionRequired())
+                .andExpect(jsonPath("$.status").value(428));
+        verifyNoInteractions(updateClientePFUseCase);
+    }
+
+    @Test
+    @DisplayName("PUT /v1/clientes/pf/{publicId} - Versão do If-Match desatualizada deve retornar 412")
+    void deveRetornar412QuandoVersaoMudou() throws Exception {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        UpdateClientePFRequest updateRequest = UpdateClientePFRequest.builder()
+                .publicId(publicId)
+                .primeiroNome("João")
+                .build();
+
+        when(updateClientePFUseCase.atualizar(any(UpdateClientePFRequest.class), eq(3L)))
+                .thenThrow(new VersaoConflitanteException(publicId, 3L));
+
+        // Act & Assert
+        mockMvc.perform(put("/v1/clientes/pf/{publicId}", publicId)
+                        .header(HttpHeaders.IF_MATCH, "\"v2-3-gzip\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
     @Test
     @DisplayName("DELETE /v1/clientes/pf/{publicId} - Deve deletar cliente PF (soft delete) e retornar 204")
     void deveDeletarClientePFComSucesso() throws Exception {
@@ -1,11 +1,17 @@
 package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
 
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.CreateClientePJRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.input.TotalMode;
 import br.com.vanessa_mudanca.cliente_core.application.dto.input.UpdateClientePJRequest;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchItemResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClienteBatchResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJLookupResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
 import br.com.vanessa_mudanca.cliente_core.application.dto.output.PageResponse;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePJBatchUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.CreateClientePJUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.DeleteClienteUseCase;
+import br.com.vanessa_mudanca.cliente_core.application.ports.input.ExportClientePJUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByCnpjUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.FindClientePJByIdUseCase;
 import br.com.vanessa_mudanca.cliente_core.application.ports.input.ListClientePJUseCase;
@@ -14,6 +20,7 @@ import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoClienteEnum;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.CnpjInvalidoException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.CnpjJaCadastradoException;
 import br.com.vanessa_mudanca.cliente_core.domain.exception.ClienteNaoEncontradoException;
+import br.com.vanessa_mudanca.cliente_core.domain.exception.VersaoConflitanteException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,6 +32,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import br.com.vanessa_mudanca.cliente_core.infrastructure.exception.GlobalExceptionHandler;
@@ -33,11 +41,15 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -47,7 +59,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Foca em testar regras de negócio e tratamento de exceções.
  */
 @WebMvcTest(ClientePJController.class)
-@Import({GlobalExceptionHandler.class, br.com.vanessa_mudanca.cliente_core.infrastructure.security.TestSecurityConfig.class})
+@Import({GlobalExceptionHandler.class, br.com.vanessa_mudanca.cliente_core.infrastructure.security.TestSecurityConfig.class,
+        RenderedJsonTestConfig.class})
 @DisplayName("ClientePJController - Testes de endpoints REST")
 class ClientePJControllerTest {
 
@@ -57,6 +70,9 @@ class ClientePJControllerTest {
     @MockBean
     private CreateClientePJUseCase createClientePJUseCase;
 
+    @MockBean
+    private CreateClientePJBatchUseCase createClientePJBatchUseCase;
+
     @MockBean
     private FindClientePJByIdUseCase findClientePJByIdUseCase;
 
@@ -66,6 +82,9 @@ class ClientePJControllerTest {
     @MockBean
     private ListClientePJUseCase listClientePJUseCase;
 
+    @MockBean
+    private ExportClientePJUseCase exportClientePJUseCase;
+
     @MockBean
     private UpdateClientePJUseCase updateClientePJUseCase;
 
@@ -148,6 +167,7 @@ class ClientePJControllerTest {
                 true,
                 LocalDateTime.now(),
                 LocalDateTime.now(),
+                1L,
                 List.of(),
                 List.of(),
                 List.of()
@@ -221,6 +241,27 @@ class ClientePJControllerTest {
                 .andExpect(jsonPath("$.message").value("CNPJ '11.222.333/0001-81' já está cadastrado no sistema"));
     }
 
+    @Test
+    @DisplayName("POST /v1/clientes/pj/batch - Deve devolver o resultado de cada item")
+    void deveCriarClientesPJEmLote() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        when(createClientePJBatchUseCase.criarEmLote(any()))
+                .thenReturn(new ClienteBatchResponse(2, 1, 1, 10, 100.0, List.of(
+                        ClienteBatchItemResponse.criado(0, publicId),
+                        ClienteBatchItemResponse.falha(1, 409, "já está cadastrado"))));
+
+        mockMvc.perform(post("/v1/clientes/pj/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(requestValido, requestValido))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.criados").value(1))
+                .andExpect(jsonPath("$.clientesPorSegundo").value(100.0))
+                .andExpect(jsonPath("$.itens[0].status").value(201))
+                .andExpect(jsonPath("$.itens[0].publicId").value(publicId.toString()))
+                .andExpect(jsonPath("$.itens[0].mensagem").doesNotExist())
+                .andExpect(jsonPath("$.itens[1].status").value(409));
+    }
+
     @Test
     @DisplayName("GET /v1/clientes/pj/{publicId} - Deve buscar cliente PJ por publicId e retornar 200")
     void deveBuscarClientePorPublicIdComSucesso() throws Exception {
@@ -239,6 +280,22 @@ class ClientePJControllerTest {
                 .andExpect(jsonPath("$.cnpj").value("11222333000181"));
     }
 
+    @Test
+    @DisplayName("GET /v1/clientes/pj/{publicId} - Com If-None-Match da versão atual deve retornar 304")
+    void deveRetornar304QuandoVersaoNaoMudou() throws Exception {
+        UUID publicId = UUID.randomUUID();
+        when(findClientePJByIdUseCase.findByPublicId(publicId))
+                .thenReturn(responseEsperado);
+        String etag = mockMvc.perform(get("/v1/clientes/pj/{publicId}", publicId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/v1/clientes/pj/{publicId}", publicId)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+    }
+
     @Test
     @DisplayName("GET /v1/clientes/pj/{publicId} - Deve retornar 404 quando cliente não existir")
     void deveRetornar404QuandoClienteNaoExistir() throws Exception {
@@ -260,8 +317,8 @@ class ClientePJControllerTest {
     void deveBuscarClientePorCnpjComSucesso() throws Exception {
         // Arrange
         String cnpj = "11222333000181";
-        when(findClientePJByCnpjUseCase.findByCnpj(cnpj))
-                .thenReturn(responseEsperado);
+        when(findClientePJByCnpjUseCase.lookupByCnpj(cnpj))
+                .thenReturn(new ClientePJLookupResponse("XYZ Comércio", responseEsperado.publicId()));
 
         // Act & Assert - Verifica que retorna apenas nomeFantasia e publicId
         mockMvc.perform(get("/v1/clientes/pj/cnpj/{cnpj}", cnpj)
@@ -289,7 +346,7 @@ class ClientePJControllerTest {
                 false
         );
 
-        when(listClientePJUseCase.findAll(any(Pageable.class)))
+        when(listClientePJUseCase.findAll(any(Pageable.class), eq(TotalMode.EXACT)))
                 .thenReturn(page);
 
         // Act & Assert
@@ -323,7 +380,7 @@ class ClientePJControllerTest {
                 false
         );
 
-        when(listClientePJUseCase.findAll(any(Pageable.class)))
+        when(listClientePJUseCase.findAll(any(Pageable.class), eq(TotalMode.EXACT)))
                 .thenReturn(page);
 
         // Act & Assert
@@ -340,6 +397,27 @@ class ClientePJControllerTest {
                 .andExpect(jsonPath("$.totalPages").value(3));
     }
 
+    @Test
+    @DisplayName("GET /v1/clientes/pj/export - Deve escrever um cliente por linha (NDJSON)")
+    void deveExportarClientesPJEmNdjson() throws Exception {
+        // Arrange
+        when(exportClientePJUseCase.exportar(isNull(), isNull(), any())).thenAnswer(invocation -> {
+            Consumer<ClientePJResponse> destino = invocation.getArgument(2);
+            destino.accept(responseEsperado);
+            return 1L;
+        });
+
+        // Act
+        String corpo = mockMvc.perform(get("/v1/clientes/pj/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        // Assert
+        assertThat(corpo.lines()).hasSize(1);
+        assertThat(objectMapper.readTree(corpo).get("razaoSocial").asText()).isEqualTo("Empresa XYZ Ltda");
+    }
+
     @Test
     @DisplayName("PUT /v1/clientes/pj/{publicId} - Deve atualizar cliente PJ e retornar 200")
     void deveAtualizarClientePJComSucesso() throws Exception {
@@ -381,20 +459,23 @@ class ClientePJControllerTest {
                 true,
                 LocalDateTime.now(),
                 LocalDateTime.now(),
+                1L,
                 List.of(),
                 List.of(),
                 List.of()
         );
 
-        when(updateClientePJUseCase.atualizar(any(UpdateClientePJRequest.class)))
+        when(updateClientePJUseCase.atualizar(any(UpdateClientePJRequest.class), eq(1L)))
                 .thenReturn(responseAtualizado);
 
         // Act & Assert
         mockMvc.perform(put("/v1/clientes/pj/{publicId}", publicId)
+                        .header(HttpHeaders.IF_MATCH, "\"v2-1\"")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v2-1\""))
                 .andExpect(jsonPath("$.razaoSocial").value("Empresa XYZ Atualizada Ltda"))
                 .andExpect(jsonPath("$.email").value("novoemail@empresaxyz.com.br"));
     }
@@ -409,17 +490,59 @@ class ClientePJControllerTest {
                 .razaoSocial("Empresa ABC")
                 .build();
 
-        when(updateClientePJUseCase.atualizar(any(UpdateClientePJRequest.class)))
+        when(updateClientePJUseCase.atualizar(any(UpdateClientePJRequest.class), isNull()))
                 .thenThrow(new ClienteNaoEncontradoException(publicId));
 
         // Act & Assert
         mockMvc.perform(put("/v1/clientes/pj/{publicId}", publicId)
+                        .header(HttpHeaders.IF_MATCH, "*")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value(404));
     }
 
+    @Test
+    @DisplayName("PUT /v1/clientes/pj/{publicId} - Sem If-Match deve retornar 428 sem atualizar")
+    void deveRetornar428AoAtualizarSemIfMatch() throws Exception {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        UpdateClientePJRequest updateRequest = UpdateClientePJRequest.builder()
+                .publicId(publicId)
+                .razaoSocial("Empresa ABC")
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(put("/v1/clientes/pj/{publicId}", publicId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionRequired())
+                .andExpect(jsonPath("$.status").value(428));
+        verifyNoInteractions(updateClientePJUseCase);
+    }
+
+    @Test
+    @DisplayName("PUT /v1/clientes/pj/{publicId} - Versão do If-Match desatualizada deve retornar 412")
+    void deveRetornar412QuandoVersaoMudou() throws Exception {
+        // Arrange
+        UUID publicId = UUID.randomUUID();
+        UpdateClientePJRequest updateRequest = UpdateClientePJRequest.builder()
+                .publicId(publicId)
+                .razaoSocial("Empresa ABC")
+                .build();
+
+        when(updateClientePJUseCase.atualizar(any(UpdateClientePJRequest.class), eq(3L)))
+                .thenThrow(new VersaoConflitanteException(publicId, 3L));
+
+        // Act & Assert
+        mockMvc.perform(put("/v1/clientes/pj/{publicId}", publicId)
+                        .header(HttpHeaders.IF_MATCH, "\"v2-3-gzip\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
     @Test
     @DisplayName("DELETE /v1/clientes/pj/{publicId} - Deve deletar cliente PJ (soft delete) e retornar 204")
     void deveDeletarClientePJComSucesso() throws Exception {
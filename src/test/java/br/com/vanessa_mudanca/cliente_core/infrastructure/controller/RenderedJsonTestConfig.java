@@ -0,0 +1,23 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.controller;
+
+import br.com.vanessa_mudanca.cliente_core.infrastructure.cache.RenderedJsonCache;
+import br.com.vanessa_mudanca.cliente_core.infrastructure.config.RenderedJsonProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * {@link RenderedJsonCache} para os testes {@code @WebMvcTest} dos controllers.
+ * Usa o {@code ObjectMapper} do contexto e comprime qualquer tamanho de JSON.
+ */
+@TestConfiguration
+public class RenderedJsonTestConfig {
+
+    @Bean
+    public RenderedJsonCache renderedJsonCache(ObjectMapper objectMapper) {
+        return new RenderedJsonCache(new ConcurrentMapCacheManager(), objectMapper,
+                new RenderedJsonProperties(true, true, DataSize.ofBytes(0)));
+    }
+}
@@ -0,0 +1,108 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.datasource;
+
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do roteamento primária/réplica contra dois bancos H2 em memória.
+ * Cada banco tem uma tabela {@code origem} com o próprio nome, que identifica a rota usada.
+ */
+@DisplayName("ReadReplicaRoutingDataSource - Roteamento de leituras")
+class ReadReplicaRoutingDataSourceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate leitura;
+    private TransactionTemplate escrita;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(
+                banco("primary"), banco("replica"), meterRegistry));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbc = new JdbcTemplate(dataSource);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("Transação read-only deve ler da réplica")
+    void transacaoReadOnlyDeveLerDaReplica() {
+        String origem = leitura.execute(status -> origem());
+
+        assertThat(origem).isEqualTo("replica");
+        assertThat(conexoes(DataSourceRoute.REPLICA)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Transação de escrita e chamadas sem transação devem usar a primária")
+    void escritaDeveUsarPrimaria() {
+        String origem = escrita.execute(status -> origem());
+
+        assertThat(origem).isEqualTo("primary");
+        assertThat(origem()).isEqualTo("primary");
+        assertThat(conexoes(DataSourceRoute.REPLICA)).isZero();
+    }
+
+    @Test
+    @DisplayName("primary() deve forçar a primária mesmo em transação read-only")
+    void primaryDeveForcarPrimaria() {
+        String forcada = ReadReplicaRoutingDataSource.primary(() -> leitura.execute(status -> origem()));
+        String seguinte = leitura.execute(status -> origem());
+
+        assertThat(forcada).isEqualTo("primary");
+        assertThat(seguinte).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Cliente escrito deve ficar na janela de read-your-writes até ela expirar")
+    void clienteEscritoDeveExpirarAposJanela() {
+        AtomicLong agora = new AtomicLong();
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), 100, agora::get);
+        UUID publicId = UUID.randomUUID();
+
+        tracker.registrar(ClientePF.builder().publicId(publicId).cpf("123.456.789-09").build());
+
+        assertThat(tracker.escritoRecentemente(publicId.toString())).isTrue();
+        assertThat(tracker.escritoRecentemente("12345678909")).isTrue();
+        assertThat(tracker.escritoRecentemente(UUID.randomUUID().toString())).isFalse();
+
+        agora.addAndGet(Duration.ofSeconds(6).toNanos());
+        assertThat(tracker.escritoRecentemente(publicId.toString())).isFalse();
+    }
+
+    private String origem() {
+        return jdbc.queryForObject("select nome from origem", String.class);
+    }
+
+    private double conexoes(DataSourceRoute route) {
+        return meterRegistry.get("datasource.route.connections").tag("route", route.tag()).counter().count();
+    }
+
+    private static DataSource banco(String nome) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nome + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table origem (nome varchar(20))");
+        jdbc.update("insert into origem (nome) values (?)", nome);
+        return dataSource;
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -176,6 +177,37 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().message()).isEqualTo("Erro de negócio genérico");
     }
 
+    @Test
+    @DisplayName("Deve tratar VersaoConflitanteException com status 412 PRECONDITION_FAILED")
+    void deveTratarVersaoConflitante() {
+        // Arrange
+        VersaoConflitanteException exception = new VersaoConflitanteException(UUID.randomUUID(), 3L);
+
+        // Act
+        ResponseEntity<ErrorResponse> response = handler.handleVersaoConflitante(exception, request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(412);
+        assertThat(response.getBody().error()).isEqualTo("Precondition Failed");
+        assertThat(response.getBody().message()).contains("versão 3");
+    }
+
+    @Test
+    @DisplayName("Deve tratar PrecondicaoObrigatoriaException com status 428 PRECONDITION_REQUIRED")
+    void deveTratarPrecondicaoObrigatoria() {
+        // Act
+        ResponseEntity<ErrorResponse> response = handler.handlePrecondicaoObrigatoria(
+                new PrecondicaoObrigatoriaException(), request);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_REQUIRED);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().status()).isEqualTo(428);
+        assertThat(response.getBody().message()).contains("If-Match");
+    }
+
     @Test
     @DisplayName("Deve tratar Exception genérica com status 500 INTERNAL_SERVER_ERROR")
     void deveTratarExceptionGenerica() {
@@ -0,0 +1,158 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.repository;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFLookupResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePFResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePFMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Cliente;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.PreferenciaCliente;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.EstadoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoContatoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de persistência para ClientePFJpaRepository.
+ * Conta os statements emitidos para montar a resposta completa de um cliente.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("ClientePFJpaRepository - Carga do agregado")
+class ClientePFJpaRepositoryTest {
+
+    /** Cliente (+ indicador, preferências e documentos), contatos, endereços. */
+    private static final long STATEMENTS_POR_CLIENTE = 3;
+
+    @Autowired
+    private ClientePFJpaRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private ClientePF cliente;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        ClientePF indicador = comPreferencia(ClientePF.builder()
+                .primeiroNome("Maria").sobrenome("Souza").cpf("111.444.777-35").build());
+        entityManager.persist(indicador);
+
+        cliente = comPreferencia(ClientePF.builder()
+                .primeiroNome("João").sobrenome("Silva").cpf("529.982.247-25")
+                .clienteIndicador(indicador).build());
+        for (int i = 0; i < 3; i++) {
+            cliente.adicionarDocumento(Documento.builder().cliente(cliente)
+                    .tipoDocumento(TipoDocumentoEnum.RG).numero("MG-" + i).build());
+            cliente.adicionarContato(Contato.builder().cliente(cliente)
+                    .tipoContato(TipoContatoEnum.CELULAR).valor("(31) 98765-432" + i).build());
+            cliente.adicionarEndereco(Endereco.builder().cliente(cliente)
+                    .cep("30130-10" + i).logradouro("Rua " + i).bairro("Centro")
+                    .cidade("Belo Horizonte").estado(EstadoEnum.MG).build());
+        }
+        entityManager.persist(cliente);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findByPublicId deve montar a resposta com número fixo de statements")
+    void findByPublicIdDeveCarregarAgregadoSemNMaisUm() {
+        ClientePFResponse response = repository.findByPublicId(cliente.getPublicId())
+                .map(ClientePFMapper::toResponse)
+                .orElseThrow();
+
+        assertThat(response.documentos()).hasSize(3);
+        assertThat(response.contatos()).hasSize(3);
+        assertThat(response.enderecos()).hasSize(3);
+        assertThat(response.clienteIndicadorPublicId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_POR_CLIENTE);
+    }
+
+    @Test
+    @DisplayName("Busca de ativo e busca por CPF devem usar o mesmo grafo")
+    void demaisBuscasDevemUsarMesmoGrafo() {
+        repository.findByPublicIdAndAtivoTrueAndDataDelecaoIsNull(cliente.getPublicId())
+                .map(ClientePFMapper::toResponse)
+                .orElseThrow();
+        entityManager.clear();
+        repository.findByCpf("529.982.247-25")
+                .map(ClientePFMapper::toResponse)
+                .orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2 * STATEMENTS_POR_CLIENTE);
+    }
+
+    @Test
+    @DisplayName("Lookup por CPF deve ser um único SELECT, sem carregar o agregado")
+    void lookupPorCpfDeveSerUmUnicoSelect() {
+        ClientePFLookupResponse lookup = repository.findLookupByCpf("529.982.247-25").orElseThrow();
+
+        assertThat(lookup).isEqualTo(new ClientePFLookupResponse("João", "Silva", cliente.getPublicId()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Listas vazias não devem gerar statements extras")
+    void listasVaziasNaoDevemGerarStatementsExtras() {
+        UUID publicId = UUID.randomUUID();
+        entityManager.persist(ClientePF.builder().publicId(publicId)
+                .primeiroNome("Ana").sobrenome("Lima").cpf("390.533.447-05").build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        repository.findByPublicId(publicId).map(ClientePFMapper::toResponse).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(STATEMENTS_POR_CLIENTE);
+    }
+
+    @Test
+    @DisplayName("Inserção de vários agregados deve ser feita em lotes (IDs por sequence pooled)")
+    void insercaoDeAgregadosDeveSerEmLote() {
+        for (int i = 0; i < 10; i++) {
+            ClientePF novo = comPreferencia(ClientePF.builder()
+                    .primeiroNome("Cliente").sobrenome("Lote " + i).cpf("900.000.0%02d-00".formatted(i)).build());
+            for (int j = 0; j < 3; j++) {
+                novo.adicionarDocumento(Documento.builder().cliente(novo)
+                        .tipoDocumento(TipoDocumentoEnum.RG).numero("LT-" + i + "-" + j).build());
+                novo.adicionarContato(Contato.builder().cliente(novo)
+                        .tipoContato(TipoContatoEnum.EMAIL).valor("lote" + i + "." + j + "@teste.com").build());
+                novo.adicionarEndereco(Endereco.builder().cliente(novo)
+                        .cep("30130-000").logradouro("Rua " + j).bairro("Centro")
+                        .cidade("Belo Horizonte").estado(EstadoEnum.MG).build());
+            }
+            entityManager.persist(novo);
+        }
+        entityManager.flush();
+
+        // 110 entidades (130 linhas com clientes_pf). Com IDENTITY seria um INSERT por linha;
+        // com sequence pooled: 6 tabelas em lotes de 20 (9 INSERTs) + até 2 nextval por sequence
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(110);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(9 + 2 * 5);
+    }
+
+    private static <T extends Cliente> T comPreferencia(T cliente) {
+        cliente.setPreferenciaCliente(PreferenciaCliente.builder().cliente(cliente).build());
+        return cliente;
+    }
+}
@@ -0,0 +1,109 @@
+package br.com.vanessa_mudanca.cliente_core.infrastructure.repository;
+
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJLookupResponse;
+import br.com.vanessa_mudanca.cliente_core.application.dto.output.ClientePJResponse;
+import br.com.vanessa_mudanca.cliente_core.application.mapper.ClientePJMapper;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePF;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.ClientePJ;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Contato;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Documento;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.Endereco;
+import br.com.vanessa_mudanca.cliente_core.domain.entity.PreferenciaCliente;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.EstadoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoContatoEnum;
+import br.com.vanessa_mudanca.cliente_core.domain.enums.TipoDocumentoEnum;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de persistência para ClientePJJpaRepository.
+ * Conta os statements emitidos para montar a resposta completa de um cliente.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DisplayName("ClientePJJpaRepository - Carga do agregado")
+class ClientePJJpaRepositoryTest {
+
+    /** Cliente (+ indicador, preferências e documentos), contatos, endereços. */
+    private static final long STATEMENTS_POR_CLIENTE = 3;
+
+    @Autowired
+    private ClientePJJpaRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private ClientePJ cliente;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        ClientePF indicador = ClientePF.builder()
+                .primeiroNome("Maria").sobrenome("Souza").cpf("111.444.777-35").build();
+        indicador.setPreferenciaCliente(PreferenciaCliente.builder().cliente(indicador).build());
+        entityManager.persist(indicador);
+
+        cliente = ClientePJ.builder()
+                .razaoSocial("Mudanças Rápidas LTDA").cnpj("11.222.333/0001-81")
+                .clienteIndicador(indicador).build();
+        cliente.setPreferenciaCliente(PreferenciaCliente.builder().cliente(cliente).build());
+        for (int i = 0; i < 3; i++) {
+            cliente.adicionarDocumento(Documento.builder().cliente(cliente)
+                    .tipoDocumento(TipoDocumentoEnum.CNPJ).numero("DOC-" + i).build());
+            cliente.adicionarContato(Contato.builder().cliente(cliente)
+                    .tipoContato(TipoContatoEnum.EMAIL).valor("contato" + i + "@empresa.com").build());
+            cliente.adicionarEndereco(Endereco.builder().cliente(cliente)
+                    .cep("30130-10" + i).logradouro("Av. " + i).bairro("Centro")
+                    .cidade("Belo Horizonte").estado(EstadoEnum.MG).build());
+        }
+        entityManager.persist(cliente);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("findByPublicId deve montar a resposta com número fixo de statements")
+    void findByPublicIdDeveCarregarAgregadoSemNMaisUm() {
+        ClientePJResponse response = repository.findByPublicId(cliente.getPublicId())
+                .map(ClientePJMapper::toResponse)
+                .orElseThrow();
+
+        assertThat(response.documentos()).hasSize(3);
+        assertThat(response.contatos()).hasSize(3);
+        assertThat(response.enderecos()).hasSize(3);
+        assertThat(response.clienteIndicadorPublicId()).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_POR_CLIENTE);
+    }
+
+    @Test
+    @DisplayName("Busca por CNPJ deve usar o mesmo grafo")
+    void findByCnpjDeveUsarMesmoGrafo() {
+        repository.findByCnpj("11.222.333/0001-81")
+                .map(ClientePJMapper::toResponse)
+                .orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(STATEMENTS_POR_CLIENTE);
+    }
+
+    @Test
+    @DisplayName("Lookup por CNPJ deve ser um único SELECT, sem carregar o agregado")
+    void lookupPorCnpjDeveSerUmUnicoSelect() {
+        ClientePJLookupResponse lookup = repository.findLookupByCnpj("11.222.333/0001-81").orElseThrow();
+
+        assertThat(lookup.publicId()).isEqualTo(cliente.getPublicId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}